@@ -1,5 +1,9 @@
 package dev.darkblade.mbe.api.command;
 
+/**
+ * Called for every exported block. Structure exports run on a worker thread, so hooks must not
+ * touch the live world or other main-thread-only API.
+ */
 public interface ExportHook {
     void onBlockExport(ExportBlockSnapshot block, ExportContext context);
 }
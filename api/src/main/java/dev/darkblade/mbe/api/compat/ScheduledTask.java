@@ -0,0 +1,5 @@
+package dev.darkblade.mbe.api.compat;
+
+public interface ScheduledTask {
+    void cancel();
+}
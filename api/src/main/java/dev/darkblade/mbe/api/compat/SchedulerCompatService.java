@@ -1,7 +1,47 @@
 package dev.darkblade.mbe.api.compat;
 
+import org.bukkit.Location;
+
 public interface SchedulerCompatService {
     void runSync(Runnable task);
 
     void runAsync(Runnable task);
+
+    /**
+     * Runs the task on the thread that owns the given location. Servers without regionized
+     * ticking run it on the main thread, like {@link #runSync(Runnable)}.
+     */
+    default void runAt(Location location, Runnable task) {
+        runSync(task);
+    }
+
+    /**
+     * Runs the task repeatedly on the global tick thread. The default re-submits itself through
+     * {@link #runSync(Runnable)} and counts each submission as one tick; implementations backed by
+     * a real timer should override it.
+     */
+    default ScheduledTask runTimer(Runnable task, long delayTicks, long periodTicks) {
+        return new SyncTimerLoop(this, task, delayTicks, periodTicks).start();
+    }
+
+    /**
+     * Runs the task repeatedly off the tick threads. The default fires on {@link #runTimer} and
+     * hands each run to {@link #runAsync(Runnable)}.
+     */
+    default ScheduledTask runAsyncTimer(Runnable task, long delayTicks, long periodTicks) {
+        return runTimer(() -> runAsync(task), delayTicks, periodTicks);
+    }
+
+    /**
+     * Cancels every pending task scheduled for the plugin, e.g. on disable.
+     */
+    default void cancelAll() {
+    }
+
+    /**
+     * Whether different areas of a world may tick concurrently on separate threads.
+     */
+    default boolean isRegionized() {
+        return false;
+    }
 }
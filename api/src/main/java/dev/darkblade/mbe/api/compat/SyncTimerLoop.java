@@ -0,0 +1,61 @@
+package dev.darkblade.mbe.api.compat;
+
+import java.util.Objects;
+
+/**
+ * Default {@link SchedulerCompatService#runTimer} for schedulers that only offer
+ * {@link SchedulerCompatService#runSync(Runnable)}. Every hop through {@code runSync} counts as
+ * one tick, so it relies on {@code runSync} deferring the task to the next tick.
+ */
+final class SyncTimerLoop implements ScheduledTask, Runnable {
+
+    private final SchedulerCompatService scheduler;
+    private final Runnable task;
+    private final long periodTicks;
+    private volatile boolean cancelled;
+    private long remaining;
+    private boolean scheduling;
+
+    SyncTimerLoop(SchedulerCompatService scheduler, Runnable task, long delayTicks, long periodTicks) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.task = Objects.requireNonNull(task, "task");
+        this.periodTicks = Math.max(1L, periodTicks);
+        this.remaining = Math.max(1L, delayTicks);
+    }
+
+    SyncTimerLoop start() {
+        schedule();
+        return this;
+    }
+
+    @Override
+    public void run() {
+        if (scheduling) {
+            throw new IllegalStateException("runSync runs tasks inline; override runTimer");
+        }
+        if (cancelled) {
+            return;
+        }
+        if (--remaining <= 0L) {
+            remaining = periodTicks;
+            task.run();
+        }
+        if (!cancelled) {
+            schedule();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+
+    private void schedule() {
+        scheduling = true;
+        try {
+            scheduler.runSync(this);
+        } finally {
+            scheduling = false;
+        }
+    }
+}
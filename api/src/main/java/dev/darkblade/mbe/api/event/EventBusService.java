@@ -16,12 +16,24 @@ public interface EventBusService extends MBEService {
     void publish(MBEEvent event);
 
     /**
-     * Subscribes a listener to a specific event class.
+     * Subscribes a listener to a specific event class at {@link EventPriority#NORMAL}.
+     * The listener also receives events whose class extends or implements {@code eventClass}.
      * @param eventClass the event class to listen for
      * @param listener the action to execute when the event is published
      * @param <T> the event type
      */
     <T extends MBEEvent> void subscribe(Class<T> eventClass, Consumer<T> listener);
+
+    /**
+     * Subscribes a listener to a specific event class with an explicit priority.
+     * @param eventClass the event class to listen for
+     * @param priority when the listener runs relative to other listeners of the same event
+     * @param listener the action to execute when the event is published
+     * @param <T> the event type
+     */
+    default <T extends MBEEvent> void subscribe(Class<T> eventClass, EventPriority priority, Consumer<T> listener) {
+        subscribe(eventClass, listener);
+    }
     
     /**
      * Unsubscribes a previously registered listener.
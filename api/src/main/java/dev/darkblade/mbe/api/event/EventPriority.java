@@ -0,0 +1,17 @@
+package dev.darkblade.mbe.api.event;
+
+/**
+ * Order in which {@link EventBusService} listeners run. Lower priorities run first;
+ * listeners of equal priority run in subscription order.
+ */
+public enum EventPriority {
+    LOWEST,
+    LOW,
+    NORMAL,
+    HIGH,
+    HIGHEST,
+    /**
+     * Runs last. Listeners at this priority should only observe the outcome and not modify the event.
+     */
+    MONITOR
+}
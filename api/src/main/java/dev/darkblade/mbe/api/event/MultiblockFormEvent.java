@@ -9,11 +9,17 @@ public class MultiblockFormEvent implements MBEEvent {
 
     private final MultiblockInstance instance;
     private final MBEPlayer player;
+    private final boolean restored;
     private boolean cancelled;
 
     public MultiblockFormEvent(@NotNull MultiblockInstance instance, @Nullable MBEPlayer player) {
+        this(instance, player, false);
+    }
+
+    public MultiblockFormEvent(@NotNull MultiblockInstance instance, @Nullable MBEPlayer player, boolean restored) {
         this.instance = instance;
         this.player = player;
+        this.restored = restored;
     }
 
     @NotNull
@@ -26,6 +32,14 @@ public class MultiblockFormEvent implements MBEEvent {
         return player;
     }
 
+    /**
+     * True when the instance was restored from storage rather than assembled. Core listeners
+     * handle these through {@link MultiblocksRestoredEvent}.
+     */
+    public boolean isRestored() {
+        return restored;
+    }
+
     @Override
     public boolean isCancelled() {
         return cancelled;
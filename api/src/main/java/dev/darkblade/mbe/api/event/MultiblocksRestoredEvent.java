@@ -0,0 +1,45 @@
+package dev.darkblade.mbe.api.event;
+
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Published when a batch of persisted multiblocks has been restored, instead of one
+ * {@link MultiblockFormEvent} per instance. Large restores may be split over several batches.
+ * Per-instance form events are still replayed afterwards with {@link MultiblockFormEvent#isRestored()}
+ * set, unless disabled in the configuration.
+ */
+public class MultiblocksRestoredEvent implements MBEEvent {
+
+    private final List<MultiblockInstance> instances;
+    private final int restoredSoFar;
+    private final int total;
+
+    public MultiblocksRestoredEvent(@NotNull List<MultiblockInstance> instances, int restoredSoFar, int total) {
+        this.instances = List.copyOf(instances);
+        this.restoredSoFar = restoredSoFar;
+        this.total = total;
+    }
+
+    @NotNull
+    public List<MultiblockInstance> getMultiblocks() {
+        return instances;
+    }
+
+    /**
+     * Number of instances published so far, including this batch.
+     */
+    public int getRestoredSoFar() {
+        return restoredSoFar;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public boolean isLastBatch() {
+        return restoredSoFar >= total;
+    }
+}
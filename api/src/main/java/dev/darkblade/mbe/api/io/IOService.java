@@ -11,6 +11,18 @@ public interface IOService extends MBEService {
 
     void registerPort(IOPort port);
 
+    /**
+     * Registers several ports at once, e.g. when restored multiblocks are replayed at startup.
+     */
+    default void registerPorts(Collection<? extends IOPort> ports) {
+        if (ports == null) {
+            return;
+        }
+        for (IOPort port : ports) {
+            registerPort(port);
+        }
+    }
+
     void unregisterPort(IOPort port);
 
     TransferResult transfer(IOPort from, IOPort to, IOPayload payload);
@@ -9,22 +9,39 @@ public final class AddonLogger implements EngineLogger {
     private final String addonId;
     private final String addonVersion;
     private final AddonPhaseProvider phaseProvider;
+    private final LogScope scope;
 
     public AddonLogger(CoreLogger core, String addonId, String addonVersion, AddonPhaseProvider phaseProvider) {
         this.core = Objects.requireNonNull(core, "core");
         this.addonId = Objects.requireNonNull(addonId, "addonId");
         this.addonVersion = Objects.requireNonNull(addonVersion, "addonVersion");
         this.phaseProvider = Objects.requireNonNull(phaseProvider, "phaseProvider");
+        this.scope = new LogScope.Addon(addonId, addonVersion);
     }
 
     public EngineLogger withPhase(LogPhase phase) {
         Objects.requireNonNull(phase, "phase");
-        return (level, message, throwable, fields) -> core.logInternal(new LogScope.Addon(addonId, addonVersion), phase, level, message, throwable, fields, Set.of());
+        return new EngineLogger() {
+            @Override
+            public void log(LogLevel level, String message, Throwable throwable, LogKv... fields) {
+                core.logInternal(scope, phase, level, message, throwable, fields, Set.of());
+            }
+
+            @Override
+            public boolean isEnabled(LogLevel level) {
+                return core.isEnabled(scope, level);
+            }
+        };
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        return core.isEnabled(scope, level);
     }
 
     @Override
     public void log(LogLevel level, String message, Throwable throwable, LogKv... fields) {
-        core.logInternal(new LogScope.Addon(addonId, addonVersion), phaseProvider.currentPhase(), level, message, throwable, fields, Set.of());
+        core.logInternal(scope, phaseProvider.currentPhase(), level, message, throwable, fields, Set.of());
     }
 }
 
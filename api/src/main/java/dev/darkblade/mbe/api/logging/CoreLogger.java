@@ -1,8 +1,6 @@
 package dev.darkblade.mbe.api.logging;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -11,6 +9,8 @@ import java.util.function.BiPredicate;
 
 public final class CoreLogger implements EngineLogger {
 
+    private static final LogScope CORE_SCOPE = new LogScope.Core();
+
     private final String engine;
     private final LogBackend backend;
     private final LoggingConfig config;
@@ -37,36 +37,36 @@ public final class CoreLogger implements EngineLogger {
 
     @Override
     public void log(LogLevel level, String message, Throwable throwable, LogKv... fields) {
-        logInternal(new LogScope.Core(), corePhase.get(), level, message, throwable, fields, Set.of());
+        logInternal(CORE_SCOPE, corePhase.get(), level, message, throwable, fields, Set.of());
     }
 
-    public void logInternal(LogScope scope, LogPhase phase, LogLevel level, String message, Throwable throwable, LogKv[] fields, Set<String> tags) {
-        Objects.requireNonNull(scope, "scope");
-        Objects.requireNonNull(phase, "phase");
-        Objects.requireNonNull(level, "level");
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        return isEnabled(CORE_SCOPE, level);
+    }
 
+    public boolean isEnabled(LogScope scope, LogLevel level) {
+        if (scope == null || level == null) {
+            return false;
+        }
         if (level.ordinal() < LogLevel.ERROR.ordinal()) {
             BiPredicate<LogScope, LogLevel> g = gate.get();
             if (g != null && !g.test(scope, level)) {
-                return;
+                return false;
             }
         }
+        return config.isEnabled(scope, level);
+    }
 
-        if (!config.isEnabled(scope, level)) {
-            return;
-        }
+    public void logInternal(LogScope scope, LogPhase phase, LogLevel level, String message, Throwable throwable, LogKv[] fields, Set<String> tags) {
+        Objects.requireNonNull(scope, "scope");
+        Objects.requireNonNull(phase, "phase");
+        Objects.requireNonNull(level, "level");
 
-        List<LogKv> list = new ArrayList<>();
-        if (fields != null) {
-            for (LogKv kv : fields) {
-                if (kv != null) {
-                    list.add(kv);
-                }
-            }
+        if (!isEnabled(scope, level)) {
+            return;
         }
 
-        Set<String> tagSet = tags == null || tags.isEmpty() ? Set.of() : new LinkedHashSet<>(tags);
-
         boolean includeStacktrace = throwable != null && config.isDebug(scope);
 
         backend.publish(new LogEntry(
@@ -76,10 +76,34 @@ public final class CoreLogger implements EngineLogger {
             phase,
             level,
             message == null ? "" : message,
-            List.copyOf(list),
-            Set.copyOf(tagSet),
+            copyFields(fields),
+            tags == null || tags.isEmpty() ? Set.of() : Set.copyOf(tags),
             throwable,
             includeStacktrace
         ));
     }
+
+    // Copies once; the array is only filtered when it actually contains nulls.
+    private static List<LogKv> copyFields(LogKv[] fields) {
+        if (fields == null || fields.length == 0) {
+            return List.of();
+        }
+        int present = 0;
+        for (LogKv kv : fields) {
+            if (kv != null) {
+                present++;
+            }
+        }
+        if (present == fields.length) {
+            return List.of(fields);
+        }
+        LogKv[] compact = new LogKv[present];
+        int i = 0;
+        for (LogKv kv : fields) {
+            if (kv != null) {
+                compact[i++] = kv;
+            }
+        }
+        return List.of(compact);
+    }
 }
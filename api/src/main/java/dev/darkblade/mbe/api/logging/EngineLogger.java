@@ -1,9 +1,33 @@
 package dev.darkblade.mbe.api.logging;
 
+import java.util.function.Supplier;
+
 public interface EngineLogger {
 
     void log(LogLevel level, String message, Throwable throwable, LogKv... fields);
 
+    /**
+     * Whether an entry at {@code level} would currently be published. The {@link Supplier}
+     * overloads check this before building their fields.
+     */
+    default boolean isEnabled(LogLevel level) {
+        return true;
+    }
+
+    default void log(LogLevel level, String message, Throwable throwable, Supplier<LogKv[]> fields) {
+        if (isEnabled(level)) {
+            log(level, message, throwable, fields == null ? null : fields.get());
+        }
+    }
+
+    default void trace(String message, Supplier<LogKv[]> fields) {
+        log(LogLevel.TRACE, message, null, fields);
+    }
+
+    default void debug(String message, Supplier<LogKv[]> fields) {
+        log(LogLevel.DEBUG, message, null, fields);
+    }
+
     default void trace(String message, LogKv... fields) {
         log(LogLevel.TRACE, message, null, fields);
     }
@@ -2,5 +2,14 @@ package dev.darkblade.mbe.api.logging;
 
 public interface LogBackend {
     void publish(LogEntry entry);
-}
 
+    /**
+     * Pushes buffered output to its destination. Called after a batch of entries was published.
+     */
+    default void flush() {
+    }
+
+    default void close() {
+        flush();
+    }
+}
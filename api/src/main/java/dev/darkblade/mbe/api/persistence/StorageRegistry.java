@@ -1,8 +1,16 @@
 package dev.darkblade.mbe.api.persistence;
 
+import java.util.UUID;
+
 public interface StorageRegistry {
 
     void registerFactory(String type, StorageServiceFactory factory);
 
     StorageService create(String type, StorageDescriptor descriptor);
+
+    /**
+     * Hands the storage created for the id back to the factory of the type.
+     */
+    default void release(String type, UUID id) {
+    }
 }
@@ -1,6 +1,15 @@
 package dev.darkblade.mbe.api.persistence;
 
+import java.util.UUID;
+
 public interface StorageServiceFactory {
 
     StorageService create(StorageDescriptor descriptor);
+
+    /**
+     * Called when the storage created for the id is no longer needed, so the factory can save it
+     * and drop whatever it keeps for it.
+     */
+    default void release(UUID id) {
+    }
 }
@@ -0,0 +1,20 @@
+package dev.darkblade.mbe.api.wiring;
+
+import org.bukkit.block.Block;
+
+/**
+ * Groups node registrations and connections so they are applied together on {@link #commit()}:
+ * one topology update for all of them and one merge event per absorbed network. Nodes returned
+ * by {@link #registerNode} can be connected within the same batch before it is committed.
+ */
+public interface NetworkBatch {
+
+    NetworkNode registerNode(NetworkType type, Block block, NodeDescriptor descriptor);
+
+    void connect(NetworkType type, NetworkNode a, NetworkNode b);
+
+    /**
+     * Applies the batch and returns the number of connections that were created.
+     */
+    int commit();
+}
@@ -20,5 +20,43 @@ public interface NetworkService {
     Optional<NetworkNode> findNode(NetworkType type, Block block);
     
     Collection<NetworkNode> findAllNodes(Block block);
+
+    /**
+     * Unregisters the attached nodes loaded from storage that were not registered again since,
+     * and returns how many were dropped. Called once everything that owns attached nodes has
+     * loaded; implementations without persistence have nothing to drop.
+     */
+    default int pruneUnclaimedAttachedNodes() {
+        return 0;
+    }
+
+    /**
+     * Starts a batch of registrations and connections. Implementations without batching apply
+     * each call immediately and make {@link NetworkBatch#commit()} a no-op.
+     */
+    default NetworkBatch beginBatch() {
+        return new NetworkBatch() {
+            private int connected;
+
+            @Override
+            public NetworkNode registerNode(NetworkType type, Block block, NodeDescriptor descriptor) {
+                return NetworkService.this.registerNode(type, block, descriptor);
+            }
+
+            @Override
+            public void connect(NetworkType type, NetworkNode a, NetworkNode b) {
+                if (NetworkService.this.connect(type, a, b)) {
+                    connected++;
+                }
+            }
+
+            @Override
+            public int commit() {
+                int result = connected;
+                connected = 0;
+                return result;
+            }
+        };
+    }
 }
 
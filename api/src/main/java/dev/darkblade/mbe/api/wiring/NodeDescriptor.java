@@ -2,9 +2,17 @@ package dev.darkblade.mbe.api.wiring;
 
 import java.util.Set;
 
-public record NodeDescriptor(Set<Direction> connectableFaces) {
+/**
+ * @param attached whether the node belongs to something that registers it again every time it
+ *                 loads, like a multiblock port. Persisted attached nodes that nobody registers
+ *                 again are dropped by {@link NetworkService#pruneUnclaimedAttachedNodes()}.
+ */
+public record NodeDescriptor(Set<Direction> connectableFaces, boolean attached) {
     public NodeDescriptor {
         connectableFaces = connectableFaces == null ? Set.of() : Set.copyOf(connectableFaces);
     }
-}
 
+    public NodeDescriptor(Set<Direction> connectableFaces) {
+        this(connectableFaces, false);
+    }
+}
@@ -24,5 +24,25 @@ public interface PortResolutionService {
     List<ResolvedPort> resolveByDirection(MultiblockInstance instance, PortDirection direction);
 
     List<ResolvedPort> resolveByCapability(MultiblockInstance instance, String capability);
+
+    /**
+     * Returns the port of the instance whose block is at the location, if that block is a port.
+     */
+    default Optional<ResolvedPort> portAt(MultiblockInstance instance, Location location) {
+        if (location == null || location.getWorld() == null) {
+            return Optional.empty();
+        }
+        for (ResolvedPort resolved : resolveAll(instance)) {
+            Location at = resolved.location();
+            if (at != null
+                    && location.getWorld().equals(at.getWorld())
+                    && at.getBlockX() == location.getBlockX()
+                    && at.getBlockY() == location.getBlockY()
+                    && at.getBlockZ() == location.getBlockZ()) {
+                return Optional.of(resolved);
+            }
+        }
+        return Optional.empty();
+    }
 }
 
@@ -4,26 +4,53 @@ import dev.darkblade.mbe.api.capability.Capability;
 import org.bukkit.Location;
 import org.bukkit.block.BlockFace;
 
+import java.util.AbstractMap;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Optional;
+import java.util.Set;
 
 public class MultiblockInstance {
-    private final MultiblockType type;
+    private MultiblockType type;
     private final Location anchorLocation;
     private final BlockFace facing;
     private MultiblockState state;
-    private final Map<String, Object> variables;
     private final Map<Class<? extends Capability>, Capability> capabilities;
 
+    // Declared variables live in slots of the type's VariableLayout; the tag says which array
+    // holds the current value. Names the type does not declare go to extraVariables.
+    private VariableLayout layout;
+    private byte[] tags;
+    private long[] longs;
+    private double[] doubles;
+    private Object[] objects;
+    private Map<String, Object> extraVariables;
+    private final Map<String, Object> variablesView = new VariablesView();
+
+    // Bumped on every mutation; savedVersion is the version last written to storage, and may be
+    // set from a storage thread once an asynchronous write has completed.
+    private long version;
+    private volatile long savedVersion;
+
     public MultiblockInstance(MultiblockType type, Location anchorLocation, BlockFace facing, MultiblockState state, Map<String, Object> variables) {
         this.type = type;
         this.anchorLocation = anchorLocation;
         this.facing = facing;
         this.state = state;
-        this.variables = new HashMap<>(variables != null ? variables : type.defaultVariables());
         this.capabilities = new HashMap<>();
+        this.layout = type != null ? type.variableLayout() : VariableLayout.EMPTY;
+        if (variables == null) {
+            resetToDefaults();
+        } else {
+            clearSlots();
+            for (Map.Entry<String, Object> entry : variables.entrySet()) {
+                setVariable(entry.getKey(), entry.getValue());
+            }
+        }
+        this.version = 0L;
+        this.savedVersion = 0L;
     }
 
     public MultiblockInstance(MultiblockType type, Location anchorLocation, BlockFace facing) {
@@ -37,18 +64,199 @@ public class MultiblockInstance {
     
     public void setState(MultiblockState state) {
         this.state = state;
+        version++;
     }
-    
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * True when the instance changed since it was last saved.
+     */
+    public boolean isDirty() {
+        return version != savedVersion;
+    }
+
+    /**
+     * Flags the instance for the next checkpoint. Needed when a value stored in a variable is
+     * mutated in place, which the instance cannot observe.
+     */
+    public void markDirty() {
+        version++;
+    }
+
+    /**
+     * Records that the state as of {@code version} has been written to storage. Safe to call
+     * from the thread that completed the write.
+     */
+    public synchronized void markSaved(long version) {
+        if (version > savedVersion) {
+            savedVersion = version;
+        }
+    }
+
+    /**
+     * Points this instance at a reloaded definition of its type. Variables introduced by the new
+     * definition are seeded with their defaults; existing values are kept.
+     */
+    public void rebindType(MultiblockType type) {
+        if (type == null || !type.id().equals(this.type.id())) {
+            throw new IllegalArgumentException("type");
+        }
+        this.type = type;
+        version++;
+        VariableLayout next = type.variableLayout();
+        if (next.equals(layout)) {
+            layout = next;
+            return;
+        }
+        Map<String, Object> current = new LinkedHashMap<>(variablesView);
+        layout = next;
+        resetToDefaults();
+        extraVariables = null;
+        for (Map.Entry<String, Object> entry : current.entrySet()) {
+            setVariable(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public VariableLayout variableLayout() {
+        return layout;
+    }
+
+    /**
+     * Live read-only view of every variable, declared or not.
+     */
     public Map<String, Object> getVariables() {
-        return Collections.unmodifiableMap(variables);
+        return variablesView;
     }
-    
+
     public Object getVariable(String key) {
-        return variables.get(key);
+        int slot = layout.slot(key);
+        if (slot >= 0) {
+            return getVariable(slot);
+        }
+        return extraVariables == null ? null : extraVariables.get(key);
     }
-    
+
     public void setVariable(String key, Object value) {
-        variables.put(key, value);
+        int slot = layout.slot(key);
+        if (slot >= 0) {
+            setVariable(slot, value);
+            if (extraVariables != null) {
+                extraVariables.remove(key);
+            }
+            return;
+        }
+        if (extraVariables == null) {
+            extraVariables = new HashMap<>();
+        }
+        extraVariables.put(key, value);
+        version++;
+    }
+
+    /**
+     * Reads the slot of a declared variable, boxing primitive values.
+     */
+    public Object getVariable(int slot) {
+        return switch (tags[slot]) {
+            case VariableLayout.LONG -> longs[slot];
+            case VariableLayout.DOUBLE -> doubles[slot];
+            case VariableLayout.OBJECT -> objects[slot];
+            default -> null;
+        };
+    }
+
+    public void setVariable(int slot, Object value) {
+        if (value instanceof Long l) {
+            setLong(slot, l);
+        } else if (value instanceof Double d) {
+            setDouble(slot, d);
+        } else {
+            tags[slot] = VariableLayout.OBJECT;
+            objects[slot] = value;
+            version++;
+        }
+    }
+
+    public boolean isNumber(int slot) {
+        byte tag = tags[slot];
+        return tag == VariableLayout.LONG || tag == VariableLayout.DOUBLE
+                || (tag == VariableLayout.OBJECT && objects[slot] instanceof Number);
+    }
+
+    /**
+     * Reads a numeric slot without boxing, or returns {@code fallback} when it holds no number.
+     */
+    public double getNumber(int slot, double fallback) {
+        return switch (tags[slot]) {
+            case VariableLayout.LONG -> longs[slot];
+            case VariableLayout.DOUBLE -> doubles[slot];
+            case VariableLayout.OBJECT -> objects[slot] instanceof Number n ? n.doubleValue() : fallback;
+            default -> fallback;
+        };
+    }
+
+    public void setLong(int slot, long value) {
+        tags[slot] = VariableLayout.LONG;
+        longs[slot] = value;
+        objects[slot] = null;
+        version++;
+    }
+
+    public void setDouble(int slot, double value) {
+        tags[slot] = VariableLayout.DOUBLE;
+        doubles[slot] = value;
+        objects[slot] = null;
+        version++;
+    }
+
+    private void resetToDefaults() {
+        tags = layout.defaultTags();
+        longs = layout.defaultLongs();
+        doubles = layout.defaultDoubles();
+        objects = layout.defaultObjects();
+    }
+
+    private void clearSlots() {
+        int size = layout.size();
+        tags = new byte[size];
+        longs = new long[size];
+        doubles = new double[size];
+        objects = new Object[size];
+    }
+
+    private final class VariablesView extends AbstractMap<String, Object> {
+        @Override
+        public Object get(Object key) {
+            return key instanceof String name ? getVariable(name) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            if (!(key instanceof String name)) {
+                return false;
+            }
+            int slot = layout.slot(name);
+            if (slot >= 0) {
+                return tags[slot] != VariableLayout.ABSENT;
+            }
+            return extraVariables != null && extraVariables.containsKey(name);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            for (int slot = 0; slot < tags.length; slot++) {
+                if (tags[slot] != VariableLayout.ABSENT) {
+                    snapshot.put(layout.name(slot), getVariable(slot));
+                }
+            }
+            if (extraVariables != null) {
+                snapshot.putAll(extraVariables);
+            }
+            return Collections.unmodifiableMap(snapshot).entrySet();
+        }
     }
 
     public <T extends Capability> Optional<T> getCapability(Class<T> capabilityClass) {
@@ -29,7 +29,8 @@ public record MultiblockType(
     List<Action> onBreakActions,
     DisplayNameConfig displayName,
     int tickInterval,
-    List<CapabilityFactory> capabilityFactories
+    List<CapabilityFactory> capabilityFactories,
+    VariableLayout variableLayout
 ) {
     public record CapabilityFactory(String ownerId, Function<MultiblockInstance, Capability> factory) {}
 
@@ -45,6 +46,11 @@ public record MultiblockType(
         onBreakActions = onBreakActions != null ? Collections.unmodifiableList(onBreakActions) : List.of();
         capabilityFactories = capabilityFactories != null ? Collections.unmodifiableList(capabilityFactories) : List.of();
         if (tickInterval < 1) tickInterval = 20; // Default 1 second
+        if (variableLayout == null) variableLayout = VariableLayout.of(defaultVariables);
+    }
+
+    public MultiblockType(dev.darkblade.mbe.api.util.NamespacedKey id, String version, String assemblyTrigger, Vector controllerOffset, BlockMatcher controllerMatcher, List<PatternEntry> pattern, boolean persistent, Map<String, Object> behaviorConfig, Map<String, Object> defaultVariables, Map<String, PortDefinition> ports, Map<String, Object> extensions, List<Action> onCreateActions, List<Action> onTickActions, List<Action> onInteractActions, List<Action> onBreakActions, DisplayNameConfig displayName, int tickInterval, List<CapabilityFactory> capabilityFactories) {
+        this(id, version, assemblyTrigger, controllerOffset, controllerMatcher, pattern, persistent, behaviorConfig, defaultVariables, ports, extensions, onCreateActions, onTickActions, onInteractActions, onBreakActions, displayName, tickInterval, capabilityFactories, null);
     }
     
     // Constructor for YAML parser (no capabilities)
@@ -0,0 +1,135 @@
+package dev.darkblade.mbe.core.domain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Slot layout of the variables declared by a {@link MultiblockType}. Every declared name gets a
+ * fixed index, so an instance can keep its values in primitive arrays and actions can address
+ * them without hashing the name on every tick.
+ */
+public final class VariableLayout {
+
+    static final byte ABSENT = 0;
+    static final byte LONG = 1;
+    static final byte DOUBLE = 2;
+    static final byte OBJECT = 3;
+
+    public static final VariableLayout EMPTY = new VariableLayout(Map.of());
+
+    private final Map<String, Object> defaults;
+    private final String[] names;
+    private final Map<String, Integer> slots;
+    private final byte[] defaultTags;
+    private final long[] defaultLongs;
+    private final double[] defaultDoubles;
+    private final Object[] defaultObjects;
+
+    private VariableLayout(Map<String, Object> defaults) {
+        int size = defaults.size();
+        this.defaults = defaults;
+        this.names = new String[size];
+        this.defaultTags = new byte[size];
+        this.defaultLongs = new long[size];
+        this.defaultDoubles = new double[size];
+        this.defaultObjects = new Object[size];
+        Map<String, Integer> index = new HashMap<>(Math.max(4, size * 2));
+        int slot = 0;
+        for (Map.Entry<String, Object> entry : defaults.entrySet()) {
+            names[slot] = entry.getKey();
+            index.put(entry.getKey(), slot);
+            Object value = entry.getValue();
+            defaultTags[slot] = tagOf(value);
+            if (value instanceof Long l) {
+                defaultLongs[slot] = l;
+            } else if (value instanceof Double d) {
+                defaultDoubles[slot] = d;
+            } else {
+                defaultObjects[slot] = value;
+            }
+            slot++;
+        }
+        this.slots = Collections.unmodifiableMap(index);
+    }
+
+    public static VariableLayout of(Map<String, Object> defaults) {
+        if (defaults == null || defaults.isEmpty()) {
+            return EMPTY;
+        }
+        return new VariableLayout(defaults);
+    }
+
+    /**
+     * Returns the slot of {@code name}, or -1 when the type does not declare it.
+     */
+    public int slot(String name) {
+        Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    public String name(int slot) {
+        return names[slot];
+    }
+
+    /**
+     * Whether the variable in {@code slot} is declared with a whole-number default.
+     */
+    public boolean isIntegral(int slot) {
+        Object value = defaults.get(names[slot]);
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    static byte tagOf(Object value) {
+        if (value instanceof Long) {
+            return LONG;
+        }
+        if (value instanceof Double) {
+            return DOUBLE;
+        }
+        return OBJECT;
+    }
+
+    byte[] defaultTags() {
+        return defaultTags.clone();
+    }
+
+    long[] defaultLongs() {
+        return defaultLongs.clone();
+    }
+
+    double[] defaultDoubles() {
+        return defaultDoubles.clone();
+    }
+
+    Object[] defaultObjects() {
+        return defaultObjects.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof VariableLayout other)) {
+            return false;
+        }
+        return Arrays.equals(names, other.names) && Objects.equals(defaults, other.defaults);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(names);
+    }
+
+    @Override
+    public String toString() {
+        return "VariableLayout" + Arrays.toString(names);
+    }
+}
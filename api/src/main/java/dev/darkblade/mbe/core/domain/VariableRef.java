@@ -0,0 +1,51 @@
+package dev.darkblade.mbe.core.domain;
+
+import java.util.Objects;
+
+/**
+ * A variable name that remembers its slot in the last {@link VariableLayout} it was resolved
+ * against. Actions keep one per variable, so the name is only looked up again when the type is
+ * reloaded with a different layout.
+ */
+public final class VariableRef {
+
+    private record Binding(VariableLayout layout, int slot) {}
+
+    private final String name;
+    private volatile Binding binding;
+
+    public VariableRef(String name) {
+        this.name = name;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the slot of this variable in {@code layout}, or -1 when it is not declared there.
+     */
+    public int slot(VariableLayout layout) {
+        Binding current = binding;
+        if (current == null || current.layout() != layout) {
+            current = new Binding(layout, layout.slot(name));
+            binding = current;
+        }
+        return current.slot();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof VariableRef other && Objects.equals(name, other.name));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(name);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -33,36 +33,31 @@ public interface Action {
     }
 
     static Action owned(String ownerId, String typeKey, Action delegate) {
-        return new Action() {
-            @Override
-            public String ownerId() {
-                return ownerId;
-            }
-
-            @Override
-            public String typeKey() {
-                return typeKey;
-            }
+        return new Owned(ownerId, typeKey, delegate);
+    }
 
-            @Override
-            public void execute(MultiblockInstance instance, Player player) {
-                delegate.execute(instance, player);
-            }
+    /**
+     * An action attributed to the addon that registered it.
+     */
+    record Owned(String ownerId, String typeKey, Action delegate) implements Action {
+        @Override
+        public void execute(MultiblockInstance instance, Player player) {
+            delegate.execute(instance, player);
+        }
 
-            @Override
-            public void execute(MultiblockInstance instance) {
-                delegate.execute(instance);
-            }
+        @Override
+        public void execute(MultiblockInstance instance) {
+            delegate.execute(instance);
+        }
 
-            @Override
-            public boolean shouldExecuteOnInteract(org.bukkit.event.block.Action interactAction) {
-                return delegate.shouldExecuteOnInteract(interactAction);
-            }
+        @Override
+        public boolean shouldExecuteOnInteract(org.bukkit.event.block.Action interactAction) {
+            return delegate.shouldExecuteOnInteract(interactAction);
+        }
 
-            @Override
-            public boolean cancelsVanillaOnInteract(org.bukkit.event.block.Action interactAction) {
-                return delegate.cancelsVanillaOnInteract(interactAction);
-            }
-        };
+        @Override
+        public boolean cancelsVanillaOnInteract(org.bukkit.event.block.Action interactAction) {
+            return delegate.cancelsVanillaOnInteract(interactAction);
+        }
     }
 }
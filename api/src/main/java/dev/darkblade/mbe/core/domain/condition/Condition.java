@@ -23,26 +23,21 @@ public interface Condition {
     }
 
     static Condition owned(String ownerId, String typeKey, Condition delegate) {
-        return new Condition() {
-            @Override
-            public String ownerId() {
-                return ownerId;
-            }
-
-            @Override
-            public String typeKey() {
-                return typeKey;
-            }
-
-            @Override
-            public boolean check(MultiblockInstance instance, Player player) {
-                return delegate.check(instance, player);
-            }
-
-            @Override
-            public boolean check(MultiblockInstance instance) {
-                return delegate.check(instance);
-            }
-        };
+        return new Owned(ownerId, typeKey, delegate);
+    }
+
+    /**
+     * A condition attributed to the addon that registered it.
+     */
+    record Owned(String ownerId, String typeKey, Condition delegate) implements Condition {
+        @Override
+        public boolean check(MultiblockInstance instance, Player player) {
+            return delegate.check(instance, player);
+        }
+
+        @Override
+        public boolean check(MultiblockInstance instance) {
+            return delegate.check(instance);
+        }
     }
 }
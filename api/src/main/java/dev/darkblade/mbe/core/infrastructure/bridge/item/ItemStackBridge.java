@@ -1,6 +1,7 @@
 package dev.darkblade.mbe.core.infrastructure.bridge.item;
 
 import dev.darkblade.mbe.api.item.ItemInstance;
+import dev.darkblade.mbe.api.item.ItemKey;
 import org.bukkit.command.CommandSender;
 import org.bukkit.inventory.ItemStack;
 
@@ -22,4 +23,15 @@ public interface ItemStackBridge {
     }
 
     ItemInstance fromItemStack(ItemStack stack);
+
+    /**
+     * Resolves only the key of a registered MBE item, skipping the data payload.
+     * Prefer this over {@link #fromItemStack} for "is this item X" checks on hot paths.
+     *
+     * @return the item key, or {@code null} if the stack is not a registered MBE item
+     */
+    default ItemKey keyOf(ItemStack stack) {
+        ItemInstance instance = fromItemStack(stack);
+        return instance == null || instance.definition() == null ? null : instance.definition().key();
+    }
 }
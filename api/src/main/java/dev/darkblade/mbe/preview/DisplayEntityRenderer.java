@@ -14,10 +14,25 @@ public interface DisplayEntityRenderer {
     }
     
     void updateBlockDisplay(int entityId, BlockData blockData);
+
+    /**
+     * Moves an already spawned display through its translation and scale, relative to the
+     * location it was spawned at. Returns {@code false} when the renderer cannot do this, in
+     * which case callers should respawn the entity instead.
+     */
+    default boolean updateBlockDisplayTransform(Player player, int entityId, float tx, float ty, float tz, float sx, float sy, float sz) {
+        return false;
+    }
     
     default void highlightError(Player player, int entityId) {
         // Fallback does nothing
     }
     
     void destroyEntities(Player player, Collection<Integer> entityIds);
+
+    /**
+     * Sends any packets the renderer batched since the last flush. Called once per tick.
+     */
+    default void flush() {
+    }
 }
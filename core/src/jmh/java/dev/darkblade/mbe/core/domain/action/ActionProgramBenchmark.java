@@ -0,0 +1,103 @@
+package dev.darkblade.mbe.core.domain.action;
+
+import dev.darkblade.mbe.api.util.NamespacedKey;
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.domain.MultiblockState;
+import dev.darkblade.mbe.core.domain.MultiblockType;
+import dev.darkblade.mbe.core.domain.condition.StateCondition;
+import dev.darkblade.mbe.core.domain.condition.VariableCondition;
+import org.bukkit.Location;
+import org.bukkit.block.BlockFace;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-instance cost of a typical tick script when interpreted action by action
+ * against the same script compiled into an {@link ActionProgram}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionProgramBenchmark {
+
+    private static final ActionProgram.FailureHandler IGNORE = (action, instance, error) -> { };
+
+    private List<Action> script;
+    private ActionProgram program;
+    private MultiblockInstance interpreted;
+    private MultiblockInstance compiled;
+
+    @Setup
+    public void setup() {
+        script = List.of(
+                new ModifyVariableAction("ticks", 1, ModifyVariableAction.Operation.ADD),
+                new ModifyVariableAction("energy", 4, ModifyVariableAction.Operation.ADD),
+                new ModifyVariableAction("energy", 1, ModifyVariableAction.Operation.SUBTRACT),
+                new ConditionalAction(
+                        List.of(new StateCondition(MultiblockState.ACTIVE),
+                                new VariableCondition("energy", 1_000_000, VariableCondition.Comparison.GREATER_OR_EQUAL)),
+                        List.of(new SetVariableAction("energy", 0L),
+                                new ModifyVariableAction("cycles", 1, ModifyVariableAction.Operation.ADD)),
+                        List.of()),
+                new ConditionalAction(
+                        List.of(new VariableCondition("ticks", 0, VariableCondition.Comparison.GREATER)),
+                        List.of(new SetVariableAction("mode", "running")),
+                        List.of(new SetVariableAction("mode", "idle")))
+        );
+        MultiblockType type = new MultiblockType(
+                new NamespacedKey("bench", "generator"),
+                "1.0",
+                "wrench",
+                new Vector(0, 0, 0),
+                null,
+                List.of(),
+                false,
+                Map.of(),
+                Map.of("ticks", 0L, "energy", 0L, "cycles", 0L, "mode", "idle"),
+                Map.of(),
+                Map.of(),
+                List.of(),
+                script,
+                List.of(),
+                List.of(),
+                null,
+                1
+        );
+        program = ActionProgram.compile(script, type.variableLayout(), true);
+        interpreted = new MultiblockInstance(type, new Location(null, 0, 64, 0), BlockFace.NORTH);
+        compiled = new MultiblockInstance(type, new Location(null, 0, 64, 0), BlockFace.NORTH);
+    }
+
+    @Benchmark
+    public MultiblockInstance interpreted() {
+        for (Action action : script) {
+            try {
+                action.execute(interpreted);
+            } catch (Throwable ignored) {
+            }
+        }
+        return interpreted;
+    }
+
+    @Benchmark
+    public MultiblockInstance compiled() {
+        program.execute(compiled, null, IGNORE);
+        return compiled;
+    }
+}
@@ -180,6 +180,12 @@ public final class BlueprintController {
         previewService.touch(player);
     }
 
+    public void touchPreview(Player player) {
+        if (player != null) {
+            previewService.touch(player);
+        }
+    }
+
     public boolean startPlacement(Player player, MultiblockDefinition definition) {
         if (player == null || definition == null || definition.id() == null || definition.id().isBlank()) {
             return false;
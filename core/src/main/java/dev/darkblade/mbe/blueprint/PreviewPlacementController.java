@@ -1,27 +1,82 @@
 package dev.darkblade.mbe.blueprint;
 
+import dev.darkblade.mbe.api.tick.Tickable;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
-public final class PreviewPlacementController implements Listener {
+/**
+ * Moves placement previews with the player's view. Move events only note that the view changed:
+ * while the event runs the player still stands where the move started, so the origin is resolved
+ * on the next tick from the position the player actually reached. Players are served in the
+ * order they moved, up to the tracker's per-tick raycast budget; the rest wait for the next tick.
+ */
+public final class PreviewPlacementController implements Listener, Tickable {
     private final BlueprintController controller;
+    private final PreviewPlacementTracker tracker;
+    // Players whose view changed since their origin was last resolved
+    private final Set<UUID> moved = ConcurrentHashMap.newKeySet();
+    private final Queue<UUID> queue = new ConcurrentLinkedQueue<>();
 
-    public PreviewPlacementController(BlueprintController controller) {
+    public PreviewPlacementController(BlueprintController controller, PreviewPlacementTracker tracker) {
         this.controller = Objects.requireNonNull(controller, "controller");
+        this.tracker = Objects.requireNonNull(tracker, "tracker");
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
         Player player = event.getPlayer();
-        if (!controller.refreshState(player)) {
+        if (!tracker.hasMoved(player.getUniqueId(), event.getTo())) {
+            // The last resolved origin still applies; only keep the preview alive
+            controller.touchPreview(player);
             return;
         }
-        controller.updatePreviewOnMove(player);
+        if (moved.add(player.getUniqueId())) {
+            queue.add(player.getUniqueId());
+        }
+    }
+
+    @Override
+    public void tick() {
+        tracker.advanceTick();
+        UUID playerId;
+        while ((playerId = queue.peek()) != null && tracker.tryAcquire()) {
+            queue.poll();
+            moved.remove(playerId);
+            Player player = Bukkit.getPlayer(playerId);
+            if (player == null || !player.isOnline()) {
+                tracker.forget(playerId);
+                continue;
+            }
+            if (!controller.refreshState(player)) {
+                tracker.forget(playerId);
+                continue;
+            }
+            Location view = player.getLocation();
+            if (tracker.hasMoved(playerId, view)) {
+                controller.updatePreviewOnMove(player);
+                tracker.resolved(playerId, view);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        moved.remove(playerId);
+        tracker.forget(playerId);
     }
 
     @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
@@ -0,0 +1,87 @@
+package dev.darkblade.mbe.blueprint;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Remembers the view each player last resolved a preview origin from, so movement that cannot
+ * change the snapped origin is dropped before any raycast. A view counts as changed when the
+ * player's block position changes or the look direction turns past the angle threshold. Raycasts
+ * are also capped per tick across all players; callers defer the rest to the next tick.
+ */
+public final class PreviewPlacementTracker {
+
+    private final float lookThresholdDegrees;
+    private final int maxRaycastsPerTick;
+    private final Map<UUID, View> views = new ConcurrentHashMap<>();
+    private final AtomicInteger remaining;
+
+    private record View(World world, int x, int y, int z, float yaw, float pitch) {}
+
+    public PreviewPlacementTracker(double lookThresholdDegrees, int maxRaycastsPerTick) {
+        this.lookThresholdDegrees = (float) Math.max(0.0D, lookThresholdDegrees);
+        this.maxRaycastsPerTick = Math.max(1, maxRaycastsPerTick);
+        this.remaining = new AtomicInteger(this.maxRaycastsPerTick);
+    }
+
+    /**
+     * Whether the view moved far enough since the last resolved origin to possibly change it.
+     */
+    public boolean hasMoved(UUID playerId, Location view) {
+        if (playerId == null || view == null) {
+            return false;
+        }
+        View last = views.get(playerId);
+        if (last == null) {
+            return true;
+        }
+        return last.world() != view.getWorld()
+                || last.x() != view.getBlockX()
+                || last.y() != view.getBlockY()
+                || last.z() != view.getBlockZ()
+                || angleBetween(last.yaw(), view.getYaw()) >= lookThresholdDegrees
+                || Math.abs(last.pitch() - view.getPitch()) >= lookThresholdDegrees;
+    }
+
+    /**
+     * Takes one raycast from the budget all players share for the current tick.
+     */
+    public boolean tryAcquire() {
+        return remaining.getAndUpdate(left -> left > 0 ? left - 1 : 0) > 0;
+    }
+
+    /**
+     * Records the view an origin was resolved from; later movement is measured against it.
+     */
+    public void resolved(UUID playerId, Location view) {
+        if (playerId == null || view == null) {
+            return;
+        }
+        views.put(playerId, new View(view.getWorld(), view.getBlockX(), view.getBlockY(), view.getBlockZ(), view.getYaw(), view.getPitch()));
+    }
+
+    public void advanceTick() {
+        remaining.set(maxRaycastsPerTick);
+    }
+
+    public void forget(UUID playerId) {
+        if (playerId == null) {
+            return;
+        }
+        views.remove(playerId);
+    }
+
+    public int trackedCount() {
+        return views.size();
+    }
+
+    private static float angleBetween(float a, float b) {
+        float delta = Math.abs(a - b) % 360.0F;
+        return delta > 180.0F ? 360.0F - delta : delta;
+    }
+}
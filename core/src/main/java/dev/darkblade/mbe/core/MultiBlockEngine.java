@@ -32,7 +32,6 @@ import dev.darkblade.mbe.api.wiring.NetworkService;
 import dev.darkblade.mbe.api.persistence.PersistentStorageService;
 import dev.darkblade.mbe.api.persistence.StorageExceptionHandler;
 import dev.darkblade.mbe.api.persistence.StorageRegistry;
-import dev.darkblade.mbe.api.event.MultiblockFormEvent;
 import dev.darkblade.mbe.blueprint.BlueprintDefinitionResolver;
 import dev.darkblade.mbe.blueprint.BlueprintHeldItemResolver;
 import dev.darkblade.mbe.blueprint.BlueprintController;
@@ -41,6 +40,7 @@ import dev.darkblade.mbe.blueprint.BlueprintServiceImpl;
 import dev.darkblade.mbe.blueprint.BuildContextService;
 import dev.darkblade.mbe.blueprint.InMemoryBuildContextService;
 import dev.darkblade.mbe.blueprint.PreviewPlacementController;
+import dev.darkblade.mbe.blueprint.PreviewPlacementTracker;
 import dev.darkblade.mbe.catalog.PreviewOriginResolver;
 import dev.darkblade.mbe.catalog.RaycastPreviewOriginResolver;
 import dev.darkblade.mbe.catalog.StructureCatalogService;
@@ -58,6 +58,9 @@ import dev.darkblade.mbe.core.application.service.multiblock.MultiblockInstanceR
 import dev.darkblade.mbe.core.application.service.multiblock.MultiblockTickingService;
 import dev.darkblade.mbe.core.application.service.multiblock.MultiblockAssemblyService;
 import dev.darkblade.mbe.core.application.service.multiblock.MultiblockCapabilityInitializer;
+import dev.darkblade.mbe.core.application.service.multiblock.RestoredMultiblockPublisher;
+import dev.darkblade.mbe.core.application.service.multiblock.InstanceCheckpointService;
+import dev.darkblade.mbe.core.application.service.multiblock.StructureIntegrityService;
 import dev.darkblade.mbe.core.application.service.MultiblockRuntimeService;
 import dev.darkblade.mbe.core.application.service.editor.EditorSessionManager;
 import dev.darkblade.mbe.core.application.service.interaction.DefaultInteractionPipelineService;
@@ -115,9 +118,11 @@ import dev.darkblade.mbe.core.application.service.tool.SwitchModeAction;
 import dev.darkblade.mbe.core.application.service.tool.ToolSessionServiceImpl;
 import dev.darkblade.mbe.api.tool.ToolSessionService;
 import dev.darkblade.mbe.core.application.service.tool.ToolModeContextResolver;
+import dev.darkblade.mbe.core.application.service.tick.RegionTaskDispatcher;
 import dev.darkblade.mbe.core.application.service.tick.TickServiceImpl;
 import dev.darkblade.mbe.api.tick.TickService;
 import dev.darkblade.mbe.core.application.service.wiring.DefaultNetworkService;
+import dev.darkblade.mbe.core.application.service.wiring.NetworkTopologyStore;
 import dev.darkblade.mbe.core.internal.inspection.DefaultInspectionPipelineService;
 import dev.darkblade.mbe.api.command.ExportHookRegistry;
 import dev.darkblade.mbe.core.internal.tooling.export.DefaultExportHookRegistry;
@@ -128,8 +133,11 @@ import dev.darkblade.mbe.core.internal.tooling.export.ExportInteractListener;
 import dev.darkblade.mbe.core.infrastructure.persistence.SqlStorage;
 import dev.darkblade.mbe.core.infrastructure.persistence.InstanceStorageService;
 import dev.darkblade.mbe.core.infrastructure.persistence.FileInstanceStorage;
+import dev.darkblade.mbe.core.infrastructure.persistence.InstanceCheckpointListener;
+import dev.darkblade.mbe.core.infrastructure.persistence.NetworkTopologyWorldListener;
 import dev.darkblade.mbe.core.infrastructure.persistence.DefaultStorageRegistry;
 import dev.darkblade.mbe.core.infrastructure.persistence.FilePersistentStorageService;
+import dev.darkblade.mbe.core.infrastructure.persistence.item.ItemStorageFactory;
 import dev.darkblade.mbe.preview.DisplayEntityRenderer;
 import dev.darkblade.mbe.preview.PreviewBlockPlaceListener;
 import dev.darkblade.mbe.preview.PreviewSettings;
@@ -139,7 +147,8 @@ import dev.darkblade.mbe.preview.StructurePreviewServiceImpl;
 import dev.darkblade.mbe.preview.UnknownValidationStrategy;
 import dev.darkblade.mbe.uiengine.BlueprintDataProvider;
 import dev.darkblade.mbe.uiengine.InventoryConfigLoader;
-import dev.darkblade.mbe.uiengine.InventoryDataProvider;
+import dev.darkblade.mbe.uiengine.InventoryDataCache;
+import dev.darkblade.mbe.uiengine.InventoryProviderRegistry;
 import dev.darkblade.mbe.uiengine.InventoryRenderer;
 import dev.darkblade.mbe.uiengine.InventorySessionStore;
 import dev.darkblade.mbe.uiengine.InventoryUIListener;
@@ -154,10 +163,12 @@ import dev.darkblade.mbe.api.block.BlockRegistry;
 import dev.darkblade.mbe.core.block.DefaultBlockRegistry;
 import dev.darkblade.mbe.core.block.BlockItemService;
 import dev.darkblade.mbe.core.block.BlockPlacementListener;
+import dev.darkblade.mbe.core.block.StructureIntegrityListener;
 import dev.darkblade.mbe.core.infrastructure.config.block.BuiltinBlockLoader;
 
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
 import org.bukkit.event.Listener;
 import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -167,7 +178,6 @@ import java.lang.reflect.Constructor;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -178,6 +188,7 @@ import dev.darkblade.mbe.api.service.security.TrustedCommandService;
 import dev.darkblade.mbe.core.application.service.security.TrustedCommandServiceImpl;
 import dev.darkblade.mbe.core.internal.debug.DebugSessionService;
 import dev.darkblade.mbe.core.domain.assembly.AssemblyCoordinator;
+import dev.darkblade.mbe.core.domain.assembly.AssemblyReportRequestListener;
 import dev.darkblade.mbe.core.domain.assembly.BuiltinAssemblyTriggers;
 import dev.darkblade.mbe.core.domain.assembly.DefaultAssemblyTriggerRegistry;
 import dev.darkblade.mbe.api.assembly.AssemblyTriggerRegistry;
@@ -189,8 +200,13 @@ public class MultiBlockEngine extends JavaPlugin {
     private static MultiBlockEngine instance;
     private MultiblockRuntimeService manager;
     private MultiblockParser parser;
+    private dev.darkblade.mbe.core.application.service.multiblock.MultiblockDefinitionReloader definitionReloader;
+    private dev.darkblade.mbe.core.infrastructure.config.parser.MultiblockDefinitionWatcher definitionWatcher;
     private InstanceStorageService storage;
+    private InstanceCheckpointService checkpointService;
     private PersistentStorageService persistence;
+    private ItemStorageFactory itemStorageFactory;
+    private NetworkTopologyStore networkTopologyStore;
     private MultiblockAPIImpl api;
     private DebugSessionService debugManager;
     private AddonLifecycleService addonManager;
@@ -209,6 +225,8 @@ public class MultiBlockEngine extends JavaPlugin {
     private PlayerMultiblockContextResolver metadataContextResolver;
     private CoreServiceLifecycleCoordinator coreServiceLifecycleCoordinator;
     private TickServiceImpl tickService;
+    private StructureIntegrityService integrityService;
+    private PreviewPlacementController previewPlacementController;
     private Tickable ioTickable;
     private DefaultUIRuntimeRegistry uiRuntimeRegistry;
     private PanelViewServiceImpl panelViewService;
@@ -279,7 +297,9 @@ public class MultiBlockEngine extends JavaPlugin {
         dev.darkblade.mbe.core.application.service.MetricsService metrics = new dev.darkblade.mbe.core.application.service.MetricsService();
         dev.darkblade.mbe.core.application.service.multiblock.MultiblockTickingService tickingService = new dev.darkblade.mbe.core.application.service.multiblock.MultiblockTickingService(
                 instanceRegistry, metrics);
-        dev.darkblade.mbe.core.application.service.HologramService holograms = new dev.darkblade.mbe.core.application.service.HologramService();
+        schedulerCompatService = new BukkitSchedulerCompatService(this);
+        tickingService.setRegionDispatcher(new RegionTaskDispatcher(schedulerCompatService));
+        dev.darkblade.mbe.core.application.service.HologramService holograms = new dev.darkblade.mbe.core.application.service.HologramService(schedulerCompatService);
         dev.darkblade.mbe.core.application.service.multiblock.MultiblockAssemblyService assemblyService = new dev.darkblade.mbe.core.application.service.multiblock.MultiblockAssemblyService(
                 typeRegistry, instanceRegistry, tickingService, holograms);
         dev.darkblade.mbe.core.application.service.multiblock.MultiblockCapabilityInitializer capabilityInitializer = new dev.darkblade.mbe.core.application.service.multiblock.MultiblockCapabilityInitializer();
@@ -305,7 +325,7 @@ public class MultiBlockEngine extends JavaPlugin {
         addonManager.registerCoreMbeService(eventBus);
 
         coreServiceLifecycleCoordinator = new CoreServiceLifecycleCoordinator();
-        tickService = new TickServiceImpl(this, log);
+        tickService = new TickServiceImpl(schedulerCompatService, log);
         addonManager.registerCoreService(dev.darkblade.mbe.api.tick.TickService.class, tickService);
         addonManager.registerCoreMbeService(tickService);
         uiRuntimeRegistry = new DefaultUIRuntimeRegistry();
@@ -315,7 +335,6 @@ public class MultiBlockEngine extends JavaPlugin {
         addonManager.registerCoreMbeService(panelViewService);
         BukkitServerVersionService serverVersionService = new BukkitServerVersionService();
         inventoryCompatService = new BukkitInventoryCompatService();
-        schedulerCompatService = new BukkitSchedulerCompatService(this);
         BukkitDisplayCompatService displayCompatService = new BukkitDisplayCompatService(
                 getServer().getPluginManager(),
                 () -> addonManager == null ? null : addonManager.getCoreService(DisplayEntityRenderer.class));
@@ -353,8 +372,14 @@ public class MultiBlockEngine extends JavaPlugin {
         addonManager.registerCoreService(ItemService.class, itemService);
         ItemStackBridge itemStackBridge = createItemStackBridge(itemService);
         addonManager.registerCoreService(ItemStackBridge.class, itemStackBridge);
-        addonManager.registerCoreService(StorageRegistry.class,
-                new DefaultStorageRegistry(log, storageExceptionHandler));
+        DefaultStorageRegistry storageRegistry = new DefaultStorageRegistry(log, storageExceptionHandler);
+        itemStorageFactory = new ItemStorageFactory(
+                persistence,
+                getConfig().getInt("persistence.item-storage.save-interval-ticks", 100),
+                getConfig().getInt("persistence.item-storage.compact-after", 64));
+        storageRegistry.registerFactory(ItemStorageFactory.TYPE, itemStorageFactory);
+        tickService.register(itemStorageFactory);
+        addonManager.registerCoreService(StorageRegistry.class, storageRegistry);
         addonManager.registerCoreService(PersistentStorageService.class, persistence);
 
         ExportHookRegistry exportHooks = new DefaultExportHookRegistry();
@@ -392,11 +417,22 @@ public class MultiBlockEngine extends JavaPlugin {
         addonManager.registerCoreService(TrustedCommandService.class, trustedCommandService);
         addonManager.registerCoreMbeService(trustedCommandService);
 
-        PortResolutionService portResolutionService = new DefaultPortResolutionService();
+        DefaultPortResolutionService portResolutionService = new DefaultPortResolutionService(eventBus);
+        instanceRegistry.addRemovalListener(portResolutionService::forget);
         addonManager.registerCoreService(PortResolutionService.class, portResolutionService);
-        IOService ioService = new DefaultIOService(persistence);
-        IOTickService ioTickService = new DefaultIOTickService(ioService);
-        NetworkService networkService = new DefaultNetworkService(Bukkit.getPluginManager()::callEvent);
+        DefaultIOService ioService = new DefaultIOService(persistence);
+        DefaultIOTickService ioTickService = new DefaultIOTickService(ioService);
+        DefaultNetworkService networkService = new DefaultNetworkService(Bukkit.getPluginManager()::callEvent);
+        networkTopologyStore = new NetworkTopologyStore(
+                networkService,
+                persistence,
+                log,
+                20 * getConfig().getInt("persistence.wiring.save-interval-seconds", 60));
+        for (World world : Bukkit.getWorlds()) {
+            networkTopologyStore.loadWorld(world.getUID());
+        }
+        getServer().getPluginManager().registerEvents(new NetworkTopologyWorldListener(networkTopologyStore), this);
+        tickService.register(networkTopologyStore);
         dev.darkblade.mbe.api.packet.PacketService packetService = new dev.darkblade.mbe.core.packet.CorePacketService();
         addonManager.registerCoreService(dev.darkblade.mbe.api.packet.PacketService.class, packetService);
         ToolRegistry toolRegistry = new DefaultToolRegistry();
@@ -454,6 +490,7 @@ public class MultiBlockEngine extends JavaPlugin {
         if (assemblyCoordinator == null) {
             log.fatal("Assembly coordinator initialization failed");
         }
+        getServer().getPluginManager().registerEvents(new AssemblyReportRequestListener(assemblyCoordinator), this);
         dev.darkblade.mbe.core.application.command.MBECommandManager commandManager = new dev.darkblade.mbe.core.application.command.MBECommandManager(this);
         commandManager.parserRegistry().registerParserSupplier(
                 io.leangen.geantyref.TypeToken.get(dev.darkblade.mbe.core.domain.MultiblockType.class),
@@ -540,7 +577,8 @@ public class MultiBlockEngine extends JavaPlugin {
                 exportSelections,
                 structureExporter,
                 playerMessageService,
-                getDataFolder().toPath().resolve("exports")
+                getDataFolder().toPath().resolve("exports"),
+                schedulerCompatService
         );
         commandManager.registerCommandClass(exportCmd);
 
@@ -552,12 +590,14 @@ public class MultiBlockEngine extends JavaPlugin {
         addonManager.registerCoreService(BuildContextService.class, buildContextService);
         BlueprintDefinitionResolver blueprintDefinitionResolver = new BlueprintDefinitionResolver(
                 structureCatalogService);
-        Map<String, InventoryDataProvider> uiProviders = new HashMap<>();
-        uiProviders.put("blueprints", new BlueprintDataProvider(structureCatalogService));
+        InventoryProviderRegistry uiProviders = new InventoryProviderRegistry();
+        uiProviders.register("blueprints", new BlueprintDataProvider(structureCatalogService));
         InventorySessionStore inventorySessions = new InventorySessionStore();
+        InventoryDataCache inventoryDataCache = new InventoryDataCache();
         InventoryUIService inventoryUIService = new InventoryUIServiceImpl(
                 new InventoryConfigLoader(new File(getDataFolder(), "inventories.yml")),
-                new InventoryRenderer(uiProviders),
+                new InventoryRenderer(uiProviders, inventoryDataCache, schedulerCompatService,
+                        loggingManager.core()),
                 inventorySessions);
         addonManager.registerCoreService(InventoryUIService.class, inventoryUIService);
         // Blueprint crafting table panel components
@@ -644,7 +684,7 @@ public class MultiBlockEngine extends JavaPlugin {
         BlockItemService blockItemService = new BlockItemService(this, blockRegistry);
         addonManager.registerCoreService(BlockItemService.class, blockItemService);
         getServer().getPluginManager().registerEvents(
-                new BlockPlacementListener(blockItemService, blockRegistry, manager, assemblyCoordinator), this);
+                new BlockPlacementListener(blockItemService, blockRegistry, manager, assemblyCoordinator, schedulerCompatService), this);
 
         File builtinDir = new File(multiblockDir, ".builtin");
         if (!builtinDir.exists())
@@ -654,12 +694,12 @@ public class MultiBlockEngine extends JavaPlugin {
 
         // Load definitions
         log.setCorePhase(LogPhase.LOAD);
-        List<MultiblockParser.LoadedType> loadedTypes = parser.loadAllWithSources(multiblockDir);
-        for (java.nio.file.Path addonDir : addonManager.getAddonMultiblockDirectories()) {
-            if (java.nio.file.Files.exists(addonDir)) {
-                loadedTypes.addAll(parser.loadAllWithSources(addonDir.toFile()));
-            }
-        }
+        definitionReloader = new dev.darkblade.mbe.core.application.service.multiblock.MultiblockDefinitionReloader(
+                multiblockDir, parser, manager, addonManager, log);
+        List<File> definitionDirs = definitionReloader.definitionDirectories();
+        MultiblockParser.LoadStats loadStats = new MultiblockParser.LoadStats();
+        List<MultiblockParser.LoadedType> loadedTypes = parser.loadAllWithSources(definitionDirs, loadStats);
+        long registerStarted = System.nanoTime();
         
         List<MultiblockType> types = new ArrayList<>(loadedTypes.size());
         for (MultiblockParser.LoadedType loaded : loadedTypes) {
@@ -670,14 +710,33 @@ public class MultiBlockEngine extends JavaPlugin {
             try {
                 manager.registerType(type, loaded.source());
                 types.add(type);
-                log.debug("Loaded multiblock", dev.darkblade.mbe.api.logging.LogKv.kv("id", type.id()),
+                log.debug("Loaded multiblock", () -> new dev.darkblade.mbe.api.logging.LogKv[] {
+                        dev.darkblade.mbe.api.logging.LogKv.kv("id", type.id()),
                         dev.darkblade.mbe.api.logging.LogKv.kv("source", loaded.source().type().name()),
-                        dev.darkblade.mbe.api.logging.LogKv.kv("path", loaded.source().path()));
+                        dev.darkblade.mbe.api.logging.LogKv.kv("path", loaded.source().path())
+                });
             } catch (Exception e) {
                 log.log(LogLevel.ERROR, "Failed to register multiblock type", e,
                         dev.darkblade.mbe.api.logging.LogKv.kv("id", type.id()));
             }
         }
+        log.info("Multiblock definitions loaded",
+                dev.darkblade.mbe.api.logging.LogKv.kv("directories", definitionDirs.size()),
+                dev.darkblade.mbe.api.logging.LogKv.kv("files", loadStats.files()),
+                dev.darkblade.mbe.api.logging.LogKv.kv("types", types.size()),
+                dev.darkblade.mbe.api.logging.LogKv.kv("readMs", loadStats.readMillis()),
+                dev.darkblade.mbe.api.logging.LogKv.kv("resolveMs", loadStats.resolveMillis()),
+                dev.darkblade.mbe.api.logging.LogKv.kv("parseMs", loadStats.parseMillis()),
+                dev.darkblade.mbe.api.logging.LogKv.kv("registerMs", (System.nanoTime() - registerStarted) / 1_000_000L));
+        if (getConfig().getBoolean("hot-reload.enabled", false)) {
+            definitionWatcher = new dev.darkblade.mbe.core.infrastructure.config.parser.MultiblockDefinitionWatcher(
+                    definitionReloader::definitionDirectories,
+                    getConfig().getLong("hot-reload.debounce-ms", 500L),
+                    schedulerCompatService,
+                    definitionReloader::reload,
+                    log);
+            definitionWatcher.start();
+        }
 
         // Restore persisted instances
         Collection<MultiblockInstance> instances = storage.loadAll();
@@ -699,17 +758,12 @@ public class MultiBlockEngine extends JavaPlugin {
                 }
             }
         }
-        for (MultiblockInstance inst : instances) {
-            manager.registerInstance(inst, false);
-        }
+        manager.registerInstances(instances);
         log.info("Restored active instances", dev.darkblade.mbe.api.logging.LogKv.kv("count", instances.size()));
         manager.getMetrics().setEnabled(getConfig().getBoolean("metrics", true));
         tickService.register(manager);
-        ioTickable = () -> {
-            for (MultiblockInstance active : manager.getActiveInstancesSnapshot()) {
-                ioTickService.tick(active);
-            }
-        };
+        ioTickService.setRegionDispatcher(new RegionTaskDispatcher(schedulerCompatService));
+        ioTickable = () -> ioTickService.tickAll(manager::isInstanceActive);
         tickService.register(ioTickable);
 
         log.setCorePhase(LogPhase.ENABLE);
@@ -724,15 +778,37 @@ public class MultiBlockEngine extends JavaPlugin {
         getServer().getPluginManager().registerEvents(
                 createMultiblockListener(interactionPipeline, i18n, platformService, mbeLifecycleService, eventBus),
                 this);
+        if (getConfig().getBoolean("integrity.watch-block-changes", true)) {
+            integrityService = new StructureIntegrityService(
+                    manager::getInstanceAt,
+                    manager::isInstanceActive,
+                    manager::updateInstanceState,
+                    instance -> {
+                        if (mbeLifecycleService != null) {
+                            return mbeLifecycleService.tryDisassemble(instance, null);
+                        }
+                        manager.destroyInstance(instance);
+                        return true;
+                    },
+                    new RegionTaskDispatcher(schedulerCompatService),
+                    eventBus);
+            tickService.register(integrityService);
+            getServer().getPluginManager().registerEvents(new StructureIntegrityListener(integrityService), this);
+        }
         getServer().getPluginManager().registerEvents(createEditorInputListener(), this);
         getServer().getPluginManager().registerEvents(new ExportInteractListener(exportSelections), this);
         getServer().getPluginManager().registerEvents(blueprintInputListener, this);
-        getServer().getPluginManager().registerEvents(new PreviewPlacementController(blueprintController), this);
+        previewPlacementController = new PreviewPlacementController(blueprintController, new PreviewPlacementTracker(
+                getConfig().getDouble("preview.lookThresholdDegrees", 2.0D),
+                getConfig().getInt("preview.maxRaycastsPerTick", 20)));
+        getServer().getPluginManager().registerEvents(previewPlacementController, this);
+        tickService.register(previewPlacementController);
         getServer().getPluginManager()
                 .registerEvents(new PreviewBlockPlaceListener(structurePreviewService, buildContextService), this);
         new StructurePreviewRequestListener(eventBus, structurePreviewService, platformService);
         getServer().getPluginManager().registerEvents(
-                new InventoryUIListener(inventorySessions, blueprintService, inventoryCompatService), this);
+                new InventoryUIListener(inventorySessions, blueprintService, inventoryCompatService,
+                        inventoryDataCache), this);
         getServer().getPluginManager().registerEvents(
                 new BlueprintCraftingPanelListener(
                         craftingSessionStore,
@@ -745,12 +821,32 @@ public class MultiBlockEngine extends JavaPlugin {
         new MetadataInvalidationListener(eventBus, metadataService);
         new IOPortLifecycleListener(eventBus, ioService, portResolutionService);
         new dev.darkblade.mbe.core.infrastructure.integration.MultiblockWiringBridge(eventBus, networkService, portResolutionService);
-        for (MultiblockInstance inst : instances) {
-            eventBus.publish(new MultiblockFormEvent(inst, null));
+        new RestoredMultiblockPublisher(
+                eventBus,
+                schedulerCompatService,
+                log,
+                manager::isInstanceActive,
+                getConfig().getInt("startup.restore-batch-size", 0),
+                getConfig().getBoolean("startup.replay-form-events", true))
+                .publish(List.copyOf(instances));
+
+        checkpointService = new InstanceCheckpointService(
+                manager::getActiveInstancesSnapshot,
+                manager::getInstancesInChunk,
+                manager::isInstanceActive,
+                storage,
+                manager.getMetrics(),
+                log,
+                getConfig().getInt("persistence.checkpoint.batch-size", 256));
+        checkpointService.setRegionDispatcher(new RegionTaskDispatcher(schedulerCompatService));
+        long checkpointTicks = 20L * getConfig().getLong("persistence.checkpoint.interval-seconds", 30L);
+        if (checkpointTicks > 0L) {
+            schedulerCompatService.runTimer(checkpointService::checkpoint, checkpointTicks, checkpointTicks);
         }
+        getServer().getPluginManager().registerEvents(new InstanceCheckpointListener(checkpointService), this);
 
         // Register Commands
-        Bukkit.getScheduler().runTaskTimerAsynchronously(this, () -> {
+        schedulerCompatService.runAsyncTimer(() -> {
             try {
                 if (persistence != null) {
                     persistence.flush();
@@ -859,7 +955,13 @@ public class MultiBlockEngine extends JavaPlugin {
             log.setCorePhase(LogPhase.DISABLE);
         }
 
-        Bukkit.getScheduler().cancelTasks(this);
+        if (definitionWatcher != null) {
+            definitionWatcher.close();
+            definitionWatcher = null;
+        }
+        if (schedulerCompatService != null) {
+            schedulerCompatService.cancelAll();
+        }
         if (debugManager != null) {
             debugManager.stopAll();
         }
@@ -880,6 +982,25 @@ public class MultiBlockEngine extends JavaPlugin {
                 tickService.unregister(ioTickable);
                 ioTickable = null;
             }
+            if (integrityService != null) {
+                tickService.unregister(integrityService);
+                integrityService = null;
+            }
+            if (previewPlacementController != null) {
+                tickService.unregister(previewPlacementController);
+                previewPlacementController = null;
+            }
+            if (itemStorageFactory != null) {
+                tickService.unregister(itemStorageFactory);
+            }
+            if (networkTopologyStore != null) {
+                tickService.unregister(networkTopologyStore);
+            }
+        }
+        // Saved before addons shut down, so nodes they unregister on disable stay persisted
+        if (networkTopologyStore != null) {
+            networkTopologyStore.saveDirty();
+            networkTopologyStore = null;
         }
         if (coreServiceLifecycleCoordinator != null) {
             coreServiceLifecycleCoordinator.disableAll();
@@ -887,12 +1008,20 @@ public class MultiBlockEngine extends JavaPlugin {
         if (addonManager != null) {
             addonManager.disableAddons();
         }
+        if (checkpointService != null) {
+            checkpointService.flushAll();
+            checkpointService = null;
+        }
         if (manager != null) {
             manager.unregisterAll();
         }
         if (storage != null) {
             storage.close();
         }
+        if (itemStorageFactory != null) {
+            itemStorageFactory.flushAll();
+            itemStorageFactory = null;
+        }
         if (persistence != null) {
             persistence.shutdown(true);
         }
@@ -905,6 +1034,9 @@ public class MultiBlockEngine extends JavaPlugin {
         } else {
             getLogger().info("MultiBlockEngine stopping...");
         }
+        if (loggingManager != null) {
+            loggingManager.close();
+        }
         instance = null;
     }
 
@@ -916,6 +1048,10 @@ public class MultiBlockEngine extends JavaPlugin {
         return API_VERSION;
     }
 
+    public SchedulerCompatService getSchedulerCompatService() {
+        return schedulerCompatService;
+    }
+
     public MultiblockRuntimeService getManager() {
         return manager;
     }
@@ -924,6 +1060,10 @@ public class MultiBlockEngine extends JavaPlugin {
         return parser;
     }
 
+    public dev.darkblade.mbe.core.application.service.multiblock.MultiblockDefinitionReloader getDefinitionReloader() {
+        return definitionReloader;
+    }
+
     public MultiblockAPI getAPI() {
         return api;
     }
@@ -10,8 +10,6 @@ import dev.darkblade.mbe.api.message.PlayerMessageService;
 import dev.darkblade.mbe.core.MultiBlockEngine;
 import dev.darkblade.mbe.core.application.service.MetricsService;
 import dev.darkblade.mbe.core.application.service.MultiblockRuntimeService;
-import dev.darkblade.mbe.core.domain.MultiblockType;
-import dev.darkblade.mbe.core.infrastructure.config.parser.MultiblockParser;
 import dev.darkblade.mbe.api.assembly.AssemblyReport;
 import dev.darkblade.mbe.api.assembly.AssemblyStepTrace;
 import org.bukkit.command.CommandSender;
@@ -21,9 +19,6 @@ import org.incendo.cloud.annotations.Command;
 import org.incendo.cloud.annotations.Flag;
 import org.incendo.cloud.annotations.Permission;
 
-import java.io.File;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 public class AdminCommand {
@@ -35,6 +30,7 @@ public class AdminCommand {
     private static final MessageKey MSG_STATUS_TOTAL_DESTROYED_VALUE = MessageKey.of(ORIGIN, "commands.status.destroyed_instances");
     private static final MessageKey MSG_STATUS_STRUCTURE_CHECKS_VALUE = MessageKey.of(ORIGIN, "commands.status.structure_checks");
     private static final MessageKey MSG_STATUS_AVG_TICK_VALUE = MessageKey.of(ORIGIN, "commands.status.avg_tick_time");
+    private static final MessageKey MSG_STATUS_CHECKPOINT_VALUE = MessageKey.of(ORIGIN, "commands.status.checkpoint");
 
     private static final MessageKey MSG_RELOAD_START = MessageKey.of(ORIGIN, "commands.reload.start");
     private static final MessageKey MSG_RELOAD_DONE_TYPES = MessageKey.of(ORIGIN, "commands.reload.types");
@@ -42,6 +38,7 @@ public class AdminCommand {
 
     private static final MessageKey MSG_REPORT_PLAYER_NOT_FOUND = MessageKey.of(ORIGIN, "commands.report.player_not_found");
     private static final MessageKey MSG_REPORT_NONE = MessageKey.of(ORIGIN, "commands.report.none");
+    private static final MessageKey MSG_REPORT_REQUESTED = MessageKey.of(ORIGIN, "commands.report.requested");
     private static final MessageKey MSG_REPORT_TITLE = MessageKey.of(ORIGIN, "commands.report.title");
     private static final MessageKey MSG_REPORT_RESULT = MessageKey.of(ORIGIN, "commands.report.result");
     private static final MessageKey MSG_REPORT_REASON = MessageKey.of(ORIGIN, "commands.report.reason");
@@ -75,6 +72,10 @@ public class AdminCommand {
         sendMessage(sender, MSG_STATUS_TOTAL_DESTROYED_VALUE, MessageUtils.params("value", metrics.getDestroyedInstances()));
         sendMessage(sender, MSG_STATUS_STRUCTURE_CHECKS_VALUE, MessageUtils.params("value", metrics.getStructureChecks()));
         sendMessage(sender, MSG_STATUS_AVG_TICK_VALUE, MessageUtils.params("value", String.format("%.1f s", metrics.getAverageTickTimeMs() / 1000.0D)));
+        sendMessage(sender, MSG_STATUS_CHECKPOINT_VALUE, MessageUtils.params(
+                "dirty", metrics.getDirtyInstances(),
+                "saved", metrics.getCheckpointedInstances(),
+                "ms", String.format("%.1f", metrics.getLastCheckpointMs())));
     }
 
     @Command("mbe admin stats")
@@ -95,24 +96,8 @@ public class AdminCommand {
             i18nService.reload();
         }
         
-        File multiblockDir = new File(plugin.getDataFolder(), "multiblocks");
-        if (!multiblockDir.exists()) {
-            multiblockDir.mkdirs();
-        }
-        
-        MultiblockParser parser = plugin.getParser();
-        List<MultiblockParser.LoadedType> loaded = parser.loadAllWithSources(multiblockDir);
-        List<MultiblockType> newTypes = new ArrayList<>(loaded.size());
-        java.util.Map<String, dev.darkblade.mbe.core.domain.MultiblockSource> sources = new java.util.HashMap<>();
-        for (MultiblockParser.LoadedType lt : loaded) {
-            if (lt == null || lt.type() == null) {
-                continue;
-            }
-            newTypes.add(lt.type());
-            sources.put(lt.type().id().toString(), lt.source());
-        }
-
-        plugin.getManager().reloadTypesWithSources(newTypes, sources);
+        dev.darkblade.mbe.core.application.service.multiblock.MultiblockDefinitionReloader.Outcome outcome =
+                plugin.getDefinitionReloader().reload();
         plugin.getManager().getMetrics().setEnabled(plugin.getConfig().getBoolean("metrics", true));
 
         plugin.getAddonLifecycleService().reloadAddons();
@@ -120,7 +105,7 @@ public class AdminCommand {
         org.bukkit.Bukkit.getPluginManager().callEvent(new dev.darkblade.mbe.api.event.plugin.MbeReloadEvent());
         
 
-        sendMessage(sender, MSG_RELOAD_DONE_TYPES, MessageUtils.params("count", newTypes.size()));
+        sendMessage(sender, MSG_RELOAD_DONE_TYPES, MessageUtils.params("count", outcome.types()));
         sendMessage(sender, MSG_RELOAD_DONE_RESTART, Map.of());
     }
 
@@ -152,9 +137,12 @@ public class AdminCommand {
             return;
         }
 
+        // Implicit attempts are only traced for players someone asked a report for, so the
+        // request arms the target's next attempt and the reply shows the last recorded one.
+        plugin.getAssemblyCoordinator().requestReports(target.getUniqueId());
         AssemblyReport report = plugin.getAssemblyCoordinator().lastReport(target.getUniqueId()).orElse(null);
         if (report == null) {
-            sendMessage(sender, MSG_REPORT_NONE, Map.of());
+            sendMessage(sender, MSG_REPORT_REQUESTED, Map.of());
             return;
         }
 
@@ -1,5 +1,6 @@
 package dev.darkblade.mbe.core.application.command.export;
 
+import dev.darkblade.mbe.api.compat.SchedulerCompatService;
 import dev.darkblade.mbe.api.i18n.MessageKey;
 import dev.darkblade.mbe.api.i18n.MessageUtils;
 import dev.darkblade.mbe.api.i18n.message.CoreMessageKeys;
@@ -20,23 +21,27 @@ import org.incendo.cloud.annotations.Permission;
 
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 public class ExportCommand {
     private final SelectionService exportSelections;
     private final StructureExporter structureExporter;
     private final PlayerMessageService messageService;
     private final Path exportDirectory;
+    private final SchedulerCompatService scheduler;
 
     public ExportCommand(
             SelectionService exportSelections,
             StructureExporter structureExporter,
             PlayerMessageService messageService,
-            Path exportDirectory
+            Path exportDirectory,
+            SchedulerCompatService scheduler
     ) {
         this.exportSelections = exportSelections;
         this.structureExporter = structureExporter;
         this.messageService = messageService;
         this.exportDirectory = exportDirectory;
+        this.scheduler = scheduler;
     }
 
     @Command("mbe structure export start")
@@ -107,15 +112,22 @@ public class ExportCommand {
         if (!(sender instanceof Player player)) return;
         ExportSession s = ensureSession(player);
         if (s == null) return;
-        try {
-            var res = structureExporter.exportToFile(id, s, exportDirectory);
-            sendMessage(player, CoreMessageKeys.EXPORT_SAVE_OK, MessageUtils.params("id", res.id(), "blocks", res.blocks()));
-            if (!res.warnings().isEmpty()) {
-                sendMessage(player, CoreMessageKeys.EXPORT_SAVE_WARNINGS, MessageUtils.params("count", res.warnings().size()));
-            }
-        } catch (StructureExporter.ExportException e) {
-            sendMessage(player, CoreMessageKeys.EXPORT_SAVE_ERROR, MessageUtils.params("error", e.getMessage()));
-        }
+        structureExporter.exportToFileAsync(id, s, exportDirectory, scheduler::runAsync)
+                .whenComplete((res, error) -> scheduler.runSync(() -> {
+                    if (!player.isOnline()) {
+                        return;
+                    }
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        String message = cause instanceof StructureExporter.ExportException ? cause.getMessage() : cause.getClass().getSimpleName();
+                        sendMessage(player, CoreMessageKeys.EXPORT_SAVE_ERROR, MessageUtils.params("error", message));
+                        return;
+                    }
+                    sendMessage(player, CoreMessageKeys.EXPORT_SAVE_OK, MessageUtils.params("id", res.id(), "blocks", res.blocks()));
+                    if (!res.warnings().isEmpty()) {
+                        sendMessage(player, CoreMessageKeys.EXPORT_SAVE_WARNINGS, MessageUtils.params("count", res.warnings().size()));
+                    }
+                }));
     }
 
     private ExportSession ensureSession(Player player) {
@@ -1,21 +1,38 @@
 package dev.darkblade.mbe.core.application.event;
 
 import dev.darkblade.mbe.api.event.EventBusService;
+import dev.darkblade.mbe.api.event.EventPriority;
 import dev.darkblade.mbe.api.event.MBEEvent;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Event bus with type-hierarchy dispatch.
+ * <p>
+ * Subscriptions are kept in an immutable array replaced copy-on-write under a lock. For every concrete event
+ * class, the listeners of all its superclasses and interfaces are flattened once into a priority-ordered array
+ * that is cached until the next subscription change, so {@link #publish} is a lock-free array walk.
+ */
 public class MBEEventBus implements EventBusService {
 
     private static final String SERVICE_ID = "mbe:event_bus";
-    private final Map<Class<? extends MBEEvent>, List<Consumer<? extends MBEEvent>>> listeners = new ConcurrentHashMap<>();
+    private static final Comparator<Registration> ORDER = Comparator
+            .comparing(Registration::priority)
+            .thenComparingLong(Registration::sequence);
+
+    private final Object lock = new Object();
     private final Logger logger = Logger.getLogger("MBEEventBus");
+    private volatile Snapshot snapshot = new Snapshot(new Registration[0]);
+    private long nextSequence;
 
     @Override
     public String getServiceId() {
@@ -23,30 +40,90 @@ public class MBEEventBus implements EventBusService {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void publish(MBEEvent event) {
-        List<Consumer<? extends MBEEvent>> eventListeners = listeners.get(event.getClass());
-        if (eventListeners != null) {
-            for (Consumer<? extends MBEEvent> listener : eventListeners) {
-                try {
-                    ((Consumer<MBEEvent>) listener).accept(event);
-                } catch (Exception e) {
-                    logger.log(Level.SEVERE, "Error dispatching event " + event.getClass().getSimpleName(), e);
-                }
+        if (event == null) {
+            return;
+        }
+        Consumer<MBEEvent>[] eventListeners = snapshot.listenersFor(event.getClass());
+        for (Consumer<MBEEvent> listener : eventListeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, "Error dispatching event " + event.getClass().getSimpleName(), e);
             }
         }
     }
 
     @Override
     public <T extends MBEEvent> void subscribe(Class<T> eventClass, Consumer<T> listener) {
-        listeners.computeIfAbsent(eventClass, k -> new ArrayList<>()).add(listener);
+        subscribe(eventClass, EventPriority.NORMAL, listener);
+    }
+
+    @Override
+    public <T extends MBEEvent> void subscribe(Class<T> eventClass, EventPriority priority, Consumer<T> listener) {
+        Objects.requireNonNull(eventClass, "eventClass");
+        Objects.requireNonNull(listener, "listener");
+        EventPriority resolvedPriority = priority == null ? EventPriority.NORMAL : priority;
+        synchronized (lock) {
+            Registration[] current = snapshot.registrations;
+            Registration[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = new Registration(eventClass, resolvedPriority, nextSequence++, listener);
+            snapshot = new Snapshot(next);
+        }
     }
 
     @Override
     public <T extends MBEEvent> void unsubscribe(Class<T> eventClass, Consumer<T> listener) {
-        List<Consumer<? extends MBEEvent>> eventListeners = listeners.get(eventClass);
-        if (eventListeners != null) {
-            eventListeners.remove(listener);
+        if (eventClass == null || listener == null) {
+            return;
+        }
+        synchronized (lock) {
+            Registration[] current = snapshot.registrations;
+            List<Registration> kept = new ArrayList<>(current.length);
+            for (Registration registration : current) {
+                if (registration.eventClass() != eventClass || !registration.listener().equals(listener)) {
+                    kept.add(registration);
+                }
+            }
+            if (kept.size() != current.length) {
+                snapshot = new Snapshot(kept.toArray(new Registration[0]));
+            }
+        }
+    }
+
+    private record Registration(Class<?> eventClass, EventPriority priority, long sequence, Consumer<?> listener) {
+    }
+
+    private static final class Snapshot {
+        private final Registration[] registrations;
+        private final Map<Class<?>, Consumer<MBEEvent>[]> dispatch = new ConcurrentHashMap<>();
+
+        private Snapshot(Registration[] registrations) {
+            this.registrations = registrations;
+        }
+
+        private Consumer<MBEEvent>[] listenersFor(Class<?> eventClass) {
+            Consumer<MBEEvent>[] cached = dispatch.get(eventClass);
+            if (cached != null) {
+                return cached;
+            }
+            return dispatch.computeIfAbsent(eventClass, this::flatten);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Consumer<MBEEvent>[] flatten(Class<?> eventClass) {
+            List<Registration> matching = new ArrayList<>();
+            for (Registration registration : registrations) {
+                if (registration.eventClass().isAssignableFrom(eventClass)) {
+                    matching.add(registration);
+                }
+            }
+            matching.sort(ORDER);
+            Consumer<MBEEvent>[] out = new Consumer[matching.size()];
+            for (int i = 0; i < out.length; i++) {
+                out[i] = (Consumer<MBEEvent>) matching.get(i).listener();
+            }
+            return out;
         }
     }
 }
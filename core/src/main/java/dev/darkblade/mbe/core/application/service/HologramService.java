@@ -1,5 +1,6 @@
 package dev.darkblade.mbe.core.application.service;
 
+import dev.darkblade.mbe.api.compat.SchedulerCompatService;
 import dev.darkblade.mbe.core.MultiBlockEngine;
 import dev.darkblade.mbe.api.logging.CoreLogger;
 import dev.darkblade.mbe.api.logging.LogLevel;
@@ -7,12 +8,12 @@ import dev.darkblade.mbe.api.logging.LogPhase;
 import dev.darkblade.mbe.api.logging.LogScope;
 import dev.darkblade.mbe.core.domain.MultiblockInstance;
 import dev.darkblade.mbe.core.internal.tooling.StringUtil;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Display;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.TextDisplay;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -20,6 +21,11 @@ public class HologramService {
     
     private final Map<MultiblockInstance, Entity> holograms = new ConcurrentHashMap<>();
     private final Set<MultiblockInstance> pendingSpawns = ConcurrentHashMap.newKeySet();
+    private final SchedulerCompatService scheduler;
+
+    public HologramService(SchedulerCompatService scheduler) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+    }
     
     public void spawnHologram(MultiblockInstance instance) {
         if (instance.type().displayName() == null || !instance.type().displayName().visible()) return;
@@ -37,7 +43,7 @@ public class HologramService {
             return;
         }
         
-        Bukkit.getScheduler().runTask(MultiBlockEngine.getInstance(), () -> {
+        scheduler.runAt(loc, () -> {
             try {
                 // Ensure instance is still active before spawning
                 if (!MultiBlockEngine.getInstance().getManager().isInstanceActive(instance)) {
@@ -13,6 +13,9 @@ public class MetricsService {
     private final AtomicLong totalTickTime = new AtomicLong(0);
     private final AtomicInteger tickCount = new AtomicInteger(0);
     private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final AtomicInteger dirtyInstances = new AtomicInteger(0);
+    private final AtomicLong lastCheckpointNanos = new AtomicLong(0);
+    private final AtomicLong checkpointedInstances = new AtomicLong(0);
     
     private boolean enabled = true;
 
@@ -43,6 +46,24 @@ public class MetricsService {
         }
     }
 
+    /**
+     * Adds work done for a tick without counting another tick. Region threads report their share
+     * of the instance tick through this.
+     */
+    public void addTickTime(long nanos) {
+        if (enabled) {
+            totalTickTime.addAndGet(nanos);
+        }
+    }
+
+    public void recordCheckpoint(int dirtyRemaining, int saved, long nanos) {
+        dirtyInstances.set(dirtyRemaining);
+        if (enabled) {
+            lastCheckpointNanos.set(nanos);
+            checkpointedInstances.addAndGet(saved);
+        }
+    }
+
     public void increment(String key) {
         if (!enabled || key == null || key.isBlank()) {
             return;
@@ -76,6 +97,18 @@ public class MetricsService {
         return destroyedInstances.get();
     }
     
+    public int getDirtyInstances() {
+        return dirtyInstances.get();
+    }
+
+    public double getLastCheckpointMs() {
+        return lastCheckpointNanos.get() / 1_000_000.0;
+    }
+
+    public long getCheckpointedInstances() {
+        return checkpointedInstances.get();
+    }
+
     public void reset() {
         structureChecks.set(0);
         createdInstances.set(0);
@@ -83,5 +116,7 @@ public class MetricsService {
         totalTickTime.set(0);
         tickCount.set(0);
         counters.clear();
+        lastCheckpointNanos.set(0);
+        checkpointedInstances.set(0);
     }
 }
@@ -14,6 +14,7 @@ import dev.darkblade.mbe.core.domain.MultiblockType;
 import dev.darkblade.mbe.core.infrastructure.persistence.InstanceStorageService;
 
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 
@@ -75,10 +76,12 @@ public class MultiblockRuntimeService implements Tickable {
 
     public void registerType(MultiblockType type) {
         typeRegistry.registerType(type);
+        tickingService.compileType(type);
     }
 
     public void registerType(MultiblockType type, MultiblockSource source) {
         typeRegistry.registerType(type, source);
+        tickingService.compileType(type);
     }
     
     public Optional<MultiblockType> getType(String id) {
@@ -102,15 +105,25 @@ public class MultiblockRuntimeService implements Tickable {
         typeRegistry.unregisterAll();
         instanceRegistry.unregisterAll();
         capabilityInitializer.unregisterAll();
+        tickingService.forgetAllTypes();
         metrics.reset();
     }
     
     public void reloadTypes(Collection<MultiblockType> newTypes) {
-        typeRegistry.reloadTypesWithSources(newTypes, null);
-    }
-
-    public void reloadTypesWithSources(Collection<MultiblockType> newTypes, Map<String, MultiblockSource> sources) {
-        typeRegistry.reloadTypesWithSources(newTypes, sources);
+        reloadTypesWithSources(newTypes, null);
+    }
+
+    /**
+     * Applies a reloaded set of definitions and rebinds live instances of changed types.
+     */
+    public MultiblockTypeRegistry.ReloadResult reloadTypesWithSources(Collection<MultiblockType> newTypes, Map<String, MultiblockSource> sources) {
+        MultiblockTypeRegistry.ReloadResult result = typeRegistry.reloadTypesWithSources(newTypes, sources);
+        instanceRegistry.rebindTypes(result.changed());
+        tickingService.compileTypes(newTypes);
+        for (String removed : result.removed()) {
+            tickingService.forgetType(dev.darkblade.mbe.api.util.NamespacedKey.parse(removed));
+        }
+        return result;
     }
 
     public String signatureOf(MultiblockType type) {
@@ -149,6 +162,10 @@ public class MultiblockRuntimeService implements Tickable {
         }
     }
 
+    public void registerInstances(Collection<MultiblockInstance> instances) {
+        instanceRegistry.registerInstances(instances);
+    }
+
     public void initializePendingCapabilities() {
         capabilityInitializer.initializePendingCapabilities(instanceRegistry.getActiveInstancesSnapshot());
     }
@@ -161,6 +178,10 @@ public class MultiblockRuntimeService implements Tickable {
         return instanceRegistry.getActiveInstancesSnapshot();
     }
 
+    public Collection<MultiblockInstance> getInstancesInChunk(World world, int chunkX, int chunkZ) {
+        return instanceRegistry.getInstancesInChunk(world, chunkX, chunkZ);
+    }
+
 
     
     public void destroyInstance(MultiblockInstance instance) {
@@ -0,0 +1,168 @@
+package dev.darkblade.mbe.core.application.service.addon;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import dev.darkblade.mbe.api.logging.CoreLogger;
+import dev.darkblade.mbe.api.logging.LogKv;
+import dev.darkblade.mbe.core.application.service.addon.domain.AddonAuditIndex;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * On-disk cache of per-jar {@link AddonAuditIndex} results.
+ * <p>
+ * Entries are keyed by the jar's absolute path and validated against its size, modification time and SHA-256,
+ * so an unchanged addon skips the bytecode scan on restart. The hash is only computed when size and mtime
+ * still match.
+ */
+final class AddonAuditCache {
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path file;
+    private final CoreLogger log;
+    private final Gson gson = new Gson();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+    private boolean loaded;
+
+    AddonAuditCache(Path file, CoreLogger log) {
+        this.file = Objects.requireNonNull(file, "file");
+        this.log = log;
+    }
+
+    /**
+     * Reads the cache file on first use; later calls keep the in-memory entries.
+     */
+    synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Snapshot snapshot = gson.fromJson(reader, Snapshot.class);
+            if (snapshot == null || snapshot.version() != FORMAT_VERSION || snapshot.entries() == null) {
+                return;
+            }
+            for (Map.Entry<String, Entry> e : snapshot.entries().entrySet()) {
+                if (e.getKey() != null && e.getValue() != null && e.getValue().index() != null) {
+                    entries.put(e.getKey(), e.getValue());
+                }
+            }
+        } catch (IOException | JsonParseException e) {
+            if (log != null) {
+                log.warn("Discarding unreadable addon audit cache", LogKv.kv("path", file.toString()),
+                        LogKv.kv("error", String.valueOf(e.getMessage())));
+            }
+        }
+    }
+
+    /**
+     * Looks up the cached index of the jar. The jar's hash is returned whenever it had to be computed, so
+     * a miss can be stored with {@link #put} without reading the jar again.
+     */
+    Lookup lookup(File jar) {
+        Entry entry = entries.get(keyOf(jar));
+        if (entry == null || entry.size() != jar.length() || entry.modified() != jar.lastModified()) {
+            return Lookup.MISS;
+        }
+        String hash = sha256(jar);
+        return new Lookup(hash != null && hash.equals(entry.sha256()) ? entry.index() : null, hash);
+    }
+
+    /**
+     * @param hash the jar's SHA-256 from {@link #lookup}, or {@code null} to compute it
+     */
+    void put(File jar, String hash, AddonAuditIndex index) {
+        if (hash == null) {
+            hash = sha256(jar);
+        }
+        if (hash == null || index == null) {
+            return;
+        }
+        entries.put(keyOf(jar), new Entry(jar.length(), jar.lastModified(), hash, index));
+        dirty = true;
+    }
+
+    /**
+     * Writes the cache if it changed.
+     *
+     * @param present every jar seen by a full scan, whose absence drops the entries of other jars; {@code null}
+     *                keeps all entries, for scans that only looked at some jars
+     */
+    synchronized void save(Set<File> present) {
+        if (present != null) {
+            Set<String> keep = new HashSet<>();
+            for (File jar : present) {
+                keep.add(keyOf(jar));
+            }
+            if (entries.keySet().retainAll(keep)) {
+                dirty = true;
+            }
+        }
+        if (!dirty) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                gson.toJson(new Snapshot(FORMAT_VERSION, new LinkedHashMap<>(entries)), writer);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            dirty = false;
+        } catch (IOException e) {
+            if (log != null) {
+                log.warn("Failed to write addon audit cache", LogKv.kv("path", file.toString()),
+                        LogKv.kv("error", String.valueOf(e.getMessage())));
+            }
+        }
+    }
+
+    private static String keyOf(File jar) {
+        return jar.getAbsolutePath();
+    }
+
+    private static String sha256(File jar) {
+        try (InputStream in = Files.newInputStream(jar.toPath())) {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                md.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(md.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    record Lookup(AddonAuditIndex index, String sha256) {
+        static final Lookup MISS = new Lookup(null, null);
+    }
+
+    private record Snapshot(int version, Map<String, Entry> entries) {
+    }
+
+    private record Entry(long size, long modified, String sha256, AddonAuditIndex index) {
+    }
+}
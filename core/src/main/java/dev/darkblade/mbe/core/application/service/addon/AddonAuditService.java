@@ -1,5 +1,6 @@
 package dev.darkblade.mbe.core.application.service.addon;
 
+import dev.darkblade.mbe.api.logging.CoreLogger;
 import dev.darkblade.mbe.core.application.service.addon.domain.AddonAuditIndex;
 import dev.darkblade.mbe.core.application.service.addon.domain.AddonAuditReport;
 import dev.darkblade.mbe.core.application.service.addon.domain.AddonReferenceHit;
@@ -12,12 +13,18 @@ import java.io.DataInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -33,34 +40,104 @@ public class AddonAuditService {
             "dev/darkblade/mbe/api/persistence/", "mbe-core:persistence"
     );
 
+    private final AddonAuditCache cache;
+    private final int parallelism;
+
+    public AddonAuditService() {
+        this(null, null);
+    }
+
+    /**
+     * @param cacheFile where per-jar audit results are persisted between restarts, or {@code null} to always
+     *                  rescan
+     */
+    public AddonAuditService(Path cacheFile, CoreLogger log) {
+        this.cache = cacheFile == null ? null : new AddonAuditCache(cacheFile, log);
+        this.parallelism = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Builds the audit index of every jar, scanning jars and their class entries in parallel. Jars whose
+     * size, mtime and content hash match the on-disk cache are not scanned again.
+     */
+    public Map<File, AddonAuditIndex> buildAuditIndexes(Map<File, AddonMetadata> metadataByFile) {
+        return index(metadataByFile, true);
+    }
+
+    /**
+     * Builds the audit index of one jar. Its result is merged into the cache; entries of other jars are kept.
+     */
     public AddonAuditIndex buildAuditIndex(File file, AddonMetadata metadata) {
-        try (JarFile jar = new JarFile(file)) {
-            List<String> classEntries = new ArrayList<>();
-            Set<String> classInternalNames = new LinkedHashSet<>();
-            Set<String> apiClasses = new LinkedHashSet<>();
-            Set<String> apiContractClasses = new LinkedHashSet<>();
-            Set<String> embeddedCoreApiClasses = new LinkedHashSet<>();
-            Set<String> embeddedJars = new LinkedHashSet<>();
-            Set<String> requiredCapabilities = new LinkedHashSet<>();
+        return index(Map.of(file, metadata), false).get(file);
+    }
 
-            String rootPrefixInternal = rootPrefixInternal(metadata.mainClass());
+    private Map<File, AddonAuditIndex> index(Map<File, AddonMetadata> metadataByFile, boolean fullScan) {
+        if (metadataByFile == null || metadataByFile.isEmpty()) {
+            return Map.of();
+        }
+        if (cache != null) {
+            cache.load();
+        }
+        Map<File, AddonAuditIndex> out = new ConcurrentHashMap<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> metadataByFile.entrySet().parallelStream().forEach(e -> {
+                AddonAuditIndex index = cachedOrScan(e.getKey(), e.getValue());
+                if (index != null) {
+                    out.put(e.getKey(), index);
+                }
+            })).join();
+        } finally {
+            pool.shutdown();
+        }
+        if (cache != null) {
+            cache.save(fullScan ? metadataByFile.keySet() : null);
+        }
+        return new LinkedHashMap<>(out);
+    }
 
-            jar.stream().forEach(entry -> {
+    private AddonAuditIndex cachedOrScan(File file, AddonMetadata metadata) {
+        AddonAuditCache.Lookup lookup = cache != null ? cache.lookup(file) : AddonAuditCache.Lookup.MISS;
+        AddonAuditIndex cached = lookup.index();
+        if (cached != null && Objects.equals(cached.addonId(), metadata.id())
+                && Objects.equals(cached.mainClass(), metadata.mainClass())) {
+            return cached;
+        }
+        AddonAuditIndex index = scanJar(file, metadata);
+        if (index != null && cache != null) {
+            cache.put(file, lookup.sha256(), index);
+        }
+        return index;
+    }
+
+    private AddonAuditIndex scanJar(File file, AddonMetadata metadata) {
+        List<ClassBytes> classFiles = new ArrayList<>();
+        List<String> classEntries = new ArrayList<>();
+        Set<String> classInternalNames = new LinkedHashSet<>();
+        Set<String> apiClasses = new LinkedHashSet<>();
+        Set<String> embeddedCoreApiClasses = new LinkedHashSet<>();
+        Set<String> embeddedJars = new LinkedHashSet<>();
+
+        // The jar is opened once; entries are read sequentially and their constant pools parsed in parallel.
+        try (JarFile jar = new JarFile(file)) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
                 String name = entry.getName();
                 if (name.endsWith(".jar") && !name.startsWith("META-INF/")) {
                     embeddedJars.add(name);
                 }
                 if (!name.endsWith(".class")) {
-                    return;
+                    continue;
                 }
                 if (name.startsWith("META-INF/")) {
-                    return;
+                    continue;
                 }
 
                 classEntries.add(name);
                 String internalName = name.substring(0, name.length() - ".class".length());
                 classInternalNames.add(internalName);
-                String fqcn = name.substring(0, name.length() - ".class".length()).replace('/', '.');
+                String fqcn = internalName.replace('/', '.');
 
                 if (fqcn.contains(".api.")) {
                     apiClasses.add(fqcn);
@@ -72,36 +149,60 @@ public class AddonAuditService {
                 }
 
                 try (InputStream in = jar.getInputStream(entry)) {
-                    ClassFileInspection inspection = inspectClassFile(in);
-                    if (inspection.classAnnotationDescriptors().contains(ADDON_API_DESCRIPTOR)) {
-                        apiContractClasses.add(fqcn);
-                    }
-                    for (String refInternal : inspection.referencedClassNames()) {
-                        for (Map.Entry<String, String> capReq : REQUIRED_CAPABILITIES_BY_PACKAGE.entrySet()) {
-                            if (refInternal.startsWith(capReq.getKey())) {
-                                requiredCapabilities.add(capReq.getValue());
-                            }
-                        }
-                    }
+                    classFiles.add(new ClassBytes(fqcn, in.readAllBytes()));
                 } catch (Exception ignored) {
                 }
-            });
-
-            return new AddonAuditIndex(
-                    metadata.id(),
-                    file.getName(),
-                    metadata.mainClass(),
-                    rootPrefixInternal,
-                    List.copyOf(classEntries),
-                    Set.copyOf(classInternalNames),
-                    Set.copyOf(apiClasses),
-                    Set.copyOf(apiContractClasses),
-                    Set.copyOf(embeddedCoreApiClasses),
-                    Set.copyOf(embeddedJars),
-                    Set.copyOf(requiredCapabilities));
+            }
         } catch (Exception ignored) {
             return null;
         }
+
+        List<ClassScan> scans = classFiles.parallelStream().map(this::inspectQuietly).toList();
+
+        Set<String> apiContractClasses = new LinkedHashSet<>();
+        Set<String> requiredCapabilities = new LinkedHashSet<>();
+        Map<String, Set<String>> classReferences = new LinkedHashMap<>();
+        for (ClassScan scan : scans) {
+            ClassFileInspection inspection = scan.inspection();
+            if (inspection == null) {
+                continue;
+            }
+            if (inspection.classAnnotationDescriptors().contains(ADDON_API_DESCRIPTOR)) {
+                apiContractClasses.add(scan.fqcn());
+            }
+            for (String refInternal : inspection.referencedClassNames()) {
+                for (Map.Entry<String, String> capReq : REQUIRED_CAPABILITIES_BY_PACKAGE.entrySet()) {
+                    if (refInternal.startsWith(capReq.getKey())) {
+                        requiredCapabilities.add(capReq.getValue());
+                    }
+                }
+            }
+            if (inspection.ownerInternalName() != null && !inspection.ownerInternalName().isBlank()) {
+                classReferences.put(inspection.ownerInternalName(), inspection.referencedClassNames());
+            }
+        }
+
+        return new AddonAuditIndex(
+                metadata.id(),
+                file.getName(),
+                metadata.mainClass(),
+                rootPrefixInternal(metadata.mainClass()),
+                List.copyOf(classEntries),
+                Set.copyOf(classInternalNames),
+                Set.copyOf(apiClasses),
+                Set.copyOf(apiContractClasses),
+                Set.copyOf(embeddedCoreApiClasses),
+                Set.copyOf(embeddedJars),
+                Set.copyOf(requiredCapabilities),
+                Collections.unmodifiableMap(classReferences));
+    }
+
+    private ClassScan inspectQuietly(ClassBytes classFile) {
+        try {
+            return new ClassScan(classFile.fqcn(), inspectClassFile(new ByteArrayInputStream(classFile.bytes())));
+        } catch (Exception ignored) {
+            return new ClassScan(classFile.fqcn(), null);
+        }
     }
 
     public Map<String, AddonAuditReport> auditDiscoveredAddons(Map<String, DiscoveredAddon> discovered,
@@ -150,8 +251,7 @@ public class AddonAuditService {
             DiscoveredAddon discoveredAddon = discovered.get(idx.addonId());
             if (discoveredAddon == null)
                 continue;
-            Set<AddonReferenceHit> refs = scanCrossAddonReferences(discoveredAddon.file(), idx.classEntries(),
-                    classOwnerByInternal, idx.addonId());
+            Set<AddonReferenceHit> refs = collectCrossAddonReferences(idx, classOwnerByInternal);
             if (refs.isEmpty()) {
                 continue;
             }
@@ -303,9 +403,10 @@ public class AddonAuditService {
         return out;
     }
 
-    private Set<AddonReferenceHit> scanCrossAddonReferences(File addonJar, List<String> classEntries,
-            Map<String, String> classOwnerByInternal, String selfId) {
-        if (classEntries == null || classEntries.isEmpty()) {
+    private Set<AddonReferenceHit> collectCrossAddonReferences(AddonAuditIndex idx,
+            Map<String, String> classOwnerByInternal) {
+        Map<String, Set<String>> classReferences = idx.classReferences();
+        if (classReferences == null || classReferences.isEmpty()) {
             return Set.of();
         }
         if (classOwnerByInternal == null || classOwnerByInternal.isEmpty()) {
@@ -313,47 +414,26 @@ public class AddonAuditService {
         }
 
         Set<AddonReferenceHit> hits = new LinkedHashSet<>();
-        try (JarFile jar = new JarFile(addonJar)) {
-            for (String entryName : classEntries) {
-                JarEntry entry = jar.getJarEntry(entryName);
-                if (entry == null)
+        for (Map.Entry<String, Set<String>> classRefs : classReferences.entrySet()) {
+            String ownerClass = classRefs.getKey().replace('/', '.');
+            boolean found = false;
+            for (String refInternal : classRefs.getValue()) {
+                String normalized = normalizeInternalClassName(refInternal);
+                if (normalized == null || normalized.isBlank()) {
                     continue;
-                try (InputStream in = jar.getInputStream(entry)) {
-                    Set<AddonReferenceHit> foundInClass = scanClassReferences(in, classOwnerByInternal, selfId);
-                    if (!foundInClass.isEmpty()) {
-                        hits.addAll(foundInClass);
-                        if (hits.size() >= 20) {
-                            return Set.copyOf(hits);
-                        }
-                    }
                 }
+                String targetAddon = classOwnerByInternal.get(normalized);
+                if (targetAddon == null || targetAddon.equals(idx.addonId())) {
+                    continue;
+                }
+                hits.add(new AddonReferenceHit(targetAddon, ownerClass, normalized.replace('/', '.')));
+                found = true;
             }
-        } catch (Exception ignored) {
-            return Set.of();
-        }
-
-        return Set.copyOf(hits);
-    }
-
-    private Set<AddonReferenceHit> scanClassReferences(InputStream rawIn, Map<String, String> classOwnerByInternal,
-            String selfId) throws IOException {
-        ClassFileInspection inspection = inspectClassFile(rawIn);
-        if (inspection.ownerInternalName() == null || inspection.ownerInternalName().isBlank()) {
-            return Set.of();
-        }
-        String ownerClass = inspection.ownerInternalName().replace('/', '.');
-        Set<AddonReferenceHit> hits = new LinkedHashSet<>();
-        for (String refInternal : inspection.referencedClassNames()) {
-            String normalized = normalizeInternalClassName(refInternal);
-            if (normalized == null || normalized.isBlank()) {
-                continue;
-            }
-            String targetAddon = classOwnerByInternal.get(normalized);
-            if (targetAddon == null || targetAddon.equals(selfId)) {
-                continue;
+            if (found && hits.size() >= 20) {
+                return Set.copyOf(hits);
             }
-            hits.add(new AddonReferenceHit(targetAddon, ownerClass, normalized.replace('/', '.')));
         }
+
         return Set.copyOf(hits);
     }
 
@@ -561,4 +641,10 @@ public class AddonAuditService {
         if (list.size() <= limit) return String.join(", ", list);
         return String.join(", ", list.subList(0, limit)) + " ... (+" + (list.size() - limit) + ")";
     }
+
+    private record ClassBytes(String fqcn, byte[] bytes) {
+    }
+
+    private record ClassScan(String fqcn, ClassFileInspection inspection) {
+    }
 }
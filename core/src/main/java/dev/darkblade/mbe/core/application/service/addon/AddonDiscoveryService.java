@@ -78,7 +78,7 @@ public class AddonDiscoveryService {
         Map<String, List<DiscoveredAddon>> candidatesById = new HashMap<>();
         Map<String, List<DiscoveredAddon>> candidatesByMainClass = new HashMap<>();
 
-        Map<File, AddonAuditIndex> auditIndexesByFile = new HashMap<>();
+        Map<File, AddonMetadata> metadataByFile = new LinkedHashMap<>();
 
         for (File file : files) {
             try {
@@ -86,22 +86,27 @@ public class AddonDiscoveryService {
                 if (metadata == null) {
                     continue;
                 }
-
-                AddonAuditIndex auditIndex = auditService.buildAuditIndex(file, metadata);
-                if (auditIndex != null) {
-                    auditIndexesByFile.put(file, auditIndex);
-                }
-
-                DiscoveredAddon discovered = new DiscoveredAddon(file, metadata);
-                candidatesById.computeIfAbsent(metadata.id(), k -> new ArrayList<>()).add(discovered);
-                if (metadata.mainClass() != null && !metadata.mainClass().isBlank()) {
-                    candidatesByMainClass.computeIfAbsent(metadata.mainClass().trim(), k -> new ArrayList<>()).add(discovered);
-                }
+                metadataByFile.put(file, metadata);
             } catch (Exception e) {
                 core.error("Failed to load addon from file", e, LogKv.kv("file", file.getName()));
             }
         }
 
+        long auditStart = System.nanoTime();
+        Map<File, AddonAuditIndex> auditIndexesByFile = auditService.buildAuditIndexes(metadataByFile);
+        core.info("Addon bytecode audit indexed",
+                LogKv.kv("jars", metadataByFile.size()),
+                LogKv.kv("tookMs", (System.nanoTime() - auditStart) / 1_000_000L));
+
+        for (Map.Entry<File, AddonMetadata> entry : metadataByFile.entrySet()) {
+            AddonMetadata metadata = entry.getValue();
+            DiscoveredAddon discovered = new DiscoveredAddon(entry.getKey(), metadata);
+            candidatesById.computeIfAbsent(metadata.id(), k -> new ArrayList<>()).add(discovered);
+            if (metadata.mainClass() != null && !metadata.mainClass().isBlank()) {
+                candidatesByMainClass.computeIfAbsent(metadata.mainClass().trim(), k -> new ArrayList<>()).add(discovered);
+            }
+        }
+
         registry.discoveredAddons.clear();
         registry.loadedAddons.clear();
         registry.states.clear();
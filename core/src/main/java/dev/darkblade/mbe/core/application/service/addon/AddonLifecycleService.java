@@ -76,7 +76,8 @@ public class AddonLifecycleService {
         this.serviceLifecycleManager = new ServiceLifecycleOrchestrator(this.unifiedRegistry, serviceInjector, this.log);
 
         File addonFolder = new File(plugin.getDataFolder(), "addons");
-        this.auditService = new AddonAuditService();
+        this.auditService = new AddonAuditService(
+                new File(plugin.getDataFolder(), "cache/addon-audit.json").toPath(), this.log);
         this.dependencyResolver = new AddonDependencyResolver();
 
         this.discoveryService = new AddonDiscoveryService(plugin, log, registry, auditService, dependencyResolver, addonFolder, dataDirectorySystem);
@@ -296,7 +296,7 @@ public class SimpleAddonContext implements AddonContext {
             scheduler.runSync(task);
             return;
         }
-        MultiBlockEngine.getInstance().getServer().getScheduler().runTask(MultiBlockEngine.getInstance(), task);
+        MultiBlockEngine.getInstance().getSchedulerCompatService().runSync(task);
     }
 
     @Override
@@ -306,7 +306,7 @@ public class SimpleAddonContext implements AddonContext {
             scheduler.runAsync(task);
             return;
         }
-        MultiBlockEngine.getInstance().getServer().getScheduler().runTaskAsynchronously(MultiBlockEngine.getInstance(), task);
+        MultiBlockEngine.getInstance().getSchedulerCompatService().runAsync(task);
     }
 
     @Override
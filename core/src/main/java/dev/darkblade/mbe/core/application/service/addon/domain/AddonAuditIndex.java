@@ -1,5 +1,6 @@
 package dev.darkblade.mbe.core.application.service.addon.domain;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 public record AddonAuditIndex(
         String addonId,
@@ -12,4 +13,5 @@ public record AddonAuditIndex(
         Set<String> apiContractClasses,
         Set<String> embeddedCoreApiClasses,
         Set<String> embeddedJars,
-        Set<String> requiredCapabilities) {}
+        Set<String> requiredCapabilities,
+        Map<String, Set<String>> classReferences) {}
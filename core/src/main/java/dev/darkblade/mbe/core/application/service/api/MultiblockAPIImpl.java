@@ -15,6 +15,7 @@ public class MultiblockAPIImpl implements MultiblockAPI {
     private final Map<String, Function<Map<String, Object>, Condition>> conditionRegistry = new HashMap<>();
     private final Map<String, Function<String, BlockMatcher>> matcherRegistry = new HashMap<>();
     private EventBusService eventBus;
+    private int factoryGeneration;
 
     public void setEventBus(EventBusService eventBus) {
         this.eventBus = eventBus;
@@ -27,17 +28,23 @@ public class MultiblockAPIImpl implements MultiblockAPI {
 
     @Override
     public void registerAction(String type, Function<Map<String, Object>, Action> factory) {
-        actionRegistry.put(type.toLowerCase(), factory);
+        if (actionRegistry.put(type.toLowerCase(), factory) == null) {
+            factoryGeneration++;
+        }
     }
 
     @Override
     public void registerCondition(String type, Function<Map<String, Object>, Condition> factory) {
-        conditionRegistry.put(type.toLowerCase(), factory);
+        if (conditionRegistry.put(type.toLowerCase(), factory) == null) {
+            factoryGeneration++;
+        }
     }
 
     @Override
     public void registerMatcher(String prefix, Function<String, BlockMatcher> factory) {
-        matcherRegistry.put(prefix.toLowerCase(), factory);
+        if (matcherRegistry.put(prefix.toLowerCase(), factory) == null) {
+            factoryGeneration++;
+        }
     }
     
     @Override
@@ -61,4 +68,12 @@ public class MultiblockAPIImpl implements MultiblockAPI {
     public Function<String, BlockMatcher> getMatcherFactory(String prefix) {
         return matcherRegistry.get(prefix.toLowerCase());
     }
+
+    /**
+     * Bumped whenever a new action, condition or matcher type becomes available, which may change
+     * how previously parsed definitions would turn out. Re-registering a known type does not bump it.
+     */
+    public int factoryGeneration() {
+        return factoryGeneration;
+    }
 }
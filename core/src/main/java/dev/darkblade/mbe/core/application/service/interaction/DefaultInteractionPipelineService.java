@@ -4,7 +4,6 @@ import dev.darkblade.mbe.api.assembly.AssemblyReport;
 import dev.darkblade.mbe.api.command.WrenchContext;
 import dev.darkblade.mbe.api.command.WrenchDispatcher;
 import dev.darkblade.mbe.api.command.WrenchResult;
-import dev.darkblade.mbe.api.item.ItemInstance;
 import dev.darkblade.mbe.api.item.ItemKey;
 import dev.darkblade.mbe.api.service.interaction.InteractionHandler;
 import dev.darkblade.mbe.api.service.interaction.InteractionIntent;
@@ -173,16 +172,12 @@ public final class DefaultInteractionPipelineService implements InteractionPipel
         if (itemStackBridge == null || intent == null || intent.itemInHand() == null || intent.itemInHand().getType().isAir()) {
             return false;
         }
-        ItemInstance instance;
+        ItemKey key;
         try {
-            instance = itemStackBridge.fromItemStack(intent.itemInHand());
+            key = itemStackBridge.keyOf(intent.itemInHand());
         } catch (Throwable t) {
             return false;
         }
-        if (instance == null || instance.definition() == null) {
-            return false;
-        }
-        ItemKey key = instance.definition().key();
         return DefaultWrenchDispatcher.WRENCH_KEY.equals(key);
     }
 
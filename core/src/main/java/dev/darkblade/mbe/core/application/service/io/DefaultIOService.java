@@ -27,7 +27,9 @@ import org.bukkit.event.Event;
 
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +37,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 public final class DefaultIOService implements IOService {
@@ -49,7 +52,7 @@ public final class DefaultIOService implements IOService {
     private final Gson gson = new Gson();
     private final InternalNetwork internalNetwork = new InternalNetwork();
     private final Map<ChannelType, IOChannel> channels = new EnumMap<>(ChannelType.class);
-    private final ConcurrentHashMap<MultiblockInstance, ConcurrentHashMap<BlockPos, IOPort>> portsByInstance = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<MultiblockInstance, InstancePorts> portsByInstance = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<BlockPos, IOPort> portsByPosition = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, Object> networkLocks = new ConcurrentHashMap<>();
 
@@ -74,14 +77,26 @@ public final class DefaultIOService implements IOService {
 
     @Override
     public Collection<IOPort> getPorts(MultiblockInstance instance) {
+        return portLists(instance).all();
+    }
+
+    /**
+     * Ports of {@code instance} split by direction. The lists are built once and reused until a
+     * port of that instance is registered or unregistered.
+     */
+    public PortLists portLists(MultiblockInstance instance) {
         if (instance == null) {
-            return List.of();
-        }
-        Map<BlockPos, IOPort> ports = portsByInstance.get(instance);
-        if (ports == null || ports.isEmpty()) {
-            return List.of();
+            return PortLists.EMPTY;
         }
-        return List.copyOf(ports.values());
+        InstancePorts ports = portsByInstance.get(instance);
+        return ports == null ? PortLists.EMPTY : ports.lists();
+    }
+
+    /**
+     * Live view of the instances that currently own at least one port.
+     */
+    public Collection<MultiblockInstance> portOwners() {
+        return Collections.unmodifiableSet(portsByInstance.keySet());
     }
 
     public Optional<IOPort> findPort(BlockPos position) {
@@ -95,26 +110,50 @@ public final class DefaultIOService implements IOService {
     public void registerPort(IOPort port) {
         Objects.requireNonNull(port, "port");
         portsByPosition.put(port.getPosition(), port);
-        portsByInstance
-                .computeIfAbsent(port.getOwner(), unused -> new ConcurrentHashMap<>())
-                .put(port.getPosition(), port);
+        if (port.getOwner() != null) {
+            portsByInstance
+                    .computeIfAbsent(port.getOwner(), unused -> new InstancePorts())
+                    .put(port);
+        }
         internalNetwork.register(port);
         persist(port);
         eventCaller.accept(new PortRegisteredEvent(port));
     }
 
+    /**
+     * Registers a batch of ports. A port that matches the one restored from storage at the same
+     * position is not written back, which keeps a startup replay from rewriting every record.
+     */
+    @Override
+    public void registerPorts(Collection<? extends IOPort> ports) {
+        if (ports == null) {
+            return;
+        }
+        for (IOPort port : ports) {
+            Objects.requireNonNull(port, "port");
+            IOPort previous = portsByPosition.put(port.getPosition(), port);
+            if (port.getOwner() != null) {
+                portsByInstance
+                        .computeIfAbsent(port.getOwner(), unused -> new InstancePorts())
+                        .put(port);
+            }
+            internalNetwork.register(port);
+            if (!matchesStored(previous, port)) {
+                persist(port);
+            }
+            eventCaller.accept(new PortRegisteredEvent(port));
+        }
+    }
+
     @Override
     public void unregisterPort(IOPort port) {
         if (port == null) {
             return;
         }
         portsByPosition.remove(port.getPosition());
-        ConcurrentHashMap<BlockPos, IOPort> byPos = portsByInstance.get(port.getOwner());
-        if (byPos != null) {
-            byPos.remove(port.getPosition());
-            if (byPos.isEmpty()) {
-                portsByInstance.remove(port.getOwner(), byPos);
-            }
+        InstancePorts owned = port.getOwner() == null ? null : portsByInstance.get(port.getOwner());
+        if (owned != null && owned.remove(port.getPosition())) {
+            portsByInstance.remove(port.getOwner(), owned);
         }
         internalNetwork.unregister(port);
         store.delete(keyOf(port.getPosition()), StorageRecordMeta.now("core"));
@@ -201,6 +240,14 @@ public final class DefaultIOService implements IOService {
         eventCaller.accept(new IOTransferFailEvent(from, to, payload, reason));
     }
 
+    private static boolean matchesStored(IOPort stored, IOPort port) {
+        return stored instanceof DetachedIOPort
+                && stored.getFace() == port.getFace()
+                && stored.getType() == port.getType()
+                && stored.getChannel() == port.getChannel()
+                && Objects.equals(stored.getNetworkId(), port.getNetworkId());
+    }
+
     private void persist(IOPort port) {
         Map<String, Object> data = Map.of(
                 "position", serializePosition(port.getPosition()),
@@ -291,6 +338,62 @@ public final class DefaultIOService implements IOService {
         };
     }
 
+    /**
+     * Snapshot of one instance's ports. Ports of type {@link IOType#BOTH} appear in both
+     * direction lists.
+     */
+    public record PortLists(List<IOPort> all, List<IOPort> inputs, List<IOPort> outputs) {
+        static final PortLists EMPTY = new PortLists(List.of(), List.of(), List.of());
+
+        static PortLists of(Collection<IOPort> ports) {
+            if (ports.isEmpty()) {
+                return EMPTY;
+            }
+            List<IOPort> inputs = new ArrayList<>();
+            List<IOPort> outputs = new ArrayList<>();
+            for (IOPort port : ports) {
+                if (supportsInput(port.getType())) {
+                    inputs.add(port);
+                }
+                if (supportsOutput(port.getType())) {
+                    outputs.add(port);
+                }
+            }
+            return new PortLists(List.copyOf(ports), List.copyOf(inputs), List.copyOf(outputs));
+        }
+    }
+
+    private static final class InstancePorts {
+        private final ConcurrentHashMap<BlockPos, IOPort> byPosition = new ConcurrentHashMap<>();
+        private final AtomicLong version = new AtomicLong();
+        private volatile CachedLists cached;
+
+        private void put(IOPort port) {
+            byPosition.put(port.getPosition(), port);
+            version.incrementAndGet();
+        }
+
+        // Returns true when the instance has no ports left.
+        private boolean remove(BlockPos position) {
+            byPosition.remove(position);
+            version.incrementAndGet();
+            return byPosition.isEmpty();
+        }
+
+        private PortLists lists() {
+            long current = version.get();
+            CachedLists snapshot = cached;
+            if (snapshot != null && snapshot.version() == current) {
+                return snapshot.lists();
+            }
+            PortLists lists = PortLists.of(byPosition.values());
+            cached = new CachedLists(current, lists);
+            return lists;
+        }
+    }
+
+    private record CachedLists(long version, PortLists lists) {}
+
     private static final class DetachedIOPort implements IOPort {
         private final BlockPos position;
         private final Direction face;
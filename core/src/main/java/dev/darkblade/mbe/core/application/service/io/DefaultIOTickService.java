@@ -1,42 +1,61 @@
 package dev.darkblade.mbe.core.application.service.io;
 
 import dev.darkblade.mbe.api.io.IOPort;
-import dev.darkblade.mbe.api.io.IOService;
 import dev.darkblade.mbe.api.io.IOTickService;
-import dev.darkblade.mbe.api.io.IOType;
+import dev.darkblade.mbe.core.application.service.tick.RegionTaskDispatcher;
 import dev.darkblade.mbe.core.domain.MultiblockInstance;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 public final class DefaultIOTickService implements IOTickService {
 
-    private final IOService ioService;
+    private final DefaultIOService ioService;
+    private RegionTaskDispatcher dispatcher = RegionTaskDispatcher.inline();
 
-    public DefaultIOTickService(IOService ioService) {
+    public DefaultIOTickService(DefaultIOService ioService) {
         this.ioService = Objects.requireNonNull(ioService, "ioService");
     }
 
+    public void setRegionDispatcher(RegionTaskDispatcher dispatcher) {
+        this.dispatcher = dispatcher != null ? dispatcher : RegionTaskDispatcher.inline();
+    }
+
     @Override
     public String getServiceId() {
         return "mbe:io.tick";
     }
 
+    /**
+     * Ticks every instance that owns ports and passes {@code active}. Instances without ports are
+     * never visited. Transfers only move between the ports of one owner, so each owner is ticked
+     * on the thread that also runs its instance tick.
+     */
+    public void tickAll(Predicate<MultiblockInstance> active) {
+        List<MultiblockInstance> owners = new ArrayList<>();
+        for (MultiblockInstance owner : ioService.portOwners()) {
+            if (active == null || active.test(owner)) {
+                owners.add(owner);
+            }
+        }
+        dispatcher.dispatch(owners, MultiblockInstance::anchorLocation, owner -> tick(ioService.portLists(owner)));
+    }
+
     @Override
     public void tick(MultiblockInstance instance) {
         if (instance == null) {
             return;
         }
-        List<IOPort> outputs = new ArrayList<>();
-        List<IOPort> inputs = new ArrayList<>();
-        for (IOPort port : ioService.getPorts(instance)) {
-            if (port.getType() == IOType.OUTPUT || port.getType() == IOType.BOTH) {
-                outputs.add(port);
-            }
-            if (port.getType() == IOType.INPUT || port.getType() == IOType.BOTH) {
-                inputs.add(port);
-            }
+        tick(ioService.portLists(instance));
+    }
+
+    private void tick(DefaultIOService.PortLists ports) {
+        List<IOPort> outputs = ports.outputs();
+        List<IOPort> inputs = ports.inputs();
+        if (outputs.isEmpty() || inputs.isEmpty()) {
+            return;
         }
         for (IOPort output : outputs) {
             for (IOPort input : inputs) {
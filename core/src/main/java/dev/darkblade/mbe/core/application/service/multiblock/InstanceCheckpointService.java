@@ -0,0 +1,179 @@
+package dev.darkblade.mbe.core.application.service.multiblock;
+
+import dev.darkblade.mbe.api.logging.CoreLogger;
+import dev.darkblade.mbe.api.logging.LogKv;
+import dev.darkblade.mbe.core.application.service.MetricsService;
+import dev.darkblade.mbe.core.application.service.tick.RegionTaskDispatcher;
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.infrastructure.persistence.InstanceStorageService;
+
+import org.bukkit.World;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Saves instances whose state changed since their last write. Periodic checkpoints save at most
+ * {@code batchSize} instances and continue where they stopped on the next run; chunk unloads and
+ * shutdown save everything that is still dirty.
+ *
+ * <p>Periodic saves are handed to the thread that owns each instance, so its variables are never
+ * serialized while a region thread is updating them. Chunk unloads already run on that thread and
+ * shutdown runs after ticking has stopped; both save inline.
+ */
+public final class InstanceCheckpointService {
+
+    /**
+     * Instances anchored in one chunk, served from the registry's chunk index.
+     */
+    @FunctionalInterface
+    public interface ChunkInstances {
+        Collection<MultiblockInstance> in(World world, int chunkX, int chunkZ);
+    }
+
+    private final Supplier<Collection<MultiblockInstance>> instances;
+    private final ChunkInstances chunkInstances;
+    private final Predicate<MultiblockInstance> active;
+    private final InstanceStorageService storage;
+    private final MetricsService metrics;
+    private final CoreLogger log;
+    private final int batchSize;
+    private final ArrayDeque<MultiblockInstance> pending = new ArrayDeque<>();
+    private RegionTaskDispatcher dispatcher = RegionTaskDispatcher.inline();
+
+    public InstanceCheckpointService(
+            Supplier<Collection<MultiblockInstance>> instances,
+            ChunkInstances chunkInstances,
+            Predicate<MultiblockInstance> active,
+            InstanceStorageService storage,
+            MetricsService metrics,
+            CoreLogger log,
+            int batchSize
+    ) {
+        this.instances = Objects.requireNonNull(instances, "instances");
+        this.chunkInstances = Objects.requireNonNull(chunkInstances, "chunkInstances");
+        this.active = Objects.requireNonNull(active, "active");
+        this.storage = Objects.requireNonNull(storage, "storage");
+        this.metrics = metrics;
+        this.log = log;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public void setRegionDispatcher(RegionTaskDispatcher dispatcher) {
+        this.dispatcher = dispatcher != null ? dispatcher : RegionTaskDispatcher.inline();
+    }
+
+    /**
+     * Saves the next batch of dirty instances and returns how many were handed to storage.
+     */
+    public int checkpoint() {
+        long start = System.nanoTime();
+        if (pending.isEmpty()) {
+            for (MultiblockInstance instance : instances.get()) {
+                if (needsSave(instance)) {
+                    pending.add(instance);
+                }
+            }
+        }
+        List<MultiblockInstance> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        while (batch.size() < batchSize && !pending.isEmpty()) {
+            MultiblockInstance instance = pending.poll();
+            if (needsSave(instance) && active.test(instance)) {
+                batch.add(instance);
+            }
+        }
+        dispatcher.dispatch(batch, MultiblockInstance::anchorLocation, this::save);
+        Set<MultiblockInstance> written = Collections.newSetFromMap(new IdentityHashMap<>());
+        written.addAll(batch);
+        report("Checkpoint", written, start);
+        return written.size();
+    }
+
+    /**
+     * Saves every dirty instance anchored in the given chunk.
+     */
+    public int checkpointChunk(World world, int chunkX, int chunkZ) {
+        if (world == null) {
+            return 0;
+        }
+        int saved = 0;
+        for (MultiblockInstance instance : chunkInstances.in(world, chunkX, chunkZ)) {
+            if (save(instance)) {
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Saves every dirty instance regardless of the batch size, e.g. on shutdown.
+     */
+    public int flushAll() {
+        long start = System.nanoTime();
+        pending.clear();
+        Set<MultiblockInstance> written = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (MultiblockInstance instance : instances.get()) {
+            if (save(instance)) {
+                written.add(instance);
+            }
+        }
+        report("Checkpoint flushed", written, start);
+        return written.size();
+    }
+
+    public int dirtyCount() {
+        return dirtyCount(Set.of());
+    }
+
+    // Dirty active instances, not counting those just handed to storage: asynchronous backends
+    // only mark an instance saved once its write has completed.
+    private int dirtyCount(Set<MultiblockInstance> written) {
+        int dirty = 0;
+        for (MultiblockInstance instance : instances.get()) {
+            if (needsSave(instance) && active.test(instance) && !written.contains(instance)) {
+                dirty++;
+            }
+        }
+        return dirty;
+    }
+
+    private boolean needsSave(MultiblockInstance instance) {
+        return instance != null
+                && instance.isDirty()
+                && instance.type() != null
+                && instance.type().persistent();
+    }
+
+    private boolean save(MultiblockInstance instance) {
+        // Destroyed instances must not be written back after their record was deleted
+        if (!needsSave(instance) || !active.test(instance)) {
+            return false;
+        }
+        storage.saveInstance(instance);
+        return true;
+    }
+
+    private void report(String message, Set<MultiblockInstance> written, long start) {
+        long elapsed = System.nanoTime() - start;
+        int saved = written.size();
+        int remaining = dirtyCount(written);
+        if (metrics != null) {
+            metrics.recordCheckpoint(remaining, saved, elapsed);
+        }
+        if (log != null && saved > 0) {
+            log.debug(message, () -> new LogKv[] {
+                    LogKv.kv("saved", saved),
+                    LogKv.kv("remaining", remaining),
+                    LogKv.kv("ms", elapsed / 1_000_000L)
+            });
+        }
+    }
+}
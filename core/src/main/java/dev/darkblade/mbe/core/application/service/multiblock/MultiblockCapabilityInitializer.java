@@ -38,6 +38,9 @@ public class MultiblockCapabilityInitializer {
 
     public void initializePendingCapabilities(Collection<MultiblockInstance> instances) {
         for (MultiblockInstance instance : instances) {
+            if (instance == null || instance.type() == null || instance.type().capabilityFactories().isEmpty()) {
+                continue;
+            }
             initializeCapabilitiesOnce(instance);
         }
     }
@@ -0,0 +1,93 @@
+package dev.darkblade.mbe.core.application.service.multiblock;
+
+import dev.darkblade.mbe.api.logging.CoreLogger;
+import dev.darkblade.mbe.api.logging.LogKv;
+import dev.darkblade.mbe.core.application.service.MultiblockRuntimeService;
+import dev.darkblade.mbe.core.application.service.addon.AddonLifecycleService;
+import dev.darkblade.mbe.core.domain.MultiblockSource;
+import dev.darkblade.mbe.core.domain.MultiblockType;
+import dev.darkblade.mbe.core.infrastructure.config.parser.MultiblockParser;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reloads multiblock definitions from the core and addon directories. The parser skips files
+ * whose content did not change, and the registry only swaps the types that did, so editing one
+ * file costs one parse regardless of how many definitions are installed.
+ */
+public final class MultiblockDefinitionReloader {
+
+    public record Outcome(int types, MultiblockTypeRegistry.ReloadResult diff, MultiblockParser.LoadStats stats, long elapsedMillis) {}
+
+    private final File multiblockDir;
+    private final MultiblockParser parser;
+    private final MultiblockRuntimeService manager;
+    private final AddonLifecycleService addonManager;
+    private final CoreLogger log;
+
+    public MultiblockDefinitionReloader(File multiblockDir, MultiblockParser parser, MultiblockRuntimeService manager,
+                                        AddonLifecycleService addonManager, CoreLogger log) {
+        this.multiblockDir = Objects.requireNonNull(multiblockDir, "multiblockDir");
+        this.parser = Objects.requireNonNull(parser, "parser");
+        this.manager = Objects.requireNonNull(manager, "manager");
+        this.addonManager = addonManager;
+        this.log = Objects.requireNonNull(log, "log");
+    }
+
+    public List<File> definitionDirectories() {
+        List<File> dirs = new ArrayList<>();
+        dirs.add(multiblockDir);
+        if (addonManager != null) {
+            for (Path addonDir : addonManager.getAddonMultiblockDirectories()) {
+                if (Files.exists(addonDir)) {
+                    dirs.add(addonDir.toFile());
+                }
+            }
+        }
+        return dirs;
+    }
+
+    public Outcome reload() {
+        long started = System.nanoTime();
+        if (!multiblockDir.exists()) {
+            multiblockDir.mkdirs();
+        }
+
+        MultiblockParser.LoadStats stats = new MultiblockParser.LoadStats();
+        List<MultiblockParser.LoadedType> loaded = parser.loadAllWithSources(definitionDirectories(), stats);
+        Map<String, MultiblockType> newTypes = new LinkedHashMap<>();
+        Map<String, MultiblockSource> sources = new HashMap<>();
+        for (MultiblockParser.LoadedType lt : loaded) {
+            if (lt == null || lt.type() == null) {
+                continue;
+            }
+            String id = lt.type().id().toString();
+            if (newTypes.putIfAbsent(id, lt.type()) != null) {
+                log.error("Duplicate multiblock id (skipping)", LogKv.kv("id", id),
+                        LogKv.kv("path", lt.source().path()));
+                continue;
+            }
+            sources.put(id, lt.source());
+        }
+
+        MultiblockTypeRegistry.ReloadResult diff = manager.reloadTypesWithSources(newTypes.values(), sources);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+        log.info("Multiblock definitions reloaded",
+                LogKv.kv("files", stats.files()),
+                LogKv.kv("changedFiles", stats.files() - stats.cachedFiles()),
+                LogKv.kv("added", diff.added().size()),
+                LogKv.kv("changed", diff.changed().size()),
+                LogKv.kv("removed", diff.removed().size()),
+                LogKv.kv("unchanged", diff.unchanged()),
+                LogKv.kv("ms", elapsedMillis));
+        return new Outcome(newTypes.size(), diff, stats, elapsedMillis);
+    }
+}
@@ -1,32 +1,99 @@
 package dev.darkblade.mbe.core.application.service.multiblock;
 
 import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.domain.MultiblockType;
 import dev.darkblade.mbe.core.domain.PatternEntry;
 import dev.darkblade.mbe.core.domain.MultiblockState;
 
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.block.BlockFace;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 public class MultiblockInstanceRegistry {
     private final Map<Location, MultiblockInstance> activeInstances = new ConcurrentHashMap<>();
     private final Map<Location, MultiblockInstance> blockToInstanceMap = new ConcurrentHashMap<>();
+    // Active instances by the chunk of their anchor, for chunk load and unload handling.
+    private final Map<ChunkKey, Set<MultiblockInstance>> anchorsByChunk = new ConcurrentHashMap<>();
+    private final List<Consumer<MultiblockInstance>> removalListeners = new CopyOnWriteArrayList<>();
+
+    private record ChunkKey(World world, int x, int z) {
+        static ChunkKey of(Location anchor) {
+            return new ChunkKey(anchor.getWorld(), anchor.getBlockX() >> 4, anchor.getBlockZ() >> 4);
+        }
+    }
+
+    /**
+     * Adds a listener called with every instance that leaves the registry: destroyed, replaced by
+     * another instance at the same anchor, or dropped by {@link #unregisterAll()}. It runs for every
+     * removal path, whether or not a break event was published.
+     */
+    public void addRemovalListener(Consumer<MultiblockInstance> listener) {
+        if (listener != null) {
+            removalListeners.add(listener);
+        }
+    }
 
     public void registerInstance(MultiblockInstance instance) {
         if (instance == null || instance.anchorLocation() == null) {
             return;
         }
-        activeInstances.put(instance.anchorLocation(), instance);
+        MultiblockInstance replaced = activeInstances.put(instance.anchorLocation(), instance);
+        if (replaced != null && replaced != instance) {
+            unindexChunk(replaced);
+        }
+        indexChunk(instance);
         for (Location loc : instanceOccupiedLocations(instance)) {
             blockToInstanceMap.put(loc, instance);
         }
+        if (replaced != null && replaced != instance) {
+            notifyRemoved(replaced);
+        }
+    }
+
+    /**
+     * Registers a batch of instances, building the block index in one pass before publishing it.
+     */
+    public void registerInstances(Collection<MultiblockInstance> instances) {
+        if (instances == null || instances.isEmpty()) {
+            return;
+        }
+        Map<Location, MultiblockInstance> anchors = new HashMap<>(instances.size() * 2);
+        Map<Location, MultiblockInstance> blocks = new HashMap<>(instances.size() * 8);
+        for (MultiblockInstance instance : instances) {
+            if (instance == null || instance.anchorLocation() == null) {
+                continue;
+            }
+            anchors.put(instance.anchorLocation(), instance);
+            for (Location loc : instanceOccupiedLocations(instance)) {
+                blocks.put(loc, instance);
+            }
+        }
+        List<MultiblockInstance> replacedInstances = new ArrayList<>();
+        for (MultiblockInstance instance : anchors.values()) {
+            MultiblockInstance replaced = activeInstances.get(instance.anchorLocation());
+            if (replaced != null && replaced != instance) {
+                unindexChunk(replaced);
+                replacedInstances.add(replaced);
+            }
+            indexChunk(instance);
+        }
+        activeInstances.putAll(anchors);
+        blockToInstanceMap.putAll(blocks);
+        for (MultiblockInstance replaced : replacedInstances) {
+            notifyRemoved(replaced);
+        }
     }
 
     public void destroyInstance(MultiblockInstance instance) {
@@ -34,9 +101,39 @@ public class MultiblockInstanceRegistry {
             return;
         }
         activeInstances.remove(instance.anchorLocation());
+        unindexChunk(instance);
         for (Location loc : instanceOccupiedLocations(instance)) {
             blockToInstanceMap.remove(loc);
         }
+        notifyRemoved(instance);
+    }
+
+    /**
+     * Rebinds every active instance whose type id is a key of {@code replacements} to the new
+     * type, re-indexing its blocks in case the pattern changed.
+     *
+     * @return the number of rebound instances
+     */
+    public int rebindTypes(Map<String, MultiblockType> replacements) {
+        if (replacements == null || replacements.isEmpty()) {
+            return 0;
+        }
+        int rebound = 0;
+        for (MultiblockInstance instance : activeInstances.values()) {
+            MultiblockType replacement = replacements.get(instance.type().id().toString());
+            if (replacement == null || replacement == instance.type()) {
+                continue;
+            }
+            for (Location loc : instanceOccupiedLocations(instance)) {
+                blockToInstanceMap.remove(loc, instance);
+            }
+            instance.rebindType(replacement);
+            for (Location loc : instanceOccupiedLocations(instance)) {
+                blockToInstanceMap.put(loc, instance);
+            }
+            rebound++;
+        }
+        return rebound;
     }
 
     public Optional<MultiblockInstance> getInstanceAt(Location loc) {
@@ -47,14 +144,44 @@ public class MultiblockInstanceRegistry {
         return List.copyOf(activeInstances.values());
     }
 
+    /**
+     * Active instances whose anchor lies in the given chunk.
+     */
+    public Collection<MultiblockInstance> getInstancesInChunk(World world, int chunkX, int chunkZ) {
+        Set<MultiblockInstance> anchored = anchorsByChunk.get(new ChunkKey(world, chunkX, chunkZ));
+        return anchored == null ? List.of() : List.copyOf(anchored);
+    }
+
     public boolean isInstanceActive(MultiblockInstance instance) {
         if (instance == null || instance.anchorLocation() == null) return false;
         return activeInstances.containsKey(instance.anchorLocation());
     }
 
     public void unregisterAll() {
+        List<MultiblockInstance> removed = removalListeners.isEmpty() ? List.of() : new ArrayList<>(activeInstances.values());
         activeInstances.clear();
         blockToInstanceMap.clear();
+        anchorsByChunk.clear();
+        for (MultiblockInstance instance : removed) {
+            notifyRemoved(instance);
+        }
+    }
+
+    private void notifyRemoved(MultiblockInstance instance) {
+        for (Consumer<MultiblockInstance> listener : removalListeners) {
+            listener.accept(instance);
+        }
+    }
+
+    private void indexChunk(MultiblockInstance instance) {
+        anchorsByChunk.computeIfAbsent(ChunkKey.of(instance.anchorLocation()), k -> ConcurrentHashMap.newKeySet()).add(instance);
+    }
+
+    private void unindexChunk(MultiblockInstance instance) {
+        anchorsByChunk.computeIfPresent(ChunkKey.of(instance.anchorLocation()), (k, anchored) -> {
+            anchored.remove(instance);
+            return anchored.isEmpty() ? null : anchored;
+        });
     }
 
     private List<Location> instanceOccupiedLocations(MultiblockInstance instance) {
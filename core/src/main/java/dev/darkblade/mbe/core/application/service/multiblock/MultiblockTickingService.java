@@ -7,18 +7,26 @@ import dev.darkblade.mbe.api.logging.LogLevel;
 import dev.darkblade.mbe.api.logging.LogPhase;
 import dev.darkblade.mbe.api.logging.LogScope;
 import dev.darkblade.mbe.api.tick.Tickable;
+import dev.darkblade.mbe.api.util.NamespacedKey;
 import dev.darkblade.mbe.core.MultiBlockEngine;
 import dev.darkblade.mbe.core.application.service.MetricsService;
 import dev.darkblade.mbe.core.application.service.addon.AddonLifecycleService;
+import dev.darkblade.mbe.core.application.service.tick.RegionTaskDispatcher;
 import dev.darkblade.mbe.core.domain.MultiblockInstance;
 import dev.darkblade.mbe.core.domain.MultiblockState;
+import dev.darkblade.mbe.core.domain.MultiblockType;
 import dev.darkblade.mbe.core.domain.action.Action;
+import dev.darkblade.mbe.core.domain.action.ActionProgram;
 
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MultiblockTickingService implements Tickable {
 
@@ -26,8 +34,15 @@ public class MultiblockTickingService implements Tickable {
     private final MetricsService metrics;
     
     private AddonLifecycleService addonManager;
+    private RegionTaskDispatcher dispatcher = RegionTaskDispatcher.inline();
     private long tickCounter = 0;
 
+    private record CompiledTick(MultiblockType type, ActionProgram program) {}
+
+    // Keyed by type id; an entry is recompiled when the registered type instance changes
+    private final Map<NamespacedKey, CompiledTick> tickPrograms = new ConcurrentHashMap<>();
+    private final ActionProgram.FailureHandler tickFailure = (action, instance, error) -> reportActionFailure("TICK", action, instance, error);
+
     public MultiblockTickingService(MultiblockInstanceRegistry instanceRegistry, MetricsService metrics) {
         this.instanceRegistry = instanceRegistry;
         this.metrics = metrics;
@@ -37,11 +52,16 @@ public class MultiblockTickingService implements Tickable {
         this.addonManager = addonManager;
     }
 
+    public void setRegionDispatcher(RegionTaskDispatcher dispatcher) {
+        this.dispatcher = dispatcher != null ? dispatcher : RegionTaskDispatcher.inline();
+    }
+
     @Override
     public void tick() {
         long startTime = System.nanoTime();
         long currentTick = tickCounter++;
         
+        List<MultiblockInstance> due = new ArrayList<>();
         for (MultiblockInstance instance : instanceRegistry.getActiveInstancesSnapshot()) {
             if (instance.state() == MultiblockState.DISABLED || instance.state() == MultiblockState.DAMAGED) continue;
             
@@ -49,18 +69,62 @@ public class MultiblockTickingService implements Tickable {
             
             if (instance.type().onTickActions().isEmpty()) continue;
             
-            if (!isPlayerNearby(instance.anchorLocation(), 64)) {
-                continue;
-            }
-            
-            for (Action action : instance.type().onTickActions()) {
-                executeActionSafely("TICK", action, instance, null);
-            }
+            due.add(instance);
         }
         
+        // Selection counts here; each instance adds its own time from the thread that ticks it
         metrics.recordTickTime(System.nanoTime() - startTime);
+        dispatcher.dispatch(due, MultiblockInstance::anchorLocation, this::tickInstance);
+    }
+
+    private void tickInstance(MultiblockInstance instance) {
+        long started = System.nanoTime();
+        try {
+            if (!isPlayerNearby(instance.anchorLocation(), 64)) {
+                return;
+            }
+            tickProgram(instance.type()).execute(instance, null, tickFailure);
+        } catch (Throwable t) {
+            reportActionFailure("TICK", null, instance, t);
+        } finally {
+            metrics.addTickTime(System.nanoTime() - started);
+        }
     }
     
+    /**
+     * Compiles the tick actions of the given types ahead of their first tick.
+     */
+    public void compileTypes(Collection<MultiblockType> types) {
+        for (MultiblockType type : types) {
+            compileType(type);
+        }
+    }
+
+    public void compileType(MultiblockType type) {
+        if (type != null) {
+            tickProgram(type);
+        }
+    }
+
+    public void forgetType(NamespacedKey id) {
+        if (id != null) {
+            tickPrograms.remove(id);
+        }
+    }
+
+    public void forgetAllTypes() {
+        tickPrograms.clear();
+    }
+
+    private ActionProgram tickProgram(MultiblockType type) {
+        CompiledTick compiled = tickPrograms.get(type.id());
+        if (compiled == null || compiled.type() != type) {
+            compiled = new CompiledTick(type, ActionProgram.compile(type.onTickActions(), type.variableLayout(), true));
+            tickPrograms.put(type.id(), compiled);
+        }
+        return compiled.program();
+    }
+
     private boolean isPlayerNearby(Location loc, double radius) {
         if (loc.getWorld() == null) return false;
         if (!loc.getChunk().isLoaded()) return false;
@@ -77,33 +141,37 @@ public class MultiblockTickingService implements Tickable {
                 action.execute(instance);
             }
         } catch (Throwable t) {
-            String ownerId = action != null ? action.ownerId() : null;
-            String typeKey = action != null ? action.typeKey() : null;
-
-            String actionName = "unknown";
-            if (typeKey != null && !typeKey.isBlank()) {
-                int idx = typeKey.lastIndexOf(':');
-                actionName = idx >= 0 ? typeKey.substring(idx + 1) : typeKey;
-            } else if (action != null) {
-                actionName = action.getClass().getSimpleName();
-            }
+            reportActionFailure(runtimePhase, action, instance, t);
+        }
+    }
+
+    private void reportActionFailure(String runtimePhase, Action action, MultiblockInstance instance, Throwable t) {
+        String ownerId = action != null ? action.ownerId() : null;
+        String typeKey = action != null ? action.typeKey() : null;
+
+        String actionName = "unknown";
+        if (typeKey != null && !typeKey.isBlank()) {
+            int idx = typeKey.lastIndexOf(':');
+            actionName = idx >= 0 ? typeKey.substring(idx + 1) : typeKey;
+        } else if (action != null) {
+            actionName = action.getClass().getSimpleName();
+        }
 
-            Object counter = instance != null ? instance.getVariable("counter") : null;
-            String msg = "[" + runtimePhase + "] Action '" + actionName + "' failed Context: counter=" + counter + " Multiblock=" + (instance != null ? instance.type().id() : "unknown") + " Execution continued";
+        Object counter = instance != null ? instance.getVariable("counter") : null;
+        String msg = "[" + runtimePhase + "] Action '" + actionName + "' failed Context: counter=" + counter + " Multiblock=" + (instance != null ? instance.type().id() : "unknown") + " Execution continued";
 
-            if (addonManager != null && ownerId != null && !ownerId.isBlank() && !"core".equalsIgnoreCase(ownerId)) {
-                addonManager.failAddon(ownerId, AddonException.Phase.RUNTIME, msg, t, false);
+        if (addonManager != null && ownerId != null && !ownerId.isBlank() && !"core".equalsIgnoreCase(ownerId)) {
+            addonManager.failAddon(ownerId, AddonException.Phase.RUNTIME, msg, t, false);
+        } else {
+            CoreLogger core = MultiBlockEngine.getInstance().getLoggingService() != null ? MultiBlockEngine.getInstance().getLoggingService().core() : null;
+            if (core != null) {
+                core.logInternal(new LogScope.Core(), LogPhase.RUNTIME, LogLevel.ERROR, msg, t, new LogKv[] {
+                    LogKv.kv("phase", runtimePhase),
+                    LogKv.kv("multiblock", instance != null ? instance.type().id() : "unknown"),
+                    LogKv.kv("action", actionName)
+                }, Set.of());
             } else {
-                CoreLogger core = MultiBlockEngine.getInstance().getLoggingService() != null ? MultiBlockEngine.getInstance().getLoggingService().core() : null;
-                if (core != null) {
-                    core.logInternal(new LogScope.Core(), LogPhase.RUNTIME, LogLevel.ERROR, msg, t, new LogKv[] {
-                        LogKv.kv("phase", runtimePhase),
-                        LogKv.kv("multiblock", instance != null ? instance.type().id() : "unknown"),
-                        LogKv.kv("action", actionName)
-                    }, Set.of());
-                } else {
-                    MultiBlockEngine.getInstance().getLogger().log(java.util.logging.Level.SEVERE, "[Runtime] " + msg + " Cause: " + t.getClass().getSimpleName() + ": " + t.getMessage(), t);
-                }
+                MultiBlockEngine.getInstance().getLogger().log(java.util.logging.Level.SEVERE, "[Runtime] " + msg + " Cause: " + t.getClass().getSimpleName() + ": " + t.getMessage(), t);
             }
         }
     }
@@ -12,6 +12,7 @@ public class MultiblockTypeRegistry {
     private final Map<String, MultiblockType> types = new HashMap<>();
     private final Map<String, MultiblockSource> sourcesByTypeId = new HashMap<>();
     private final Map<String, List<MultiblockType>> variantsBySignature = new HashMap<>();
+    private final Map<String, String> signaturesByTypeId = new HashMap<>();
 
     public void registerType(MultiblockType type) {
         registerType(type, new MultiblockSource(MultiblockSource.Type.USER_DEFINED, "<runtime>"));
@@ -30,6 +31,7 @@ public class MultiblockTypeRegistry {
         types.put(type.id().toString(), type);
         sourcesByTypeId.put(type.id().toString(), source);
         String sig = computeSignature(type);
+        signaturesByTypeId.put(type.id().toString(), sig);
         variantsBySignature.compute(sig, (k, list) -> {
             List<MultiblockType> next = list == null ? new ArrayList<>() : new ArrayList<>(list);
             next.add(type);
@@ -60,40 +62,98 @@ public class MultiblockTypeRegistry {
         types.clear();
         sourcesByTypeId.clear();
         variantsBySignature.clear();
+        signaturesByTypeId.clear();
     }
 
-    public void reloadTypesWithSources(Collection<MultiblockType> newTypes, Map<String, MultiblockSource> sources) {
-        Map<String, MultiblockType> runtimeTypes = new LinkedHashMap<>();
-        Map<String, MultiblockSource> runtimeSources = new LinkedHashMap<>();
-        for (Map.Entry<String, MultiblockType> e : types.entrySet()) {
-            String id = e.getKey();
-            MultiblockSource src = sourcesByTypeId.get(id);
-            if (src != null && "<runtime>".equals(src.path())) {
-                runtimeTypes.put(id, e.getValue());
-                runtimeSources.put(id, src);
-            }
+    /**
+     * Outcome of {@link #reloadTypesWithSources(Collection, Map)}. Types are reported by id;
+     * {@code changed} maps each replaced id to its new definition.
+     */
+    public record ReloadResult(List<String> added, Map<String, MultiblockType> changed, List<String> removed, int unchanged) {
+        public boolean isEmpty() {
+            return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
         }
+    }
 
-        types.clear();
-        sourcesByTypeId.clear();
-        variantsBySignature.clear();
-
+    /**
+     * Replaces the file-backed types with {@code newTypes}, keeping runtime registrations. Only
+     * entries that differ are touched: a type passed as the very same instance with the same
+     * source is left alone. The new set is validated before anything is modified, so a
+     * duplicate id leaves the registry unchanged.
+     */
+    public ReloadResult reloadTypesWithSources(Collection<MultiblockType> newTypes, Map<String, MultiblockSource> sources) {
         Map<String, MultiblockSource> src = sources == null ? Map.of() : sources;
+        Map<String, MultiblockType> incoming = new LinkedHashMap<>();
         for (MultiblockType type : newTypes) {
             if (type == null) {
                 continue;
             }
-            if (runtimeTypes.containsKey(type.id().toString())) {
+            String id = type.id().toString();
+            if (isRuntime(id)) {
                 continue;
             }
-            MultiblockSource source = src.get(type.id().toString());
+            if (incoming.putIfAbsent(id, type) != null) {
+                throw new IllegalArgumentException("Duplicate multiblock id: " + id);
+            }
+        }
+
+        List<String> removed = new ArrayList<>();
+        for (String id : new ArrayList<>(types.keySet())) {
+            if (!isRuntime(id) && !incoming.containsKey(id)) {
+                removed.add(id);
+            }
+        }
+
+        List<String> added = new ArrayList<>();
+        Map<String, MultiblockType> changed = new LinkedHashMap<>();
+        int unchanged = 0;
+        for (String id : removed) {
+            unindexVariant(types.remove(id));
+            sourcesByTypeId.remove(id);
+        }
+        for (Map.Entry<String, MultiblockType> e : incoming.entrySet()) {
+            String id = e.getKey();
+            MultiblockType type = e.getValue();
+            MultiblockSource source = src.get(id);
+            if (source == null) {
+                source = new MultiblockSource(MultiblockSource.Type.USER_DEFINED, "<runtime>");
+            }
+            MultiblockType previous = types.get(id);
+            if (previous == type && source.equals(sourcesByTypeId.get(id))) {
+                unchanged++;
+                continue;
+            }
+            if (previous == null) {
+                added.add(id);
+            } else {
+                unindexVariant(previous);
+                types.remove(id);
+                sourcesByTypeId.remove(id);
+                changed.put(id, type);
+            }
             registerType(type, source);
         }
+        return new ReloadResult(List.copyOf(added), Collections.unmodifiableMap(changed), List.copyOf(removed), unchanged);
+    }
+
+    private boolean isRuntime(String typeId) {
+        MultiblockSource source = sourcesByTypeId.get(typeId);
+        return source != null && "<runtime>".equals(source.path()) && types.containsKey(typeId);
+    }
 
-        for (Map.Entry<String, MultiblockType> e : runtimeTypes.entrySet()) {
-            MultiblockSource source = runtimeSources.get(e.getKey());
-            registerType(e.getValue(), source);
+    private void unindexVariant(MultiblockType type) {
+        if (type == null) {
+            return;
+        }
+        String sig = signaturesByTypeId.remove(type.id().toString());
+        if (sig == null) {
+            return;
         }
+        variantsBySignature.computeIfPresent(sig, (k, list) -> {
+            List<MultiblockType> next = new ArrayList<>(list);
+            next.remove(type);
+            return next.isEmpty() ? null : List.copyOf(next);
+        });
     }
 
     public String signatureOf(MultiblockType type) {
@@ -0,0 +1,91 @@
+package dev.darkblade.mbe.core.application.service.multiblock;
+
+import dev.darkblade.mbe.api.compat.SchedulerCompatService;
+import dev.darkblade.mbe.api.event.EventBusService;
+import dev.darkblade.mbe.api.event.MultiblockFormEvent;
+import dev.darkblade.mbe.api.event.MultiblocksRestoredEvent;
+import dev.darkblade.mbe.api.logging.CoreLogger;
+import dev.darkblade.mbe.api.logging.LogKv;
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Announces multiblocks restored from storage. Instances are published as
+ * {@link MultiblocksRestoredEvent} batches so listeners can handle them in one pass. With a
+ * positive batch size the batches are spread over consecutive ticks, and instances torn down
+ * before their batch comes up are left out of it.
+ */
+public final class RestoredMultiblockPublisher {
+
+    private final EventBusService eventBus;
+    private final SchedulerCompatService scheduler;
+    private final CoreLogger log;
+    private final Predicate<MultiblockInstance> isActive;
+    private final int batchSize;
+    private final boolean replayFormEvents;
+
+    public RestoredMultiblockPublisher(
+            EventBusService eventBus,
+            SchedulerCompatService scheduler,
+            CoreLogger log,
+            Predicate<MultiblockInstance> isActive,
+            int batchSize,
+            boolean replayFormEvents
+    ) {
+        this.eventBus = Objects.requireNonNull(eventBus, "eventBus");
+        this.scheduler = scheduler;
+        this.log = log;
+        this.isActive = isActive == null ? instance -> true : isActive;
+        this.batchSize = Math.max(0, batchSize);
+        this.replayFormEvents = replayFormEvents;
+    }
+
+    /**
+     * Publishes the first batch immediately; the remaining batches, if any, follow one per tick.
+     * Nothing to restore still publishes one empty last batch, so listeners learn the restore is over.
+     */
+    public void publish(List<MultiblockInstance> instances) {
+        if (instances == null || instances.isEmpty()) {
+            eventBus.publish(new MultiblocksRestoredEvent(List.of(), 0, 0));
+            return;
+        }
+        List<MultiblockInstance> snapshot = List.copyOf(instances);
+        publishFrom(snapshot, 0, System.nanoTime());
+    }
+
+    private void publishFrom(List<MultiblockInstance> instances, int from, long startedAt) {
+        int total = instances.size();
+        int to = batchSize == 0 || scheduler == null ? total : Math.min(total, from + batchSize);
+        List<MultiblockInstance> batch = new ArrayList<>(to - from);
+        for (MultiblockInstance instance : instances.subList(from, to)) {
+            if (isActive.test(instance)) {
+                batch.add(instance);
+            }
+        }
+
+        eventBus.publish(new MultiblocksRestoredEvent(batch, to, total));
+        if (replayFormEvents) {
+            for (MultiblockInstance instance : batch) {
+                eventBus.publish(new MultiblockFormEvent(instance, null, true));
+            }
+        }
+
+        if (to < total) {
+            if (log != null) {
+                log.debug("Restoring multiblocks", LogKv.kv("published", to), LogKv.kv("total", total));
+            }
+            scheduler.runSync(() -> publishFrom(instances, to, startedAt));
+            return;
+        }
+        if (log != null) {
+            log.info("Restored multiblocks published",
+                    LogKv.kv("count", total),
+                    LogKv.kv("batchSize", batchSize == 0 ? total : batchSize),
+                    LogKv.kv("ms", (System.nanoTime() - startedAt) / 1_000_000L));
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package dev.darkblade.mbe.core.application.service.multiblock;
+
+import dev.darkblade.mbe.api.event.EventBusService;
+import dev.darkblade.mbe.api.event.MultiblocksRestoredEvent;
+import dev.darkblade.mbe.api.tick.Tickable;
+import dev.darkblade.mbe.api.util.NamespacedKey;
+import dev.darkblade.mbe.core.application.service.tick.RegionTaskDispatcher;
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.domain.MultiblockState;
+import dev.darkblade.mbe.core.domain.MultiblockType;
+import dev.darkblade.mbe.core.domain.PatternEntry;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Revalidates formed structures after blocks inside them change without a player breaking them
+ * (explosions, pistons, fluids, fire, growth, ...). Changed positions are mapped to their instance
+ * through the occupied-block index and only the pattern entries at those positions are checked
+ * again, once per instance per tick. Losing the controller tears the structure down; any other
+ * missing required block marks it {@code DAMAGED} until the block is put back. The missing set is
+ * not persisted, so instances restored as {@code DAMAGED} are checked again in full and go back to
+ * {@code ACTIVE} once every required block is in place.
+ */
+public final class StructureIntegrityService implements Tickable {
+
+    private static final BlockFace[] ROTATIONS = {BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST};
+    private static final int PRUNE_INTERVAL = 200;
+
+    private final Function<Location, Optional<MultiblockInstance>> lookup;
+    private final Predicate<MultiblockInstance> active;
+    private final BiConsumer<MultiblockInstance, MultiblockState> stateUpdater;
+    private final Predicate<MultiblockInstance> teardown;
+    private final RegionTaskDispatcher dispatcher;
+
+    private final Map<MultiblockInstance, Queued> pending = new ConcurrentHashMap<>();
+    private final Map<MultiblockInstance, Damage> damaged = new ConcurrentHashMap<>();
+    private final Map<NamespacedKey, PatternIndex> indexes = new ConcurrentHashMap<>();
+    private long tickCounter;
+
+    private record Queued(MultiblockType type, BitSet entries) {}
+
+    private record Damage(MultiblockState previous, BitSet missing) {}
+
+    public StructureIntegrityService(
+            Function<Location, Optional<MultiblockInstance>> lookup,
+            Predicate<MultiblockInstance> active,
+            BiConsumer<MultiblockInstance, MultiblockState> stateUpdater,
+            Predicate<MultiblockInstance> teardown,
+            RegionTaskDispatcher dispatcher
+    ) {
+        this(lookup, active, stateUpdater, teardown, dispatcher, null);
+    }
+
+    public StructureIntegrityService(
+            Function<Location, Optional<MultiblockInstance>> lookup,
+            Predicate<MultiblockInstance> active,
+            BiConsumer<MultiblockInstance, MultiblockState> stateUpdater,
+            Predicate<MultiblockInstance> teardown,
+            RegionTaskDispatcher dispatcher,
+            EventBusService eventBus
+    ) {
+        this.lookup = Objects.requireNonNull(lookup, "lookup");
+        this.active = Objects.requireNonNull(active, "active");
+        this.stateUpdater = Objects.requireNonNull(stateUpdater, "stateUpdater");
+        this.teardown = Objects.requireNonNull(teardown, "teardown");
+        this.dispatcher = dispatcher != null ? dispatcher : RegionTaskDispatcher.inline();
+        if (eventBus != null) {
+            eventBus.subscribe(MultiblocksRestoredEvent.class, event -> revalidateRestored(event.getMultiblocks()));
+        }
+    }
+
+    public void markChanged(Block block) {
+        if (block != null) {
+            markChanged(block.getLocation());
+        }
+    }
+
+    /**
+     * Queues the pattern entries at the given position for revalidation on the next tick. Positions
+     * that do not belong to a formed structure are ignored.
+     */
+    public void markChanged(Location location) {
+        if (location == null || location.getWorld() == null) {
+            return;
+        }
+        Location key = new Location(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        MultiblockInstance instance = lookup.apply(key).orElse(null);
+        if (instance == null || instance.anchorLocation() == null) {
+            return;
+        }
+        MultiblockType type = instance.type();
+        Location anchor = instance.anchorLocation();
+        int[] entries = index(type).entriesAt(instance.facing(),
+                key.getBlockX() - anchor.getBlockX(),
+                key.getBlockY() - anchor.getBlockY(),
+                key.getBlockZ() - anchor.getBlockZ());
+        if (entries.length > 0) {
+            queue(instance, type, entries);
+        }
+    }
+
+    /**
+     * Queues every pattern entry of the restored instances that were saved as {@code DAMAGED}.
+     * Required entries start out missing, so positions in unloaded chunks keep the structure
+     * damaged until they are seen again; the state before the damage is not persisted and is
+     * taken to be {@code ACTIVE}.
+     */
+    public void revalidateRestored(Collection<MultiblockInstance> instances) {
+        if (instances == null) {
+            return;
+        }
+        for (MultiblockInstance instance : instances) {
+            if (instance == null || instance.type() == null || instance.state() != MultiblockState.DAMAGED) {
+                continue;
+            }
+            MultiblockType type = instance.type();
+            PatternIndex index = index(type);
+            BitSet required = new BitSet();
+            BitSet entries = new BitSet();
+            List<PatternEntry> pattern = type.pattern();
+            for (int entry = 0; entry < pattern.size(); entry++) {
+                PatternEntry patternEntry = pattern.get(entry);
+                if (patternEntry == null || patternEntry.offset() == null) {
+                    continue;
+                }
+                entries.set(entry);
+                if (!patternEntry.optional() && patternEntry.matcher() != null) {
+                    required.set(entry);
+                }
+            }
+            entries.set(index.controllerEntry());
+            if (type.controllerMatcher() != null) {
+                required.set(index.controllerEntry());
+            }
+            damaged.putIfAbsent(instance, new Damage(MultiblockState.ACTIVE, required));
+            queue(instance, type, entries.stream().toArray());
+        }
+    }
+
+    public boolean isDamaged(MultiblockInstance instance) {
+        return damaged.containsKey(instance);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void tick() {
+        if (++tickCounter % PRUNE_INTERVAL == 0 && !damaged.isEmpty()) {
+            damaged.keySet().removeIf(instance -> !active.test(instance));
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<MultiblockInstance, Queued>> batch = new ArrayList<>(pending.size());
+        for (MultiblockInstance instance : pending.keySet()) {
+            Queued queued = pending.remove(instance);
+            if (queued != null) {
+                batch.add(Map.entry(instance, queued));
+            }
+        }
+        dispatcher.dispatch(batch, entry -> entry.getKey().anchorLocation(), entry -> revalidate(entry.getKey(), entry.getValue()));
+    }
+
+    private void queue(MultiblockInstance instance, MultiblockType type, int... entries) {
+        pending.compute(instance, (key, queued) -> {
+            if (queued == null || queued.type() != type) {
+                queued = new Queued(type, new BitSet());
+            }
+            for (int entry : entries) {
+                queued.entries().set(entry);
+            }
+            return queued;
+        });
+    }
+
+    private void revalidate(MultiblockInstance instance, Queued queued) {
+        if (!active.test(instance)) {
+            damaged.remove(instance);
+            return;
+        }
+        MultiblockType type = instance.type();
+        Location anchor = instance.anchorLocation();
+        World world = anchor != null ? anchor.getWorld() : null;
+        if (world == null || type != queued.type()) {
+            // The definition was reloaded in between; the queued entry indices no longer apply
+            return;
+        }
+
+        PatternIndex index = index(type);
+        Damage damage = damaged.get(instance);
+        BitSet missing = damage != null ? (BitSet) damage.missing().clone() : new BitSet();
+        BitSet entries = queued.entries();
+        for (int entry = entries.nextSetBit(0); entry >= 0; entry = entries.nextSetBit(entry + 1)) {
+            int[] offset = index.offset(instance.facing(), entry);
+            int x = anchor.getBlockX() + offset[0];
+            int y = anchor.getBlockY() + offset[1];
+            int z = anchor.getBlockZ() + offset[2];
+            if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+                continue;
+            }
+            Block block = world.getBlockAt(x, y, z);
+            if (block.getType() == Material.MOVING_PISTON) {
+                // Pushed blocks settle a few ticks later; look again once they have
+                queue(instance, type, entry);
+                continue;
+            }
+            if (entry == index.controllerEntry()) {
+                if (type.controllerMatcher() == null || type.controllerMatcher().matches(block)) {
+                    missing.clear(entry);
+                    continue;
+                }
+                if (teardown.test(instance)) {
+                    damaged.remove(instance);
+                    pending.remove(instance);
+                    return;
+                }
+                missing.set(entry);
+                continue;
+            }
+            PatternEntry patternEntry = type.pattern().get(entry);
+            if (patternEntry.optional() || patternEntry.matcher() == null || patternEntry.matcher().matches(block)) {
+                missing.clear(entry);
+            } else {
+                missing.set(entry);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            damaged.put(instance, new Damage(damage != null ? damage.previous() : instance.state(), missing));
+            if (instance.state() != MultiblockState.DAMAGED) {
+                stateUpdater.accept(instance, MultiblockState.DAMAGED);
+            }
+        } else if (damage != null) {
+            damaged.remove(instance);
+            if (instance.state() == MultiblockState.DAMAGED && damage.previous() != MultiblockState.DAMAGED) {
+                stateUpdater.accept(instance, damage.previous());
+            }
+        }
+    }
+
+    private PatternIndex index(MultiblockType type) {
+        PatternIndex index = indexes.get(type.id());
+        if (index == null || index.type() != type) {
+            index = PatternIndex.of(type);
+            indexes.put(type.id(), index);
+        }
+        return index;
+    }
+
+    /**
+     * Pattern entries of one type by rotated offset, so a changed position resolves to its entries
+     * without walking the pattern. The controller sits at the anchor and uses the index after the
+     * last pattern entry.
+     */
+    private record PatternIndex(MultiblockType type, List<Map<Long, int[]>> byOffset, List<int[][]> offsets) {
+
+        static PatternIndex of(MultiblockType type) {
+            List<PatternEntry> pattern = type.pattern();
+            int controller = pattern.size();
+            List<Map<Long, int[]>> byOffset = new ArrayList<>(ROTATIONS.length);
+            List<int[][]> offsets = new ArrayList<>(ROTATIONS.length);
+            for (BlockFace facing : ROTATIONS) {
+                int[][] rotated = new int[controller + 1][];
+                Map<Long, List<Integer>> grouped = new HashMap<>();
+                for (int i = 0; i < controller; i++) {
+                    PatternEntry entry = pattern.get(i);
+                    Vector offset = entry == null || entry.offset() == null ? null : rotate(entry.offset(), facing);
+                    rotated[i] = offset == null
+                            ? new int[] {0, 0, 0}
+                            : new int[] {offset.getBlockX(), offset.getBlockY(), offset.getBlockZ()};
+                    if (offset != null) {
+                        grouped.computeIfAbsent(pack(rotated[i][0], rotated[i][1], rotated[i][2]), k -> new ArrayList<>()).add(i);
+                    }
+                }
+                rotated[controller] = new int[] {0, 0, 0};
+                grouped.computeIfAbsent(pack(0, 0, 0), k -> new ArrayList<>()).add(controller);
+
+                Map<Long, int[]> lookup = new HashMap<>(grouped.size() * 2);
+                grouped.forEach((key, entries) -> lookup.put(key, entries.stream().mapToInt(Integer::intValue).toArray()));
+                byOffset.add(lookup);
+                offsets.add(rotated);
+            }
+            return new PatternIndex(type, byOffset, offsets);
+        }
+
+        int controllerEntry() {
+            return type.pattern().size();
+        }
+
+        int[] entriesAt(BlockFace facing, int dx, int dy, int dz) {
+            int[] entries = byOffset.get(rotationIndex(facing)).get(pack(dx, dy, dz));
+            return entries != null ? entries : new int[0];
+        }
+
+        int[] offset(BlockFace facing, int entry) {
+            return offsets.get(rotationIndex(facing))[entry];
+        }
+
+        private static int rotationIndex(BlockFace facing) {
+            if (facing == null) {
+                return 0;
+            }
+            return switch (facing) {
+                case EAST -> 1;
+                case SOUTH -> 2;
+                case WEST -> 3;
+                default -> 0;
+            };
+        }
+
+        private static long pack(int x, int y, int z) {
+            return ((long) (x & 0x1FFFFF) << 42) | ((long) (y & 0x1FFFFF) << 21) | (z & 0x1FFFFF);
+        }
+
+        private static Vector rotate(Vector v, BlockFace facing) {
+            switch (facing) {
+                case NORTH: return v.clone();
+                case EAST: return new Vector(-v.getZ(), v.getY(), v.getX());
+                case SOUTH: return new Vector(-v.getX(), v.getY(), -v.getZ());
+                case WEST: return new Vector(v.getZ(), v.getY(), -v.getX());
+                default: return v.clone();
+            }
+        }
+    }
+}
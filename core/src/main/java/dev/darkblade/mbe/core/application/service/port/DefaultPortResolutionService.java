@@ -1,22 +1,123 @@
 package dev.darkblade.mbe.core.application.service.port;
 
+import dev.darkblade.mbe.api.event.EventBusService;
+import dev.darkblade.mbe.api.event.MultiblockBreakEvent;
+import dev.darkblade.mbe.api.event.MultiblockFormEvent;
+import dev.darkblade.mbe.api.event.MultiblocksRestoredEvent;
 import dev.darkblade.mbe.api.wiring.PortBlockRef;
 import dev.darkblade.mbe.api.wiring.PortDefinition;
 import dev.darkblade.mbe.api.wiring.PortDirection;
 import dev.darkblade.mbe.api.wiring.PortResolutionService;
 import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.domain.MultiblockType;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.block.BlockFace;
-import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Resolves port positions from the type's port definitions and the instance's anchor and facing.
+ * Positions of formed instances are computed once and kept in a per-instance table, and a
+ * world-wide index maps every packed port position to its instance, so {@link #portAt} does not
+ * re-resolve the ports of the structure. Tables are rebuilt when an instance is rebound to a
+ * reloaded type. Break events drop the table of the instance; instances removed without one
+ * (disassembly, variant swaps, reloads) are dropped through {@link #forget}, which the engine
+ * hooks to the instance registry.
+ */
 public final class DefaultPortResolutionService implements PortResolutionService {
 
+    private final Map<MultiblockInstance, PortTable> tables = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<Long, PortSlot>> index = new ConcurrentHashMap<>();
+
+    public DefaultPortResolutionService() {
+        this(null);
+    }
+
+    public DefaultPortResolutionService(EventBusService eventBus) {
+        if (eventBus != null) {
+            eventBus.subscribe(MultiblockFormEvent.class, this::onMultiblockForm);
+            eventBus.subscribe(MultiblockBreakEvent.class, this::onMultiblockBreak);
+            eventBus.subscribe(MultiblocksRestoredEvent.class, this::onMultiblocksRestored);
+        }
+    }
+
+    public void onMultiblockForm(MultiblockFormEvent event) {
+        if (event.isRestored()) {
+            return;
+        }
+        index(event.getMultiblock());
+    }
+
+    public void onMultiblocksRestored(MultiblocksRestoredEvent event) {
+        for (MultiblockInstance instance : event.getMultiblocks()) {
+            index(instance);
+        }
+    }
+
+    public void onMultiblockBreak(MultiblockBreakEvent event) {
+        forget(event.getMultiblock());
+    }
+
+    /**
+     * Computes the port table of the instance and adds its ports to the position index.
+     */
+    public void index(MultiblockInstance instance) {
+        if (instance != null) {
+            indexed(instance);
+        }
+    }
+
+    /**
+     * Drops the port table of the instance and its entries in the position index.
+     */
+    public synchronized void forget(MultiblockInstance instance) {
+        if (instance == null) {
+            return;
+        }
+        PortTable table = tables.remove(instance);
+        if (table != null) {
+            unlink(instance, table);
+        }
+    }
+
+    /**
+     * Returns the port of any indexed instance at the location.
+     */
+    public Optional<ResolvedPort> portAt(Location location) {
+        PortSlot slot = slotAt(location);
+        if (slot == null) {
+            return Optional.empty();
+        }
+        PortTable table = indexed(slot.instance());
+        return table == null || slot.port() >= table.definitions.length
+                ? Optional.empty()
+                : Optional.of(table.resolve(slot.port()));
+    }
+
+    @Override
+    public Optional<ResolvedPort> portAt(MultiblockInstance instance, Location location) {
+        if (instance == null || location == null || location.getWorld() == null) {
+            return Optional.empty();
+        }
+        PortTable table = indexed(instance);
+        if (table == null) {
+            return Optional.empty();
+        }
+        PortSlot slot = slotAt(location);
+        if (slot == null || slot.instance() != instance || slot.port() >= table.definitions.length) {
+            return Optional.empty();
+        }
+        return Optional.of(table.resolve(slot.port()));
+    }
+
     @Override
     public Optional<Location> resolveBlock(MultiblockInstance instance, PortBlockRef ref) {
         if (instance == null || ref == null) {
@@ -31,9 +132,8 @@ public final class DefaultPortResolutionService implements PortResolutionService
             return Optional.of(base.clone());
         }
         if (ref instanceof PortBlockRef.Offset off) {
-            BlockFace facing = instance.facing() == null ? BlockFace.NORTH : instance.facing();
-            Vector rotated = rotate(new Vector(off.dx(), off.dy(), off.dz()), facing);
-            return Optional.of(base.clone().add(rotated.getBlockX(), rotated.getBlockY(), rotated.getBlockZ()));
+            BlockFace facing = facingOf(instance);
+            return Optional.of(base.clone().add(rotatedX(off, facing), off.dy(), rotatedZ(off, facing)));
         }
 
         return Optional.empty();
@@ -65,23 +165,15 @@ public final class DefaultPortResolutionService implements PortResolutionService
 
     @Override
     public List<ResolvedPort> resolveAll(MultiblockInstance instance) {
-        if (instance == null || instance.type() == null) {
-            return List.of();
-        }
-        Map<String, PortDefinition> ports = instance.type().ports();
-        if (ports == null || ports.isEmpty()) {
+        PortTable table = tableOf(instance);
+        if (table == null || table.definitions.length == 0) {
             return List.of();
         }
-
-        List<ResolvedPort> out = new ArrayList<>();
-        for (PortDefinition def : ports.values()) {
-            if (def == null) {
-                continue;
-            }
-            Optional<Location> loc = resolvePort(instance, def);
-            loc.ifPresent(location -> out.add(new ResolvedPort(def, location)));
+        ResolvedPort[] out = new ResolvedPort[table.definitions.length];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = table.resolve(i);
         }
-        return out.isEmpty() ? List.of() : List.copyOf(out);
+        return List.of(out);
     }
 
     @Override
@@ -117,35 +209,184 @@ public final class DefaultPortResolutionService implements PortResolutionService
     private List<ResolvedPort> resolveFiltered(MultiblockInstance instance, PortPredicate pred) {
         Objects.requireNonNull(pred, "pred");
 
-        if (instance == null || instance.type() == null) {
+        PortTable table = tableOf(instance);
+        if (table == null) {
             return List.of();
         }
-        Map<String, PortDefinition> ports = instance.type().ports();
-        if (ports == null || ports.isEmpty()) {
-            return List.of();
-        }
-
         List<ResolvedPort> out = new ArrayList<>();
-        for (PortDefinition def : ports.values()) {
-            if (def == null || !pred.test(def)) {
-                continue;
+        for (int i = 0; i < table.definitions.length; i++) {
+            if (pred.test(table.definitions[i])) {
+                out.add(table.resolve(i));
             }
-            Optional<Location> loc = resolvePort(instance, def);
-            loc.ifPresent(location -> out.add(new ResolvedPort(def, location)));
         }
         return out.isEmpty() ? List.of() : List.copyOf(out);
     }
 
-    private static Vector rotate(Vector v, BlockFace facing) {
-        Vector vv = v == null ? new Vector(0, 0, 0) : v;
-        BlockFace f = facing == null ? BlockFace.NORTH : facing;
+    /**
+     * Returns the cached table of an indexed instance, refreshing it after a type reload. Instances
+     * that were never indexed get a throwaway table, so resolving a broken structure does not put
+     * it back into the index.
+     */
+    private PortTable tableOf(MultiblockInstance instance) {
+        if (instance == null) {
+            return null;
+        }
+        PortTable table = tables.get(instance);
+        if (table != null) {
+            return table.type == instance.type() ? table : indexed(instance);
+        }
+        return PortTable.build(instance);
+    }
+
+    private PortTable indexed(MultiblockInstance instance) {
+        PortTable table = tables.get(instance);
+        if (table != null && table.type == instance.type()) {
+            return table;
+        }
+        synchronized (this) {
+            PortTable previous = tables.get(instance);
+            if (previous != null && previous.type == instance.type()) {
+                return previous;
+            }
+            if (previous != null) {
+                unlink(instance, previous);
+            }
+            PortTable built = PortTable.build(instance);
+            if (built == null) {
+                tables.remove(instance);
+                return null;
+            }
+            tables.put(instance, built);
+            Map<Long, PortSlot> positions = index.computeIfAbsent(built.world.getUID(), unused -> new ConcurrentHashMap<>());
+            for (int i = 0; i < built.positions.length; i++) {
+                positions.put(built.positions[i], new PortSlot(instance, i));
+            }
+            return built;
+        }
+    }
 
-        return switch (f) {
-            case NORTH -> vv.clone();
-            case EAST -> new Vector(-vv.getZ(), vv.getY(), vv.getX());
-            case SOUTH -> new Vector(-vv.getX(), vv.getY(), -vv.getZ());
-            case WEST -> new Vector(vv.getZ(), vv.getY(), -vv.getX());
-            default -> vv.clone();
+    private void unlink(MultiblockInstance instance, PortTable table) {
+        Map<Long, PortSlot> positions = index.get(table.world.getUID());
+        if (positions == null) {
+            return;
+        }
+        for (long position : table.positions) {
+            PortSlot slot = positions.get(position);
+            if (slot != null && slot.instance() == instance) {
+                positions.remove(position);
+            }
+        }
+        if (positions.isEmpty()) {
+            index.remove(table.world.getUID(), positions);
+        }
+    }
+
+    private PortSlot slotAt(Location location) {
+        if (location == null || location.getWorld() == null) {
+            return null;
+        }
+        Map<Long, PortSlot> positions = index.get(location.getWorld().getUID());
+        if (positions == null) {
+            return null;
+        }
+        return positions.get(pack(location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+    }
+
+    private static BlockFace facingOf(MultiblockInstance instance) {
+        return instance.facing() == null ? BlockFace.NORTH : instance.facing();
+    }
+
+    private static int rotatedX(PortBlockRef.Offset off, BlockFace facing) {
+        return switch (facing) {
+            case EAST -> -off.dz();
+            case SOUTH -> -off.dx();
+            case WEST -> off.dz();
+            default -> off.dx();
+        };
+    }
+
+    private static int rotatedZ(PortBlockRef.Offset off, BlockFace facing) {
+        return switch (facing) {
+            case EAST -> off.dx();
+            case SOUTH -> -off.dz();
+            case WEST -> -off.dx();
+            default -> off.dz();
         };
     }
+
+    // 26 bits for x and z, 12 for y: covers the world border and any build height.
+    private static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private record PortSlot(MultiblockInstance instance, int port) {
+    }
+
+    /**
+     * Resolved block positions of one instance's ports, in declaration order.
+     */
+    private static final class PortTable {
+        private final MultiblockType type;
+        private final World world;
+        private final PortDefinition[] definitions;
+        private final int[] coordinates;
+        private final long[] positions;
+
+        private PortTable(MultiblockType type, World world, PortDefinition[] definitions, int[] coordinates) {
+            this.type = type;
+            this.world = world;
+            this.definitions = definitions;
+            this.coordinates = coordinates;
+            this.positions = new long[definitions.length];
+            for (int i = 0; i < definitions.length; i++) {
+                positions[i] = pack(coordinates[i * 3], coordinates[i * 3 + 1], coordinates[i * 3 + 2]);
+            }
+        }
+
+        static PortTable build(MultiblockInstance instance) {
+            MultiblockType type = instance.type();
+            Location base = instance.anchorLocation();
+            if (type == null || base == null || base.getWorld() == null) {
+                return null;
+            }
+            Map<String, PortDefinition> ports = type.ports();
+            if (ports == null || ports.isEmpty()) {
+                return new PortTable(type, base.getWorld(), new PortDefinition[0], new int[0]);
+            }
+            BlockFace facing = facingOf(instance);
+            PortDefinition[] definitions = new PortDefinition[ports.size()];
+            int[] coordinates = new int[ports.size() * 3];
+            int count = 0;
+            for (PortDefinition def : ports.values()) {
+                if (def == null) {
+                    continue;
+                }
+                int x = base.getBlockX();
+                int y = base.getBlockY();
+                int z = base.getBlockZ();
+                if (def.block() instanceof PortBlockRef.Offset off) {
+                    x += rotatedX(off, facing);
+                    y += off.dy();
+                    z += rotatedZ(off, facing);
+                } else if (!(def.block() instanceof PortBlockRef.Controller)) {
+                    continue;
+                }
+                definitions[count] = def;
+                coordinates[count * 3] = x;
+                coordinates[count * 3 + 1] = y;
+                coordinates[count * 3 + 2] = z;
+                count++;
+            }
+            if (count < definitions.length) {
+                definitions = Arrays.copyOf(definitions, count);
+                coordinates = Arrays.copyOf(coordinates, count * 3);
+            }
+            return new PortTable(type, base.getWorld(), definitions, coordinates);
+        }
+
+        ResolvedPort resolve(int i) {
+            return new ResolvedPort(definitions[i],
+                    new Location(world, coordinates[i * 3], coordinates[i * 3 + 1], coordinates[i * 3 + 2]));
+        }
+    }
 }
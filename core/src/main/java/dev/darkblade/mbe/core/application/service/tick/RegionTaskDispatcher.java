@@ -0,0 +1,69 @@
+package dev.darkblade.mbe.core.application.service.tick;
+
+import dev.darkblade.mbe.api.compat.SchedulerCompatService;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs per-location work on the thread that owns each location. Without a regionized scheduler the
+ * work runs inline on the calling thread; otherwise items are grouped by chunk and every group is
+ * handed to the scheduler as a single task, so areas owned by different regions run concurrently.
+ */
+public final class RegionTaskDispatcher {
+
+    private static final RegionTaskDispatcher INLINE = new RegionTaskDispatcher(null);
+
+    private final SchedulerCompatService scheduler;
+
+    public RegionTaskDispatcher(SchedulerCompatService scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    public static RegionTaskDispatcher inline() {
+        return INLINE;
+    }
+
+    public boolean isRegionized() {
+        return scheduler != null && scheduler.isRegionized();
+    }
+
+    public <T> void dispatch(Iterable<T> items, Function<T, Location> locator, Consumer<T> work) {
+        if (!isRegionized()) {
+            for (T item : items) {
+                work.accept(item);
+            }
+            return;
+        }
+
+        Map<ChunkKey, List<T>> byChunk = new LinkedHashMap<>();
+        Map<ChunkKey, Location> anchors = new LinkedHashMap<>();
+        for (T item : items) {
+            Location location = locator.apply(item);
+            if (location == null) {
+                work.accept(item);
+                continue;
+            }
+            ChunkKey key = new ChunkKey(location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+            byChunk.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+            anchors.putIfAbsent(key, location);
+        }
+
+        for (Map.Entry<ChunkKey, List<T>> entry : byChunk.entrySet()) {
+            List<T> batch = entry.getValue();
+            scheduler.runAt(anchors.get(entry.getKey()), () -> {
+                for (T item : batch) {
+                    work.accept(item);
+                }
+            });
+        }
+    }
+
+    private record ChunkKey(World world, int x, int z) {}
+}
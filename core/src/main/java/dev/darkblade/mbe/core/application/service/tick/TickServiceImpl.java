@@ -1,12 +1,11 @@
 package dev.darkblade.mbe.core.application.service.tick;
 
+import dev.darkblade.mbe.api.compat.ScheduledTask;
+import dev.darkblade.mbe.api.compat.SchedulerCompatService;
 import dev.darkblade.mbe.api.logging.EngineLogger;
 import dev.darkblade.mbe.api.logging.LogKv;
 import dev.darkblade.mbe.api.service.MBEService;
 import dev.darkblade.mbe.api.tick.Tickable;
-import org.bukkit.Bukkit;
-import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.Objects;
 import java.util.Set;
@@ -19,22 +18,22 @@ public final class TickServiceImpl implements MBEService, dev.darkblade.mbe.api.
     private static final String SERVICE_ID = "mbe-core:tick";
     private static final int DEFAULT_INTERVAL = 1;
 
-    private final Plugin plugin;
+    private final SchedulerCompatService scheduler;
     private final EngineLogger logger;
     private final CopyOnWriteArrayList<Tickable> tickables = new CopyOnWriteArrayList<>();
     private final Set<Tickable> warnedInvalidInterval = ConcurrentHashMap.newKeySet();
     private final AtomicBoolean started = new AtomicBoolean(false);
     private final AtomicLong currentTick = new AtomicLong(0L);
 
-    private volatile BukkitTask task;
+    private volatile ScheduledTask task;
 
-    public TickServiceImpl(Plugin plugin, EngineLogger logger) {
-        this.plugin = Objects.requireNonNull(plugin, "plugin");
+    public TickServiceImpl(SchedulerCompatService scheduler, EngineLogger logger) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
         this.logger = Objects.requireNonNull(logger, "logger");
     }
 
     TickServiceImpl(EngineLogger logger) {
-        this.plugin = null;
+        this.scheduler = null;
         this.logger = Objects.requireNonNull(logger, "logger");
     }
 
@@ -69,14 +68,14 @@ public final class TickServiceImpl implements MBEService, dev.darkblade.mbe.api.
     }
 
     public void start() {
-        if (plugin == null) {
-            throw new IllegalStateException("Plugin is required to start TickService");
+        if (scheduler == null) {
+            throw new IllegalStateException("Scheduler is required to start TickService");
         }
         if (!started.compareAndSet(false, true)) {
             return;
         }
         currentTick.set(0L);
-        task = Bukkit.getScheduler().runTaskTimer(plugin, this::executeTickCycle, 1L, 1L);
+        task = scheduler.runTimer(this::executeTickCycle, 1L, 1L);
         logger.info("Tick service started", LogKv.kv("serviceId", SERVICE_ID));
     }
 
@@ -84,7 +83,7 @@ public final class TickServiceImpl implements MBEService, dev.darkblade.mbe.api.
         if (!started.compareAndSet(true, false)) {
             return;
         }
-        BukkitTask runningTask = task;
+        ScheduledTask runningTask = task;
         if (runningTask != null) {
             runningTask.cancel();
         }
@@ -1,6 +1,6 @@
 package dev.darkblade.mbe.core.application.service.tool;
 
-import dev.darkblade.mbe.api.item.ItemInstance;
+import dev.darkblade.mbe.api.item.ItemKey;
 import dev.darkblade.mbe.api.tool.Tool;
 import dev.darkblade.mbe.api.tool.ToolRegistry;
 import dev.darkblade.mbe.api.tool.ToolState;
@@ -77,16 +77,16 @@ public final class PdcToolStateResolver implements ToolStateResolver {
     }
 
     private String inferToolId(ItemStack item) {
-        ItemInstance instance;
+        ItemKey itemKey;
         try {
-            instance = itemStackBridge.fromItemStack(item);
+            itemKey = itemStackBridge.keyOf(item);
         } catch (Throwable t) {
             return "";
         }
-        if (instance == null || instance.definition() == null || instance.definition().key() == null || instance.definition().key().id() == null) {
+        if (itemKey == null || itemKey.id() == null) {
             return "";
         }
-        String key = normalize(instance.definition().key().id().key());
+        String key = normalize(itemKey.id().key());
         if (key.isBlank()) {
             return "";
         }
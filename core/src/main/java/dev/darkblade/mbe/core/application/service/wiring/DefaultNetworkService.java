@@ -2,6 +2,8 @@ package dev.darkblade.mbe.core.application.service.wiring;
 
 import dev.darkblade.mbe.api.io.event.IONetworkMergeEvent;
 import dev.darkblade.mbe.api.wiring.BlockPos;
+import dev.darkblade.mbe.api.wiring.Direction;
+import dev.darkblade.mbe.api.wiring.NetworkBatch;
 import dev.darkblade.mbe.api.wiring.NetworkConnection;
 import dev.darkblade.mbe.api.wiring.NetworkGraph;
 import dev.darkblade.mbe.api.wiring.NetworkNode;
@@ -13,10 +15,12 @@ import org.bukkit.event.Event;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -29,8 +33,12 @@ import java.util.function.Consumer;
 
 public final class DefaultNetworkService implements NetworkService {
 
+    // Stored next to the face bits, which use one bit per Direction ordinal
+    private static final int ATTACHED_BIT = 1 << 6;
+
     private final Consumer<Event> eventCaller;
     private final ConcurrentHashMap<NetworkType, TopologyState> topologies = new ConcurrentHashMap<>();
+    private final Set<UUID> dirtyWorlds = ConcurrentHashMap.newKeySet();
 
     public DefaultNetworkService(Consumer<Event> eventCaller) {
         this.eventCaller = Objects.requireNonNull(eventCaller, "eventCaller");
@@ -40,7 +48,7 @@ public final class DefaultNetworkService implements NetworkService {
         if (type == null) {
             throw new IllegalArgumentException("NetworkType cannot be null");
         }
-        return topologies.computeIfAbsent(type, unused -> new TopologyState(type, eventCaller));
+        return topologies.computeIfAbsent(type, unused -> new TopologyState(type, eventCaller, dirtyWorlds::add));
     }
 
     @Override
@@ -82,6 +90,24 @@ public final class DefaultNetworkService implements NetworkService {
         return result;
     }
 
+    /**
+     * Registrations and connections are queued until commit, then applied per network type under
+     * one lock with a single regrouping of the touched components.
+     */
+    @Override
+    public NetworkBatch beginBatch() {
+        return new Batch();
+    }
+
+    @Override
+    public int pruneUnclaimedAttachedNodes() {
+        int pruned = 0;
+        for (TopologyState topology : topologies.values()) {
+            pruned += topology.pruneUnclaimed();
+        }
+        return pruned;
+    }
+
     public UUID networkId(NetworkType type, NetworkNode node) {
         return getTopology(type).networkId(node);
     }
@@ -90,19 +116,118 @@ public final class DefaultNetworkService implements NetworkService {
         return getTopology(type).neighbors(node);
     }
 
+    public Set<NetworkType> types() {
+        return Set.copyOf(topologies.keySet());
+    }
+
+    /**
+     * Returns the worlds whose topology changed since the previous call and forgets them.
+     */
+    public Set<UUID> drainDirtyWorlds() {
+        Set<UUID> drained = new HashSet<>();
+        for (UUID worldId : dirtyWorlds) {
+            if (dirtyWorlds.remove(worldId)) {
+                drained.add(worldId);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Copies the nodes, edges and network ids of one world, or {@code null} if it has no nodes of the type.
+     */
+    public NetworkTopologyImage exportTopology(NetworkType type, UUID worldId) {
+        TopologyState topology = topologies.get(type);
+        return topology == null || worldId == null ? null : topology.export(worldId);
+    }
+
+    /**
+     * Bulk-loads a previously exported topology without firing events. Network ids are kept as
+     * stored; nodes whose position is already taken merge into the existing node.
+     */
+    public void importTopology(NetworkTopologyImage image) {
+        if (image != null && image.nodeIds().length > 0) {
+            getTopology(image.type()).importImage(image);
+        }
+    }
+
+    private final class Batch implements NetworkBatch {
+        private final Map<NetworkType, PendingChanges> changes = new LinkedHashMap<>();
+        private boolean committed;
+
+        @Override
+        public NetworkNode registerNode(NetworkType type, Block block, NodeDescriptor descriptor) {
+            if (block == null || block.getWorld() == null) {
+                throw new IllegalArgumentException("block");
+            }
+            PendingChanges pending = pending(type);
+            BlockPos position = new BlockPos(block.getWorld().getUID(), block.getX(), block.getY(), block.getZ());
+            NodeDescriptor safeDescriptor = descriptor == null ? new NodeDescriptor(Set.of()) : descriptor;
+            NodeImpl queued = pending.nodes.get(position);
+            UUID id = queued != null ? queued.id() : getTopology(type).nodeIndex.getOrDefault(position, UUID.randomUUID());
+            NodeImpl node = new NodeImpl(id, type, position, safeDescriptor.connectableFaces());
+            pending.nodes.put(position, node);
+            if (safeDescriptor.attached()) {
+                pending.attached.add(position);
+            }
+            return node;
+        }
+
+        @Override
+        public void connect(NetworkType type, NetworkNode a, NetworkNode b) {
+            if (a != null && b != null) {
+                pending(type).edges.add(new NetworkNode[] {a, b});
+            }
+        }
+
+        @Override
+        public int commit() {
+            if (committed) {
+                throw new IllegalStateException("Batch already committed");
+            }
+            committed = true;
+            int connected = 0;
+            for (Map.Entry<NetworkType, PendingChanges> entry : changes.entrySet()) {
+                connected += getTopology(entry.getKey()).apply(entry.getValue());
+            }
+            return connected;
+        }
+
+        private PendingChanges pending(NetworkType type) {
+            if (committed) {
+                throw new IllegalStateException("Batch already committed");
+            }
+            if (type == null) {
+                throw new IllegalArgumentException("NetworkType cannot be null");
+            }
+            return changes.computeIfAbsent(type, unused -> new PendingChanges());
+        }
+    }
+
+    private static final class PendingChanges {
+        private final Map<BlockPos, NodeImpl> nodes = new LinkedHashMap<>();
+        private final Set<BlockPos> attached = new HashSet<>();
+        private final List<NetworkNode[]> edges = new ArrayList<>();
+    }
+
     private static class TopologyState {
         private final NetworkType type;
         private final Consumer<Event> eventCaller;
+        private final Consumer<UUID> dirtyWorld;
         private final ConcurrentHashMap<UUID, NodeImpl> nodesById = new ConcurrentHashMap<>();
         private final ConcurrentHashMap<BlockPos, UUID> nodeIndex = new ConcurrentHashMap<>();
         private final ConcurrentHashMap<UUID, Set<UUID>> adjacency = new ConcurrentHashMap<>();
         private final ConcurrentHashMap<EdgeKey, ConnectionImpl> connections = new ConcurrentHashMap<>();
+        private final Set<UUID> attached = ConcurrentHashMap.newKeySet();
+        // Attached nodes loaded from storage that nobody has registered again yet
+        private final Set<UUID> unclaimed = ConcurrentHashMap.newKeySet();
         private volatile Map<UUID, UUID> networkByNode = Map.of();
         private final java.util.concurrent.locks.ReentrantLock lock = new java.util.concurrent.locks.ReentrantLock();
 
-        public TopologyState(NetworkType type, Consumer<Event> eventCaller) {
+        public TopologyState(NetworkType type, Consumer<Event> eventCaller, Consumer<UUID> dirtyWorld) {
             this.type = type;
             this.eventCaller = eventCaller;
+            this.dirtyWorld = dirtyWorld;
         }
 
         public NetworkNode registerNode(Block block, NodeDescriptor descriptor) {
@@ -117,17 +242,19 @@ public final class DefaultNetworkService implements NetworkService {
                 if (existing != null) {
                     NodeImpl found = nodesById.get(existing);
                     if (found != null) {
-                        NodeImpl updated = new NodeImpl(found.id(), type, position, safeDescriptor.connectableFaces());
-                        nodesById.put(updated.id(), updated);
-                        return updated;
+                        return update(found, safeDescriptor.connectableFaces(), safeDescriptor.attached());
                     }
                 }
+                dirtyWorld.accept(position.worldId());
                 UUID id = UUID.randomUUID();
                 NodeImpl created = new NodeImpl(id, type, position, safeDescriptor.connectableFaces());
                 nodesById.put(id, created);
                 nodeIndex.put(position, id);
                 adjacency.putIfAbsent(id, ConcurrentHashMap.newKeySet());
-                
+                if (safeDescriptor.attached()) {
+                    attached.add(id);
+                }
+
                 Map<UUID, UUID> next = new HashMap<>(networkByNode);
                 next.put(id, UUID.randomUUID());
                 this.networkByNode = Map.copyOf(next);
@@ -152,6 +279,9 @@ public final class DefaultNetworkService implements NetworkService {
                 adjacency.remove(id);
                 nodesById.remove(id);
                 nodeIndex.remove(resolved.position());
+                attached.remove(id);
+                unclaimed.remove(id);
+                dirtyWorld.accept(resolved.position().worldId());
                 recomputeNetworks();
             } finally {
                 lock.unlock();
@@ -176,6 +306,7 @@ public final class DefaultNetworkService implements NetworkService {
                 adjacency.computeIfAbsent(right.id(), unused -> ConcurrentHashMap.newKeySet()).add(left.id());
                 ConnectionImpl conn = new ConnectionImpl(UUID.randomUUID(), type, left, right);
                 connections.put(key, conn);
+                markDirty(left, right);
                 recomputeNetworks();
                 if (leftNetwork != null && rightNetwork != null && !leftNetwork.equals(rightNetwork)) {
                     eventCaller.accept(new IONetworkMergeEvent(type, rightNetwork, leftNetwork));
@@ -196,6 +327,7 @@ public final class DefaultNetworkService implements NetworkService {
                     return;
                 }
                 disconnectById(left.id(), right.id());
+                markDirty(left, right);
                 recomputeNetworks();
             } finally {
                 lock.unlock();
@@ -260,6 +392,275 @@ public final class DefaultNetworkService implements NetworkService {
             return List.copyOf(out);
         }
 
+        private int apply(PendingChanges pending) {
+            lock.lock();
+            try {
+                Map<UUID, UUID> remap = new HashMap<>();
+                Set<UUID> touched = new LinkedHashSet<>();
+                for (NodeImpl queued : pending.nodes.values()) {
+                    BlockPos position = queued.position();
+                    boolean attach = pending.attached.contains(position);
+                    UUID existing = nodeIndex.get(position);
+                    NodeImpl found = existing != null ? nodesById.get(existing) : null;
+                    if (found != null) {
+                        update(found, queued.connectableFaces(), attach);
+                        remap.put(queued.id(), existing);
+                        continue;
+                    }
+                    dirtyWorld.accept(position.worldId());
+                    UUID id = nodesById.containsKey(queued.id()) ? UUID.randomUUID() : queued.id();
+                    remap.put(queued.id(), id);
+                    nodesById.put(id, new NodeImpl(id, type, position, queued.connectableFaces()));
+                    nodeIndex.put(position, id);
+                    adjacency.putIfAbsent(id, ConcurrentHashMap.newKeySet());
+                    if (attach) {
+                        attached.add(id);
+                    }
+                    touched.add(id);
+                }
+
+                List<ConnectionImpl> created = new ArrayList<>();
+                for (NetworkNode[] edge : pending.edges) {
+                    NodeImpl left = resolve(edge[0], remap);
+                    NodeImpl right = resolve(edge[1], remap);
+                    if (left == null || right == null || left.id().equals(right.id())) {
+                        continue;
+                    }
+                    EdgeKey key = EdgeKey.of(left.id(), right.id());
+                    if (connections.containsKey(key)) {
+                        continue;
+                    }
+                    adjacency.computeIfAbsent(left.id(), unused -> ConcurrentHashMap.newKeySet()).add(right.id());
+                    adjacency.computeIfAbsent(right.id(), unused -> ConcurrentHashMap.newKeySet()).add(left.id());
+                    ConnectionImpl conn = new ConnectionImpl(UUID.randomUUID(), type, left, right);
+                    connections.put(key, conn);
+                    markDirty(left, right);
+                    touched.add(left.id());
+                    touched.add(right.id());
+                    created.add(conn);
+                }
+
+                if (!touched.isEmpty()) {
+                    regroup(touched);
+                }
+                for (ConnectionImpl conn : created) {
+                    eventCaller.accept(new dev.darkblade.mbe.api.wiring.event.NodesConnectedEvent(conn));
+                }
+                return created.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Reassigns network ids for the components containing the given nodes only. A batch only
+         * adds nodes and edges, so components can merge but never split; each absorbed network
+         * yields one merge event into the surviving id.
+         */
+        private void regroup(Set<UUID> touched) {
+            Map<UUID, UUID> next = new HashMap<>(networkByNode);
+            Set<UUID> visited = new HashSet<>();
+            Set<UUID> assigned = new HashSet<>();
+            List<Event> merges = new ArrayList<>();
+            for (UUID seed : touched) {
+                if (visited.contains(seed)) {
+                    continue;
+                }
+                Set<UUID> component = bfs(seed);
+                visited.addAll(component);
+                UUID chosen = chooseNetworkId(component, assigned);
+                assigned.add(chosen);
+                Set<UUID> absorbed = new LinkedHashSet<>();
+                for (UUID id : component) {
+                    UUID previous = networkByNode.get(id);
+                    if (previous != null && !previous.equals(chosen)) {
+                        absorbed.add(previous);
+                    }
+                    next.put(id, chosen);
+                }
+                for (UUID previous : absorbed) {
+                    merges.add(new IONetworkMergeEvent(type, previous, chosen));
+                }
+            }
+            this.networkByNode = Map.copyOf(next);
+            merges.forEach(eventCaller);
+        }
+
+        private NodeImpl resolve(NetworkNode node, Map<UUID, UUID> remap) {
+            if (node == null || node.id() == null || !type.equals(node.type())) {
+                return null;
+            }
+            return nodesById.get(remap.getOrDefault(node.id(), node.id()));
+        }
+
+        private NetworkTopologyImage export(UUID worldId) {
+            lock.lock();
+            try {
+                List<NodeImpl> nodes = new ArrayList<>();
+                for (NodeImpl node : nodesById.values()) {
+                    if (worldId.equals(node.position().worldId())) {
+                        nodes.add(node);
+                    }
+                }
+                if (nodes.isEmpty()) {
+                    return null;
+                }
+                int count = nodes.size();
+                Map<UUID, Integer> indexById = new HashMap<>(count * 2);
+                for (int i = 0; i < count; i++) {
+                    indexById.put(nodes.get(i).id(), i);
+                }
+
+                UUID[] nodeIds = new UUID[count];
+                int[] coordinates = new int[count * 3];
+                byte[] faces = new byte[count];
+                int[] nodeNetworks = new int[count];
+                Map<UUID, Integer> networkIndex = new HashMap<>();
+                List<UUID> networkIds = new ArrayList<>();
+                int[] edgeOffsets = new int[count + 1];
+                int[] edgeTargets = new int[16];
+                int edgeCount = 0;
+                for (int i = 0; i < count; i++) {
+                    NodeImpl node = nodes.get(i);
+                    nodeIds[i] = node.id();
+                    coordinates[i * 3] = node.position().x();
+                    coordinates[i * 3 + 1] = node.position().y();
+                    coordinates[i * 3 + 2] = node.position().z();
+                    faces[i] = (byte) (faceMask(node.connectableFaces()) | (attached.contains(node.id()) ? ATTACHED_BIT : 0));
+                    UUID networkId = networkByNode.get(node.id());
+                    if (networkId == null) {
+                        networkId = UUID.randomUUID();
+                    }
+                    Integer network = networkIndex.get(networkId);
+                    if (network == null) {
+                        network = networkIds.size();
+                        networkIndex.put(networkId, network);
+                        networkIds.add(networkId);
+                    }
+                    nodeNetworks[i] = network;
+
+                    // Every edge is kept once, on the endpoint with the lower index
+                    int start = edgeCount;
+                    for (UUID neighbor : adjacency.getOrDefault(node.id(), Set.of())) {
+                        Integer target = indexById.get(neighbor);
+                        if (target != null && target > i) {
+                            if (edgeCount == edgeTargets.length) {
+                                edgeTargets = Arrays.copyOf(edgeTargets, edgeCount * 2);
+                            }
+                            edgeTargets[edgeCount++] = target;
+                        }
+                    }
+                    Arrays.sort(edgeTargets, start, edgeCount);
+                    edgeOffsets[i + 1] = edgeCount;
+                }
+                return new NetworkTopologyImage(type, worldId, nodeIds, coordinates, faces,
+                        networkIds.toArray(UUID[]::new), nodeNetworks, edgeOffsets, Arrays.copyOf(edgeTargets, edgeCount));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void importImage(NetworkTopologyImage image) {
+            lock.lock();
+            try {
+                UUID worldId = image.worldId();
+                UUID[] nodeIds = image.nodeIds();
+                int[] coordinates = image.coordinates();
+                NodeImpl[] nodes = new NodeImpl[nodeIds.length];
+                Map<UUID, UUID> next = new HashMap<>(networkByNode);
+                boolean merged = false;
+                for (int i = 0; i < nodeIds.length; i++) {
+                    BlockPos position = new BlockPos(worldId, coordinates[i * 3], coordinates[i * 3 + 1], coordinates[i * 3 + 2]);
+                    UUID existing = nodeIndex.get(position);
+                    if (existing != null || nodesById.containsKey(nodeIds[i])) {
+                        nodes[i] = existing != null ? nodesById.get(existing) : null;
+                        merged = true;
+                        continue;
+                    }
+                    NodeImpl node = new NodeImpl(nodeIds[i], type, position, facesOf(image.faces()[i]));
+                    nodes[i] = node;
+                    nodesById.put(node.id(), node);
+                    nodeIndex.put(position, node.id());
+                    adjacency.put(node.id(), ConcurrentHashMap.newKeySet());
+                    if ((image.faces()[i] & ATTACHED_BIT) != 0) {
+                        attached.add(node.id());
+                        unclaimed.add(node.id());
+                    }
+                    next.put(node.id(), image.networkIds()[image.nodeNetworks()[i]]);
+                }
+                int[] offsets = image.edgeOffsets();
+                int[] targets = image.edgeTargets();
+                for (int i = 0; i < nodes.length; i++) {
+                    NodeImpl left = nodes[i];
+                    if (left == null) {
+                        continue;
+                    }
+                    for (int e = offsets[i]; e < offsets[i + 1]; e++) {
+                        NodeImpl right = nodes[targets[e]];
+                        if (right == null || left.id().equals(right.id())) {
+                            continue;
+                        }
+                        EdgeKey key = EdgeKey.of(left.id(), right.id());
+                        if (connections.putIfAbsent(key, new ConnectionImpl(edgeId(key), type, left, right)) == null) {
+                            adjacency.computeIfAbsent(left.id(), unused -> ConcurrentHashMap.newKeySet()).add(right.id());
+                            adjacency.computeIfAbsent(right.id(), unused -> ConcurrentHashMap.newKeySet()).add(left.id());
+                        }
+                    }
+                }
+                this.networkByNode = Map.copyOf(next);
+                if (merged) {
+                    // Stored components may now touch live ones; existing ids are preferred when regrouping
+                    recomputeNetworks();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Registers an already known node again. It claims the node if it was restored, and only
+         * changes the persisted topology when the faces or the attachment actually change.
+         */
+        private NodeImpl update(NodeImpl found, Set<Direction> faces, boolean attach) {
+            unclaimed.remove(found.id());
+            boolean changed = attach && attached.add(found.id());
+            if (found.connectableFaces().equals(faces)) {
+                if (changed) {
+                    dirtyWorld.accept(found.position().worldId());
+                }
+                return found;
+            }
+            NodeImpl updated = new NodeImpl(found.id(), type, found.position(), faces);
+            nodesById.put(updated.id(), updated);
+            dirtyWorld.accept(found.position().worldId());
+            return updated;
+        }
+
+        private int pruneUnclaimed() {
+            lock.lock();
+            try {
+                int pruned = 0;
+                for (UUID id : List.copyOf(unclaimed)) {
+                    NodeImpl node = nodesById.get(id);
+                    if (node != null) {
+                        unregisterNode(node);
+                        pruned++;
+                    }
+                }
+                unclaimed.clear();
+                return pruned;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void markDirty(NodeImpl left, NodeImpl right) {
+            dirtyWorld.accept(left.position().worldId());
+            if (!left.position().worldId().equals(right.position().worldId())) {
+                dirtyWorld.accept(right.position().worldId());
+            }
+        }
+
         private void disconnectById(UUID a, UUID b) {
             adjacency.computeIfPresent(a, (id, set) -> {
                 set.remove(b);
@@ -328,6 +729,33 @@ public final class DefaultNetworkService implements NetworkService {
         }
     }
 
+    private static byte faceMask(Set<Direction> faces) {
+        int mask = 0;
+        for (Direction face : faces) {
+            mask |= 1 << face.ordinal();
+        }
+        return (byte) mask;
+    }
+
+    private static Set<Direction> facesOf(byte mask) {
+        Set<Direction> faces = new HashSet<>();
+        for (Direction face : Direction.values()) {
+            if ((mask & (1 << face.ordinal())) != 0) {
+                faces.add(face);
+            }
+        }
+        return faces;
+    }
+
+    /**
+     * Restored edges get an id derived from their endpoints, so they stay stable across restarts
+     * without paying for a random UUID per edge.
+     */
+    private static UUID edgeId(EdgeKey key) {
+        return new UUID(key.a().getMostSignificantBits() ^ Long.rotateLeft(key.b().getLeastSignificantBits(), 17),
+                key.a().getLeastSignificantBits() ^ Long.rotateLeft(key.b().getMostSignificantBits(), 31));
+    }
+
     private record EdgeKey(UUID a, UUID b) {
         private static EdgeKey of(UUID left, UUID right) {
             if (left == null || right == null) {
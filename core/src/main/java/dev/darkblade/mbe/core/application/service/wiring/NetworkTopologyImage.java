@@ -0,0 +1,27 @@
+package dev.darkblade.mbe.core.application.service.wiring;
+
+import dev.darkblade.mbe.api.wiring.NetworkType;
+
+import java.util.UUID;
+
+/**
+ * Flat copy of the nodes of one network type in one world. Node {@code i} sits at
+ * {@code coordinates[3i..3i+2]} and belongs to {@code networkIds[nodeNetworks[i]]}; its edges to
+ * higher-indexed nodes are {@code edgeTargets[edgeOffsets[i]..edgeOffsets[i+1])}, so every edge is
+ * listed once. Face masks use one bit per {@link dev.darkblade.mbe.api.wiring.Direction} ordinal.
+ */
+public record NetworkTopologyImage(
+        NetworkType type,
+        UUID worldId,
+        UUID[] nodeIds,
+        int[] coordinates,
+        byte[] faces,
+        UUID[] networkIds,
+        int[] nodeNetworks,
+        int[] edgeOffsets,
+        int[] edgeTargets
+) {
+    public int edgeCount() {
+        return edgeTargets.length;
+    }
+}
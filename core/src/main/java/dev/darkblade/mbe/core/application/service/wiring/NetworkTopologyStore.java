@@ -0,0 +1,292 @@
+package dev.darkblade.mbe.core.application.service.wiring;
+
+import dev.darkblade.mbe.api.logging.EngineLogger;
+import dev.darkblade.mbe.api.logging.LogKv;
+import dev.darkblade.mbe.api.persistence.PersistentStorageService;
+import dev.darkblade.mbe.api.persistence.StorageRecordMeta;
+import dev.darkblade.mbe.api.persistence.StorageSchema;
+import dev.darkblade.mbe.api.persistence.StorageStore;
+import dev.darkblade.mbe.api.persistence.StoredRecord;
+import dev.darkblade.mbe.api.tick.Tickable;
+import dev.darkblade.mbe.api.wiring.NetworkType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Saves the wiring topology of each world to the {@code core/wiring} domain, one store per world
+ * and one record per network type, and bulk-loads it back on startup so restored structures find
+ * their edges and network ids already in place. Only worlds whose topology changed are written,
+ * and only once their stored topology has been imported; a world that changes before it is loaded
+ * is written right after its import, so a partial image never replaces what is stored.
+ *
+ * <p>Records hold the network id table, then per node its id, position delta to the previous
+ * node, face mask and network index, then per node the sorted, delta-encoded indices of its
+ * higher-indexed neighbours. Integers are varints.
+ */
+public final class NetworkTopologyStore implements Tickable {
+
+    private static final int FORMAT = 1;
+    private static final String PRODUCER = "core";
+
+    private static final StorageSchema SCHEMA = new StorageSchema() {
+        @Override
+        public int schemaVersion() {
+            return 1;
+        }
+
+        @Override
+        public StorageSchema.StorageSchemaMigrator migrator() {
+            return (fromVersion, toVersion, payload) -> {
+                if (fromVersion == toVersion && toVersion == 1) {
+                    return payload;
+                }
+                throw new IllegalStateException("Unsupported migration: " + fromVersion + "->" + toVersion);
+            };
+        }
+    };
+
+    private final DefaultNetworkService networkService;
+    private final PersistentStorageService persistence;
+    private final EngineLogger log;
+    private final int intervalTicks;
+    // Network type ids stored for each imported world; worlds missing here were never imported.
+    private final Map<UUID, Set<String>> storedTypes = new ConcurrentHashMap<>();
+    private final Set<UUID> deferredWorlds = ConcurrentHashMap.newKeySet();
+
+    public NetworkTopologyStore(
+            DefaultNetworkService networkService,
+            PersistentStorageService persistence,
+            EngineLogger log,
+            int intervalTicks
+    ) {
+        this.networkService = Objects.requireNonNull(networkService, "networkService");
+        this.persistence = Objects.requireNonNull(persistence, "persistence");
+        this.log = log;
+        this.intervalTicks = Math.max(1, intervalTicks);
+    }
+
+    @Override
+    public void tick() {
+        saveDirty();
+    }
+
+    @Override
+    public int getTickInterval() {
+        return intervalTicks;
+    }
+
+    /**
+     * Loads every stored network type of the world and returns the number of nodes read. A world
+     * is imported once; later calls return 0.
+     */
+    public int loadWorld(UUID worldId) {
+        if (worldId == null || storedTypes.containsKey(worldId)) {
+            return 0;
+        }
+        Set<String> types = ConcurrentHashMap.newKeySet();
+        int nodes = 0;
+        for (Map.Entry<String, StoredRecord> entry : store(worldId).readAll().entrySet()) {
+            types.add(entry.getKey());
+            try {
+                NetworkTopologyImage image = decode(new NetworkType(entry.getKey()), worldId, entry.getValue().payload());
+                networkService.importTopology(image);
+                nodes += image.nodeIds().length;
+            } catch (RuntimeException e) {
+                if (log != null) {
+                    log.warn("Skipping unreadable wiring topology",
+                            LogKv.kv("world", worldId),
+                            LogKv.kv("type", entry.getKey()),
+                            LogKv.kv("error", e.getClass().getSimpleName() + ": " + e.getMessage()));
+                }
+            }
+        }
+        storedTypes.put(worldId, types);
+        return nodes;
+    }
+
+    /**
+     * Writes the topology of every imported world that changed since the previous save and
+     * returns the number of worlds written. Changes to worlds not imported yet are held back.
+     */
+    public int saveDirty() {
+        int saved = 0;
+        for (UUID worldId : networkService.drainDirtyWorlds()) {
+            if (storedTypes.containsKey(worldId)) {
+                saveWorld(worldId);
+                saved++;
+            } else {
+                deferredWorlds.add(worldId);
+            }
+        }
+        for (UUID worldId : deferredWorlds) {
+            if (storedTypes.containsKey(worldId) && deferredWorlds.remove(worldId)) {
+                saveWorld(worldId);
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+    private void saveWorld(UUID worldId) {
+        StorageStore store = store(worldId);
+        Set<String> stored = storedTypes.get(worldId);
+        for (NetworkType type : networkService.types()) {
+            NetworkTopologyImage image = networkService.exportTopology(type, worldId);
+            if (image != null) {
+                store.writeAsync(type.id(), encode(image), StorageRecordMeta.now(PRODUCER));
+                stored.add(type.id());
+            } else if (stored.remove(type.id())) {
+                store.deleteAsync(type.id(), StorageRecordMeta.now(PRODUCER));
+            }
+        }
+    }
+
+    private StorageStore store(UUID worldId) {
+        return persistence.namespace("core").domain("wiring").store(worldId.toString(), SCHEMA);
+    }
+
+    static byte[] encode(NetworkTopologyImage image) {
+        int count = image.nodeIds().length;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(32 + count * 28 + image.edgeCount() * 2);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT);
+            writeVarInt(out, count);
+            writeVarInt(out, image.networkIds().length);
+            for (UUID networkId : image.networkIds()) {
+                out.writeLong(networkId.getMostSignificantBits());
+                out.writeLong(networkId.getLeastSignificantBits());
+            }
+            int[] coordinates = image.coordinates();
+            int px = 0;
+            int py = 0;
+            int pz = 0;
+            for (int i = 0; i < count; i++) {
+                UUID id = image.nodeIds()[i];
+                out.writeLong(id.getMostSignificantBits());
+                out.writeLong(id.getLeastSignificantBits());
+                int x = coordinates[i * 3];
+                int y = coordinates[i * 3 + 1];
+                int z = coordinates[i * 3 + 2];
+                writeVarInt(out, zigzag(x - px));
+                writeVarInt(out, zigzag(y - py));
+                writeVarInt(out, zigzag(z - pz));
+                px = x;
+                py = y;
+                pz = z;
+                out.writeByte(image.faces()[i]);
+                writeVarInt(out, image.nodeNetworks()[i]);
+            }
+            int[] offsets = image.edgeOffsets();
+            int[] targets = image.edgeTargets();
+            for (int i = 0; i < count; i++) {
+                writeVarInt(out, offsets[i + 1] - offsets[i]);
+                int previous = i;
+                for (int e = offsets[i]; e < offsets[i + 1]; e++) {
+                    writeVarInt(out, targets[e] - previous);
+                    previous = targets[e];
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static NetworkTopologyImage decode(NetworkType type, UUID worldId, byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int format = in.readUnsignedByte();
+            if (format != FORMAT) {
+                throw new IllegalStateException("Unknown wiring format " + format);
+            }
+            int count = readVarInt(in);
+            UUID[] networkIds = new UUID[readVarInt(in)];
+            for (int i = 0; i < networkIds.length; i++) {
+                networkIds[i] = new UUID(in.readLong(), in.readLong());
+            }
+            UUID[] nodeIds = new UUID[count];
+            int[] coordinates = new int[count * 3];
+            byte[] faces = new byte[count];
+            int[] nodeNetworks = new int[count];
+            int px = 0;
+            int py = 0;
+            int pz = 0;
+            for (int i = 0; i < count; i++) {
+                nodeIds[i] = new UUID(in.readLong(), in.readLong());
+                px += unzigzag(readVarInt(in));
+                py += unzigzag(readVarInt(in));
+                pz += unzigzag(readVarInt(in));
+                coordinates[i * 3] = px;
+                coordinates[i * 3 + 1] = py;
+                coordinates[i * 3 + 2] = pz;
+                faces[i] = in.readByte();
+                int network = readVarInt(in);
+                if (network >= networkIds.length) {
+                    throw new IllegalStateException("Network index out of range: " + network);
+                }
+                nodeNetworks[i] = network;
+            }
+            int[] edgeOffsets = new int[count + 1];
+            int[] edgeTargets = new int[Math.max(16, count)];
+            int edges = 0;
+            for (int i = 0; i < count; i++) {
+                int degree = readVarInt(in);
+                int previous = i;
+                for (int d = 0; d < degree; d++) {
+                    int target = previous + readVarInt(in);
+                    if (target <= i || target >= count) {
+                        throw new IllegalStateException("Edge target out of range: " + target);
+                    }
+                    if (edges == edgeTargets.length) {
+                        edgeTargets = Arrays.copyOf(edgeTargets, edges * 2);
+                    }
+                    edgeTargets[edges++] = target;
+                    previous = target;
+                }
+                edgeOffsets[i + 1] = edges;
+            }
+            return new NetworkTopologyImage(type, worldId, nodeIds, coordinates, faces, networkIds, nodeNetworks,
+                    edgeOffsets, Arrays.copyOf(edgeTargets, edges));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -60,19 +60,8 @@ public final class WireConnectionEvaluator implements ConnectionPredicate {
             Location loc = targetBlock.getLocation();
             Optional<MultiblockInstance> multiblockOpt = instanceRegistry.getInstanceAt(loc);
             if (multiblockOpt.isPresent()) {
-                MultiblockInstance instance = multiblockOpt.get();
-                // Check if targetBlock is a formally resolved IOPort / PortDefinition
-                boolean isPort = portResolutionService.resolveAll(instance).stream()
-                        .anyMatch(resolved -> resolved.location() != null
-                                && resolved.location().getBlockX() == targetBlock.getX()
-                                && resolved.location().getBlockY() == targetBlock.getY()
-                                && resolved.location().getBlockZ() == targetBlock.getZ());
-                
-                // If it is part of a multiblock but NOT a formal IO Port (e.g. casing/decorative block), reject!
-                if (!isPort) {
-                    return false;
-                }
-                return true;
+                // Only formally declared ports accept wires; casing and decorative blocks do not
+                return portResolutionService.portAt(multiblockOpt.get(), loc).isPresent();
             }
         }
 
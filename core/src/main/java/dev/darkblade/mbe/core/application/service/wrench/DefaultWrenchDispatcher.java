@@ -5,7 +5,6 @@ import dev.darkblade.mbe.api.addon.AddonException;
 import dev.darkblade.mbe.api.i18n.I18nService;
 import dev.darkblade.mbe.api.i18n.MessageKey;
 import dev.darkblade.mbe.api.i18n.message.CoreMessageKeys;
-import dev.darkblade.mbe.api.item.ItemInstance;
 import dev.darkblade.mbe.api.item.ItemKey;
 import dev.darkblade.mbe.api.item.ItemKeys;
 import dev.darkblade.mbe.api.message.MessageChannel;
@@ -387,10 +386,9 @@ public final class DefaultWrenchDispatcher implements WrenchDispatcher {
         if (core == null) {
             return;
         }
-        core.debug(
-                "Wrench stage",
+        core.debug("Wrench stage", () -> new LogKv[] {
                 LogKv.kv("stage", stage == null ? "unknown" : stage.getClass().getSimpleName())
-        );
+        });
     }
 
     private void debugResult(WrenchResult result) {
@@ -399,11 +397,10 @@ public final class DefaultWrenchDispatcher implements WrenchDispatcher {
         if (core == null || result == null) {
             return;
         }
-        core.debug(
-                "Wrench result",
+        core.debug("Wrench result", () -> new LogKv[] {
                 LogKv.kv("type", result.type().name()),
                 LogKv.kv("messageKey", result.messageKey() == null ? "" : result.messageKey())
-        );
+        });
     }
 
     private final class PreValidationStage implements WrenchPipelineStage {
@@ -917,16 +914,12 @@ public final class DefaultWrenchDispatcher implements WrenchDispatcher {
         if (stack == null || stack.getType().isAir()) {
             return false;
         }
-        ItemInstance instance;
+        ItemKey key;
         try {
-            instance = itemStackBridge.fromItemStack(stack);
+            key = itemStackBridge.keyOf(stack);
         } catch (Throwable t) {
             return false;
         }
-        if (instance == null || instance.definition() == null) {
-            return false;
-        }
-        ItemKey key = instance.definition().key();
         return WRENCH_KEY.equals(key);
     }
 
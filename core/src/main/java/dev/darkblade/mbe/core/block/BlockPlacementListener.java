@@ -3,6 +3,7 @@ package dev.darkblade.mbe.core.block;
 import dev.darkblade.mbe.api.block.BlockDefinition;
 import dev.darkblade.mbe.api.block.BlockKey;
 import dev.darkblade.mbe.api.block.BlockRegistry;
+import dev.darkblade.mbe.api.compat.SchedulerCompatService;
 import dev.darkblade.mbe.core.application.service.MultiblockRuntimeService;
 import dev.darkblade.mbe.core.domain.MultiblockInstance;
 import dev.darkblade.mbe.core.domain.MultiblockType;
@@ -23,17 +24,20 @@ public class BlockPlacementListener implements Listener {
     private final BlockRegistry blockRegistry;
     private final MultiblockRuntimeService runtimeService;
     private final AssemblyCoordinator assemblyCoordinator;
+    private final SchedulerCompatService scheduler;
 
     public BlockPlacementListener(
             BlockItemService blockItemService,
             BlockRegistry blockRegistry,
             MultiblockRuntimeService runtimeService,
-            AssemblyCoordinator assemblyCoordinator
+            AssemblyCoordinator assemblyCoordinator,
+            SchedulerCompatService scheduler
     ) {
         this.blockItemService = blockItemService;
         this.blockRegistry = blockRegistry;
         this.runtimeService = runtimeService;
         this.assemblyCoordinator = assemblyCoordinator;
+        this.scheduler = scheduler;
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -60,8 +64,8 @@ public class BlockPlacementListener implements Listener {
 
         if (autoAssemble) {
             final MultiblockType fType = type;
-            org.bukkit.Bukkit.getScheduler().runTask(
-                org.bukkit.plugin.java.JavaPlugin.getProvidingPlugin(getClass()),
+            scheduler.runAt(
+                block.getLocation(),
                 () -> {
                     MultiblockInstance instance = new MultiblockInstance(fType, block.getLocation(), org.bukkit.block.BlockFace.NORTH);
                     if (fType.defaultVariables() != null) {
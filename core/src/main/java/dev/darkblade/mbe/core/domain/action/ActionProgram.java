@@ -0,0 +1,448 @@
+package dev.darkblade.mbe.core.domain.action;
+
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.domain.MultiblockState;
+import dev.darkblade.mbe.core.domain.VariableLayout;
+import dev.darkblade.mbe.core.domain.condition.Condition;
+import dev.darkblade.mbe.core.domain.condition.PlayerPermissionCondition;
+import dev.darkblade.mbe.core.domain.condition.PlayerSneakingCondition;
+import dev.darkblade.mbe.core.domain.condition.StateCondition;
+import dev.darkblade.mbe.core.domain.condition.VariableCondition;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An action list compiled against the variable layout of its type. Variable actions are turned
+ * into direct slot reads and writes, adjacent writes to the same variable are merged, and
+ * conditionals whose outcome is known at compile time are replaced by the branch they take.
+ * Actions the compiler does not know are called as they are.
+ *
+ * <p>Every top-level step is isolated: a failing step is reported to the {@link FailureHandler}
+ * and execution continues with the next one. Branches that were inlined count as top-level.
+ */
+public final class ActionProgram {
+
+    @FunctionalInterface
+    public interface FailureHandler {
+        void onFailure(Action action, MultiblockInstance instance, Throwable error);
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run(MultiblockInstance instance, Player player);
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        boolean test(MultiblockInstance instance, Player player);
+    }
+
+    private static final ActionProgram EMPTY = new ActionProgram(List.of(), VariableLayout.EMPTY, new Step[0], new Action[0]);
+
+    private final List<Action> actions;
+    private final VariableLayout layout;
+    private final Step[] steps;
+    private final Action[] sources;
+
+    private ActionProgram(List<Action> actions, VariableLayout layout, Step[] steps, Action[] sources) {
+        this.actions = actions;
+        this.layout = layout;
+        this.steps = steps;
+        this.sources = sources;
+    }
+
+    /**
+     * Compiles {@code actions} for instances using {@code layout}. When {@code playerless} is set
+     * the program is only ever run without a player, so player conditions are folded to false.
+     */
+    public static ActionProgram compile(List<Action> actions, VariableLayout layout, boolean playerless) {
+        if (actions == null || actions.isEmpty()) {
+            return EMPTY;
+        }
+        Compiler compiler = new Compiler(Objects.requireNonNull(layout, "layout"), playerless);
+        List<Node> nodes = new ArrayList<>();
+        compiler.compileInto(actions, nodes);
+        Step[] steps = new Step[nodes.size()];
+        Action[] sources = new Action[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            steps[i] = nodes.get(i).toStep();
+            sources[i] = nodes.get(i).source;
+        }
+        return new ActionProgram(List.copyOf(actions), layout, steps, sources);
+    }
+
+    public boolean isEmpty() {
+        return steps.length == 0;
+    }
+
+    public int stepCount() {
+        return steps.length;
+    }
+
+    public void execute(MultiblockInstance instance, Player player, FailureHandler onFailure) {
+        if (instance.variableLayout() != layout) {
+            // Instance not rebound to the current definition yet: run the source actions
+            interpret(instance, player, onFailure);
+            return;
+        }
+        int i = 0;
+        while (i < steps.length) {
+            try {
+                for (; i < steps.length; i++) {
+                    steps[i].run(instance, player);
+                }
+            } catch (Throwable t) {
+                onFailure.onFailure(sources[i], instance, t);
+                i++;
+            }
+        }
+    }
+
+    private void interpret(MultiblockInstance instance, Player player, FailureHandler onFailure) {
+        for (Action action : actions) {
+            try {
+                invoke(action, instance, player);
+            } catch (Throwable t) {
+                onFailure.onFailure(action, instance, t);
+            }
+        }
+    }
+
+    private static void invoke(Action action, MultiblockInstance instance, Player player) {
+        if (player != null) {
+            action.execute(instance, player);
+        } else {
+            action.execute(instance);
+        }
+    }
+
+    private static Action unwrap(Action action) {
+        while (action instanceof Action.Owned owned) {
+            action = owned.delegate();
+        }
+        return action;
+    }
+
+    private static Condition unwrap(Condition condition) {
+        while (condition instanceof Condition.Owned owned) {
+            condition = owned.delegate();
+        }
+        return condition;
+    }
+
+    private static double apply(ModifyVariableAction.Operation operation, double value, double amount) {
+        return switch (operation) {
+            case ADD -> value + amount;
+            case SUBTRACT -> value - amount;
+            case MULTIPLY -> value * amount;
+            case DIVIDE -> amount != 0 ? value / amount : value;
+        };
+    }
+
+    private static void storeNumber(MultiblockInstance instance, int slot, double value) {
+        if (value == (long) value) {
+            instance.setLong(slot, (long) value);
+        } else {
+            instance.setDouble(slot, value);
+        }
+    }
+
+    private static Step sequence(Step[] steps) {
+        return switch (steps.length) {
+            case 0 -> (instance, player) -> {};
+            case 1 -> steps[0];
+            default -> (instance, player) -> {
+                for (Step step : steps) {
+                    step.run(instance, player);
+                }
+            };
+        };
+    }
+
+    private abstract static class Node {
+        final Action source;
+
+        Node(Action source) {
+            this.source = source;
+        }
+
+        abstract Step toStep();
+    }
+
+    private static final class CallNode extends Node {
+        CallNode(Action source) {
+            super(source);
+        }
+
+        @Override
+        Step toStep() {
+            Action action = source;
+            return (instance, player) -> invoke(action, instance, player);
+        }
+    }
+
+    /**
+     * A write to a declared variable. Consecutive writes to the same slot collapse into one node.
+     */
+    private static final class SlotNode extends Node {
+        final int slot;
+        final boolean integral;
+        // Either a constant assignment, or an arithmetic update of the current value
+        boolean assign;
+        Object value;
+        ModifyVariableAction.Operation operation;
+        double amount;
+        // The signed increments summed into amount, once two or more were merged
+        double[] increments;
+
+        SlotNode(Action source, int slot, boolean integral) {
+            super(source);
+            this.slot = slot;
+            this.integral = integral;
+        }
+
+        /**
+         * Folds {@code next} into this node when the result is unchanged; returns false otherwise.
+         */
+        boolean merge(Action next, int nextSlot) {
+            if (nextSlot != slot) {
+                return false;
+            }
+            if (next instanceof SetVariableAction set) {
+                assign = true;
+                value = set.value();
+                return true;
+            }
+            if (!(next instanceof ModifyVariableAction modify)) {
+                return false;
+            }
+            if (assign) {
+                if (!(value instanceof Number number)) {
+                    return false;
+                }
+                double folded = apply(modify.operation(), number.doubleValue(), modify.amount());
+                value = folded == (long) folded ? (Object) (long) folded : (Object) folded;
+                return true;
+            }
+            // Only whole increments of integer variables are summed. The step checks at run time
+            // that the current value is whole too, and otherwise adds them one by one.
+            if (!integral || !isWholeIncrement(operation, amount) || !isWholeIncrement(modify.operation(), modify.amount())) {
+                return false;
+            }
+            double first = signed(operation, amount);
+            double added = signed(modify.operation(), modify.amount());
+            if (Math.abs(first + added) >= 0x1p52) {
+                return false;
+            }
+            if (increments == null) {
+                increments = new double[] { first, added };
+            } else {
+                increments = Arrays.copyOf(increments, increments.length + 1);
+                increments[increments.length - 1] = added;
+            }
+            amount = first + added;
+            operation = ModifyVariableAction.Operation.ADD;
+            return true;
+        }
+
+        private static boolean isWholeIncrement(ModifyVariableAction.Operation operation, double amount) {
+            return (operation == ModifyVariableAction.Operation.ADD || operation == ModifyVariableAction.Operation.SUBTRACT)
+                    && amount == Math.rint(amount) && Math.abs(amount) < 0x1p52;
+        }
+
+        private static double signed(ModifyVariableAction.Operation operation, double amount) {
+            return operation == ModifyVariableAction.Operation.SUBTRACT ? -amount : amount;
+        }
+
+        @Override
+        Step toStep() {
+            int target = slot;
+            if (assign) {
+                Object constant = value;
+                if (constant instanceof Long l) {
+                    long v = l;
+                    return (instance, player) -> instance.setLong(target, v);
+                }
+                if (constant instanceof Double d) {
+                    double v = d;
+                    return (instance, player) -> instance.setDouble(target, v);
+                }
+                return (instance, player) -> instance.setVariable(target, constant);
+            }
+            ModifyVariableAction.Operation op = operation;
+            double delta = amount;
+            if (increments != null) {
+                double[] parts = increments;
+                return (instance, player) -> {
+                    double current = instance.getNumber(target, 0);
+                    if (current == Math.rint(current) && Math.abs(current) < 0x1p52) {
+                        storeNumber(instance, target, current + delta);
+                        return;
+                    }
+                    for (double part : parts) {
+                        current += part;
+                    }
+                    storeNumber(instance, target, current);
+                };
+            }
+            return switch (op) {
+                case ADD -> (instance, player) -> storeNumber(instance, target, instance.getNumber(target, 0) + delta);
+                case SUBTRACT -> (instance, player) -> storeNumber(instance, target, instance.getNumber(target, 0) - delta);
+                case MULTIPLY -> (instance, player) -> storeNumber(instance, target, instance.getNumber(target, 0) * delta);
+                case DIVIDE -> (instance, player) -> storeNumber(instance, target, apply(op, instance.getNumber(target, 0), delta));
+            };
+        }
+    }
+
+    private static final class BranchNode extends Node {
+        final Check[] checks;
+        final Step thenStep;
+        final Step elseStep;
+
+        BranchNode(Action source, Check[] checks, Step thenStep, Step elseStep) {
+            super(source);
+            this.checks = checks;
+            this.thenStep = thenStep;
+            this.elseStep = elseStep;
+        }
+
+        @Override
+        Step toStep() {
+            Check[] all = checks;
+            Step onTrue = thenStep;
+            Step onFalse = elseStep;
+            if (all.length == 1) {
+                Check only = all[0];
+                return (instance, player) -> (only.test(instance, player) ? onTrue : onFalse).run(instance, player);
+            }
+            return (instance, player) -> {
+                for (Check check : all) {
+                    if (!check.test(instance, player)) {
+                        onFalse.run(instance, player);
+                        return;
+                    }
+                }
+                onTrue.run(instance, player);
+            };
+        }
+    }
+
+    private static final class Compiler {
+        private final VariableLayout layout;
+        private final boolean playerless;
+
+        Compiler(VariableLayout layout, boolean playerless) {
+            this.layout = layout;
+            this.playerless = playerless;
+        }
+
+        /**
+         * Appends the nodes for {@code actions}. Nodes appended at the top level become isolated
+         * steps; nested ones run inside the step of their enclosing conditional.
+         */
+        void compileInto(List<Action> actions, List<Node> out) {
+            for (Action action : actions) {
+                if (action == null) {
+                    continue;
+                }
+                Action inner = unwrap(action);
+                int slot = slotOf(inner);
+                if (slot >= 0) {
+                    Node last = out.isEmpty() ? null : out.get(out.size() - 1);
+                    if (last instanceof SlotNode slotNode && slotNode.merge(inner, slot)) {
+                        continue;
+                    }
+                    SlotNode node = new SlotNode(action, slot, layout.isIntegral(slot));
+                    if (inner instanceof SetVariableAction set) {
+                        node.assign = true;
+                        node.value = set.value();
+                    } else {
+                        ModifyVariableAction modify = (ModifyVariableAction) inner;
+                        node.operation = modify.operation();
+                        node.amount = modify.amount();
+                    }
+                    out.add(node);
+                    continue;
+                }
+                if (inner instanceof ConditionalAction conditional) {
+                    compileConditional(action, conditional, out);
+                    continue;
+                }
+                out.add(new CallNode(action));
+            }
+        }
+
+        private void compileConditional(Action source, ConditionalAction conditional, List<Node> out) {
+            List<Check> checks = new ArrayList<>();
+            boolean alwaysFalse = false;
+            for (Condition condition : conditional.conditions()) {
+                Condition inner = unwrap(condition);
+                if (playerless && (inner instanceof PlayerSneakingCondition || inner instanceof PlayerPermissionCondition)) {
+                    alwaysFalse = true;
+                    break;
+                }
+                checks.add(compileCheck(condition, inner));
+            }
+            if (alwaysFalse || checks.isEmpty()) {
+                // Outcome known at compile time: splice the taken branch in place
+                compileInto(alwaysFalse ? conditional.elseActions() : conditional.thenActions(), out);
+                return;
+            }
+            out.add(new BranchNode(source, checks.toArray(new Check[0]),
+                    block(conditional.thenActions()), block(conditional.elseActions())));
+        }
+
+        private Step block(List<Action> actions) {
+            List<Node> nodes = new ArrayList<>();
+            compileInto(actions, nodes);
+            Step[] steps = new Step[nodes.size()];
+            for (int i = 0; i < steps.length; i++) {
+                steps[i] = nodes.get(i).toStep();
+            }
+            return sequence(steps);
+        }
+
+        private Check compileCheck(Condition condition, Condition inner) {
+            if (inner instanceof StateCondition state) {
+                MultiblockState required = state.requiredState();
+                return (instance, player) -> instance.state() == required;
+            }
+            if (inner instanceof VariableCondition variable && variable.expectedValue() instanceof Number expected) {
+                int slot = layout.slot(variable.variable());
+                if (slot >= 0) {
+                    double bound = expected.doubleValue();
+                    VariableCondition.Comparison comparison = variable.comparison();
+                    return (instance, player) -> {
+                        if (!instance.isNumber(slot)) {
+                            return variable.check(instance);
+                        }
+                        double value = instance.getNumber(slot, 0);
+                        return switch (comparison) {
+                            case EQUALS -> value == bound;
+                            case NOT_EQUALS -> value != bound;
+                            case GREATER -> value > bound;
+                            case LESS -> value < bound;
+                            case GREATER_OR_EQUAL -> value >= bound;
+                            case LESS_OR_EQUAL -> value <= bound;
+                        };
+                    };
+                }
+            }
+            return condition::check;
+        }
+
+        private int slotOf(Action inner) {
+            if (inner instanceof ModifyVariableAction modify) {
+                return layout.slot(modify.key());
+            }
+            if (inner instanceof SetVariableAction set) {
+                return layout.slot(set.key());
+            }
+            return -1;
+        }
+    }
+}
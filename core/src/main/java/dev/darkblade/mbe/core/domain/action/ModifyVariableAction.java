@@ -1,26 +1,46 @@
 package dev.darkblade.mbe.core.domain.action;
 
 import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.domain.VariableRef;
 
-public record ModifyVariableAction(String key, double amount, Operation operation) implements Action {
+import java.util.Objects;
+
+public record ModifyVariableAction(String key, double amount, Operation operation, VariableRef ref) implements Action {
     public enum Operation {
         ADD, SUBTRACT, MULTIPLY, DIVIDE
     }
 
+    public ModifyVariableAction {
+        if (ref == null || !Objects.equals(ref.name(), key)) {
+            ref = new VariableRef(key);
+        }
+    }
+
+    public ModifyVariableAction(String key, double amount, Operation operation) {
+        this(key, amount, operation, null);
+    }
+
     @Override
     public void execute(MultiblockInstance instance) {
+        int slot = ref.slot(instance.variableLayout());
+        if (slot >= 0) {
+            // Declared variable: read and write the slot directly, no boxing
+            double newVal = apply(instance.getNumber(slot, 0));
+            if (newVal == (long) newVal) {
+                instance.setLong(slot, (long) newVal);
+            } else {
+                instance.setDouble(slot, newVal);
+            }
+            return;
+        }
+
         Object current = instance.getVariable(key);
         double val = 0;
         if (current instanceof Number n) {
             val = n.doubleValue();
         }
         
-        double newVal = switch (operation) {
-            case ADD -> val + amount;
-            case SUBTRACT -> val - amount;
-            case MULTIPLY -> val * amount;
-            case DIVIDE -> amount != 0 ? val / amount : val;
-        };
+        double newVal = apply(val);
         
         // Store as Integer if it was an Integer/whole number to keep it clean, else Double
         if (newVal == (long) newVal) {
@@ -29,4 +49,13 @@ public record ModifyVariableAction(String key, double amount, Operation operatio
             instance.setVariable(key, newVal);
         }
     }
+
+    private double apply(double val) {
+        return switch (operation) {
+            case ADD -> val + amount;
+            case SUBTRACT -> val - amount;
+            case MULTIPLY -> val * amount;
+            case DIVIDE -> amount != 0 ? val / amount : val;
+        };
+    }
 }
@@ -34,6 +34,7 @@ import org.bukkit.Location;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.block.data.Directional;
+import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
@@ -45,10 +46,12 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class AssemblyCoordinator {
 
     private static final BlockFace[] ROTATIONS = new BlockFace[] { BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST };
+    private static final LogScope CORE_SCOPE = new LogScope.Core();
 
     private final MultiblockRuntimeService manager;
     private final AssemblyTriggerRegistry triggers;
@@ -56,6 +59,7 @@ public final class AssemblyCoordinator {
     private final AssemblyReportService reportService;
     private final boolean assemblyDebugEnabled;
     private final List<AssemblyStep> pipelineSteps;
+    private final Set<UUID> reportRequests = ConcurrentHashMap.newKeySet();
     private MultiblockLimitService limitService;
 
     public AssemblyCoordinator(
@@ -92,46 +96,70 @@ public final class AssemblyCoordinator {
         return reportService.get(playerId);
     }
 
+    /**
+     * Records a full trace for the player's next implicit assembly attempt (interaction or
+     * block placement). The request is consumed by that attempt, or dropped by
+     * {@link #clearReportRequest(UUID)} when the player leaves first.
+     */
+    public void requestReports(UUID playerId) {
+        if (playerId != null) {
+            reportRequests.add(playerId);
+        }
+    }
+
+    public void clearReportRequest(UUID playerId) {
+        if (playerId != null) {
+            reportRequests.remove(playerId);
+        }
+    }
+
     public void setLimitService(MultiblockLimitService limitService) {
         this.limitService = limitService;
     }
 
     public AssemblyReport tryAssemble(InteractionIntent intent) {
-        AssemblyTraceCollector trace = new AssemblyTraceCollector();
+        AssemblyTraceCollector trace = implicitTrace(intent == null ? null : intent.player());
         if (intent == null || intent.targetBlock() == null) {
             trace.add("interaction_target", false, "No interaction target", Map.of());
-            return finalizeReport(null, AssemblyReport.fail("no_interaction_target", Map.of(), trace.getTrace()), null);
+            return finalizeReport(null, AssemblyReport.fail("no_interaction_target", Map.of(), trace.getTrace()), null, trace);
+        }
+        if (trace.enabled()) {
+            trace.add("interaction_target", true, "Interaction target resolved", Map.of(
+                    "x", intent.targetBlock().getX(),
+                    "y", intent.targetBlock().getY(),
+                    "z", intent.targetBlock().getZ()
+            ));
         }
-        trace.add("interaction_target", true, "Interaction target resolved", Map.of(
-                "x", intent.targetBlock().getX(),
-                "y", intent.targetBlock().getY(),
-                "z", intent.targetBlock().getZ()
-        ));
         AssemblyContext context = new AssemblyContext(intent.player(), intent.targetBlock(), intent);
         return tryAssembleAtInternal(intent.targetBlock(), context, trace);
     }
 
     public AssemblyReport attemptAssembly(AssemblyContext context) {
-        AssemblyTraceCollector trace = new AssemblyTraceCollector();
+        AssemblyTraceCollector trace = AssemblyTraceCollector.recording();
         AssemblyContext safeContext = ensureContext(context);
         Block controller = safeContext.origin();
         if (controller == null) {
             trace.add("controller_check", false, "No controller block", Map.of());
-            return finalizeReport(safeContext, AssemblyReport.fail("no_controller_block", Map.of(), trace.getTrace()), null);
+            return finalizeReport(safeContext, AssemblyReport.fail("no_controller_block", Map.of(), trace.getTrace()), null, trace);
+        }
+        if (trace.enabled()) {
+            trace.add("controller_check", true, "Controller block resolved", Map.of(
+                    "x", controller.getX(),
+                    "y", controller.getY(),
+                    "z", controller.getZ()
+            ));
         }
-        trace.add("controller_check", true, "Controller block resolved", Map.of(
-                "x", controller.getX(),
-                "y", controller.getY(),
-                "z", controller.getZ()
-        ));
         Optional<MultiblockInstance> existing = manager.getInstanceAt(controller.getLocation());
         if (existing.isPresent()) {
             String multiblockId = existing.get().type().id().toString();
-            trace.add("existing_instance", false, "Instance already exists", Map.of("multiblockId", multiblockId));
+            if (trace.enabled()) {
+                trace.add("existing_instance", false, "Instance already exists", Map.of("multiblockId", multiblockId));
+            }
             return finalizeReport(
                     safeContext,
                     AssemblyReport.fail("instance_exists", Map.of("multiblockId", multiblockId), trace.getTrace()),
-                    controller.getLocation()
+                    controller.getLocation(),
+                    trace
             );
         }
         List<MultiblockCandidate> candidates = new ArrayList<>();
@@ -144,28 +172,33 @@ public final class AssemblyCoordinator {
     }
 
     public AssemblyReport tryAssembleAt(Block controller, AssemblyContext context) {
-        return tryAssembleAtInternal(controller, context, new AssemblyTraceCollector());
+        return tryAssembleAtInternal(controller, context, AssemblyTraceCollector.recording());
     }
 
     private AssemblyReport tryAssembleAtInternal(Block controller, AssemblyContext context, AssemblyTraceCollector trace) {
         if (controller == null) {
             trace.add("controller_check", false, "No controller block", Map.of());
-            return finalizeReport(context, AssemblyReport.fail("no_controller_block", Map.of(), trace.getTrace()), null);
+            return finalizeReport(context, AssemblyReport.fail("no_controller_block", Map.of(), trace.getTrace()), null, trace);
+        }
+        if (trace.enabled()) {
+            trace.add("controller_check", true, "Controller block resolved", Map.of(
+                    "x", controller.getX(),
+                    "y", controller.getY(),
+                    "z", controller.getZ()
+            ));
         }
-        trace.add("controller_check", true, "Controller block resolved", Map.of(
-                "x", controller.getX(),
-                "y", controller.getY(),
-                "z", controller.getZ()
-        ));
 
         Optional<MultiblockInstance> existing = manager.getInstanceAt(controller.getLocation());
         if (existing.isPresent()) {
             String multiblockId = existing.get().type().id().toString();
-            trace.add("existing_instance", false, "Instance already exists", Map.of("multiblockId", multiblockId));
+            if (trace.enabled()) {
+                trace.add("existing_instance", false, "Instance already exists", Map.of("multiblockId", multiblockId));
+            }
             return finalizeReport(
                     context,
                     AssemblyReport.fail("instance_exists", Map.of("multiblockId", multiblockId), trace.getTrace()),
-                    controller.getLocation()
+                    controller.getLocation(),
+                    trace
             );
         }
 
@@ -180,11 +213,11 @@ public final class AssemblyCoordinator {
     }
 
     public AssemblyReport tryAssembleTypeAt(MultiblockType type, Block controller, AssemblyContext context) {
-        AssemblyTraceCollector trace = new AssemblyTraceCollector();
+        AssemblyTraceCollector trace = AssemblyTraceCollector.recording();
         Objects.requireNonNull(type, "type");
         if (controller == null) {
             trace.add("controller_check", false, "No controller block", Map.of("multiblockId", type.id().toString()));
-            return finalizeReport(context, AssemblyReport.fail("no_controller_block", Map.of("multiblockId", type.id().toString()), trace.getTrace()), null);
+            return finalizeReport(context, AssemblyReport.fail("no_controller_block", Map.of("multiblockId", type.id().toString()), trace.getTrace()), null, trace);
         }
         AssemblyContext safeContext = ensureContext(context);
         List<MultiblockCandidate> candidates = List.of(new MultiblockCandidate(type, controller, resolveTriggerId(type), false));
@@ -192,22 +225,24 @@ public final class AssemblyCoordinator {
     }
 
     public AssemblyReport tryAssembleFromPlacedBlock(Block placedBlock, AssemblyContext context) {
-        AssemblyTraceCollector trace = new AssemblyTraceCollector();
+        AssemblyTraceCollector trace = implicitTrace(context == null ? null : context.player());
         if (placedBlock == null) {
             trace.add("placed_block_check", false, "No placed block", Map.of());
-            return finalizeReport(context, AssemblyReport.fail("no_placed_block", Map.of(), trace.getTrace()), null);
+            return finalizeReport(context, AssemblyReport.fail("no_placed_block", Map.of(), trace.getTrace()), null, trace);
         }
 
         AssemblyContext safeContext = ensureContext(context);
-        String requiredTrigger = AssemblyTriggerType.ON_FINAL_BLOCK_PLACED.id();
-        trace.add("trigger_requirement", true, "Required trigger selected", Map.of("trigger", requiredTrigger));
+        String requiredTrigger = normalize(AssemblyTriggerType.ON_FINAL_BLOCK_PLACED.id());
+        if (trace.enabled()) {
+            trace.add("trigger_requirement", true, "Required trigger selected", Map.of("trigger", requiredTrigger));
+        }
         List<MultiblockCandidate> candidates = new ArrayList<>();
         for (MultiblockType type : manager.getTypesDeterministic()) {
             if (type == null) {
                 continue;
             }
             String triggerId = resolveTriggerId(type);
-            if (!normalize(requiredTrigger).equals(triggerId)) {
+            if (!requiredTrigger.equals(triggerId)) {
                 continue;
             }
             Set<Location> controllers = candidateControllersForPlacedBlock(placedBlock, type);
@@ -232,10 +267,12 @@ public final class AssemblyCoordinator {
                 continue;
             }
             pipelineContext.resetForCandidate(candidate);
-            trace.add("candidate_select", true, "Evaluating candidate", Map.of(
-                    "multiblockId", candidate.type().id().toString(),
-                    "trigger", candidate.triggerId()
-            ));
+            if (trace.enabled()) {
+                trace.add("candidate_select", true, "Evaluating candidate", Map.of(
+                        "multiblockId", candidate.type().id().toString(),
+                        "trigger", candidate.triggerId()
+                ));
+            }
             for (AssemblyStep step : pipelineSteps) {
                 AssemblyStepResult result = step.execute(pipelineContext, trace);
                 if (result.type() == AssemblyStepResultType.CONTINUE) {
@@ -244,17 +281,17 @@ public final class AssemblyCoordinator {
                 if (result.type() == AssemblyStepResultType.FAIL) {
                     String reason = result.reasonKey() == null ? "assembly_failed" : result.reasonKey();
                     AssemblyReport report = AssemblyReport.fail(reason, result.data(), trace.getTrace());
-                    return finalizeReport(context, report, candidate.controller().getLocation());
+                    return finalizeReport(context, report, candidate.controller().getLocation(), trace);
                 }
                 if (result.type() == AssemblyStepResultType.SUCCESS) {
                     AssemblyReport report = AssemblyReport.success(trace.getTrace());
-                    return finalizeReport(context, report, candidate.controller().getLocation());
+                    return finalizeReport(context, report, candidate.controller().getLocation(), trace);
                 }
             }
         }
         trace.add("pipeline_end", false, "No multiblock matched", Map.of());
         AssemblyReport report = AssemblyReport.fail("no_multiblock_matched", Map.of(), trace.getTrace());
-        return finalizeReport(context, report, fallbackLocation);
+        return finalizeReport(context, report, fallbackLocation, trace);
     }
 
     private List<BlockFace> facingCandidates(Block controller) {
@@ -334,8 +371,22 @@ public final class AssemblyCoordinator {
         return context;
     }
 
-    private AssemblyReport finalizeReport(AssemblyContext context, AssemblyReport report, Location controller) {
-        if (context != null && context.player() != null && report != null) {
+    private AssemblyTraceCollector implicitTrace(Player player) {
+        boolean requested = player != null && !reportRequests.isEmpty() && reportRequests.remove(player.getUniqueId());
+        if (assemblyDebugEnabled || requested) {
+            return AssemblyTraceCollector.recording();
+        }
+        return AssemblyTraceCollector.disabled();
+    }
+
+    private AssemblyReport finalizeReport(AssemblyContext context, AssemblyReport report, Location controller, AssemblyTraceCollector trace) {
+        if (report == null) {
+            return null;
+        }
+        if (!trace.enabled()) {
+            return report;
+        }
+        if (context != null && context.player() != null) {
             reportService.store(context.player().getUniqueId(), report);
         }
         logDebug(report, controller, context);
@@ -343,39 +394,42 @@ public final class AssemblyCoordinator {
     }
 
     private void logDebug(AssemblyReport report, Location controller, AssemblyContext context) {
-        if (report == null) {
+        if (log.isEnabled(CORE_SCOPE, LogLevel.DEBUG)) {
+            log.logInternal(CORE_SCOPE, LogPhase.RUNTIME, LogLevel.DEBUG, "Assembly attempt", null, new LogKv[] {
+                    LogKv.kv("success", report.success()),
+                    LogKv.kv("trigger", report.trigger()),
+                    LogKv.kv("multiblock", report.multiblockId()),
+                    LogKv.kv("reason", report.reasonKey()),
+                    LogKv.kv("x", controller != null ? controller.getBlockX() : 0),
+                    LogKv.kv("y", controller != null ? controller.getBlockY() : 0),
+                    LogKv.kv("z", controller != null ? controller.getBlockZ() : 0)
+            }, Set.of("assembly"));
+        }
+        if (!assemblyDebugEnabled) {
             return;
         }
-        log.logInternal(new LogScope.Core(), LogPhase.RUNTIME, LogLevel.DEBUG, "Assembly attempt", null, new LogKv[] {
-                LogKv.kv("success", report.success()),
-                LogKv.kv("trigger", report.trigger()),
-                LogKv.kv("multiblock", report.multiblockId()),
-                LogKv.kv("reason", report.reasonKey()),
-                LogKv.kv("x", controller != null ? controller.getBlockX() : 0),
-                LogKv.kv("y", controller != null ? controller.getBlockY() : 0),
-                LogKv.kv("z", controller != null ? controller.getBlockZ() : 0)
-        }, Set.of("assembly"));
-        if (!report.success() && assemblyDebugEnabled) {
+        if (!report.success()) {
             log.warn(
                     "assembly.failed",
                     LogKv.kv("reason", report.reasonKey() == null ? "" : report.reasonKey()),
                     LogKv.kv("player", context != null && context.player() != null ? context.player().getName() : "console")
             );
         }
-        if (assemblyDebugEnabled) {
-            int index = 1;
-            for (AssemblyStepTrace step : report.trace()) {
-                if (step == null) {
-                    continue;
-                }
-                log.logInternal(new LogScope.Core(), LogPhase.RUNTIME, LogLevel.DEBUG, "Assembly trace step", null, new LogKv[] {
-                        LogKv.kv("index", index++),
-                        LogKv.kv("step", step.step()),
-                        LogKv.kv("success", step.success()),
-                        LogKv.kv("detail", step.detail()),
-                        LogKv.kv("data", step.data())
-                }, Set.of("assembly", "trace"));
+        if (!log.isEnabled(CORE_SCOPE, LogLevel.DEBUG)) {
+            return;
+        }
+        int index = 1;
+        for (AssemblyStepTrace step : report.trace()) {
+            if (step == null) {
+                continue;
             }
+            log.logInternal(CORE_SCOPE, LogPhase.RUNTIME, LogLevel.DEBUG, "Assembly trace step", null, new LogKv[] {
+                    LogKv.kv("index", index++),
+                    LogKv.kv("step", step.step()),
+                    LogKv.kv("success", step.success()),
+                    LogKv.kv("detail", step.detail()),
+                    LogKv.kv("data", step.data())
+            }, Set.of("assembly", "trace"));
         }
     }
 
@@ -0,0 +1,20 @@
+package dev.darkblade.mbe.core.domain.assembly;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Objects;
+
+public final class AssemblyReportRequestListener implements Listener {
+    private final AssemblyCoordinator coordinator;
+
+    public AssemblyReportRequestListener(AssemblyCoordinator coordinator) {
+        this.coordinator = Objects.requireNonNull(coordinator, "coordinator");
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        coordinator.clearReportRequest(event.getPlayer().getUniqueId());
+    }
+}
@@ -2,19 +2,28 @@ package dev.darkblade.mbe.core.domain.assembly.pipeline;
 
 import dev.darkblade.mbe.api.assembly.AssemblyStepTrace;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-public final class AssemblyTraceCollector {
+/**
+ * Sink for assembly pipeline trace steps.
+ * <p>
+ * Steps should check {@link #enabled()} before building trace data so that the
+ * {@link #disabled() disabled} sink costs nothing on hot paths such as block placement.
+ */
+public interface AssemblyTraceCollector {
 
-    private final List<AssemblyStepTrace> trace = new ArrayList<>();
+    boolean enabled();
 
-    public void add(String step, boolean success, String detail, Map<String, Object> data) {
-        trace.add(new AssemblyStepTrace(step, success, detail, data));
+    void add(String step, boolean success, String detail, Map<String, Object> data);
+
+    List<AssemblyStepTrace> getTrace();
+
+    static AssemblyTraceCollector recording() {
+        return new RecordingAssemblyTraceCollector();
     }
 
-    public List<AssemblyStepTrace> getTrace() {
-        return List.copyOf(trace);
+    static AssemblyTraceCollector disabled() {
+        return DisabledAssemblyTraceCollector.INSTANCE;
     }
 }
@@ -13,12 +13,14 @@ public final class ControllerMatchStep implements AssemblyStep {
         }
         Block controller = ctx.controller();
         boolean matched = controller != null && ctx.type() != null && ctx.type().controllerMatcher().matches(controller);
-        trace.add(
-                "controller_match",
-                matched,
-                matched ? "Controller matched" : "Controller mismatch",
-                Map.of("multiblockId", ctx.multiblockId())
-        );
+        if (trace.enabled()) {
+            trace.add(
+                    "controller_match",
+                    matched,
+                    matched ? "Controller matched" : "Controller mismatch",
+                    Map.of("multiblockId", ctx.multiblockId())
+            );
+        }
         ctx.setControllerMatched(matched);
         return AssemblyStepResult.continueStep();
     }
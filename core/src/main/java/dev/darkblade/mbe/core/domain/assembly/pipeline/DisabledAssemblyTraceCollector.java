@@ -0,0 +1,28 @@
+package dev.darkblade.mbe.core.domain.assembly.pipeline;
+
+import dev.darkblade.mbe.api.assembly.AssemblyStepTrace;
+
+import java.util.List;
+import java.util.Map;
+
+final class DisabledAssemblyTraceCollector implements AssemblyTraceCollector {
+
+    static final DisabledAssemblyTraceCollector INSTANCE = new DisabledAssemblyTraceCollector();
+
+    private DisabledAssemblyTraceCollector() {
+    }
+
+    @Override
+    public boolean enabled() {
+        return false;
+    }
+
+    @Override
+    public void add(String step, boolean success, String detail, Map<String, Object> data) {
+    }
+
+    @Override
+    public List<AssemblyStepTrace> getTrace() {
+        return List.of();
+    }
+}
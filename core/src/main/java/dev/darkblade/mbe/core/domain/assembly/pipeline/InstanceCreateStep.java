@@ -28,10 +28,14 @@ public final class InstanceCreateStep implements AssemblyStep {
             if (limitService != null && ctx.player() != null) {
                 limitService.registerAssembly(ctx.player(), ctx.multiblockId());
             }
-            trace.add("instance_create", true, "Instance created", Map.of("multiblockId", ctx.multiblockId()));
+            if (trace.enabled()) {
+                trace.add("instance_create", true, "Instance created", Map.of("multiblockId", ctx.multiblockId()));
+            }
             return AssemblyStepResult.success();
         }
-        trace.add("instance_create", false, "Creation cancelled", Map.of("multiblockId", ctx.multiblockId()));
+        if (trace.enabled()) {
+            trace.add("instance_create", false, "Creation cancelled", Map.of("multiblockId", ctx.multiblockId()));
+        }
         return AssemblyStepResult.fail("creation_cancelled", Map.of("multiblockId", ctx.multiblockId()));
     }
 }
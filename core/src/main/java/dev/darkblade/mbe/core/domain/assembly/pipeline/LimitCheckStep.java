@@ -22,18 +22,22 @@ public final class LimitCheckStep implements AssemblyStep {
         Player player = ctx.player();
         MultiblockLimitService limitService = limitServiceSupplier == null ? null : limitServiceSupplier.get();
         if (player == null || limitService == null) {
-            trace.add("limit_check", true, "Limit check skipped", Map.of("multiblockId", ctx.multiblockId()));
+            if (trace.enabled()) {
+                trace.add("limit_check", true, "Limit check skipped", Map.of("multiblockId", ctx.multiblockId()));
+            }
             return AssemblyStepResult.continueStep();
         }
         boolean allowed = limitService.canAssemble(player, ctx.multiblockId());
         int current = limitService.getCurrentCount(player, ctx.multiblockId());
         int max = limitService.getLimit(player, ctx.multiblockId());
-        trace.add(
-                "limit_check",
-                allowed,
-                allowed ? "Limit check passed" : "Limit exceeded",
-                Map.of("current", current, "max", max, "multiblockId", ctx.multiblockId())
-        );
+        if (trace.enabled()) {
+            trace.add(
+                    "limit_check",
+                    allowed,
+                    allowed ? "Limit check passed" : "Limit exceeded",
+                    Map.of("current", current, "max", max, "multiblockId", ctx.multiblockId())
+            );
+        }
         if (!allowed) {
             return AssemblyStepResult.fail("limit_reached", Map.of("current", current, "max", max, "multiblockId", ctx.multiblockId()));
         }
@@ -38,12 +38,14 @@ public final class PatternMatchStep implements AssemblyStep {
                 continue;
             }
             boolean matched = patternMatches.test(controller, ctx.type(), facing);
-            trace.add(
-                    "pattern_match",
-                    matched,
-                    matched ? "Pattern matched" : "Pattern mismatch",
-                    Map.of("multiblockId", multiblockId, "facing", facing.name())
-            );
+            if (trace.enabled()) {
+                trace.add(
+                        "pattern_match",
+                        matched,
+                        matched ? "Pattern matched" : "Pattern mismatch",
+                        Map.of("multiblockId", multiblockId, "facing", facing.name())
+                );
+            }
             if (matched) {
                 ctx.setMatched(true);
                 ctx.setMatchedFacing(facing);
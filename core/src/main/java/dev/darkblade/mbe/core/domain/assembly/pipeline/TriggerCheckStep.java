@@ -19,25 +19,33 @@ public final class TriggerCheckStep implements AssemblyStep {
         String triggerId = ctx.triggerId();
         if (ctx.forceTrigger()) {
             ctx.setTriggerMatched(true);
-            trace.add("trigger_check", true, "Trigger forced", Map.of("trigger", triggerId, "multiblockId", ctx.multiblockId()));
+            if (trace.enabled()) {
+                trace.add("trigger_check", true, "Trigger forced", Map.of("trigger", triggerId, "multiblockId", ctx.multiblockId()));
+            }
             return AssemblyStepResult.continueStep();
         }
         AssemblyTrigger trigger = triggerRegistry.get(triggerId).orElse(null);
         if (trigger == null) {
-            trace.add("trigger_check", false, "Unknown trigger", Map.of("trigger", triggerId, "multiblockId", ctx.multiblockId()));
+            if (trace.enabled()) {
+                trace.add("trigger_check", false, "Unknown trigger", Map.of("trigger", triggerId, "multiblockId", ctx.multiblockId()));
+            }
             return AssemblyStepResult.continueStep();
         }
         if (!trigger.supports(ctx.assemblyContext() == null ? null : ctx.assemblyContext().intent())) {
-            trace.add("trigger_check", false, "Trigger not supported", Map.of("trigger", triggerId, "multiblockId", ctx.multiblockId()));
+            if (trace.enabled()) {
+                trace.add("trigger_check", false, "Trigger not supported", Map.of("trigger", triggerId, "multiblockId", ctx.multiblockId()));
+            }
             return AssemblyStepResult.continueStep();
         }
         boolean shouldTrigger = trigger.shouldTrigger(ctx.assemblyContext());
-        trace.add(
-                "trigger_check",
-                shouldTrigger,
-                shouldTrigger ? "Trigger executed" : "Trigger not matched",
-                Map.of("trigger", triggerId, "multiblockId", ctx.multiblockId())
-        );
+        if (trace.enabled()) {
+            trace.add(
+                    "trigger_check",
+                    shouldTrigger,
+                    shouldTrigger ? "Trigger executed" : "Trigger not matched",
+                    Map.of("trigger", triggerId, "multiblockId", ctx.multiblockId())
+            );
+        }
         ctx.setTriggerMatched(shouldTrigger);
         return AssemblyStepResult.continueStep();
     }
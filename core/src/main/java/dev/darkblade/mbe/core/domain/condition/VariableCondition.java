@@ -1,31 +1,45 @@
 package dev.darkblade.mbe.core.domain.condition;
 
 import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.domain.VariableRef;
 
-public record VariableCondition(String variable, Object expectedValue, Comparison comparison) implements Condition {
+import java.util.Objects;
+
+public record VariableCondition(String variable, Object expectedValue, Comparison comparison, VariableRef ref) implements Condition {
     
     public enum Comparison {
         EQUALS, NOT_EQUALS, GREATER, LESS, GREATER_OR_EQUAL, LESS_OR_EQUAL
     }
 
+    public VariableCondition {
+        if (ref == null || !Objects.equals(ref.name(), variable)) {
+            ref = new VariableRef(variable);
+        }
+    }
+
+    public VariableCondition(String variable, Object expectedValue, Comparison comparison) {
+        this(variable, expectedValue, comparison, null);
+    }
+
     @Override
     public boolean check(MultiblockInstance instance) {
-        Object val = instance.getVariable(variable);
+        int slot = ref.slot(instance.variableLayout());
+        if (slot < 0) {
+            return check(instance.getVariable(variable));
+        }
+        // Declared numeric variable: compare the slot without boxing
+        if (expectedValue instanceof Number expected && instance.isNumber(slot)) {
+            return compare(instance.getNumber(slot, 0), expected.doubleValue());
+        }
+        return check(instance.getVariable(slot));
+    }
+
+    private boolean check(Object val) {
         if (val == null) return expectedValue == null && comparison == Comparison.EQUALS;
         
         // Handle number conversions
         if (val instanceof Number n1 && expectedValue instanceof Number n2) {
-            double d1 = n1.doubleValue();
-            double d2 = n2.doubleValue();
-            
-            return switch (comparison) {
-                case EQUALS -> d1 == d2;
-                case NOT_EQUALS -> d1 != d2;
-                case GREATER -> d1 > d2;
-                case LESS -> d1 < d2;
-                case GREATER_OR_EQUAL -> d1 >= d2;
-                case LESS_OR_EQUAL -> d1 <= d2;
-            };
+            return compare(n1.doubleValue(), n2.doubleValue());
         }
         
         // Fallback for non-numbers (only equality/inequality)
@@ -35,4 +49,15 @@ public record VariableCondition(String variable, Object expectedValue, Compariso
             default -> false;
         };
     }
+
+    private boolean compare(double d1, double d2) {
+        return switch (comparison) {
+            case EQUALS -> d1 == d2;
+            case NOT_EQUALS -> d1 != d2;
+            case GREATER -> d1 > d2;
+            case LESS -> d1 < d2;
+            case GREATER_OR_EQUAL -> d1 >= d2;
+            case LESS_OR_EQUAL -> d1 <= d2;
+        };
+    }
 }
@@ -1,18 +1,29 @@
 package dev.darkblade.mbe.core.infrastructure.compat;
 
+import dev.darkblade.mbe.api.compat.ScheduledTask;
 import dev.darkblade.mbe.api.compat.SchedulerCompatService;
 import dev.darkblade.mbe.api.service.MBEService;
 import dev.darkblade.mbe.core.MultiBlockEngine;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 public final class BukkitSchedulerCompatService implements SchedulerCompatService, MBEService {
     private static final String SERVICE_ID = "mbe-core:compat.scheduler";
 
     private final MultiBlockEngine plugin;
+    private final RegionSchedulers regions;
 
     public BukkitSchedulerCompatService(MultiBlockEngine plugin) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.regions = RegionSchedulers.detect(plugin.getServer());
     }
 
     @Override
@@ -25,6 +36,10 @@ public final class BukkitSchedulerCompatService implements SchedulerCompatServic
         if (task == null) {
             return;
         }
+        if (regions != null) {
+            regions.runGlobal(plugin, task);
+            return;
+        }
         plugin.getServer().getScheduler().runTask(plugin, task);
     }
 
@@ -33,6 +48,152 @@ public final class BukkitSchedulerCompatService implements SchedulerCompatServic
         if (task == null) {
             return;
         }
+        if (regions != null) {
+            regions.runAsync(plugin, task);
+            return;
+        }
         plugin.getServer().getScheduler().runTaskAsynchronously(plugin, task);
     }
+
+    @Override
+    public void runAt(Location location, Runnable task) {
+        if (task == null) {
+            return;
+        }
+        if (regions != null && location != null && location.getWorld() != null) {
+            regions.runAt(plugin, location, task);
+            return;
+        }
+        runSync(task);
+    }
+
+    @Override
+    public ScheduledTask runTimer(Runnable task, long delayTicks, long periodTicks) {
+        Objects.requireNonNull(task, "task");
+        if (regions != null) {
+            return regions.runGlobalTimer(plugin, task, delayTicks, periodTicks);
+        }
+        BukkitTask bukkitTask = plugin.getServer().getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks);
+        return bukkitTask::cancel;
+    }
+
+    @Override
+    public ScheduledTask runAsyncTimer(Runnable task, long delayTicks, long periodTicks) {
+        Objects.requireNonNull(task, "task");
+        if (regions != null) {
+            return regions.runAsyncTimer(plugin, task, delayTicks, periodTicks);
+        }
+        BukkitTask bukkitTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, task, delayTicks, periodTicks);
+        return bukkitTask::cancel;
+    }
+
+    @Override
+    public void cancelAll() {
+        if (regions != null) {
+            regions.cancelAll(plugin);
+            return;
+        }
+        plugin.getServer().getScheduler().cancelTasks(plugin);
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return regions != null;
+    }
+
+    /**
+     * Schedulers of regionized servers. They are not part of the Spigot API this module compiles
+     * against, so they are resolved reflectively once and only when the server provides them.
+     */
+    private record RegionSchedulers(
+            Object regionScheduler,
+            Object globalScheduler,
+            Object asyncScheduler,
+            Method regionExecute,
+            Method globalExecute,
+            Method globalRunAtFixedRate,
+            Method globalCancelTasks,
+            Method asyncRunNow,
+            Method asyncRunAtFixedRate,
+            Method asyncCancelTasks,
+            Method taskCancel
+    ) {
+        private static final String PACKAGE = "io.papermc.paper.threadedregions";
+
+        static RegionSchedulers detect(Server server) {
+            try {
+                Class.forName(PACKAGE + ".RegionizedServer");
+            } catch (ClassNotFoundException e) {
+                return null;
+            }
+            try {
+                Class<?> regionType = Class.forName(PACKAGE + ".scheduler.RegionScheduler");
+                Class<?> globalType = Class.forName(PACKAGE + ".scheduler.GlobalRegionScheduler");
+                Class<?> asyncType = Class.forName(PACKAGE + ".scheduler.AsyncScheduler");
+                Class<?> taskType = Class.forName(PACKAGE + ".scheduler.ScheduledTask");
+                return new RegionSchedulers(
+                        Server.class.getMethod("getRegionScheduler").invoke(server),
+                        Server.class.getMethod("getGlobalRegionScheduler").invoke(server),
+                        Server.class.getMethod("getAsyncScheduler").invoke(server),
+                        regionType.getMethod("execute", Plugin.class, Location.class, Runnable.class),
+                        globalType.getMethod("execute", Plugin.class, Runnable.class),
+                        globalType.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class),
+                        globalType.getMethod("cancelTasks", Plugin.class),
+                        asyncType.getMethod("runNow", Plugin.class, Consumer.class),
+                        asyncType.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class, TimeUnit.class),
+                        asyncType.getMethod("cancelTasks", Plugin.class),
+                        taskType.getMethod("cancel")
+                );
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        void runAt(Plugin plugin, Location location, Runnable task) {
+            invoke(regionExecute, regionScheduler, plugin, location, task);
+        }
+
+        void runGlobal(Plugin plugin, Runnable task) {
+            invoke(globalExecute, globalScheduler, plugin, task);
+        }
+
+        void runAsync(Plugin plugin, Runnable task) {
+            Consumer<Object> body = ignored -> task.run();
+            invoke(asyncRunNow, asyncScheduler, plugin, body);
+        }
+
+        ScheduledTask runGlobalTimer(Plugin plugin, Runnable task, long delayTicks, long periodTicks) {
+            Consumer<Object> body = ignored -> task.run();
+            // The global region scheduler rejects delays below one tick
+            Object handle = invoke(globalRunAtFixedRate, globalScheduler, plugin, body, Math.max(1L, delayTicks), Math.max(1L, periodTicks));
+            return () -> invoke(taskCancel, handle);
+        }
+
+        ScheduledTask runAsyncTimer(Plugin plugin, Runnable task, long delayTicks, long periodTicks) {
+            Consumer<Object> body = ignored -> task.run();
+            // The async scheduler runs on wall-clock time rather than ticks
+            Object handle = invoke(asyncRunAtFixedRate, asyncScheduler, plugin, body,
+                    Math.max(0L, delayTicks) * 50L, Math.max(1L, periodTicks) * 50L, TimeUnit.MILLISECONDS);
+            return () -> invoke(taskCancel, handle);
+        }
+
+        void cancelAll(Plugin plugin) {
+            invoke(globalCancelTasks, globalScheduler, plugin);
+            invoke(asyncCancelTasks, asyncScheduler, plugin);
+        }
+
+        private static Object invoke(Method method, Object target, Object... args) {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException("Scheduler call failed: " + method.getName(), cause);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Scheduler call failed: " + method.getName(), e);
+            }
+        }
+    }
 }
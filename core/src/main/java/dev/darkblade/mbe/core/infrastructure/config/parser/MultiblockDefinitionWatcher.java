@@ -0,0 +1,157 @@
+package dev.darkblade.mbe.core.infrastructure.config.parser;
+
+import dev.darkblade.mbe.api.compat.SchedulerCompatService;
+import dev.darkblade.mbe.api.logging.CoreLogger;
+import dev.darkblade.mbe.api.logging.LogKv;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Watches the definition directories and schedules a reload on the main thread once changes to
+ * {@code .yml} files have settled for the debounce period. Editors that write a file in several
+ * steps therefore trigger a single reload.
+ */
+public final class MultiblockDefinitionWatcher implements AutoCloseable {
+
+    private final Supplier<List<File>> directories;
+    private final long debounceMillis;
+    private final SchedulerCompatService scheduler;
+    private final Runnable reload;
+    private final CoreLogger log;
+    private final Map<WatchKey, Path> keys = new ConcurrentHashMap<>();
+    private WatchService watchService;
+    private Thread thread;
+
+    public MultiblockDefinitionWatcher(Supplier<List<File>> directories, long debounceMillis, SchedulerCompatService scheduler,
+                                       Runnable reload, CoreLogger log) {
+        this.directories = Objects.requireNonNull(directories, "directories");
+        this.debounceMillis = Math.max(50L, debounceMillis);
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.reload = Objects.requireNonNull(reload, "reload");
+        this.log = Objects.requireNonNull(log, "log");
+    }
+
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            log.warn("Definition watcher unavailable", LogKv.kv("reason", e.getMessage()));
+            return;
+        }
+        for (File dir : directories.get()) {
+            if (dir != null && dir.isDirectory()) {
+                registerTree(dir.toPath());
+            }
+        }
+        thread = new Thread(this::run, "MBE-Definition-Watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Watching multiblock definitions", LogKv.kv("directories", keys.size()), LogKv.kv("debounceMs", debounceMillis));
+    }
+
+    @Override
+    public synchronized void close() {
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        thread = null;
+        try {
+            watchService.close();
+        } catch (IOException ignored) {
+        }
+        keys.clear();
+    }
+
+    private void run() {
+        long deadline = 0L;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key;
+                if (deadline == 0L) {
+                    key = watchService.take();
+                } else {
+                    long remaining = deadline - System.currentTimeMillis();
+                    key = remaining > 0L ? watchService.poll(remaining, TimeUnit.MILLISECONDS) : null;
+                }
+                if (key == null) {
+                    deadline = 0L;
+                    scheduler.runSync(reload);
+                    continue;
+                }
+                if (drain(key)) {
+                    deadline = System.currentTimeMillis() + debounceMillis;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+        }
+    }
+
+    private boolean drain(WatchKey key) {
+        Path dir = keys.get(key);
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                relevant = true;
+                continue;
+            }
+            if (dir == null || !(event.context() instanceof Path name)) {
+                continue;
+            }
+            Path child = dir.resolve(name);
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(child)) {
+                registerTree(child);
+                relevant = true;
+            } else if (name.toString().toLowerCase(Locale.ROOT).endsWith(".yml")) {
+                relevant = true;
+            }
+        }
+        if (!key.reset()) {
+            keys.remove(key);
+            relevant = true;
+        }
+        return relevant;
+    }
+
+    private void registerTree(Path root) {
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    WatchKey key = dir.register(watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE);
+                    keys.put(key, dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException | ClosedWatchServiceException e) {
+            log.warn("Failed to watch definition directory", LogKv.kv("dir", root.toString()), LogKv.kv("reason", String.valueOf(e.getMessage())));
+        }
+    }
+}
@@ -30,12 +30,15 @@ import org.bukkit.util.Vector;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import dev.darkblade.mbe.core.domain.MultiblockSource;
@@ -44,10 +47,64 @@ public class MultiblockParser {
     
     private final MultiblockAPIImpl api;
     private final CoreLogger log;
+    private final int loadParallelism = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    // Parsed YAML per file and parsed types per definition, reused across loads while their content hash is unchanged.
+    private final Map<Path, CachedFile> fileCache = new ConcurrentHashMap<>();
+    private final Map<String, CachedType> typeCache = new ConcurrentHashMap<>();
+    private int typeCacheGeneration = -1;
     
-    private record RawDefinition(String id, File file, String relativePath, MultiblockSource source, YamlConfiguration config) {}
+    private record RawDefinition(String id, File file, String relativePath, MultiblockSource source, YamlConfiguration config, String hash) {}
+
+    private record DefinitionFile(Path base, Path path) {}
+
+    private record ReadResult(DefinitionFile file, YamlConfiguration config, String hash, boolean cached, Exception error) {}
+
+    private record CachedFile(String hash, YamlConfiguration config) {}
+
+    private record CachedType(String fingerprint, MultiblockType type) {}
 
     public record LoadedType(MultiblockType type, MultiblockSource source) {}
+
+    /**
+     * Per-phase timings of {@link #loadAllWithSources(List, LoadStats)}, accumulated across calls.
+     */
+    public static final class LoadStats {
+        private int files;
+        private int cachedFiles;
+        private int definitions;
+        private int cachedDefinitions;
+        private long readNanos;
+        private long resolveNanos;
+        private long parseNanos;
+
+        public int files() {
+            return files;
+        }
+
+        public int cachedFiles() {
+            return cachedFiles;
+        }
+
+        public int definitions() {
+            return definitions;
+        }
+
+        public int cachedDefinitions() {
+            return cachedDefinitions;
+        }
+
+        public long readMillis() {
+            return readNanos / 1_000_000L;
+        }
+
+        public long resolveMillis() {
+            return resolveNanos / 1_000_000L;
+        }
+
+        public long parseMillis() {
+            return parseNanos / 1_000_000L;
+        }
+    }
     
     public MultiblockParser(MultiblockAPIImpl api, CoreLogger log) {
         this.api = api;
@@ -213,47 +270,164 @@ public class MultiblockParser {
     }
 
     public List<LoadedType> loadAllWithSources(File directory) {
-        Map<String, List<RawDefinition>> candidatesById = new HashMap<>();
-        List<LoadedType> out = new ArrayList<>();
+        return loadAllWithSources(directory == null ? List.of() : List.of(directory), new LoadStats());
+    }
 
-        if (directory == null || !directory.exists()) {
+    /**
+     * Loads every definition below the given directories. Each directory is resolved on its own,
+     * exactly as separate {@link #loadAllWithSources(File)} calls would, but file reading and YAML
+     * parsing for all of them is fanned out over a bounded worker pool. Template inheritance and
+     * the final parse, which performs Bukkit lookups such as tags and block data, run on the
+     * calling thread.
+     *
+     * <p>Files whose content hash matches the previous load reuse their parsed YAML, and
+     * definitions whose file and template chain are unchanged reuse the previously parsed
+     * {@link MultiblockType} instance, so callers can tell unchanged types apart by identity.
+     */
+    public List<LoadedType> loadAllWithSources(List<File> directories, LoadStats stats) {
+        LoadStats timings = stats == null ? new LoadStats() : stats;
+        List<LoadedType> out = new ArrayList<>();
+        if (directories == null || directories.isEmpty()) {
             return out;
         }
 
-        Path base = directory.toPath();
-        List<Path> files = listYamlFilesRecursive(base);
-        for (Path file : files) {
-            String rel = toRelativePath(base, file);
-            MultiblockSource source = sourceForRelativePath(rel);
-            try {
-                YamlConfiguration config = YamlConfiguration.loadConfiguration(file.toFile());
-                String id = config.getString("id");
-                if (id == null || id.isBlank()) {
-                    id = deriveIdFromFile(file);
-                    if (id != null && !id.isBlank()) {
-                        config.set("id", id);
-                    }
-                }
-                if (id != null && !id.isBlank() && !id.contains(":")) {
-                    String ns = "mbe";
-                    id = ns + ":" + id;
-                    config.set("id", id);
-                }
-                if (id == null || id.isBlank()) {
-                    log.logInternal(new LogScope.Core(), LogPhase.LOAD, LogLevel.WARN, "Multiblock file has empty id (skipping)", null, new LogKv[] {
-                            LogKv.kv("file", rel)
-                    }, Set.of());
-                    continue;
-                }
-                candidatesById.computeIfAbsent(id, k -> new ArrayList<>())
-                        .add(new RawDefinition(id, file.toFile(), rel, source, config));
-            } catch (Exception e) {
-                log.logInternal(new LogScope.Core(), LogPhase.LOAD, LogLevel.ERROR, "Failed to load multiblock file", e, new LogKv[] {
+        long started = System.nanoTime();
+        List<DefinitionFile> files = new ArrayList<>();
+        for (File directory : directories) {
+            if (directory == null || !directory.exists()) {
+                continue;
+            }
+            Path base = directory.toPath();
+            for (Path file : listYamlFilesRecursive(base)) {
+                files.add(new DefinitionFile(base, file));
+            }
+        }
+        List<ReadResult> read = readAll(files);
+        long readDone = System.nanoTime();
+        timings.files += files.size();
+        timings.readNanos += readDone - started;
+
+        Set<Path> seen = new HashSet<>();
+        for (DefinitionFile file : files) {
+            seen.add(file.path());
+        }
+        fileCache.keySet().retainAll(seen);
+        int generation = api.factoryGeneration();
+        if (generation != typeCacheGeneration) {
+            typeCache.clear();
+            typeCacheGeneration = generation;
+        }
+        Set<String> liveTypeKeys = new HashSet<>();
+
+        Map<Path, Map<String, List<RawDefinition>>> candidatesByBase = new LinkedHashMap<>();
+        for (File directory : directories) {
+            if (directory != null && directory.exists()) {
+                candidatesByBase.putIfAbsent(directory.toPath(), new HashMap<>());
+            }
+        }
+        for (ReadResult result : read) {
+            String rel = toRelativePath(result.file().base(), result.file().path());
+            if (result.error() != null) {
+                log.logInternal(new LogScope.Core(), LogPhase.LOAD, LogLevel.ERROR, "Failed to load multiblock file", result.error(), new LogKv[] {
                         LogKv.kv("file", rel)
                 }, Set.of());
+                continue;
+            }
+            if (result.cached()) {
+                timings.cachedFiles++;
+            }
+            RawDefinition definition = toRawDefinition(result.file(), rel, result.config(), result.hash());
+            if (definition == null) {
+                continue;
+            }
+            candidatesByBase.get(result.file().base())
+                    .computeIfAbsent(definition.id(), k -> new ArrayList<>())
+                    .add(definition);
+        }
+
+        // Matchers built from plain strings during this load, so repeated tag and block data lookups are done once.
+        Map<String, BlockMatcher> matchers = new HashMap<>();
+        for (Map.Entry<Path, Map<String, List<RawDefinition>>> base : candidatesByBase.entrySet()) {
+            long resolveStarted = System.nanoTime();
+            Map<String, RawDefinition> rawDefinitions = selectDefinitions(base.getValue());
+            List<String> ids = new ArrayList<>(rawDefinitions.keySet());
+            ids.sort(String::compareToIgnoreCase);
+            Map<String, YamlConfiguration> resolvedConfigs = resolveAll(ids, rawDefinitions);
+            long parseStarted = System.nanoTime();
+            timings.resolveNanos += parseStarted - resolveStarted;
+            timings.cachedDefinitions += parseAll(base.getKey(), ids, rawDefinitions, resolvedConfigs, out, liveTypeKeys, matchers);
+            timings.parseNanos += System.nanoTime() - parseStarted;
+        }
+        typeCache.keySet().retainAll(liveTypeKeys);
+        timings.definitions += out.size();
+        return out;
+    }
+
+    private List<ReadResult> readAll(List<DefinitionFile> files) {
+        if (files.isEmpty()) {
+            return List.of();
+        }
+        if (files.size() == 1 || loadParallelism <= 1) {
+            List<ReadResult> out = new ArrayList<>(files.size());
+            for (DefinitionFile file : files) {
+                out.add(read(file));
             }
+            return out;
+        }
+        ForkJoinPool pool = new ForkJoinPool(loadParallelism);
+        try {
+            return pool.submit(() -> files.parallelStream().map(this::read).toList()).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private ReadResult read(DefinitionFile file) {
+        try {
+            byte[] content = Files.readAllBytes(file.path());
+            String hash = contentHash(content);
+            CachedFile cached = fileCache.get(file.path());
+            if (cached != null && cached.hash().equals(hash)) {
+                return new ReadResult(file, cached.config(), hash, true, null);
+            }
+            YamlConfiguration config = new YamlConfiguration();
+            config.loadFromString(new String(content, StandardCharsets.UTF_8));
+            fileCache.put(file.path(), new CachedFile(hash, config));
+            return new ReadResult(file, config, hash, false, null);
+        } catch (Exception e) {
+            fileCache.remove(file.path());
+            return new ReadResult(file, null, null, false, e);
+        }
+    }
+
+    private static String contentHash(byte[] content) throws java.security.NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(java.security.MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
+    private RawDefinition toRawDefinition(DefinitionFile file, String rel, YamlConfiguration config, String hash) {
+        MultiblockSource source = sourceForRelativePath(rel);
+        String id = config.getString("id");
+        if (id == null || id.isBlank()) {
+            id = deriveIdFromFile(file.path());
+            if (id != null && !id.isBlank()) {
+                config.set("id", id);
+            }
+        }
+        if (id != null && !id.isBlank() && !id.contains(":")) {
+            String ns = "mbe";
+            id = ns + ":" + id;
+            config.set("id", id);
+        }
+        if (id == null || id.isBlank()) {
+            log.logInternal(new LogScope.Core(), LogPhase.LOAD, LogLevel.WARN, "Multiblock file has empty id (skipping)", null, new LogKv[] {
+                    LogKv.kv("file", rel)
+            }, Set.of());
+            return null;
         }
+        return new RawDefinition(id, file.path().toFile(), rel, source, config, hash);
+    }
 
+    private Map<String, RawDefinition> selectDefinitions(Map<String, List<RawDefinition>> candidatesById) {
         Map<String, RawDefinition> rawDefinitions = new HashMap<>();
         for (Map.Entry<String, List<RawDefinition>> e : candidatesById.entrySet()) {
             String id = e.getKey();
@@ -289,12 +463,14 @@ public class MultiblockParser {
             rawDefinitions.put(id, chosen);
         }
 
+        return rawDefinitions;
+    }
+
+    private Map<String, YamlConfiguration> resolveAll(List<String> ids, Map<String, RawDefinition> rawDefinitions) {
         Map<String, YamlConfiguration> resolvedConfigs = new HashMap<>();
         Set<String> resolving = new HashSet<>();
         Set<String> resolved = new HashSet<>();
 
-        List<String> ids = new ArrayList<>(rawDefinitions.keySet());
-        ids.sort(String::compareToIgnoreCase);
         for (String id : ids) {
             try {
                 resolve(id, rawDefinitions, resolvedConfigs, resolving, resolved);
@@ -307,24 +483,56 @@ public class MultiblockParser {
             }
         }
 
+        return resolvedConfigs;
+    }
+
+    private int parseAll(Path base, List<String> ids, Map<String, RawDefinition> rawDefinitions, Map<String, YamlConfiguration> resolvedConfigs, List<LoadedType> out, Set<String> liveTypeKeys, Map<String, BlockMatcher> matchers) {
+        Map<String, String> chainHashes = new HashMap<>();
+        int reused = 0;
         for (String id : ids) {
             YamlConfiguration cfg = resolvedConfigs.get(id);
             if (cfg == null) {
                 continue;
             }
             RawDefinition rd = rawDefinitions.get(id);
+            String cacheKey = base + "|" + id;
+            String fingerprint = rd.relativePath() + "|" + rd.source().type() + "|" + chainHash(id, rawDefinitions, chainHashes);
+            liveTypeKeys.add(cacheKey);
+            CachedType cached = typeCache.get(cacheKey);
+            if (cached != null && cached.fingerprint().equals(fingerprint)) {
+                out.add(new LoadedType(cached.type(), rd.source()));
+                reused++;
+                continue;
+            }
             try {
-                MultiblockType type = parse(cfg);
+                MultiblockType type = parse(cfg, matchers);
+                typeCache.put(cacheKey, new CachedType(fingerprint, type));
                 out.add(new LoadedType(type, rd.source()));
             } catch (Exception ex) {
+                typeCache.remove(cacheKey);
                 log.logInternal(new LogScope.Core(), LogPhase.LOAD, LogLevel.ERROR, "Failed to parse resolved multiblock", ex, new LogKv[] {
                         LogKv.kv("id", id),
                         LogKv.kv("file", rd != null ? rd.relativePath() : "unknown")
                 }, Set.of());
             }
         }
+        return reused;
+    }
 
-        return out;
+    // Content hash of a definition followed by the hashes of its template chain.
+    private String chainHash(String id, Map<String, RawDefinition> rawDefinitions, Map<String, String> memo) {
+        String known = memo.get(id);
+        if (known != null) {
+            return known;
+        }
+        RawDefinition def = rawDefinitions.get(id);
+        if (def == null) {
+            return "";
+        }
+        String parentId = def.config().getString("extends");
+        String hash = parentId == null ? def.hash() : def.hash() + ">" + chainHash(parentId, rawDefinitions, memo);
+        memo.put(id, hash);
+        return hash;
     }
 
     private void resolve(String id, Map<String, RawDefinition> raw, Map<String, YamlConfiguration> resolvedConfigs, Set<String> resolving, Set<String> resolved) {
@@ -463,6 +671,10 @@ public class MultiblockParser {
     }
     
     public MultiblockType parse(YamlConfiguration config) {
+        return parse(config, null);
+    }
+
+    private MultiblockType parse(YamlConfiguration config, Map<String, BlockMatcher> matchers) {
         String id = config.getString("id");
         if (id == null) throw new IllegalArgumentException("Missing 'id'");
         
@@ -474,7 +686,7 @@ public class MultiblockParser {
         // Parse controller matcher
         Object controllerObj = config.get("controller");
         if (controllerObj == null) throw new IllegalArgumentException("Missing 'controller'");
-        BlockMatcher controllerMatcher = parseMatcher(controllerObj);
+        BlockMatcher controllerMatcher = parseMatcher(controllerObj, matchers);
         
         // Parse pattern list
         List<PatternEntry> pattern = new ArrayList<>();
@@ -489,7 +701,7 @@ public class MultiblockParser {
                 if (obj instanceof Map) {
                     Map<?, ?> map = (Map<?, ?>) obj;
                     Vector offset = parseVector(map.get("offset"));
-                    BlockMatcher matcher = parseMatcher(map.get("match"));
+                    BlockMatcher matcher = parseMatcher(map.get("match"), matchers);
                     boolean optional = map.containsKey("optional") && Boolean.TRUE.equals(map.get("optional"));
                     pattern.add(new PatternEntry(offset, matcher, optional));
                 }
@@ -914,20 +1126,7 @@ public class MultiblockParser {
                     // Wrap with conditions if any
                     if (!conditions.isEmpty()) {
                         Action finalAction = action;
-                        Action conditional = new Action() {
-                            @Override
-                            public void execute(MultiblockInstance instance, org.bukkit.entity.Player player) {
-                                for (Condition c : conditions) {
-                                    if (!c.check(instance, player)) return;
-                                }
-                                finalAction.execute(instance, player);
-                            }
-                            
-                            @Override
-                            public void execute(MultiblockInstance instance) {
-                                execute(instance, null);
-                            }
-                        };
+                        Action conditional = new ConditionalAction(List.copyOf(conditions), List.of(finalAction), List.of());
                         actions.add(Action.owned(finalAction.ownerId(), finalAction.typeKey(), conditional));
                     } else {
                         actions.add(action);
@@ -951,7 +1150,7 @@ public class MultiblockParser {
         throw new IllegalArgumentException("Invalid vector format: " + obj);
     }
 
-    private BlockMatcher parseMatcher(Object obj) {
+    private BlockMatcher parseMatcher(Object obj, Map<String, BlockMatcher> cache) {
         if (obj instanceof String) {
             String s = (String) obj;
 
@@ -964,41 +1163,45 @@ public class MultiblockParser {
                 }
             }
 
-            if (s.equalsIgnoreCase("AIR")) return new AirMatcher();
-            if (s.startsWith("#")) {
-                // Tag
-                String tagName = s.substring(1);
-                NamespacedKey key = NamespacedKey.fromString(tagName);
-                if (key == null) throw new IllegalArgumentException("Invalid tag key: " + tagName);
-                
-                Tag<Material> tag = Bukkit.getTag(Tag.REGISTRY_BLOCKS, key, Material.class);
-                if (tag == null) throw new IllegalArgumentException("Unknown tag: " + tagName);
-                return new TagMatcher(tag);
-            } else if (s.contains("[")) {
-                // BlockData (e.g. "minecraft:chest[facing=north]")
-                try {
-                    // Normalize input if needed (Bukkit expects "minecraft:name[data]")
-                    // If user provides "CHEST[facing=north]", it might fail if not lowercase/namespaced
-                    // But Bukkit.createBlockData handles standard formats.
-                    org.bukkit.block.data.BlockData data = Bukkit.createBlockData(s.toLowerCase());
-                    return new BlockDataMatcher(data);
-                } catch (IllegalArgumentException e) {
-                    throw new IllegalArgumentException("Invalid BlockData string: " + s, e);
-                }
-            } else {
-                // Material
-                Material mat = Material.matchMaterial(s);
-                if (mat == null) throw new IllegalArgumentException("Unknown material: " + s);
-                return new ExactMaterialMatcher(mat);
-            }
+            return cache == null ? parseBuiltinMatcher(s) : cache.computeIfAbsent(s, this::parseBuiltinMatcher);
         } else if (obj instanceof List) {
             // AnyOf
             List<BlockMatcher> matchers = new ArrayList<>();
             for (Object o : (List<?>) obj) {
-                matchers.add(parseMatcher(o));
+                matchers.add(parseMatcher(o, cache));
             }
             return new AnyOfMatcher(matchers);
         }
         throw new IllegalArgumentException("Invalid matcher format: " + obj);
     }
+
+    private BlockMatcher parseBuiltinMatcher(String s) {
+        if (s.equalsIgnoreCase("AIR")) return new AirMatcher();
+        if (s.startsWith("#")) {
+            // Tag
+            String tagName = s.substring(1);
+            NamespacedKey key = NamespacedKey.fromString(tagName);
+            if (key == null) throw new IllegalArgumentException("Invalid tag key: " + tagName);
+            
+            Tag<Material> tag = Bukkit.getTag(Tag.REGISTRY_BLOCKS, key, Material.class);
+            if (tag == null) throw new IllegalArgumentException("Unknown tag: " + tagName);
+            return new TagMatcher(tag);
+        } else if (s.contains("[")) {
+            // BlockData (e.g. "minecraft:chest[facing=north]")
+            try {
+                // Normalize input if needed (Bukkit expects "minecraft:name[data]")
+                // If user provides "CHEST[facing=north]", it might fail if not lowercase/namespaced
+                // But Bukkit.createBlockData handles standard formats.
+                org.bukkit.block.data.BlockData data = Bukkit.createBlockData(s.toLowerCase());
+                return new BlockDataMatcher(data);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid BlockData string: " + s, e);
+            }
+        } else {
+            // Material
+            Material mat = Material.matchMaterial(s);
+            if (mat == null) throw new IllegalArgumentException("Unknown material: " + s);
+            return new ExactMaterialMatcher(mat);
+        }
+    }
 }
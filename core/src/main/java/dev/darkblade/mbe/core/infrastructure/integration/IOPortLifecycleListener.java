@@ -2,6 +2,7 @@ package dev.darkblade.mbe.core.infrastructure.integration;
 
 import dev.darkblade.mbe.api.event.MultiblockBreakEvent;
 import dev.darkblade.mbe.api.event.MultiblockFormEvent;
+import dev.darkblade.mbe.api.event.MultiblocksRestoredEvent;
 import dev.darkblade.mbe.api.io.ChannelType;
 import dev.darkblade.mbe.api.io.IOPort;
 import dev.darkblade.mbe.api.io.IOService;
@@ -17,7 +18,9 @@ import org.bukkit.Location;
 import org.bukkit.block.BlockFace;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
 
@@ -33,10 +36,31 @@ public final class IOPortLifecycleListener {
         this.portResolutionService = portResolutionService;
         eventBus.subscribe(MultiblockFormEvent.class, this::onMultiblockForm);
         eventBus.subscribe(MultiblockBreakEvent.class, this::onMultiblockBreak);
+        eventBus.subscribe(MultiblocksRestoredEvent.class, this::onMultiblocksRestored);
     }
 
     public void onMultiblockForm(MultiblockFormEvent event) {
-        MultiblockInstance instance = event.getMultiblock();
+        if (event.isRestored()) {
+            return;
+        }
+        List<IOPort> ports = new ArrayList<>();
+        collectPorts(event.getMultiblock(), ports);
+        for (IOPort port : ports) {
+            ioService.registerPort(port);
+        }
+    }
+
+    public void onMultiblocksRestored(MultiblocksRestoredEvent event) {
+        List<IOPort> ports = new ArrayList<>();
+        for (MultiblockInstance instance : event.getMultiblocks()) {
+            collectPorts(instance, ports);
+        }
+        if (!ports.isEmpty()) {
+            ioService.registerPorts(ports);
+        }
+    }
+
+    private void collectPorts(MultiblockInstance instance, List<IOPort> out) {
         if (instance == null || instance.type() == null || instance.type().ports().isEmpty()) {
             return;
         }
@@ -57,7 +81,7 @@ public final class IOPortLifecycleListener {
                     location.getBlockY(),
                     location.getBlockZ()
             );
-            ioService.registerPort(new SimpleIOPort(
+            out.add(new SimpleIOPort(
                     blockPos,
                     face,
                     type,
@@ -3,7 +3,9 @@ package dev.darkblade.mbe.core.infrastructure.integration;
 import dev.darkblade.mbe.api.event.EventBusService;
 import dev.darkblade.mbe.api.event.MultiblockBreakEvent;
 import dev.darkblade.mbe.api.event.MultiblockFormEvent;
+import dev.darkblade.mbe.api.event.MultiblocksRestoredEvent;
 import dev.darkblade.mbe.api.wiring.Direction;
+import dev.darkblade.mbe.api.wiring.NetworkBatch;
 import dev.darkblade.mbe.api.wiring.NetworkNode;
 import dev.darkblade.mbe.api.wiring.NetworkService;
 import dev.darkblade.mbe.api.wiring.NetworkType;
@@ -42,17 +44,36 @@ public final class MultiblockWiringBridge {
         if (eventBus != null) {
             eventBus.subscribe(MultiblockFormEvent.class, this::onMultiblockForm);
             eventBus.subscribe(MultiblockBreakEvent.class, this::onMultiblockBreak);
+            eventBus.subscribe(MultiblocksRestoredEvent.class, this::onMultiblocksRestored);
         }
     }
 
     public void onMultiblockForm(MultiblockFormEvent event) {
-        MultiblockInstance instance = event.getMultiblock();
-        if (instance == null || instance.type() == null) {
+        if (event.isRestored()) {
+            return;
+        }
+        registerNodes(event.getMultiblock());
+    }
+
+    public void onMultiblocksRestored(MultiblocksRestoredEvent event) {
+        for (MultiblockInstance instance : event.getMultiblocks()) {
+            registerNodes(instance);
+        }
+        if (event.isLastBatch()) {
+            // Port nodes loaded with the topology whose multiblock did not come back are stale
+            networkService.pruneUnclaimedAttachedNodes();
+        }
+    }
+
+    private void registerNodes(MultiblockInstance instance) {
+        if (instance == null || instance.type() == null || instance.type().ports().isEmpty()) {
             return;
         }
 
         UUID instanceId = instanceIdFor(instance);
         Map<Location, NetworkNode> nodes = new HashMap<>();
+        // One topology update for all ports and their connections instead of one per connect
+        NetworkBatch batch = networkService.beginBatch();
 
         for (PortResolutionService.ResolvedPort resolved : portResolutionService.resolveAll(instance)) {
             PortDefinition definition = resolved.definition();
@@ -66,16 +87,16 @@ public final class MultiblockWiringBridge {
 
             NodeDescriptor descriptor = new NodeDescriptor(Set.of(
                     Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST, Direction.UP, Direction.DOWN
-            ));
+            ), true);
 
-            NetworkNode node = networkService.registerNode(networkType, block, descriptor);
+            NetworkNode node = batch.registerNode(networkType, block, descriptor);
             if (node != null) {
                 nodes.put(location, node);
                 // Connect to any adjacent cable nodes that are already registered
                 for (Direction dir : descriptor.connectableFaces()) {
                     Block adjacent = block.getRelative(dir.toBlockFace());
                     networkService.findNode(networkType, adjacent)
-                            .ifPresent(adj -> networkService.connect(networkType, node, adj));
+                            .ifPresent(adj -> batch.connect(networkType, node, adj));
                 }
             }
         }
@@ -91,11 +112,12 @@ public final class MultiblockWiringBridge {
             for (List<NetworkNode> typeNodes : nodesByType.values()) {
                 for (int i = 0; i < typeNodes.size(); i++) {
                     for (int j = i + 1; j < typeNodes.size(); j++) {
-                        networkService.connect(typeNodes.get(i).type(), typeNodes.get(i), typeNodes.get(j));
+                        batch.connect(typeNodes.get(i).type(), typeNodes.get(i), typeNodes.get(j));
                     }
                 }
             }
         }
+        batch.commit();
     }
 
     public void onMultiblockBreak(MultiblockBreakEvent event) {
@@ -2,6 +2,7 @@ package dev.darkblade.mbe.core.infrastructure.integration;
 
 import dev.darkblade.mbe.api.event.MultiblockBreakEvent;
 import dev.darkblade.mbe.api.event.MultiblockFormEvent;
+import dev.darkblade.mbe.api.event.MultiblocksRestoredEvent;
 import dev.darkblade.mbe.core.application.service.query.PlayerMultiblockQueryServiceImpl;
 import dev.darkblade.mbe.api.event.EventBusService;
 import java.util.UUID;
@@ -13,9 +14,13 @@ public final class PlaceholderCacheInvalidationListener {
         this.queryService = queryService;
         eventBus.subscribe(MultiblockFormEvent.class, this::onMultiblockForm);
         eventBus.subscribe(MultiblockBreakEvent.class, this::onMultiblockBreak);
+        eventBus.subscribe(MultiblocksRestoredEvent.class, this::onMultiblocksRestored);
     }
 
     public void onMultiblockForm(MultiblockFormEvent event) {
+        if (event.isRestored()) {
+            return;
+        }
         dev.darkblade.mbe.api.platform.MBEPlayer player = event.getPlayer();
         if (player == null) {
             queryService.invalidateAll();
@@ -25,6 +30,10 @@ public final class PlaceholderCacheInvalidationListener {
         queryService.trackOwnership(playerId, event.getMultiblock());
     }
 
+    public void onMultiblocksRestored(MultiblocksRestoredEvent event) {
+        queryService.invalidateAll();
+    }
+
     public void onMultiblockBreak(MultiblockBreakEvent event) {
         queryService.removeOwnership(event.getMultiblock());
     }
@@ -2,6 +2,7 @@ package dev.darkblade.mbe.core.infrastructure.integration;
 
 import dev.darkblade.mbe.api.event.MultiblockBreakEvent;
 import dev.darkblade.mbe.api.event.MultiblockFormEvent;
+import dev.darkblade.mbe.api.event.MultiblocksRestoredEvent;
 import dev.darkblade.mbe.core.application.service.query.PlayerMultiblockQueryServiceImpl;
 import dev.darkblade.mbe.api.event.EventBusService;
 import org.bukkit.entity.Player;
@@ -13,9 +14,13 @@ public final class QueryCacheInvalidationListener {
         this.queryService = queryService;
         eventBus.subscribe(MultiblockFormEvent.class, this::onForm);
         eventBus.subscribe(MultiblockBreakEvent.class, this::onBreak);
+        eventBus.subscribe(MultiblocksRestoredEvent.class, this::onRestored);
     }
 
     public void onForm(MultiblockFormEvent event) {
+        if (event.isRestored()) {
+            return;
+        }
         // If a player forms a multiblock, we might need to invalidate their caches
         // or track ownership.
         if (event.getPlayer() != null) {
@@ -30,6 +35,10 @@ public final class QueryCacheInvalidationListener {
         }
     }
 
+    public void onRestored(MultiblocksRestoredEvent event) {
+        queryService.invalidateAll();
+    }
+
     public void onBreak(MultiblockBreakEvent event) {
         // When a multiblock is destroyed, we remove it from the query cache tracking
         queryService.removeOwnership(event.getMultiblock());
@@ -0,0 +1,149 @@
+package dev.darkblade.mbe.core.infrastructure.logging;
+
+import dev.darkblade.mbe.api.logging.LogBackend;
+import dev.darkblade.mbe.api.logging.LogEntry;
+import dev.darkblade.mbe.api.logging.LogKv;
+import dev.darkblade.mbe.api.logging.LogLevel;
+import dev.darkblade.mbe.api.logging.LogPhase;
+import dev.darkblade.mbe.api.logging.LogScope;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands entries to a background writer through a {@link LogRingBuffer}, so formatting and I/O
+ * never run on the publishing thread. When the buffer is full the entry is dropped and counted;
+ * the writer reports the number of dropped entries once the pressure is gone.
+ */
+public final class AsyncLogBackend implements LogBackend {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final String engine;
+    private final List<LogBackend> delegates;
+    private final LogRingBuffer<LogEntry> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean idle;
+    private volatile boolean running = true;
+    private long reportedDropped;
+
+    public AsyncLogBackend(String engine, List<LogBackend> delegates, int capacity) {
+        this.engine = Objects.requireNonNull(engine, "engine");
+        this.delegates = List.copyOf(delegates);
+        this.buffer = new LogRingBuffer<>(Math.max(64, capacity));
+        this.writer = new Thread(this::drainLoop, "MBE-Log-Writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void publish(LogEntry entry) {
+        if (entry == null) {
+            return;
+        }
+        if (!running) {
+            publishNow(entry);
+            return;
+        }
+        if (!buffer.offer(entry)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (!running) {
+            // close() ran between the running check and the offer and may have drained already.
+            drain();
+            return;
+        }
+        if (idle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Stops the writer and publishes whatever is still buffered on the calling thread.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drain();
+        for (LogBackend delegate : delegates) {
+            try {
+                delegate.close();
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (drain() == 0) {
+                idle = true;
+                if (running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+            }
+        }
+    }
+
+    private synchronized int drain() {
+        int published = 0;
+        LogEntry entry;
+        while ((entry = buffer.poll()) != null) {
+            publishNow(entry);
+            published++;
+        }
+        long droppedNow = dropped.get();
+        if (droppedNow != reportedDropped) {
+            publishNow(new LogEntry(Instant.now(), engine, new LogScope.Core(), LogPhase.RUNTIME, LogLevel.WARN,
+                    "Log buffer overflowed, entries were dropped", List.of(
+                            LogKv.kv("dropped", droppedNow - reportedDropped),
+                            LogKv.kv("total", droppedNow),
+                            LogKv.kv("capacity", buffer.capacity())),
+                    Set.of(), null, false));
+            reportedDropped = droppedNow;
+            published++;
+        }
+        if (published > 0) {
+            for (LogBackend delegate : delegates) {
+                try {
+                    delegate.flush();
+                } catch (RuntimeException ignored) {
+                }
+            }
+        }
+        return published;
+    }
+
+    private void publishNow(LogEntry entry) {
+        for (LogBackend delegate : delegates) {
+            try {
+                delegate.publish(entry);
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package dev.darkblade.mbe.core.infrastructure.logging;
+
+import com.google.gson.stream.JsonWriter;
+import dev.darkblade.mbe.api.logging.LogBackend;
+import dev.darkblade.mbe.api.logging.LogEntry;
+import dev.darkblade.mbe.api.logging.LogKv;
+import dev.darkblade.mbe.api.logging.LogScope;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Writes one JSON object per entry to {@code <name>.jsonl}. When the file would grow past
+ * {@code maxBytes} of UTF-8 it is rotated to {@code <name>.1.jsonl}, shifting older files up to
+ * {@code maxFiles}. Entries published after {@link #close()} reopen the file and are flushed
+ * one by one, since nothing will flush them later.
+ */
+public final class JsonLinesFileBackend implements LogBackend {
+
+    private final Path directory;
+    private final String name;
+    private final long maxBytes;
+    private final int maxFiles;
+    private final StringWriter line = new StringWriter(256);
+    private OutputStream out;
+    private long size;
+    private boolean failed;
+    private boolean closed;
+
+    public JsonLinesFileBackend(Path directory, String name, long maxBytes, int maxFiles) {
+        this.directory = Objects.requireNonNull(directory, "directory");
+        this.name = Objects.requireNonNull(name, "name");
+        this.maxBytes = Math.max(1024L, maxBytes);
+        this.maxFiles = Math.max(1, maxFiles);
+    }
+
+    @Override
+    public synchronized void publish(LogEntry entry) {
+        if (failed || entry == null) {
+            return;
+        }
+        try {
+            line.getBuffer().setLength(0);
+            writeJson(entry, line);
+            line.write('\n');
+            byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+            if (out == null) {
+                open();
+            }
+            if (size > 0L && size + bytes.length > maxBytes) {
+                rotate();
+            }
+            out.write(bytes);
+            size += bytes.length;
+            if (closed) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            failed = true;
+            closeQuietly();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            failed = true;
+            closeQuietly();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        flush();
+        closeQuietly();
+        closed = true;
+    }
+
+    private static void writeJson(LogEntry entry, Writer target) throws IOException {
+        JsonWriter json = new JsonWriter(target);
+        json.setLenient(true);
+        json.beginObject();
+        json.name("ts").value(entry.timestamp().toString());
+        json.name("engine").value(entry.engine());
+        json.name("scope").value(entry.scope().label());
+        if (entry.scope() instanceof LogScope.Addon addon) {
+            json.name("addon").value(addon.addonId());
+        }
+        json.name("phase").value(entry.phase().name());
+        json.name("level").value(entry.level().name());
+        json.name("msg").value(entry.message());
+        if (entry.fields() != null && !entry.fields().isEmpty()) {
+            json.name("fields").beginObject();
+            for (LogKv kv : entry.fields()) {
+                Object value = kv.value();
+                json.name(kv.key());
+                if (value == null) {
+                    json.nullValue();
+                } else if (value instanceof Number number) {
+                    json.value(number);
+                } else if (value instanceof Boolean bool) {
+                    json.value(bool);
+                } else {
+                    json.value(String.valueOf(value));
+                }
+            }
+            json.endObject();
+        }
+        if (entry.tags() != null && !entry.tags().isEmpty()) {
+            json.name("tags").beginArray();
+            for (String tag : entry.tags()) {
+                json.value(tag);
+            }
+            json.endArray();
+        }
+        if (entry.throwable() != null) {
+            Throwable root = Throwables.rootCause(entry.throwable());
+            json.name("error").value(root.getClass().getName() + (root.getMessage() == null ? "" : ": " + root.getMessage()));
+        }
+        json.endObject();
+        json.flush();
+    }
+
+    private Path file(int index) {
+        return directory.resolve(index == 0 ? name + ".jsonl" : name + "." + index + ".jsonl");
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        Path current = file(0);
+        size = Files.exists(current) ? Files.size(current) : 0L;
+        out = new BufferedOutputStream(Files.newOutputStream(current, StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    private void rotate() throws IOException {
+        out.close();
+        out = null;
+        Files.deleteIfExists(file(maxFiles));
+        for (int i = maxFiles - 1; i >= 0; i--) {
+            Path source = file(i);
+            if (Files.exists(source)) {
+                Files.move(source, file(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        open();
+    }
+
+    private void closeQuietly() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException ignored) {
+        }
+        out = null;
+    }
+}
@@ -2,21 +2,28 @@ package dev.darkblade.mbe.core.infrastructure.logging;
 
 import dev.darkblade.mbe.core.MultiBlockEngine;
 import dev.darkblade.mbe.api.logging.CoreLogger;
+import dev.darkblade.mbe.api.logging.LogBackend;
+import dev.darkblade.mbe.api.logging.LogEntry;
 import dev.darkblade.mbe.api.logging.LogLevel;
 import dev.darkblade.mbe.api.logging.LogPhase;
 import dev.darkblade.mbe.api.logging.LoggingConfig;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 public final class LoggingService {
 
+    private static final String ENGINE = "MultiBlockEngine";
+
     private final CoreLogger core;
+    private final LogBackend backend;
 
     public LoggingService(MultiBlockEngine plugin) {
         LoggingConfig config = readConfig(plugin);
-        this.core = new CoreLogger("MultiBlockEngine", new JulConsoleBackend(plugin.getLogger()), config);
+        this.backend = createBackend(plugin);
+        this.core = new CoreLogger(ENGINE, backend, config);
     }
 
     public CoreLogger core() {
@@ -27,6 +34,50 @@ public final class LoggingService {
         core.setCorePhase(phase);
     }
 
+    /**
+     * Entries dropped because the asynchronous log buffer was full.
+     */
+    public long droppedEntries() {
+        return backend instanceof AsyncLogBackend async ? async.droppedCount() : 0L;
+    }
+
+    /**
+     * Writes out buffered entries and stops the background writer. Later entries are published
+     * on the calling thread.
+     */
+    public void close() {
+        backend.close();
+    }
+
+    private static LogBackend createBackend(MultiBlockEngine plugin) {
+        List<LogBackend> backends = new ArrayList<>(2);
+        backends.add(new JulConsoleBackend(plugin.getLogger()));
+        if (plugin.getConfig().getBoolean("logging.file.enabled", false)) {
+            long maxBytes = Math.max(1L, plugin.getConfig().getLong("logging.file.max-size-mb", 10L)) * 1024L * 1024L;
+            int maxFiles = plugin.getConfig().getInt("logging.file.max-files", 5);
+            backends.add(new JsonLinesFileBackend(plugin.getDataFolder().toPath().resolve("logs"), "engine", maxBytes, maxFiles));
+        }
+        if (!plugin.getConfig().getBoolean("logging.async.enabled", true)) {
+            return backends.size() == 1 ? backends.get(0) : new LogBackend() {
+                @Override
+                public void publish(LogEntry entry) {
+                    for (LogBackend b : backends) {
+                        b.publish(entry);
+                        b.flush();
+                    }
+                }
+
+                @Override
+                public void close() {
+                    for (LogBackend b : backends) {
+                        b.close();
+                    }
+                }
+            };
+        }
+        return new AsyncLogBackend(ENGINE, backends, plugin.getConfig().getInt("logging.async.buffer-size", 8192));
+    }
+
     private static LoggingConfig readConfig(MultiBlockEngine plugin) {
         String levelStr = plugin.getConfig().getString("logging.level", "INFO");
         LogLevel level = parseLevel(levelStr, LogLevel.INFO);
@@ -77,6 +77,23 @@ public final class DefaultStorageRegistry implements StorageRegistry {
         }
     }
 
+    @Override
+    public void release(String type, UUID id) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(id, "id");
+
+        String key = normalizeType(type);
+        StorageServiceFactory factory = factories.get(key);
+        if (factory == null) {
+            return;
+        }
+        try {
+            factory.release(id);
+        } catch (Throwable t) {
+            logger.error("Storage factory failed to release storage", t, LogKv.kv("type", key), LogKv.kv("id", id));
+        }
+    }
+
     private static String normalizeType(String type) {
         String s = type.trim();
         if (s.isEmpty()) {
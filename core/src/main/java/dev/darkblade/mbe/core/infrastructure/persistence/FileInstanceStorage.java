@@ -89,6 +89,7 @@ public final class FileInstanceStorage implements InstanceStorageService {
         }
 
         String key = key(world.getName(), anchor.getBlockX(), anchor.getBlockY(), anchor.getBlockZ());
+        long version = instance.version();
 
         Map<String, Object> record = new HashMap<>();
         record.put("type", instance.type().id());
@@ -102,6 +103,7 @@ public final class FileInstanceStorage implements InstanceStorageService {
 
         byte[] payload = gson.toJson(record).getBytes(StandardCharsets.UTF_8);
         store.write(key, payload, StorageRecordMeta.now("core"));
+        instance.markSaved(version);
     }
 
     @Override
@@ -0,0 +1,25 @@
+package dev.darkblade.mbe.core.infrastructure.persistence;
+
+import dev.darkblade.mbe.core.application.service.multiblock.InstanceCheckpointService;
+import org.bukkit.Chunk;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkUnloadEvent;
+
+import java.util.Objects;
+
+public final class InstanceCheckpointListener implements Listener {
+
+    private final InstanceCheckpointService checkpointService;
+
+    public InstanceCheckpointListener(InstanceCheckpointService checkpointService) {
+        this.checkpointService = Objects.requireNonNull(checkpointService, "checkpointService");
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        checkpointService.checkpointChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+}
@@ -0,0 +1,23 @@
+package dev.darkblade.mbe.core.infrastructure.persistence;
+
+import dev.darkblade.mbe.core.application.service.wiring.NetworkTopologyStore;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+
+import java.util.Objects;
+
+public final class NetworkTopologyWorldListener implements Listener {
+
+    private final NetworkTopologyStore topologyStore;
+
+    public NetworkTopologyWorldListener(NetworkTopologyStore topologyStore) {
+        this.topologyStore = Objects.requireNonNull(topologyStore, "topologyStore");
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        topologyStore.loadWorld(event.getWorld().getUID());
+    }
+}
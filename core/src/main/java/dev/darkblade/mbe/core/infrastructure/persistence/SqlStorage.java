@@ -17,6 +17,7 @@ import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.block.BlockFace;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -48,6 +49,8 @@ public class SqlStorage implements InstanceStorageService {
     private final Gson gson = new Gson();
     private final AtomicBoolean closing = new AtomicBoolean(false);
     private ExecutorService executor;
+    // Version of each instance whose write is queued or running; it is marked saved once the write completes.
+    private final Map<MultiblockInstance, Long> queued = new ConcurrentHashMap<>();
 
     public SqlStorage(MultiBlockEngine plugin) {
         this.plugin = plugin;
@@ -183,6 +186,7 @@ public class SqlStorage implements InstanceStorageService {
             }
             executor = null;
         }
+        queued.clear();
         if (dataSource != null) {
             dataSource.close();
             dataSource = null;
@@ -213,9 +217,15 @@ public class SqlStorage implements InstanceStorageService {
         String facing = instance.facing() == null ? BlockFace.NORTH.name() : instance.facing().name();
         String state = instance.state() == null ? MultiblockState.ACTIVE.name() : instance.state().name();
         Map<String, Object> variables = instance.getVariables() == null ? Map.of() : new HashMap<>(instance.getVariables());
+        long version = instance.version();
+        Long inFlight = queued.put(instance, version);
+        if (inFlight != null && inFlight == version) {
+            return;
+        }
 
         executor.execute(() -> {
             if (closing.get()) {
+                queued.remove(instance, version);
                 return;
             }
             try (Connection conn = dataSource.getConnection();
@@ -264,6 +274,7 @@ public class SqlStorage implements InstanceStorageService {
 
                 ps.setString(8, json);
                 ps.executeUpdate();
+                instance.markSaved(version);
             } catch (SQLException e) {
                 if (closing.get() || Thread.currentThread().isInterrupted() || !plugin.isEnabled()) {
                     return;
@@ -275,6 +286,8 @@ public class SqlStorage implements InstanceStorageService {
                         LogKv.kv("y", y),
                         LogKv.kv("z", z)
                 );
+            } finally {
+                queued.remove(instance, version);
             }
         });
     }
@@ -0,0 +1,192 @@
+package dev.darkblade.mbe.core.infrastructure.persistence.item;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from non-negative int keys to long values, with linear probing and
+ * backward-shift deletion so no tombstones build up. Absent keys read as {@code 0}. Not
+ * thread-safe; owners guard it with their own lock.
+ */
+final class IntLongHashMap {
+
+    private static final int FREE = -1;
+    private static final float LOAD_FACTOR = 0.6F;
+
+    private int[] keys;
+    private long[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    IntLongHashMap() {
+        this(16);
+    }
+
+    IntLongHashMap(int expected) {
+        allocate(capacityFor(expected));
+    }
+
+    private IntLongHashMap(IntLongHashMap source) {
+        this.keys = source.keys.clone();
+        this.values = source.values.clone();
+        this.size = source.size;
+        this.mask = source.mask;
+        this.resizeAt = source.resizeAt;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean containsKey(int key) {
+        return slot(key) >= 0;
+    }
+
+    long get(int key) {
+        int slot = slot(key);
+        return slot >= 0 ? values[slot] : 0L;
+    }
+
+    /**
+     * Stores the value and returns the previous one, or {@code 0} if the key was absent.
+     */
+    long put(int key, long value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("key must be non-negative: " + key);
+        }
+        int slot = mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                long previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return 0L;
+    }
+
+    /**
+     * Adds to the current value and returns the new one.
+     */
+    long addTo(int key, long delta) {
+        long updated = get(key) + delta;
+        put(key, updated);
+        return updated;
+    }
+
+    /**
+     * Removes the key and returns its value, or {@code 0} if it was absent.
+     */
+    long remove(int key) {
+        int slot = slot(key);
+        if (slot < 0) {
+            return 0L;
+        }
+        long previous = values[slot];
+        size--;
+        // Pull later entries of the same probe run back so lookups never hit a gap
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != FREE) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = FREE;
+        values[gap] = 0L;
+        return previous;
+    }
+
+    void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(keys, FREE);
+        Arrays.fill(values, 0L);
+        size = 0;
+    }
+
+    IntLongHashMap copy() {
+        return new IntLongHashMap(this);
+    }
+
+    void forEach(Visitor visitor) {
+        int[] k = keys;
+        long[] v = values;
+        for (int i = 0; i < k.length; i++) {
+            if (k[i] != FREE) {
+                visitor.visit(k[i], v[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(int key, long value);
+    }
+
+    private int slot(int key) {
+        if (key < 0) {
+            return -1;
+        }
+        int slot = mix(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key == FREE) {
+                continue;
+            }
+            int slot = mix(key) & mask;
+            while (keys[slot] != FREE) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, FREE);
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.max(1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    private static int capacityFor(int expected) {
+        long needed = (long) Math.ceil(Math.max(4, expected) / LOAD_FACTOR) + 1;
+        int capacity = Integer.highestOneBit((int) Math.min(1 << 30, needed - 1)) << 1;
+        return Math.max(8, capacity);
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
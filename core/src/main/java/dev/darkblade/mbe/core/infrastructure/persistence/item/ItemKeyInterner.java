@@ -0,0 +1,64 @@
+package dev.darkblade.mbe.core.infrastructure.persistence.item;
+
+import dev.darkblade.mbe.api.persistence.item.ItemKey;
+import dev.darkblade.mbe.api.persistence.item.ItemKeys;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out dense int ids for item keys, shared by every storage of one factory so equal stacks
+ * in different storages cost one key object. Ids are never reused; lookups are lock-free and
+ * only a first sighting takes the lock.
+ */
+final class ItemKeyInterner {
+
+    private final Map<ItemKey, Integer> ids = new ConcurrentHashMap<>();
+    private volatile ItemKey[] keys = new ItemKey[256];
+    private int next;
+
+    /**
+     * Returns the id of the key, or {@code -1} if it was never interned.
+     */
+    int idOf(ItemKey key) {
+        if (key == null) {
+            return -1;
+        }
+        Integer id = ids.get(key);
+        if (id == null) {
+            id = ids.get(ItemKeys.of(key.type(), key.damage(), key.nbtHash()));
+        }
+        return id != null ? id : -1;
+    }
+
+    int intern(ItemKey key) {
+        Integer id = ids.get(key);
+        if (id != null) {
+            return id;
+        }
+        // Other ItemKey implementations may hash differently; store the canonical value key
+        ItemKey canonical = ItemKeys.of(key.type(), key.damage(), key.nbtHash());
+        synchronized (this) {
+            id = ids.get(canonical);
+            if (id != null) {
+                ids.putIfAbsent(key, id);
+                return id;
+            }
+            int assigned = next++;
+            ItemKey[] current = keys;
+            if (assigned >= current.length) {
+                current = Arrays.copyOf(current, current.length << 1);
+            }
+            current[assigned] = canonical;
+            keys = current;
+            ids.put(canonical, assigned);
+            return assigned;
+        }
+    }
+
+    ItemKey key(int id) {
+        ItemKey[] current = keys;
+        return id >= 0 && id < current.length ? current[id] : null;
+    }
+}
@@ -0,0 +1,163 @@
+package dev.darkblade.mbe.core.infrastructure.persistence.item;
+
+import dev.darkblade.mbe.api.persistence.PersistentStorageService;
+import dev.darkblade.mbe.api.persistence.StorageDescriptor;
+import dev.darkblade.mbe.api.persistence.StorageSchema;
+import dev.darkblade.mbe.api.persistence.StorageService;
+import dev.darkblade.mbe.api.persistence.StorageServiceFactory;
+import dev.darkblade.mbe.api.persistence.StorageStore;
+import dev.darkblade.mbe.api.tick.Tickable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Built-in item storage backend, registered as {@value #TYPE}. Live storages of the factory share
+ * one key interner; once the last one is released the factory starts a fresh interner, so keys
+ * nobody stores any more do not pile up. Listener notifications go out once per tick with the net change per key;
+ * changed amounts are saved every {@code saveIntervalTicks} as binary deltas in the
+ * {@code core/item-storage} domain, one store per storage id. Creating a storage for an id that is
+ * already live returns the live instance, so two handles never write the same store, until the id
+ * is {@linkplain #release released}.
+ */
+public final class ItemStorageFactory implements StorageServiceFactory, Tickable {
+
+    public static final String TYPE = "mbe:items";
+
+    private static final StorageSchema SCHEMA = new StorageSchema() {
+        @Override
+        public int schemaVersion() {
+            return 1;
+        }
+
+        @Override
+        public StorageSchema.StorageSchemaMigrator migrator() {
+            return (fromVersion, toVersion, payload) -> {
+                if (fromVersion == toVersion && toVersion == 1) {
+                    return payload;
+                }
+                throw new IllegalStateException("Unsupported migration: " + fromVersion + "->" + toVersion);
+            };
+        }
+    };
+
+    private final PersistentStorageService persistence;
+    private final int saveIntervalTicks;
+    private final int compactAfter;
+    private volatile ItemKeyInterner interner = new ItemKeyInterner();
+    private final Map<UUID, PrimitiveItemStorage> storages = new ConcurrentHashMap<>();
+    private final Set<PrimitiveItemStorage> changed = ConcurrentHashMap.newKeySet();
+    private final Set<PrimitiveItemStorage> unsaved = ConcurrentHashMap.newKeySet();
+    // Final saves of released storages that the store has not applied yet
+    private final Map<UUID, CompletableFuture<?>> releasing = new ConcurrentHashMap<>();
+    private long tickCounter;
+
+    /**
+     * @param persistence where storages are saved, or {@code null} to keep them in memory only
+     */
+    public ItemStorageFactory(PersistentStorageService persistence, int saveIntervalTicks, int compactAfter) {
+        this.persistence = persistence;
+        this.saveIntervalTicks = Math.max(1, saveIntervalTicks);
+        this.compactAfter = Math.max(1, compactAfter);
+    }
+
+    @Override
+    public StorageService create(StorageDescriptor descriptor) {
+        Objects.requireNonNull(descriptor, "descriptor");
+        UUID id = Objects.requireNonNull(descriptor.id(), "id");
+        return storages.computeIfAbsent(id, key -> {
+            CompletableFuture<?> flushing = releasing.get(key);
+            if (flushing != null) {
+                // Loading before the final save lands would read stale amounts and reuse its sequence
+                flushing.exceptionally(t -> null).join();
+            }
+            return new PrimitiveItemStorage(
+                    key,
+                    descriptor.capacity(),
+                    interner,
+                    journal(key),
+                    changed::add);
+        });
+    }
+
+    /**
+     * Delivers pending notifications, saves the storage and forgets it. Handles obtained before
+     * keep working on their own but are no longer ticked or saved.
+     */
+    @Override
+    public void release(UUID id) {
+        PrimitiveItemStorage storage = id != null ? storages.remove(id) : null;
+        if (storage == null) {
+            return;
+        }
+        changed.remove(storage);
+        unsaved.remove(storage);
+        storage.dispatchEvents();
+        storage.save();
+        CompletableFuture<?> written = storage.written();
+        if (!written.isDone()) {
+            releasing.put(id, written);
+            written.whenComplete((result, error) -> releasing.remove(id, written));
+        }
+        if (storages.isEmpty()) {
+            // Storages and snapshots keep the interner they were created with
+            interner = new ItemKeyInterner();
+        }
+    }
+
+    @Override
+    public void tick() {
+        if (!changed.isEmpty()) {
+            Iterator<PrimitiveItemStorage> it = changed.iterator();
+            while (it.hasNext()) {
+                PrimitiveItemStorage storage = it.next();
+                it.remove();
+                storage.dispatchEvents();
+                if (storage.hasUnsavedChanges()) {
+                    unsaved.add(storage);
+                }
+            }
+        }
+        if (++tickCounter % saveIntervalTicks == 0) {
+            saveUnsaved();
+        }
+    }
+
+    /**
+     * Delivers pending notifications and saves every storage with unsaved changes.
+     */
+    public void flushAll() {
+        for (PrimitiveItemStorage storage : storages.values()) {
+            changed.remove(storage);
+            storage.dispatchEvents();
+            storage.save();
+        }
+        unsaved.clear();
+    }
+
+    public int storageCount() {
+        return storages.size();
+    }
+
+    private void saveUnsaved() {
+        Iterator<PrimitiveItemStorage> it = unsaved.iterator();
+        while (it.hasNext()) {
+            PrimitiveItemStorage storage = it.next();
+            it.remove();
+            storage.save();
+        }
+    }
+
+    private ItemStorageJournal journal(UUID id) {
+        if (persistence == null) {
+            return null;
+        }
+        StorageStore store = persistence.namespace("core").domain("item-storage").store(id.toString(), SCHEMA);
+        return new ItemStorageJournal(store, compactAfter);
+    }
+}
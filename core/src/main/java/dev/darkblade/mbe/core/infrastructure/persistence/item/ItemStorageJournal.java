@@ -0,0 +1,201 @@
+package dev.darkblade.mbe.core.infrastructure.persistence.item;
+
+import dev.darkblade.mbe.api.persistence.StorageRecordMeta;
+import dev.darkblade.mbe.api.persistence.StorageStore;
+import dev.darkblade.mbe.api.persistence.StoredRecord;
+import dev.darkblade.mbe.api.persistence.item.ItemKey;
+import dev.darkblade.mbe.api.persistence.item.ItemKeys;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Binary journal of one item storage inside a {@link StorageStore}. Each save appends a
+ * {@code delta-<seq>} record holding the absolute amounts of the keys changed since the previous
+ * save ({@code 0} removes a key), so replaying the same delta twice is harmless. After
+ * {@code compactAfter} deltas the whole content is written to {@code base} together with the last
+ * sequence it covers, and the covered deltas are deleted.
+ *
+ * <p>Records are varint encoded: a flags byte, the covered sequence, the entry count, then per
+ * entry the item type, zigzag damage, optional nbt hash and amount.
+ */
+final class ItemStorageJournal {
+
+    static final String BASE_KEY = "base";
+    static final String DELTA_PREFIX = "delta-";
+
+    private static final int FLAG_RESET = 1;
+    private static final String PRODUCER = "core";
+
+    private final StorageStore store;
+    private final int compactAfter;
+    private long sequence;
+    private long baseSequence;
+    private CompletableFuture<?> lastWrite = CompletableFuture.completedFuture(null);
+
+    ItemStorageJournal(StorageStore store, int compactAfter) {
+        this.store = Objects.requireNonNull(store, "store");
+        this.compactAfter = Math.max(1, compactAfter);
+    }
+
+    /**
+     * Rebuilds the stored amounts: the base record first, then every newer delta in sequence order.
+     */
+    IntLongHashMap load(ItemKeyInterner interner) {
+        Map<String, StoredRecord> records = store.readAll();
+        IntLongHashMap counts = new IntLongHashMap();
+        StoredRecord base = records.get(BASE_KEY);
+        if (base != null) {
+            baseSequence = apply(base.payload(), interner, counts, true);
+        }
+        List<Long> deltas = new ArrayList<>();
+        for (String key : records.keySet()) {
+            long seq = deltaSequence(key);
+            if (seq > baseSequence) {
+                deltas.add(seq);
+            } else if (seq >= 0L) {
+                // Left behind by a compaction that did not finish deleting
+                store.deleteAsync(key, StorageRecordMeta.now(PRODUCER));
+            }
+        }
+        deltas.sort(null);
+        sequence = baseSequence;
+        for (long seq : deltas) {
+            apply(records.get(DELTA_PREFIX + seq).payload(), interner, counts, false);
+            sequence = seq;
+        }
+        return counts;
+    }
+
+    boolean shouldCompact() {
+        return sequence - baseSequence >= compactAfter;
+    }
+
+    /**
+     * Appends the changed amounts. {@code reset} drops everything stored before applying them.
+     */
+    void appendDelta(List<ItemKey> keys, long[] amounts, boolean reset) {
+        long seq = ++sequence;
+        byte[] payload = encode(reset ? FLAG_RESET : 0, 0L, keys, amounts);
+        lastWrite = store.writeAsync(DELTA_PREFIX + seq, payload, StorageRecordMeta.now(PRODUCER));
+    }
+
+    /**
+     * Replaces the base with the full content and removes the deltas it now covers. The store
+     * applies writes in submission order, so a crash in between leaves deltas that replay as no-ops.
+     */
+    void compact(List<ItemKey> keys, long[] amounts) {
+        long covered = sequence;
+        long previousBase = baseSequence;
+        lastWrite = store.writeAsync(BASE_KEY, encode(0, covered, keys, amounts), StorageRecordMeta.now(PRODUCER));
+        for (long seq = previousBase + 1; seq <= covered; seq++) {
+            lastWrite = store.deleteAsync(DELTA_PREFIX + seq, StorageRecordMeta.now(PRODUCER));
+        }
+        baseSequence = covered;
+    }
+
+    /**
+     * Completes once every record submitted so far has been written.
+     */
+    CompletableFuture<?> lastWrite() {
+        return lastWrite;
+    }
+
+    private static byte[] encode(int flags, long covered, List<ItemKey> keys, long[] amounts) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + keys.size() * 24);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(flags);
+            writeVarLong(out, covered);
+            writeVarLong(out, keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                ItemKey key = keys.get(i);
+                out.writeUTF(key.type().toString());
+                writeVarLong(out, zigzag(key.damage()));
+                String nbt = key.nbtHash();
+                out.writeBoolean(nbt != null);
+                if (nbt != null) {
+                    out.writeUTF(nbt);
+                }
+                writeVarLong(out, amounts[i]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static long apply(byte[] payload, ItemKeyInterner interner, IntLongHashMap counts, boolean base) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int flags = in.readUnsignedByte();
+            long covered = readVarLong(in);
+            if (!base && (flags & FLAG_RESET) != 0) {
+                counts.clear();
+            }
+            long entries = readVarLong(in);
+            for (long i = 0; i < entries; i++) {
+                String type = in.readUTF();
+                int damage = unzigzag(readVarLong(in));
+                String nbt = in.readBoolean() ? in.readUTF() : null;
+                long amount = readVarLong(in);
+                int id = interner.intern(ItemKeys.of(type, damage, nbt));
+                if (amount > 0L) {
+                    counts.put(id, amount);
+                } else {
+                    counts.remove(id);
+                }
+            }
+            return covered;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long deltaSequence(String key) {
+        if (key == null || !key.startsWith(DELTA_PREFIX)) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(key.substring(DELTA_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static long zigzag(int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+    }
+
+    private static int unzigzag(long value) {
+        int encoded = (int) value;
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0L) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long result = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,320 @@
+package dev.darkblade.mbe.core.infrastructure.persistence.item;
+
+import dev.darkblade.mbe.api.persistence.StorageListener;
+import dev.darkblade.mbe.api.persistence.StorageResult;
+import dev.darkblade.mbe.api.persistence.StorageService;
+import dev.darkblade.mbe.api.persistence.StorageSnapshot;
+import dev.darkblade.mbe.api.persistence.item.ItemKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Item storage backed by a primitive map from interned key ids to amounts. Totals are kept up to
+ * date on every change, {@link #snapshot()} shares the current map until the next write copies it,
+ * and listeners hear about the net change per key once per flush instead of once per call.
+ */
+final class PrimitiveItemStorage implements StorageService {
+
+    private final UUID id;
+    private final long capacity;
+    private final ItemKeyInterner interner;
+    private final ItemStorageJournal journal;
+    private final Consumer<PrimitiveItemStorage> changed;
+    private final List<StorageListener> listeners = new CopyOnWriteArrayList<>();
+
+    private IntLongHashMap counts;
+    private boolean shared;
+    private long total;
+
+    private IntLongHashMap pendingEvents = new IntLongHashMap();
+    private boolean pendingClear;
+    private IntLongHashMap unsaved = new IntLongHashMap();
+    private boolean unsavedClear;
+    private boolean queued;
+
+    PrimitiveItemStorage(
+            UUID id,
+            long capacity,
+            ItemKeyInterner interner,
+            ItemStorageJournal journal,
+            Consumer<PrimitiveItemStorage> changed
+    ) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.capacity = capacity;
+        this.interner = Objects.requireNonNull(interner, "interner");
+        this.journal = journal;
+        this.changed = Objects.requireNonNull(changed, "changed");
+        this.counts = journal != null ? journal.load(interner) : new IntLongHashMap();
+        this.counts.forEach((key, amount) -> total += amount);
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    @Override
+    public synchronized long getAmount(ItemKey key) {
+        int keyId = interner.idOf(key);
+        return keyId >= 0 ? counts.get(keyId) : 0L;
+    }
+
+    @Override
+    public boolean contains(ItemKey key) {
+        return getAmount(key) > 0L;
+    }
+
+    @Override
+    public Map<ItemKey, Long> getAll() {
+        return snapshot().entries();
+    }
+
+    @Override
+    public synchronized long getTotalItems() {
+        return total;
+    }
+
+    @Override
+    public synchronized long getDistinctItemCount() {
+        return counts.size();
+    }
+
+    @Override
+    public StorageResult insert(ItemKey key, long amount) {
+        if (key == null || key.type() == null || amount <= 0L) {
+            return StorageResult.INVALID_ITEM;
+        }
+        int keyId = interner.intern(key);
+        synchronized (this) {
+            if (!fits(amount)) {
+                return StorageResult.STORAGE_FULL;
+            }
+            long updated = writable().addTo(keyId, amount);
+            total += amount;
+            record(keyId, amount, updated);
+        }
+        return StorageResult.SUCCESS;
+    }
+
+    @Override
+    public StorageResult extract(ItemKey key, long amount) {
+        if (key == null || key.type() == null || amount <= 0L) {
+            return StorageResult.INVALID_ITEM;
+        }
+        int keyId = interner.idOf(key);
+        synchronized (this) {
+            long current = keyId >= 0 ? counts.get(keyId) : 0L;
+            if (current < amount) {
+                return StorageResult.NOT_ENOUGH_ITEMS;
+            }
+            long updated = current - amount;
+            if (updated == 0L) {
+                writable().remove(keyId);
+            } else {
+                writable().put(keyId, updated);
+            }
+            total -= amount;
+            record(keyId, -amount, updated);
+        }
+        return StorageResult.SUCCESS;
+    }
+
+    @Override
+    public synchronized boolean canInsert(ItemKey key, long amount) {
+        return key != null && key.type() != null && amount > 0L && fits(amount);
+    }
+
+    @Override
+    public boolean canExtract(ItemKey key, long amount) {
+        return key != null && amount > 0L && getAmount(key) >= amount;
+    }
+
+    @Override
+    public void clear() {
+        synchronized (this) {
+            if (shared) {
+                counts = new IntLongHashMap();
+                shared = false;
+            } else {
+                counts.clear();
+            }
+            total = 0L;
+            pendingEvents.clear();
+            pendingClear = true;
+            unsaved.clear();
+            unsavedClear = true;
+        }
+        markChanged();
+    }
+
+    @Override
+    public synchronized StorageSnapshot snapshot() {
+        shared = true;
+        return new Snapshot(System.currentTimeMillis(), counts, interner);
+    }
+
+    @Override
+    public void addListener(StorageListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    @Override
+    public void removeListener(StorageListener listener) {
+        if (listener != null) {
+            listeners.remove(listener);
+        }
+    }
+
+    /**
+     * Delivers the net change per key since the last call, a clear first if one happened.
+     */
+    void dispatchEvents() {
+        IntLongHashMap events;
+        boolean cleared;
+        synchronized (this) {
+            queued = false;
+            if (pendingEvents.isEmpty() && !pendingClear) {
+                return;
+            }
+            events = pendingEvents;
+            cleared = pendingClear;
+            pendingEvents = new IntLongHashMap();
+            pendingClear = false;
+        }
+        if (listeners.isEmpty()) {
+            return;
+        }
+        for (StorageListener listener : listeners) {
+            try {
+                if (cleared) {
+                    listener.onClear();
+                }
+                events.forEach((keyId, delta) -> {
+                    if (delta > 0L) {
+                        listener.onInsert(interner.key(keyId), delta);
+                    } else if (delta < 0L) {
+                        listener.onExtract(interner.key(keyId), -delta);
+                    }
+                });
+            } catch (Throwable ignored) {
+            }
+        }
+    }
+
+    synchronized boolean hasUnsavedChanges() {
+        return !unsaved.isEmpty() || unsavedClear;
+    }
+
+    /**
+     * Writes the amounts changed since the last save, or the whole content when the journal asks
+     * for a compaction.
+     */
+    void save() {
+        if (journal == null) {
+            return;
+        }
+        List<ItemKey> keys = new ArrayList<>();
+        long[] amounts;
+        boolean compact;
+        boolean reset;
+        synchronized (this) {
+            if (unsaved.isEmpty() && !unsavedClear) {
+                return;
+            }
+            compact = journal.shouldCompact();
+            reset = unsavedClear;
+            IntLongHashMap source = compact ? counts : unsaved;
+            amounts = new long[source.size()];
+            source.forEach((keyId, ignored) -> {
+                amounts[keys.size()] = counts.get(keyId);
+                keys.add(interner.key(keyId));
+            });
+            unsaved = new IntLongHashMap();
+            unsavedClear = false;
+        }
+        if (compact) {
+            journal.compact(keys, amounts);
+        } else {
+            journal.appendDelta(keys, amounts, reset);
+        }
+    }
+
+    /**
+     * Completes once everything saved so far is in the store.
+     */
+    CompletableFuture<?> written() {
+        return journal != null ? journal.lastWrite() : CompletableFuture.completedFuture(null);
+    }
+
+    private boolean fits(long amount) {
+        long updated = total + amount;
+        return updated >= 0L && (capacity <= 0L || updated <= capacity);
+    }
+
+    private IntLongHashMap writable() {
+        if (shared) {
+            counts = counts.copy();
+            shared = false;
+        }
+        return counts;
+    }
+
+    private void record(int keyId, long delta, long updated) {
+        pendingEvents.addTo(keyId, delta);
+        unsaved.put(keyId, updated);
+        if (!queued) {
+            queued = true;
+            changed.accept(this);
+        }
+    }
+
+    private void markChanged() {
+        synchronized (this) {
+            if (queued) {
+                return;
+            }
+            queued = true;
+        }
+        changed.accept(this);
+    }
+
+    private static final class Snapshot implements StorageSnapshot {
+        private final long timestamp;
+        private final IntLongHashMap counts;
+        private final ItemKeyInterner interner;
+        private volatile Map<ItemKey, Long> entries;
+
+        private Snapshot(long timestamp, IntLongHashMap counts, ItemKeyInterner interner) {
+            this.timestamp = timestamp;
+            this.counts = counts;
+            this.interner = interner;
+        }
+
+        @Override
+        public long timestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public Map<ItemKey, Long> entries() {
+            Map<ItemKey, Long> view = entries;
+            if (view == null) {
+                Map<ItemKey, Long> built = new HashMap<>(Math.max(16, counts.size() * 2));
+                counts.forEach((keyId, amount) -> built.put(interner.key(keyId), amount));
+                view = Collections.unmodifiableMap(built);
+                entries = view;
+            }
+            return view;
+        }
+    }
+}
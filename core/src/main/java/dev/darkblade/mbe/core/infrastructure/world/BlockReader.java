@@ -0,0 +1,43 @@
+package dev.darkblade.mbe.core.infrastructure.world;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Read-only block access by world coordinates, used by bulk scans.
+ * <p>
+ * {@link #live(World)} reads the world directly and must stay on the main thread;
+ * {@link ChunkSnapshotBlockReader} can be read from any thread once captured.
+ */
+public interface BlockReader {
+
+    UUID worldId();
+
+    Material getType(int x, int y, int z);
+
+    BlockData getBlockData(int x, int y, int z);
+
+    static BlockReader live(World world) {
+        Objects.requireNonNull(world, "world");
+        return new BlockReader() {
+            @Override
+            public UUID worldId() {
+                return world.getUID();
+            }
+
+            @Override
+            public Material getType(int x, int y, int z) {
+                return world.getBlockAt(x, y, z).getType();
+            }
+
+            @Override
+            public BlockData getBlockData(int x, int y, int z) {
+                return world.getBlockAt(x, y, z).getBlockData();
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package dev.darkblade.mbe.core.infrastructure.world;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Block reader over {@link ChunkSnapshot}s of a rectangular chunk area. Capturing must happen on
+ * the main thread and is cheap; reading afterwards is thread-safe and never touches the world.
+ */
+public final class ChunkSnapshotBlockReader implements BlockReader {
+
+    private final UUID worldId;
+    private final Map<Long, ChunkSnapshot> chunks;
+
+    private ChunkSnapshotBlockReader(UUID worldId, Map<Long, ChunkSnapshot> chunks) {
+        this.worldId = worldId;
+        this.chunks = chunks;
+    }
+
+    /**
+     * Captures every chunk touched by the block range {@code [minX..maxX] x [minZ..maxZ]}.
+     *
+     * @throws IllegalStateException if one of the chunks is not loaded
+     */
+    public static ChunkSnapshotBlockReader capture(World world, int minX, int minZ, int maxX, int maxZ) {
+        Objects.requireNonNull(world, "world");
+        int minCx = Math.floorDiv(Math.min(minX, maxX), 16);
+        int maxCx = Math.floorDiv(Math.max(minX, maxX), 16);
+        int minCz = Math.floorDiv(Math.min(minZ, maxZ), 16);
+        int maxCz = Math.floorDiv(Math.max(minZ, maxZ), 16);
+        Map<Long, ChunkSnapshot> chunks = new HashMap<>();
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                if (!world.isChunkLoaded(cx, cz)) {
+                    throw new IllegalStateException("Chunk " + cx + "," + cz + " is not loaded");
+                }
+                chunks.put(chunkKey(cx, cz), world.getChunkAt(cx, cz).getChunkSnapshot(false, false, false));
+            }
+        }
+        return new ChunkSnapshotBlockReader(world.getUID(), chunks);
+    }
+
+    @Override
+    public UUID worldId() {
+        return worldId;
+    }
+
+    @Override
+    public Material getType(int x, int y, int z) {
+        return snapshot(x, z).getBlockType(x & 15, y, z & 15);
+    }
+
+    @Override
+    public BlockData getBlockData(int x, int y, int z) {
+        return snapshot(x, z).getBlockData(x & 15, y, z & 15);
+    }
+
+    private ChunkSnapshot snapshot(int x, int z) {
+        ChunkSnapshot snapshot = chunks.get(chunkKey(x >> 4, z >> 4));
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Block " + x + "," + z + " is outside the captured area");
+        }
+        return snapshot;
+    }
+
+    private static long chunkKey(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+}
@@ -1,12 +1,13 @@
 package dev.darkblade.mbe.core.internal.debug;
 
+import dev.darkblade.mbe.api.compat.ScheduledTask;
+import dev.darkblade.mbe.api.compat.SchedulerCompatService;
 import dev.darkblade.mbe.core.MultiBlockEngine;
 import dev.darkblade.mbe.core.domain.BlockMatcher;
 import dev.darkblade.mbe.core.domain.PatternEntry;
 import org.bukkit.Color;
 import org.bukkit.Location;
 import org.bukkit.Particle;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.HashMap;
@@ -16,7 +17,7 @@ import java.util.UUID;
 public class ParticleDebugRenderer implements DebugRenderer {
     
     private final MultiBlockEngine plugin;
-    private final Map<UUID, BukkitRunnable> tasks = new HashMap<>();
+    private final Map<UUID, ScheduledTask> tasks = new HashMap<>();
 
     public ParticleDebugRenderer(MultiBlockEngine plugin) {
         this.plugin = plugin;
@@ -24,23 +25,21 @@ public class ParticleDebugRenderer implements DebugRenderer {
 
     @Override
     public void start(DebugSession session) {
-        BukkitRunnable task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (session.isExpired() || !session.player().isOnline()) {
-                    stop(session);
-                    return;
-                }
-                render(session);
+        SchedulerCompatService scheduler = plugin.getSchedulerCompatService();
+        ScheduledTask task = scheduler.runTimer(() -> {
+            if (session.isExpired() || !session.player().isOnline()) {
+                stop(session);
+                return;
             }
-        };
-        task.runTaskTimer(plugin, 0L, 20L); // Render every second
+            // Pattern blocks are read on the thread that owns the anchor
+            scheduler.runAt(session.anchor(), () -> render(session));
+        }, 0L, 20L); // Render every second
         tasks.put(session.id(), task);
     }
 
     @Override
     public void stop(DebugSession session) {
-        BukkitRunnable task = tasks.remove(session.id());
+        ScheduledTask task = tasks.remove(session.id());
         if (task != null) {
             task.cancel();
         }
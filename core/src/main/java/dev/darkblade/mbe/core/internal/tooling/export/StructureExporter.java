@@ -9,10 +9,11 @@ import dev.darkblade.mbe.api.logging.LogKv;
 import dev.darkblade.mbe.api.logging.LogLevel;
 import dev.darkblade.mbe.api.logging.LogPhase;
 import dev.darkblade.mbe.api.logging.LogScope;
+import dev.darkblade.mbe.core.infrastructure.world.BlockReader;
+import dev.darkblade.mbe.core.infrastructure.world.ChunkSnapshotBlockReader;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.block.data.Waterlogged;
 
@@ -28,6 +29,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public final class StructureExporter {
 
@@ -51,7 +54,18 @@ public final class StructureExporter {
     }
 
     public ExportResult exportToFile(String id, ExportSession session, Path exportsDir) {
-        ExportResult result = exportToYaml(id, session);
+        return writeFile(exportToYaml(id, session), exportsDir);
+    }
+
+    /**
+     * Asynchronous variant of {@link #exportToFile}. Must be called on the main thread; see
+     * {@link #exportToYamlAsync}. The file is written on the executor as well.
+     */
+    public CompletableFuture<ExportResult> exportToFileAsync(String id, ExportSession session, Path exportsDir, Executor executor) {
+        return exportToYamlAsync(id, session, executor).thenApply(result -> writeFile(result, exportsDir));
+    }
+
+    private ExportResult writeFile(ExportResult result, Path exportsDir) {
         String yaml = result.yaml;
 
         if (exportsDir == null) {
@@ -82,10 +96,50 @@ public final class StructureExporter {
         Selection selection = buildSelection(session);
         BlockKey controllerKey = requireController(session, selection.world());
 
+        return export(cleanId, selection, controllerKey, BlockReader.live(selection.world()), session.rolesSnapshot(), session.propsSnapshot());
+    }
+
+    /**
+     * Validates the session and captures chunk snapshots of the selection on the calling thread,
+     * which must be the main thread. Block scanning, hooks and YAML generation then run on
+     * {@code executor}. Validation failures complete the future exceptionally with an
+     * {@link ExportException}.
+     */
+    public CompletableFuture<ExportResult> exportToYamlAsync(String id, ExportSession session, Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        String cleanId;
+        Selection selection;
+        BlockKey controllerKey;
+        BlockReader reader;
+        Map<BlockKey, String> roles;
+        Map<BlockKey, Map<String, Object>> props;
+        try {
+            cleanId = validateId(id);
+            selection = buildSelection(session);
+            controllerKey = requireController(session, selection.world());
+            reader = ChunkSnapshotBlockReader.capture(selection.world(), selection.minX(), selection.minZ(), selection.maxX(), selection.maxZ());
+            roles = session.rolesSnapshot();
+            props = session.propsSnapshot();
+        } catch (ExportException e) {
+            return CompletableFuture.failedFuture(e);
+        } catch (IllegalStateException e) {
+            return CompletableFuture.failedFuture(new ExportException("La selección incluye chunks no cargados"));
+        }
+        return CompletableFuture.supplyAsync(() -> export(cleanId, selection, controllerKey, reader, roles, props), executor);
+    }
+
+    private ExportResult export(
+            String cleanId,
+            Selection selection,
+            BlockKey controllerKey,
+            BlockReader reader,
+            Map<BlockKey, String> roles,
+            Map<BlockKey, Map<String, Object>> props
+    ) {
         DefaultExportContext ctx = new DefaultExportContext();
 
-        Map<BlockKey, ExportBlockSnapshot> snapshots = snapshotSelection(selection, ctx);
-        applySessionMarks(session, snapshots, ctx);
+        Map<BlockKey, ExportBlockSnapshot> snapshots = snapshotSelection(selection, reader, ctx);
+        applySessionMarks(roles, props, snapshots, ctx);
         applyHooks(snapshots, ctx);
 
         ExportBlockPos controllerPos = new ExportBlockPos(controllerKey.worldId(), controllerKey.x(), controllerKey.y(), controllerKey.z());
@@ -177,18 +231,16 @@ public final class StructureExporter {
         return c;
     }
 
-    private Map<BlockKey, ExportBlockSnapshot> snapshotSelection(Selection sel, DefaultExportContext ctx) {
+    private Map<BlockKey, ExportBlockSnapshot> snapshotSelection(Selection sel, BlockReader reader, DefaultExportContext ctx) {
         Map<BlockKey, ExportBlockSnapshot> out = new LinkedHashMap<>();
-        World w = sel.world();
-        UUID wid = w.getUID();
+        UUID wid = reader.worldId();
 
         Set<Material> ignored = config.ignoredMaterials();
 
         for (int y = sel.minY(); y <= sel.maxY(); y++) {
             for (int x = sel.minX(); x <= sel.maxX(); x++) {
                 for (int z = sel.minZ(); z <= sel.maxZ(); z++) {
-                    Block block = w.getBlockAt(x, y, z);
-                    Material mat = block.getType();
+                    Material mat = reader.getType(x, y, z);
 
                     if (!config.includeAir() && mat.isAir()) {
                         continue;
@@ -200,7 +252,7 @@ public final class StructureExporter {
                     }
 
                     ExportBlockPos pos = new ExportBlockPos(wid, x, y, z);
-                    String blockData = config.includeBlockStates() ? blockDataString(block, config.includeWaterlogged()) : null;
+                    String blockData = config.includeBlockStates() ? blockDataString(reader.getBlockData(x, y, z), config.includeWaterlogged()) : null;
                     out.put(new BlockKey(wid, x, y, z), new ExportBlockSnapshot(pos, mat, blockData));
                 }
             }
@@ -213,11 +265,10 @@ public final class StructureExporter {
         return out;
     }
 
-    private static String blockDataString(Block block, boolean includeWaterlogged) {
-        if (block == null) {
+    private static String blockDataString(BlockData bd, boolean includeWaterlogged) {
+        if (bd == null) {
             return null;
         }
-        BlockData bd = block.getBlockData();
         if (!includeWaterlogged && bd instanceof Waterlogged wl) {
             if (wl.isWaterlogged()) {
                 BlockData clone = bd.clone();
@@ -232,8 +283,12 @@ public final class StructureExporter {
         return as == null ? null : as.trim();
     }
 
-    private static void applySessionMarks(ExportSession session, Map<BlockKey, ExportBlockSnapshot> snapshots, DefaultExportContext ctx) {
-        Map<BlockKey, String> roles = session.rolesSnapshot();
+    private static void applySessionMarks(
+            Map<BlockKey, String> roles,
+            Map<BlockKey, Map<String, Object>> props,
+            Map<BlockKey, ExportBlockSnapshot> snapshots,
+            DefaultExportContext ctx
+    ) {
         for (Map.Entry<BlockKey, String> e : roles.entrySet()) {
             if (e.getKey() == null || e.getValue() == null || e.getValue().isBlank()) {
                 continue;
@@ -245,7 +300,6 @@ public final class StructureExporter {
             ctx.markRole(snap.pos(), e.getValue());
         }
 
-        Map<BlockKey, Map<String, Object>> props = session.propsSnapshot();
         for (Map.Entry<BlockKey, Map<String, Object>> e : props.entrySet()) {
             if (e.getKey() == null || e.getValue() == null || e.getValue().isEmpty()) {
                 continue;
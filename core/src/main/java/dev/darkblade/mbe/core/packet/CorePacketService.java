@@ -1,13 +1,19 @@
 package dev.darkblade.mbe.core.packet;
 
 import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.manager.server.ServerVersion;
+import com.github.retrooper.packetevents.protocol.player.ClientVersion;
+import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerBundle;
 import dev.darkblade.mbe.api.packet.PacketService;
 import org.bukkit.entity.Player;
 
 import java.util.Collection;
 
 public class CorePacketService implements PacketService {
+    // The client rejects bundles holding more than 4096 packets.
+    private static final int MAX_BUNDLE_SIZE = 4000;
 
     @Override
     public void sendPacket(Player player, PacketWrapper<?> wrapper) {
@@ -17,13 +23,48 @@ public class CorePacketService implements PacketService {
         PacketEvents.getAPI().getPlayerManager().sendPacket(player, wrapper);
     }
 
+    /**
+     * Writes all wrappers and flushes the connection once. Clients on 1.19.4+ receive them
+     * wrapped in bundle delimiters so they are applied in the same frame.
+     */
     @Override
     public void sendBundle(Player player, Collection<PacketWrapper<?>> wrappers) {
         if (player == null || wrappers == null || wrappers.isEmpty()) {
             return;
         }
+        User user = PacketEvents.getAPI().getPlayerManager().getUser(player);
+        if (user == null) {
+            for (PacketWrapper<?> wrapper : wrappers) {
+                sendPacket(player, wrapper);
+            }
+            return;
+        }
+        boolean bundle = wrappers.size() > 1 && supportsBundles(user);
+        int written = 0;
         for (PacketWrapper<?> wrapper : wrappers) {
-            sendPacket(player, wrapper);
+            if (wrapper == null) {
+                continue;
+            }
+            if (bundle && written % MAX_BUNDLE_SIZE == 0) {
+                if (written > 0) {
+                    user.writePacket(new WrapperPlayServerBundle());
+                }
+                user.writePacket(new WrapperPlayServerBundle());
+            }
+            user.writePacket(wrapper);
+            written++;
+        }
+        if (bundle && written > 0) {
+            user.writePacket(new WrapperPlayServerBundle());
+        }
+        user.flushPackets();
+    }
+
+    private boolean supportsBundles(User user) {
+        if (PacketEvents.getAPI().getServerManager().getVersion().isOlderThan(ServerVersion.V_1_19_4)) {
+            return false;
         }
+        ClientVersion clientVersion = user.getClientVersion();
+        return clientVersion != null && clientVersion.isNewerThanOrEquals(ClientVersion.V_1_19_4);
     }
 }
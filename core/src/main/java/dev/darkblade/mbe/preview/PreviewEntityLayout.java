@@ -0,0 +1,103 @@
+package dev.darkblade.mbe.preview;
+
+import org.bukkit.Location;
+import org.bukkit.block.data.BlockData;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Display entities currently shown for one preview session, keyed by the local position of the
+ * definition block they represent. Entities keep their spawn anchor so that later moves can be
+ * expressed as a translation instead of a respawn.
+ */
+final class PreviewEntityLayout {
+    private final Map<Vector3i, Entry> byLocal = new LinkedHashMap<>();
+    private final Map<Integer, Vector3i> localByEntity = new HashMap<>();
+
+    Entry get(Vector3i localPosition) {
+        return byLocal.get(localPosition);
+    }
+
+    void put(Vector3i localPosition, int entityId, Location anchor, BlockData blockData, BlockPosition position) {
+        Entry previous = byLocal.put(localPosition, new Entry(localPosition, entityId, anchor, blockData, position));
+        if (previous != null) {
+            localByEntity.remove(previous.entityId);
+        }
+        localByEntity.put(entityId, localPosition);
+    }
+
+    Entry remove(Vector3i localPosition) {
+        Entry removed = byLocal.remove(localPosition);
+        if (removed != null) {
+            localByEntity.remove(removed.entityId);
+        }
+        return removed;
+    }
+
+    Entry removeEntity(int entityId) {
+        Vector3i localPosition = localByEntity.get(entityId);
+        return localPosition == null ? null : remove(localPosition);
+    }
+
+    Collection<Entry> entries() {
+        return new ArrayList<>(byLocal.values());
+    }
+
+    List<Integer> entityIds() {
+        return new ArrayList<>(localByEntity.keySet());
+    }
+
+    void clear() {
+        byLocal.clear();
+        localByEntity.clear();
+    }
+
+    static final class Entry {
+        private final Vector3i localPosition;
+        private final int entityId;
+        private final Location anchor;
+        private BlockData blockData;
+        private BlockPosition position;
+
+        private Entry(Vector3i localPosition, int entityId, Location anchor, BlockData blockData, BlockPosition position) {
+            this.localPosition = localPosition;
+            this.entityId = entityId;
+            this.anchor = anchor;
+            this.blockData = blockData;
+            this.position = position;
+        }
+
+        Vector3i localPosition() {
+            return localPosition;
+        }
+
+        int entityId() {
+            return entityId;
+        }
+
+        Location anchor() {
+            return anchor;
+        }
+
+        BlockData blockData() {
+            return blockData;
+        }
+
+        void blockData(BlockData blockData) {
+            this.blockData = blockData;
+        }
+
+        BlockPosition position() {
+            return position;
+        }
+
+        void position(BlockPosition position) {
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package dev.darkblade.mbe.preview;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+
+/**
+ * Pending spawns of one preview session for a single render version. A new render version
+ * replaces the whole queue, so stale tasks never need to be searched for and removed.
+ */
+final class PreviewRenderQueue {
+    private final PreviewSession session;
+    private final long renderVersion;
+    private final ArrayDeque<RenderTask> tasks;
+
+    PreviewRenderQueue(PreviewSession session, long renderVersion, Collection<RenderTask> tasks) {
+        this.session = session;
+        this.renderVersion = renderVersion;
+        this.tasks = new ArrayDeque<>(tasks);
+    }
+
+    PreviewSession session() {
+        return session;
+    }
+
+    boolean isStale() {
+        return session.currentRenderVersion() != renderVersion;
+    }
+
+    RenderTask poll() {
+        return tasks.poll();
+    }
+
+    boolean isEmpty() {
+        return tasks.isEmpty();
+    }
+}
@@ -4,5 +4,5 @@ import org.bukkit.Location;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
 
-record RenderTask(Player player, PreviewSession session, long renderVersion, BlockPosition blockPosition, Location worldLocation, BlockData blockData) {
+record RenderTask(Player player, PreviewSession session, long renderVersion, Vector3i localPosition, BlockPosition blockPosition, Location worldLocation, BlockData blockData) {
 }
@@ -18,24 +18,36 @@ import org.bukkit.plugin.java.JavaPlugin;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class StructurePreviewServiceImpl implements StructurePreviewService, Tickable {
     private static final String ORIGIN = "mbe";
     private static final MessageKey MSG_PREVIEW_STARTED = MessageKey.of(ORIGIN, "core.preview.started");
     private static final MessageKey MSG_PREVIEW_CANCELLED = MessageKey.of(ORIGIN, "core.preview.cancelled");
     private static final MessageKey MSG_PREVIEW_COMPLETED = MessageKey.of(ORIGIN, "core.preview.completed");
+    private static final float DISPLAY_OFFSET = 0.25F;
+    private static final float DISPLAY_SCALE = 0.5F;
+    // Display entities are culled by their real position, so keep shifted entities close to it.
+    private static final int MAX_TRANSLATION = 16;
 
     @InjectService
     private DisplayEntityRenderer injectedRenderer;
     private final DisplayEntityRenderer fallbackRenderer;
     private final PlayerMessageService messageService;
     private final PreviewSessionManager sessions;
+    private final Map<UUID, PreviewEntityLayout> layouts = new ConcurrentHashMap<>();
     private final PreviewValidationStrategy validationStrategy;
-    private final Queue<RenderTask> renderQueue;
+    private final Map<UUID, PreviewRenderQueue> renderQueues = new ConcurrentHashMap<>();
+    private int roundRobinCursor;
     private final int batchSize;
     private final int raycastDistance;
     private final double maxDistanceSquared;
@@ -53,7 +65,6 @@ public final class StructurePreviewServiceImpl implements StructurePreviewServic
         this.messageService = messageService;
         this.validationStrategy = Objects.requireNonNull(validationStrategy, "validationStrategy");
         this.sessions = new PreviewSessionManager();
-        this.renderQueue = new ConcurrentLinkedQueue<>();
         this.batchSize = Math.max(1, settings.batchSize());
         this.raycastDistance = Math.max(2, settings.raycastDistance());
         double maxDistance = Math.max(2.0D, settings.maxDistance());
@@ -68,10 +79,13 @@ public final class StructurePreviewServiceImpl implements StructurePreviewServic
                 destroyPreview(player);
             } else {
                 sessions.remove(session.playerId());
+                layouts.remove(session.playerId());
                 session.clearBlocks();
             }
         }
-        renderQueue.clear();
+        layouts.clear();
+        renderQueues.clear();
+        renderer().flush();
     }
 
     @Override
@@ -85,7 +99,8 @@ public final class StructurePreviewServiceImpl implements StructurePreviewServic
         PreviewSession session = new PreviewSession(player.getUniqueId(), definition, origin, rotation);
         session.state(PreviewState.MOVING);
         sessions.put(session);
-        queueSpawn(player, session, session.currentRenderVersion());
+        queueSpawns(player, session, session.currentRenderVersion(), plan(session).values());
+        session.touch();
         send(player, MSG_PREVIEW_STARTED);
         return session;
     }
@@ -154,7 +169,11 @@ public final class StructurePreviewServiceImpl implements StructurePreviewServic
         if (session == null) {
             return;
         }
-        List<Integer> ids = collectEntityIds(session);
+        Set<Integer> ids = new LinkedHashSet<>(collectEntityIds(session));
+        PreviewEntityLayout layout = layouts.remove(player.getUniqueId());
+        if (layout != null) {
+            ids.addAll(layout.entityIds());
+        }
         if (!ids.isEmpty()) {
             renderer().destroyEntities(player, ids);
         }
@@ -220,6 +239,10 @@ public final class StructurePreviewServiceImpl implements StructurePreviewServic
             return;
         }
         renderer().destroyEntities(player, List.of(previewBlock.entityId()));
+        PreviewEntityLayout layout = layouts.get(player.getUniqueId());
+        if (layout != null) {
+            layout.removeEntity(previewBlock.entityId());
+        }
         session.touch();
         if (session.isCompleted()) {
             destroyPreview(player, false);
@@ -227,21 +250,72 @@ public final class StructurePreviewServiceImpl implements StructurePreviewServic
         }
     }
 
+    /**
+     * Re-renders the session as a diff against the entities already shown. Entities whose block
+     * stays visible are moved through a transform update, so only blocks entering or leaving the
+     * visible set are spawned or destroyed.
+     */
     private void rerender(Player player, PreviewSession session) {
-        List<Integer> ids = collectEntityIds(session);
-        if (!ids.isEmpty()) {
-            renderer().destroyEntities(player, ids);
-        }
         pruneQueuedTasks(session);
+        long renderVersion = session.nextRenderVersion();
+        PreviewEntityLayout layout = layouts.computeIfAbsent(player.getUniqueId(), id -> new PreviewEntityLayout());
+        Map<Vector3i, PlannedBlock> planned = plan(session);
+        List<Integer> destroyed = new ArrayList<>();
         session.clearBlocks();
-        queueSpawn(player, session, session.nextRenderVersion());
+        for (PreviewEntityLayout.Entry entry : layout.entries()) {
+            PlannedBlock target = planned.get(entry.localPosition());
+            if (target == null || !moveEntity(player, entry, target)) {
+                destroyed.add(entry.entityId());
+                layout.remove(entry.localPosition());
+                continue;
+            }
+            planned.remove(entry.localPosition());
+            session.trackBlock(target.position(), new SessionPreviewBlock(target.blockData(), entry.entityId(), false));
+        }
+        if (!destroyed.isEmpty()) {
+            renderer().destroyEntities(player, destroyed);
+        }
+        queueSpawns(player, session, renderVersion, planned.values());
+        session.touch();
+    }
+
+    private boolean moveEntity(Player player, PreviewEntityLayout.Entry entry, PlannedBlock target) {
+        Location anchor = entry.anchor();
+        Location destination = target.worldLocation();
+        if (anchor == null || !Objects.equals(anchor.getWorld(), destination.getWorld())) {
+            return false;
+        }
+        int dx = destination.getBlockX() - anchor.getBlockX();
+        int dy = destination.getBlockY() - anchor.getBlockY();
+        int dz = destination.getBlockZ() - anchor.getBlockZ();
+        if (Math.abs(dx) > MAX_TRANSLATION || Math.abs(dy) > MAX_TRANSLATION || Math.abs(dz) > MAX_TRANSLATION) {
+            return false;
+        }
+        if (!target.position().equals(entry.position())) {
+            boolean moved = renderer().updateBlockDisplayTransform(
+                player,
+                entry.entityId(),
+                dx + DISPLAY_OFFSET, dy + DISPLAY_OFFSET, dz + DISPLAY_OFFSET,
+                DISPLAY_SCALE, DISPLAY_SCALE, DISPLAY_SCALE
+            );
+            if (!moved) {
+                return false;
+            }
+            entry.position(target.position());
+        }
+        if (!target.blockData().equals(entry.blockData())) {
+            renderer().updateBlockDisplay(entry.entityId(), target.blockData());
+            entry.blockData(target.blockData());
+        }
+        return true;
     }
 
-    private void queueSpawn(Player player, PreviewSession session, long renderVersion) {
+    private Map<Vector3i, PlannedBlock> plan(PreviewSession session) {
+        Map<Vector3i, PlannedBlock> planned = new LinkedHashMap<>();
         if (session.definition() == null || session.definition().blocks() == null) {
-            return;
+            return planned;
         }
-        int count = 0;
+        Vector3i nudge = session.nudgeOffset();
         for (PreviewBlock block : session.definition().blocks()) {
             if (block == null || block.localPosition() == null || block.blockData() == null) {
                 continue;
@@ -251,11 +325,8 @@ public final class StructurePreviewServiceImpl implements StructurePreviewServic
             }
             Vector3i rotated = VectorUtils.rotate(block.localPosition(), session.rotation());
             Location worldLocation = rotated.addTo(session.origin());
-            
-            // Apply nudge offset
-            Vector3i nudge = session.nudgeOffset();
             worldLocation.add(nudge.x(), nudge.y(), nudge.z());
-            
+
             if (validationStrategy.validate(worldLocation, block.blockData()) == PreviewBlockState.INVALID) {
                 continue;
             }
@@ -265,59 +336,122 @@ public final class StructurePreviewServiceImpl implements StructurePreviewServic
                 worldLocation.getBlockY(),
                 worldLocation.getBlockZ()
             );
-            renderQueue.offer(new RenderTask(player, session, renderVersion, position, worldLocation, block.blockData()));
-            count++;
+            planned.put(block.localPosition(), new PlannedBlock(block.localPosition(), position, worldLocation, block.blockData()));
         }
-        session.touch();
+        return planned;
+    }
+
+    /**
+     * Replaces the session's pending spawns with the given blocks, nearest to the player's eyes first.
+     */
+    private void queueSpawns(Player player, PreviewSession session, long renderVersion, Collection<PlannedBlock> blocks) {
+        if (blocks.isEmpty()) {
+            renderQueues.remove(session.playerId());
+            return;
+        }
+        Location eye = player.getEyeLocation();
+        double ex = eye.getX();
+        double ey = eye.getY();
+        double ez = eye.getZ();
+        List<PlannedBlock> ordered = new ArrayList<>(blocks);
+        ordered.sort(Comparator.comparingDouble(block -> {
+            Location location = block.worldLocation();
+            double dx = location.getX() + 0.5D - ex;
+            double dy = location.getY() + 0.5D - ey;
+            double dz = location.getZ() + 0.5D - ez;
+            return dx * dx + dy * dy + dz * dz;
+        }));
+        List<RenderTask> tasks = new ArrayList<>(ordered.size());
+        for (PlannedBlock block : ordered) {
+            tasks.add(new RenderTask(player, session, renderVersion, block.localPosition(), block.position(), block.worldLocation(), block.blockData()));
+        }
+        renderQueues.put(session.playerId(), new PreviewRenderQueue(session, renderVersion, tasks));
     }
 
     @Override
     public void tick() {
         processQueue();
         cleanupSessions();
+        renderer().flush();
     }
 
+    /**
+     * Spends up to {@code batchSize} spawns per tick, handing them out one at a time to each
+     * session in turn so a large preview cannot starve smaller ones.
+     */
     private void processQueue() {
-        if (renderQueue.isEmpty()) {
+        if (renderQueues.isEmpty()) {
             return;
         }
-        int processed = 0;
-        while (processed < batchSize) {
-            RenderTask task = renderQueue.poll();
-            if (task == null) {
-                return;
-            }
-            processed++;
-            Player player = task.player();
-            if (player == null || !player.isOnline()) {
-                continue;
-            }
-            PreviewSession active = sessions.get(player.getUniqueId());
-            if (active == null || active != task.session()) {
-                continue;
-            }
-            if (active.currentRenderVersion() != task.renderVersion()) {
+        List<PreviewRenderQueue> queues = new ArrayList<>(renderQueues.size());
+        for (PreviewRenderQueue queue : renderQueues.values()) {
+            if (queue.isStale() || queue.isEmpty() || sessions.get(queue.session().playerId()) != queue.session()) {
+                renderQueues.remove(queue.session().playerId(), queue);
                 continue;
             }
-            int entityId = renderer().spawnBlockDisplay(
-                player,
-                task.worldLocation(),
-                task.blockData(),
-                0.25f, 0.25f, 0.25f, // Translation offset
-                0.5f, 0.5f, 0.5f     // Scale (50%)
-            );
-            if (entityId > 0) {
-                SessionPreviewBlock previous = active.blocks().get(task.blockPosition());
-                if (previous != null && previous.completed()) {
-                    renderer().destroyEntities(player, List.of(entityId));
-                } else {
-                    if (previous != null && previous.entityId() > 0 && previous.entityId() != entityId) {
-                        renderer().destroyEntities(player, List.of(previous.entityId()));
-                    }
-                    active.trackBlock(task.blockPosition(), new SessionPreviewBlock(task.blockData(), entityId, previous != null && previous.completed()));
+            queues.add(queue);
+        }
+        if (queues.isEmpty()) {
+            return;
+        }
+        int count = queues.size();
+        int start = Math.floorMod(roundRobinCursor++, count);
+        int budget = batchSize;
+        boolean progressed = true;
+        while (budget > 0 && progressed) {
+            progressed = false;
+            for (int i = 0; i < count && budget > 0; i++) {
+                PreviewRenderQueue queue = queues.get((start + i) % count);
+                RenderTask task = queue.poll();
+                if (task == null) {
+                    continue;
                 }
+                progressed = true;
+                budget--;
+                render(task);
             }
         }
+        for (PreviewRenderQueue queue : queues) {
+            if (queue.isEmpty()) {
+                renderQueues.remove(queue.session().playerId(), queue);
+            }
+        }
+    }
+
+    private void render(RenderTask task) {
+        Player player = task.player();
+        if (player == null || !player.isOnline()) {
+            return;
+        }
+        PreviewSession active = sessions.get(player.getUniqueId());
+        if (active == null || active != task.session()) {
+            return;
+        }
+        if (active.currentRenderVersion() != task.renderVersion()) {
+            return;
+        }
+        int entityId = renderer().spawnBlockDisplay(
+            player,
+            task.worldLocation(),
+            task.blockData(),
+            DISPLAY_OFFSET, DISPLAY_OFFSET, DISPLAY_OFFSET,
+            DISPLAY_SCALE, DISPLAY_SCALE, DISPLAY_SCALE
+        );
+        if (entityId <= 0) {
+            return;
+        }
+        SessionPreviewBlock previous = active.blocks().get(task.blockPosition());
+        if (previous != null && previous.completed()) {
+            renderer().destroyEntities(player, List.of(entityId));
+            return;
+        }
+        PreviewEntityLayout layout = layouts.computeIfAbsent(player.getUniqueId(), id -> new PreviewEntityLayout());
+        if (previous != null && previous.entityId() > 0 && previous.entityId() != entityId) {
+            renderer().destroyEntities(player, List.of(previous.entityId()));
+            layout.removeEntity(previous.entityId());
+        }
+        active.trackBlock(task.blockPosition(), new SessionPreviewBlock(task.blockData(), entityId, false));
+        layout.put(task.localPosition(), entityId, task.worldLocation(), task.blockData(), task.blockPosition());
     }
 
     private void cleanupSessions() {
@@ -326,6 +460,7 @@ public final class StructurePreviewServiceImpl implements StructurePreviewServic
             Player player = Bukkit.getPlayer(session.playerId());
             if (player == null || !player.isOnline()) {
                 sessions.remove(session.playerId());
+                layouts.remove(session.playerId());
                 pruneQueuedTasks(session);
                 session.clearBlocks();
                 continue;
@@ -375,7 +510,10 @@ public final class StructurePreviewServiceImpl implements StructurePreviewServic
         if (session == null) {
             return;
         }
-        renderQueue.removeIf(task -> task != null && task.session() == session);
+        PreviewRenderQueue queue = renderQueues.get(session.playerId());
+        if (queue != null && queue.session() == session) {
+            renderQueues.remove(session.playerId(), queue);
+        }
     }
 
     private boolean matches(BlockData placed, BlockData expected) {
@@ -411,4 +549,7 @@ public final class StructurePreviewServiceImpl implements StructurePreviewServic
     private DisplayEntityRenderer renderer() {
         return injectedRenderer == null ? fallbackRenderer : injectedRenderer;
     }
+
+    private record PlannedBlock(Vector3i localPosition, BlockPosition position, Location worldLocation, BlockData blockData) {
+    }
 }
@@ -0,0 +1,18 @@
+package dev.darkblade.mbe.uiengine;
+
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Data provider for dynamic sections whose rows are expensive to compute (storage queries, instance
+ * aggregation, ...).
+ * <p>
+ * The returned future may complete on any thread. The renderer opens the view with placeholders, caches
+ * the result per player in {@link InventoryDataCache} and fills the section on the main thread once the
+ * future completes.
+ */
+public interface AsyncInventoryDataProvider {
+    CompletableFuture<List<?>> provideAsync(Player player);
+}
@@ -2,9 +2,16 @@ package dev.darkblade.mbe.uiengine;
 
 public record DynamicSection(
         char symbol,
-        String providerId
+        String providerId,
+        char placeholder
 ) {
+    public static final char NO_PLACEHOLDER = '\0';
+
     public DynamicSection {
         providerId = providerId == null ? "" : providerId.trim().toLowerCase(java.util.Locale.ROOT);
     }
+
+    public DynamicSection(char symbol, String providerId) {
+        this(symbol, providerId, NO_PLACEHOLDER);
+    }
 }
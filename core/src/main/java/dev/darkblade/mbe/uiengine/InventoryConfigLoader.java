@@ -93,7 +93,9 @@ public final class InventoryConfigLoader {
             if (providerId.isBlank()) {
                 continue;
             }
-            out.add(new DynamicSection(symbolRaw.charAt(0), providerId));
+            String placeholderRaw = row.getString("placeholder", "");
+            char placeholder = placeholderRaw.isBlank() ? DynamicSection.NO_PLACEHOLDER : placeholderRaw.charAt(0);
+            out.add(new DynamicSection(symbolRaw.charAt(0), providerId, placeholder));
         }
         return List.copyOf(out);
     }
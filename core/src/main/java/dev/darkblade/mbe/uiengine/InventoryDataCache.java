@@ -0,0 +1,84 @@
+package dev.darkblade.mbe.uiengine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-player cache of {@link AsyncInventoryDataProvider} results.
+ * <p>
+ * Entries live until explicitly invalidated. Invalidating while a load is in flight discards that load's
+ * result, so the next render requests fresh data.
+ */
+public final class InventoryDataCache {
+    private final Map<Key, List<?>> values = new ConcurrentHashMap<>();
+    private final Map<Key, CompletableFuture<Void>> loading = new ConcurrentHashMap<>();
+
+    public List<?> get(UUID playerId, String providerId) {
+        if (playerId == null || providerId == null) {
+            return null;
+        }
+        return values.get(new Key(playerId, providerId));
+    }
+
+    /**
+     * Marks a load as started, completing {@code ready} once it finishes.
+     *
+     * @return {@code null} if the caller must start the load, otherwise the future of the load already
+     *         in flight, which the caller should wait on instead
+     */
+    CompletableFuture<Void> begin(UUID playerId, String providerId, CompletableFuture<Void> ready) {
+        return loading.putIfAbsent(new Key(playerId, providerId), Objects.requireNonNull(ready, "ready"));
+    }
+
+    boolean complete(UUID playerId, String providerId, CompletableFuture<Void> token, List<?> data) {
+        Key key = new Key(playerId, providerId);
+        if (!loading.remove(key, token)) {
+            return false;
+        }
+        values.put(key, data == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(data)));
+        return true;
+    }
+
+    public void invalidate(UUID playerId) {
+        if (playerId == null) {
+            return;
+        }
+        values.keySet().removeIf(key -> key.playerId().equals(playerId));
+        loading.keySet().removeIf(key -> key.playerId().equals(playerId));
+    }
+
+    public void invalidate(UUID playerId, String providerId) {
+        if (playerId == null || providerId == null) {
+            return;
+        }
+        Key key = new Key(playerId, providerId);
+        values.remove(key);
+        loading.remove(key);
+    }
+
+    public void invalidateProvider(String providerId) {
+        if (providerId == null) {
+            return;
+        }
+        values.keySet().removeIf(key -> key.providerId().equals(providerId));
+        loading.keySet().removeIf(key -> key.providerId().equals(providerId));
+    }
+
+    public void invalidateAll() {
+        values.clear();
+        loading.clear();
+    }
+
+    private record Key(UUID playerId, String providerId) {
+        private Key {
+            Objects.requireNonNull(playerId, "playerId");
+            Objects.requireNonNull(providerId, "providerId");
+        }
+    }
+}
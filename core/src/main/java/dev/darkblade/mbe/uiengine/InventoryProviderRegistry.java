@@ -0,0 +1,62 @@
+package dev.darkblade.mbe.uiengine;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data providers referenced by {@code dynamic_sections.<id>.provider}, sync or async. Ids are
+ * matched case-insensitively, like the section's provider id. Registering an id replaces any
+ * provider of either kind already registered under it.
+ */
+public final class InventoryProviderRegistry {
+    private final Map<String, InventoryDataProvider> providers = new ConcurrentHashMap<>();
+    private final Map<String, AsyncInventoryDataProvider> asyncProviders = new ConcurrentHashMap<>();
+
+    public InventoryProviderRegistry() {
+    }
+
+    public InventoryProviderRegistry(Map<String, InventoryDataProvider> providers) {
+        if (providers != null) {
+            providers.forEach(this::register);
+        }
+    }
+
+    public void register(String providerId, InventoryDataProvider provider) {
+        String id = normalize(providerId);
+        Objects.requireNonNull(provider, "provider");
+        asyncProviders.remove(id);
+        providers.put(id, provider);
+    }
+
+    public void registerAsync(String providerId, AsyncInventoryDataProvider provider) {
+        String id = normalize(providerId);
+        Objects.requireNonNull(provider, "provider");
+        providers.remove(id);
+        asyncProviders.put(id, provider);
+    }
+
+    public void unregister(String providerId) {
+        String id = normalize(providerId);
+        providers.remove(id);
+        asyncProviders.remove(id);
+    }
+
+    public InventoryDataProvider provider(String providerId) {
+        return providerId == null ? null : providers.get(providerId);
+    }
+
+    public AsyncInventoryDataProvider asyncProvider(String providerId) {
+        return providerId == null ? null : asyncProviders.get(providerId);
+    }
+
+    static String normalize(String providerId) {
+        Objects.requireNonNull(providerId, "providerId");
+        String id = providerId.trim().toLowerCase(Locale.ROOT);
+        if (id.isEmpty()) {
+            throw new IllegalArgumentException("providerId");
+        }
+        return id;
+    }
+}
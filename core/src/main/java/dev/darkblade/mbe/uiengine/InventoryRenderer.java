@@ -1,5 +1,8 @@
 package dev.darkblade.mbe.uiengine;
 
+import dev.darkblade.mbe.api.compat.SchedulerCompatService;
+import dev.darkblade.mbe.api.logging.EngineLogger;
+import dev.darkblade.mbe.api.logging.LogKv;
 import dev.darkblade.mbe.preview.MultiblockDefinition;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -17,14 +20,50 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 public final class InventoryRenderer {
-    private final Map<String, InventoryDataProvider> providers;
-    private final Map<String, Map<Integer, Character>> slotSymbolsCache = new ConcurrentHashMap<>();
+    private static final InventoryItemDefinition DEFAULT_PLACEHOLDER =
+            new InventoryItemDefinition(Material.LIGHT_GRAY_STAINED_GLASS_PANE, "&7...", List.of(), false);
+
+    /**
+     * Binding recorded for slots that currently show a placeholder while their async provider loads.
+     */
+    static final Object PENDING = new Object();
+
+    private final InventoryProviderRegistry providers;
+    private final InventoryDataCache dataCache;
+    private final SchedulerCompatService scheduler;
+    private final EngineLogger logger;
+    private final Map<String, CompiledView> compiledViews = new ConcurrentHashMap<>();
 
     public InventoryRenderer(Map<String, InventoryDataProvider> providers) {
-        this.providers = providers == null ? Map.of() : Map.copyOf(providers);
+        this.providers = new InventoryProviderRegistry(providers);
+        this.dataCache = new InventoryDataCache();
+        this.scheduler = null;
+        this.logger = null;
+    }
+
+    public InventoryRenderer(
+            InventoryProviderRegistry providers,
+            InventoryDataCache dataCache,
+            SchedulerCompatService scheduler,
+            EngineLogger logger
+    ) {
+        this.providers = Objects.requireNonNull(providers, "providers");
+        this.dataCache = Objects.requireNonNull(dataCache, "dataCache");
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.logger = logger;
+    }
+
+    public InventoryDataCache dataCache() {
+        return dataCache;
+    }
+
+    public InventoryProviderRegistry providers() {
+        return providers;
     }
 
     public Inventory render(Player player, InventoryViewDefinition view) {
@@ -33,35 +72,30 @@ public final class InventoryRenderer {
 
     public RenderResult renderWithBindings(Player player, InventoryViewDefinition view) {
         Objects.requireNonNull(view, "view");
-        Inventory inventory = Bukkit.createInventory(new ViewHolder(view.id()), view.size(), color(view.title()));
-        Map<Integer, Object> bindings = new LinkedHashMap<>();
-        Map<Character, List<Integer>> dynamicSlots = collectDynamicSlots(view);
-        Map<Integer, Character> symbolsBySlot = resolveSymbolsBySlot(view);
-
-        for (Map.Entry<Integer, Character> entry : symbolsBySlot.entrySet()) {
-            int slot = entry.getKey();
-            char symbol = entry.getValue();
-            if (dynamicSlots.containsKey(symbol)) {
-                continue;
-            }
-            InventoryItemDefinition item = view.items().get(symbol);
-            if (item == null) {
-                continue;
-            }
-            inventory.setItem(slot, createItem(item, null, 0));
+        CompiledView compiled = compile(view);
+        Inventory inventory = Bukkit.createInventory(new ViewHolder(view.id()), view.size(), compiled.title());
+        // Inventory#setItem stores a copy, so the prebuilt templates can be shared across renders.
+        for (Map.Entry<Integer, ItemStack> entry : compiled.staticItems().entrySet()) {
+            inventory.setItem(entry.getKey(), entry.getValue());
         }
 
+        Map<Integer, Object> bindings = new LinkedHashMap<>();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
         for (DynamicSection section : view.dynamicSections()) {
-            List<Integer> slots = dynamicSlots.getOrDefault(section.symbol(), List.of());
+            List<Integer> slots = compiled.dynamicSlots().getOrDefault(section.symbol(), List.of());
             if (slots.isEmpty()) {
                 continue;
             }
-            InventoryDataProvider provider = providers.get(section.providerId());
-            if (provider == null) {
+            List<?> data = provide(player, section, pending);
+            if (data == null) {
+                ItemStack placeholder = placeholderFor(compiled, section);
+                for (int slot : slots) {
+                    bindings.put(slot, PENDING);
+                    inventory.setItem(slot, placeholder);
+                }
                 continue;
             }
-            List<?> data = provider.provide(player);
-            if (data == null || data.isEmpty()) {
+            if (data.isEmpty()) {
                 continue;
             }
             InventoryItemDefinition template = view.items().get(section.symbol());
@@ -73,45 +107,194 @@ public final class InventoryRenderer {
                 inventory.setItem(slot, createItem(template, row, i));
             }
         }
-        return new RenderResult(inventory, Map.copyOf(bindings));
+        return new RenderResult(inventory, Map.copyOf(bindings), List.copyOf(pending));
     }
 
-    private Map<Character, List<Integer>> collectDynamicSlots(InventoryViewDefinition view) {
-        Map<Character, List<Integer>> out = new LinkedHashMap<>();
-        Map<Integer, Character> symbolsBySlot = resolveSymbolsBySlot(view);
+    /**
+     * Re-renders the dynamic sections of an already open session in place.
+     * <p>
+     * Static slots are never touched. A dynamic slot is only written when the item its row renders to
+     * differs from the one in the inventory; slots whose row disappeared are cleared. Rows are compared
+     * by their rendered item rather than by identity, since providers may update rows in place.
+     */
+    public RenderResult refresh(Player player, InventoryViewDefinition view, PlayerInventorySession session) {
+        Objects.requireNonNull(view, "view");
+        Objects.requireNonNull(session, "session");
+        CompiledView compiled = compile(view);
+        Inventory inventory = session.inventory();
+        Map<Integer, Object> previous = session.bindings() == null ? Map.of() : session.bindings();
+        Map<Integer, Object> bindings = new LinkedHashMap<>();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
         for (DynamicSection section : view.dynamicSections()) {
-            List<Integer> slots = new ArrayList<>();
-            for (Map.Entry<Integer, Character> entry : symbolsBySlot.entrySet()) {
-                if (entry.getValue() == section.symbol()) {
-                    slots.add(entry.getKey());
-                }
+            List<Integer> slots = compiled.dynamicSlots().getOrDefault(section.symbol(), List.of());
+            if (slots.isEmpty()) {
+                continue;
             }
-            out.put(section.symbol(), List.copyOf(slots));
-        }
-        return out;
-    }
-
-    private Map<Integer, Character> resolveSymbolsBySlot(InventoryViewDefinition view) {
-        return slotSymbolsCache.computeIfAbsent(view.id(), key -> {
-            Map<Integer, Character> map = new LinkedHashMap<>();
-            int slot = 0;
-            for (String row : view.layout()) {
+            List<?> data = provide(player, section, pending);
+            InventoryItemDefinition template = view.items().get(section.symbol());
+            ItemStack placeholder = data == null ? placeholderFor(compiled, section) : null;
+            for (int i = 0; i < slots.size(); i++) {
+                int slot = slots.get(i);
+                Object row = data == null ? PENDING : i < data.size() ? data.get(i) : null;
+                Object old = previous.get(slot);
                 if (row == null) {
+                    if (old != null) {
+                        inventory.setItem(slot, null);
+                    }
                     continue;
                 }
-                for (int i = 0; i < row.length() && slot < view.size(); i++) {
-                    char symbol = row.charAt(i);
-                    if (symbol != ' ' && symbol != '.') {
-                        map.put(slot, symbol);
+                bindings.put(slot, row);
+                if (row == PENDING) {
+                    if (old != PENDING) {
+                        inventory.setItem(slot, placeholder);
                     }
-                    slot++;
+                    continue;
                 }
-                if (slot >= view.size()) {
-                    break;
+                ItemStack item = createItem(template, row, i);
+                if (!item.equals(inventory.getItem(slot))) {
+                    inventory.setItem(slot, item);
+                }
+            }
+        }
+        return new RenderResult(inventory, Map.copyOf(bindings), List.copyOf(pending));
+    }
+
+    public void invalidate(String viewId) {
+        if (viewId == null) {
+            return;
+        }
+        compiledViews.remove(viewId);
+    }
+
+    public void invalidateAll() {
+        compiledViews.clear();
+    }
+
+    /**
+     * Resolves the rows of a dynamic section.
+     *
+     * @return the rows, or {@code null} while an async provider is still loading; in that case the
+     *         future completing on the main thread once data is cached is added to {@code pending},
+     *         whether this call started the load or joined one already in flight
+     */
+    private List<?> provide(Player player, DynamicSection section, List<CompletableFuture<Void>> pending) {
+        InventoryDataProvider provider = providers.provider(section.providerId());
+        if (provider != null) {
+            List<?> data = provider.provide(player);
+            return data == null ? List.of() : data;
+        }
+        AsyncInventoryDataProvider asyncProvider = providers.asyncProvider(section.providerId());
+        if (asyncProvider == null || player == null || scheduler == null) {
+            return List.of();
+        }
+        UUID playerId = player.getUniqueId();
+        List<?> cached = dataCache.get(playerId, section.providerId());
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<Void> ready = new CompletableFuture<>();
+        CompletableFuture<Void> inFlight = dataCache.begin(playerId, section.providerId(), ready);
+        if (inFlight != null) {
+            pending.add(inFlight);
+            return null;
+        }
+        load(player, section.providerId(), asyncProvider, ready);
+        pending.add(ready);
+        return null;
+    }
+
+    private void load(Player player, String providerId, AsyncInventoryDataProvider provider, CompletableFuture<Void> ready) {
+        UUID playerId = player.getUniqueId();
+        CompletableFuture<List<?>> future;
+        try {
+            future = provider.provideAsync(player);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        if (future == null) {
+            future = CompletableFuture.completedFuture(List.of());
+        }
+        future.whenComplete((data, error) -> scheduler.runSync(() -> {
+            if (error != null && logger != null) {
+                logger.warn("Inventory data provider failed",
+                        LogKv.kv("provider", providerId),
+                        LogKv.kv("player", playerId),
+                        LogKv.kv("error", String.valueOf(error)));
+            }
+            // Failed loads are cached as empty so the section does not re-request until invalidated.
+            dataCache.complete(playerId, providerId, ready, error == null ? data : List.of());
+            ready.complete(null);
+        }));
+    }
+
+    private ItemStack placeholderFor(CompiledView compiled, DynamicSection section) {
+        return compiled.placeholders().get(section.symbol());
+    }
+
+    private CompiledView compile(InventoryViewDefinition view) {
+        CompiledView cached = compiledViews.get(view.id());
+        if (cached != null && cached.source() == view) {
+            return cached;
+        }
+        CompiledView compiled = buildCompiledView(view);
+        compiledViews.put(view.id(), compiled);
+        return compiled;
+    }
+
+    private CompiledView buildCompiledView(InventoryViewDefinition view) {
+        Map<Integer, Character> symbolsBySlot = resolveSymbolsBySlot(view);
+        Map<Character, List<Integer>> dynamicSlots = new LinkedHashMap<>();
+        for (DynamicSection section : view.dynamicSections()) {
+            dynamicSlots.putIfAbsent(section.symbol(), new ArrayList<>());
+        }
+        Map<Character, ItemStack> templates = new LinkedHashMap<>();
+        Map<Character, ItemStack> placeholders = new LinkedHashMap<>();
+        for (DynamicSection section : view.dynamicSections()) {
+            InventoryItemDefinition item = view.items().get(section.placeholder());
+            placeholders.putIfAbsent(section.symbol(), createItem(item == null ? DEFAULT_PLACEHOLDER : item, null, 0));
+        }
+        Map<Integer, ItemStack> staticItems = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Character> entry : symbolsBySlot.entrySet()) {
+            int slot = entry.getKey();
+            char symbol = entry.getValue();
+            List<Integer> slots = dynamicSlots.get(symbol);
+            if (slots != null) {
+                slots.add(slot);
+                continue;
+            }
+            InventoryItemDefinition item = view.items().get(symbol);
+            if (item == null) {
+                continue;
+            }
+            staticItems.put(slot, templates.computeIfAbsent(symbol, key -> createItem(item, null, 0)));
+        }
+        Map<Character, List<Integer>> frozen = new LinkedHashMap<>();
+        for (Map.Entry<Character, List<Integer>> entry : dynamicSlots.entrySet()) {
+            frozen.put(entry.getKey(), List.copyOf(entry.getValue()));
+        }
+        return new CompiledView(view, color(view.title()), Map.copyOf(frozen), Map.copyOf(staticItems),
+                Map.copyOf(placeholders));
+    }
+
+    private Map<Integer, Character> resolveSymbolsBySlot(InventoryViewDefinition view) {
+        Map<Integer, Character> map = new LinkedHashMap<>();
+        int slot = 0;
+        for (String row : view.layout()) {
+            if (row == null) {
+                continue;
+            }
+            for (int i = 0; i < row.length() && slot < view.size(); i++) {
+                char symbol = row.charAt(i);
+                if (symbol != ' ' && symbol != '.') {
+                    map.put(slot, symbol);
                 }
+                slot++;
             }
-            return Map.copyOf(map);
-        });
+            if (slot >= view.size()) {
+                break;
+            }
+        }
+        return map;
     }
 
     private ItemStack createItem(InventoryItemDefinition template, Object data, int index) {
@@ -166,7 +349,23 @@ public final class InventoryRenderer {
         return ChatColor.translateAlternateColorCodes('&', text == null ? "" : text);
     }
 
-    public record RenderResult(Inventory inventory, Map<Integer, Object> bindings) {
+    private record CompiledView(
+            InventoryViewDefinition source,
+            String title,
+            Map<Character, List<Integer>> dynamicSlots,
+            Map<Integer, ItemStack> staticItems,
+            Map<Character, ItemStack> placeholders
+    ) {
+    }
+
+    /**
+     * @param pending futures completing on the main thread as async sections finish loading; callers
+     *                should {@link #refresh} the session when each one completes
+     */
+    public record RenderResult(Inventory inventory, Map<Integer, Object> bindings, List<CompletableFuture<Void>> pending) {
+        public RenderResult(Inventory inventory, Map<Integer, Object> bindings) {
+            this(inventory, bindings, List.of());
+        }
     }
 
     public record ViewHolder(String viewId) implements InventoryHolder {
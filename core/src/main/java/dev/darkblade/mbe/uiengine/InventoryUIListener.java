@@ -9,6 +9,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 
 import java.util.Objects;
@@ -17,11 +18,22 @@ public final class InventoryUIListener implements Listener {
     private final InventorySessionStore sessions;
     private final BlueprintService blueprintService;
     private final InventoryCompatService compat;
+    private final InventoryDataCache dataCache;
 
     public InventoryUIListener(InventorySessionStore sessions, BlueprintService blueprintService, InventoryCompatService compat) {
+        this(sessions, blueprintService, compat, null);
+    }
+
+    public InventoryUIListener(
+            InventorySessionStore sessions,
+            BlueprintService blueprintService,
+            InventoryCompatService compat,
+            InventoryDataCache dataCache
+    ) {
         this.sessions = Objects.requireNonNull(sessions, "sessions");
         this.blueprintService = Objects.requireNonNull(blueprintService, "blueprintService");
         this.compat = Objects.requireNonNull(compat, "compat");
+        this.dataCache = dataCache;
     }
 
     @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
@@ -62,4 +74,13 @@ public final class InventoryUIListener implements Listener {
             sessions.clear(player);
         }
     }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        Player player = event.getPlayer();
+        sessions.clear(player);
+        if (dataCache != null) {
+            dataCache.invalidate(player.getUniqueId());
+        }
+    }
 }
@@ -4,4 +4,26 @@ import org.bukkit.entity.Player;
 
 public interface InventoryUIService {
     void open(Player player, String viewId);
+
+    void refresh(Player player);
+
+    /**
+     * Drops cached async provider data for the player ({@code providerId} {@code null} for all providers)
+     * and refreshes the open view, if any.
+     */
+    void invalidate(Player player, String providerId);
+
+    /**
+     * Registers the provider behind {@code dynamic_sections.<id>.provider: providerId}, replacing any
+     * provider already registered under that id.
+     */
+    void registerProvider(String providerId, InventoryDataProvider provider);
+
+    /**
+     * Registers an async provider under {@code providerId}, replacing any provider already registered
+     * under that id. Results already cached for the id are dropped.
+     */
+    void registerAsyncProvider(String providerId, AsyncInventoryDataProvider provider);
+
+    void unregisterProvider(String providerId);
 }
@@ -5,6 +5,9 @@ import org.bukkit.entity.Player;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 public final class InventoryUIServiceImpl implements InventoryUIService {
@@ -12,6 +15,7 @@ public final class InventoryUIServiceImpl implements InventoryUIService {
     private final InventoryRenderer renderer;
     private final InventorySessionStore sessions;
     private final Map<String, InventoryViewDefinition> views = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<CompletableFuture<Void>>> awaiting = new ConcurrentHashMap<>();
 
     public InventoryUIServiceImpl(InventoryConfigLoader loader, InventoryRenderer renderer, InventorySessionStore sessions) {
         this.loader = Objects.requireNonNull(loader, "loader");
@@ -23,6 +27,7 @@ public final class InventoryUIServiceImpl implements InventoryUIService {
     public void reload() {
         views.clear();
         views.putAll(loader.load());
+        renderer.invalidateAll();
     }
 
     @Override
@@ -34,8 +39,89 @@ public final class InventoryUIServiceImpl implements InventoryUIService {
         if (view == null) {
             return;
         }
+        PlayerInventorySession current = sessions.get(player).orElse(null);
+        if (current != null && current.viewId().equals(view.id())) {
+            // Sessions are cleared on close, so the view is still on screen: update it in place.
+            refresh(player, view, current);
+            return;
+        }
         InventoryRenderer.RenderResult rendered = renderer.renderWithBindings(player, view);
         sessions.put(player, new PlayerInventorySession(view.id(), rendered.inventory(), rendered.bindings()));
         player.openInventory(rendered.inventory());
+        awaitPending(player, rendered);
+    }
+
+    @Override
+    public void refresh(Player player) {
+        if (player == null) {
+            return;
+        }
+        PlayerInventorySession current = sessions.get(player).orElse(null);
+        if (current == null) {
+            return;
+        }
+        InventoryViewDefinition view = views.get(current.viewId());
+        if (view == null) {
+            return;
+        }
+        refresh(player, view, current);
+    }
+
+    @Override
+    public void invalidate(Player player, String providerId) {
+        if (player == null) {
+            return;
+        }
+        if (providerId == null || providerId.isBlank()) {
+            renderer.dataCache().invalidate(player.getUniqueId());
+        } else {
+            renderer.dataCache().invalidate(player.getUniqueId(), providerId.trim().toLowerCase(Locale.ROOT));
+        }
+        refresh(player);
+    }
+
+    @Override
+    public void registerProvider(String providerId, InventoryDataProvider provider) {
+        renderer.providers().register(providerId, provider);
+        renderer.dataCache().invalidateProvider(InventoryProviderRegistry.normalize(providerId));
+    }
+
+    @Override
+    public void registerAsyncProvider(String providerId, AsyncInventoryDataProvider provider) {
+        renderer.providers().registerAsync(providerId, provider);
+        renderer.dataCache().invalidateProvider(InventoryProviderRegistry.normalize(providerId));
+    }
+
+    @Override
+    public void unregisterProvider(String providerId) {
+        renderer.providers().unregister(providerId);
+        renderer.dataCache().invalidateProvider(InventoryProviderRegistry.normalize(providerId));
+    }
+
+    private void refresh(Player player, InventoryViewDefinition view, PlayerInventorySession current) {
+        InventoryRenderer.RenderResult rendered = renderer.refresh(player, view, current);
+        sessions.put(player, new PlayerInventorySession(view.id(), rendered.inventory(), rendered.bindings()));
+        awaitPending(player, rendered);
+    }
+
+    private void awaitPending(Player player, InventoryRenderer.RenderResult rendered) {
+        if (rendered.pending().isEmpty()) {
+            return;
+        }
+        UUID playerId = player.getUniqueId();
+        Set<CompletableFuture<Void>> waiting = awaiting.computeIfAbsent(playerId, id -> ConcurrentHashMap.newKeySet());
+        for (CompletableFuture<Void> future : rendered.pending()) {
+            if (!waiting.add(future)) {
+                // An earlier render already waits on this load; one refresh per load is enough.
+                continue;
+            }
+            // Completes on the main thread. The load may have been started by a view that was closed
+            // since, so refresh whatever view the player has open now; refresh is a no-op without one.
+            future.thenRun(() -> {
+                waiting.remove(future);
+                awaiting.computeIfPresent(playerId, (id, set) -> set.isEmpty() ? null : set);
+                refresh(player);
+            });
+        }
     }
 }
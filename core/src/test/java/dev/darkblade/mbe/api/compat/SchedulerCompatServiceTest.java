@@ -0,0 +1,70 @@
+package dev.darkblade.mbe.api.compat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SchedulerCompatServiceTest {
+
+    @Test
+    void defaultTimerCountsRunSyncHopsAsTicks() {
+        NextTickScheduler scheduler = new NextTickScheduler();
+        List<Integer> ranAt = new ArrayList<>();
+
+        ScheduledTask timer = scheduler.runTimer(() -> ranAt.add(scheduler.tick), 2L, 3L);
+        for (int i = 0; i < 8; i++) {
+            scheduler.nextTick();
+        }
+        timer.cancel();
+        for (int i = 0; i < 6; i++) {
+            scheduler.nextTick();
+        }
+
+        assertEquals(List.of(2, 5, 8), ranAt);
+    }
+
+    @Test
+    void defaultTimerRejectsSchedulersThatRunInline() {
+        SchedulerCompatService inline = new SchedulerCompatService() {
+            @Override
+            public void runSync(Runnable task) {
+                task.run();
+            }
+
+            @Override
+            public void runAsync(Runnable task) {
+                task.run();
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> inline.runTimer(() -> { }, 1L, 1L));
+    }
+
+    private static final class NextTickScheduler implements SchedulerCompatService {
+        private Queue<Runnable> queued = new ArrayDeque<>();
+        private int tick;
+
+        void nextTick() {
+            tick++;
+            Queue<Runnable> due = queued;
+            queued = new ArrayDeque<>();
+            due.forEach(Runnable::run);
+        }
+
+        @Override
+        public void runSync(Runnable task) {
+            queued.add(task);
+        }
+
+        @Override
+        public void runAsync(Runnable task) {
+            queued.add(task);
+        }
+    }
+}
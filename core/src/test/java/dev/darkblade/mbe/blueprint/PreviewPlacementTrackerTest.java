@@ -0,0 +1,67 @@
+package dev.darkblade.mbe.blueprint;
+
+import org.bukkit.Location;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PreviewPlacementTrackerTest {
+
+    private static final UUID PLAYER = UUID.randomUUID();
+
+    @Test
+    void ignoresMovementWithinTheSameBlockAndSmallHeadTurns() {
+        PreviewPlacementTracker tracker = new PreviewPlacementTracker(2.0D, 1);
+        assertTrue(tracker.hasMoved(PLAYER, view(10.2, 64, 5.5, 90F, 10F)));
+
+        tracker.resolved(PLAYER, view(10.2, 64, 5.5, 90F, 10F));
+
+        assertFalse(tracker.hasMoved(PLAYER, view(10.8, 64, 5.1, 91F, 11.5F)));
+        assertTrue(tracker.hasMoved(PLAYER, view(11.1, 64, 5.1, 90F, 10F)));
+        assertTrue(tracker.hasMoved(PLAYER, view(10.2, 64, 5.5, 93F, 10F)));
+        assertTrue(tracker.hasMoved(PLAYER, view(10.2, 64, 5.5, 90F, 7.5F)));
+    }
+
+    @Test
+    void measuresYawAcrossTheWrapAround() {
+        PreviewPlacementTracker tracker = new PreviewPlacementTracker(2.0D, 1);
+        tracker.resolved(PLAYER, view(0, 64, 0, 359.5F, 0F));
+
+        assertFalse(tracker.hasMoved(PLAYER, view(0, 64, 0, 0.5F, 0F)));
+        assertTrue(tracker.hasMoved(PLAYER, view(0, 64, 0, 2.0F, 0F)));
+    }
+
+    @Test
+    void capsRaycastsAcrossPlayersPerTick() {
+        PreviewPlacementTracker tracker = new PreviewPlacementTracker(2.0D, 2);
+
+        assertTrue(tracker.tryAcquire());
+        assertTrue(tracker.tryAcquire());
+        assertFalse(tracker.tryAcquire());
+
+        tracker.advanceTick();
+        assertTrue(tracker.tryAcquire());
+        assertTrue(tracker.tryAcquire());
+        assertFalse(tracker.tryAcquire());
+    }
+
+    @Test
+    void forgetsPlayers() {
+        PreviewPlacementTracker tracker = new PreviewPlacementTracker(2.0D, 1);
+        tracker.resolved(PLAYER, view(0, 64, 0, 0F, 0F));
+        assertEquals(1, tracker.trackedCount());
+
+        tracker.forget(PLAYER);
+
+        assertEquals(0, tracker.trackedCount());
+        assertTrue(tracker.hasMoved(PLAYER, view(0, 64, 0, 0F, 0F)));
+    }
+
+    private static Location view(double x, double y, double z, float yaw, float pitch) {
+        return new Location(null, x, y, z, yaw, pitch);
+    }
+}
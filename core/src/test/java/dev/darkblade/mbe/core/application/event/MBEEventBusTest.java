@@ -0,0 +1,62 @@
+package dev.darkblade.mbe.core.application.event;
+
+import dev.darkblade.mbe.api.event.EventPriority;
+import dev.darkblade.mbe.api.event.MBEEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class MBEEventBusTest {
+
+    @Test
+    void publish_reachesSupertypeAndInterfaceListeners() {
+        MBEEventBus bus = new MBEEventBus();
+        List<String> calls = new ArrayList<>();
+        bus.subscribe(MBEEvent.class, e -> calls.add("any"));
+        bus.subscribe(BaseEvent.class, e -> calls.add("base"));
+        bus.subscribe(ChildEvent.class, e -> calls.add("child"));
+
+        bus.publish(new ChildEvent());
+        bus.publish(new BaseEvent());
+
+        assertEquals(List.of("any", "base", "child", "any", "base"), calls);
+    }
+
+    @Test
+    void publish_ordersByPriorityThenSubscriptionOrder() {
+        MBEEventBus bus = new MBEEventBus();
+        List<String> calls = new ArrayList<>();
+        bus.subscribe(ChildEvent.class, EventPriority.MONITOR, e -> calls.add("monitor"));
+        bus.subscribe(BaseEvent.class, e -> calls.add("normal-1"));
+        bus.subscribe(ChildEvent.class, EventPriority.LOWEST, e -> calls.add("lowest"));
+        bus.subscribe(ChildEvent.class, e -> calls.add("normal-2"));
+
+        bus.publish(new ChildEvent());
+
+        assertEquals(List.of("lowest", "normal-1", "normal-2", "monitor"), calls);
+    }
+
+    @Test
+    void unsubscribe_rebuildsDispatchTable() {
+        MBEEventBus bus = new MBEEventBus();
+        List<String> calls = new ArrayList<>();
+        Consumer<BaseEvent> listener = e -> calls.add("base");
+        bus.subscribe(BaseEvent.class, listener);
+        bus.publish(new ChildEvent());
+
+        bus.unsubscribe(BaseEvent.class, listener);
+        bus.publish(new ChildEvent());
+
+        assertEquals(List.of("base"), calls);
+    }
+
+    private static class BaseEvent implements MBEEvent {
+    }
+
+    private static final class ChildEvent extends BaseEvent {
+    }
+}
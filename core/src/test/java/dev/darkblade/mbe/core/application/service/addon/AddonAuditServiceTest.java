@@ -0,0 +1,132 @@
+package dev.darkblade.mbe.core.application.service.addon;
+
+import dev.darkblade.mbe.api.addon.Version;
+import dev.darkblade.mbe.core.application.service.addon.domain.AddonAuditIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AddonAuditServiceTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void unchangedJarIsServedFromTheCache() throws IOException {
+        File jar = jar("a.jar", "first");
+        Path cacheFile = dir.resolve("cache/addon-audit.json");
+        AddonAuditCache seeded = new AddonAuditCache(cacheFile, null);
+        seeded.load();
+        seeded.put(jar, null, index("a", "from-cache"));
+        seeded.save(Set.of(jar));
+
+        AddonAuditIndex index = new AddonAuditService(cacheFile, null).buildAuditIndex(jar, metadata("a"));
+
+        assertEquals("from-cache", index.fileName());
+    }
+
+    @Test
+    void changedContentOrTimestampInvalidatesTheEntry() throws IOException {
+        File jar = jar("a.jar", "first");
+        long modified = jar.lastModified();
+        Path cacheFile = dir.resolve("cache/addon-audit.json");
+        AddonAuditCache cache = new AddonAuditCache(cacheFile, null);
+        cache.load();
+        cache.put(jar, null, index("a", "from-cache"));
+        assertNotNull(cache.lookup(jar).index());
+
+        jar("a.jar", "other");
+        jar.setLastModified(modified);
+        AddonAuditCache.Lookup sameSizeAndTime = cache.lookup(jar);
+        assertNull(sameSizeAndTime.index());
+        assertNotNull(sameSizeAndTime.sha256());
+
+        jar.setLastModified(modified + 2_000L);
+        assertSame(AddonAuditCache.Lookup.MISS, cache.lookup(jar));
+
+        cache.save(Set.of(jar));
+        AddonAuditIndex rescanned = new AddonAuditService(cacheFile, null).buildAuditIndex(jar, metadata("a"));
+        assertEquals("a.jar", rescanned.fileName());
+        assertEquals(List.of("com/example/Main.class"), rescanned.classEntries());
+    }
+
+    @Test
+    void indexingOneJarKeepsTheEntriesOfOthers() throws IOException {
+        File a = jar("a.jar", "first");
+        File b = jar("b.jar", "second");
+        Path cacheFile = dir.resolve("cache/addon-audit.json");
+        Map<File, AddonMetadata> all = new LinkedHashMap<>();
+        all.put(a, metadata("a"));
+        all.put(b, metadata("b"));
+        assertEquals(2, new AddonAuditService(cacheFile, null).buildAuditIndexes(all).size());
+
+        jar("a.jar", "changed!");
+        new AddonAuditService(cacheFile, null).buildAuditIndex(a, metadata("a"));
+
+        AddonAuditCache reloaded = new AddonAuditCache(cacheFile, null);
+        reloaded.load();
+        assertNotNull(reloaded.lookup(a).index());
+        assertNotNull(reloaded.lookup(b).index());
+
+        new AddonAuditService(cacheFile, null).buildAuditIndexes(Map.of(a, metadata("a")));
+        AddonAuditCache pruned = new AddonAuditCache(cacheFile, null);
+        pruned.load();
+        assertNull(pruned.lookup(b).index());
+    }
+
+    private File jar(String name, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        JarEntry entry = new JarEntry("com/example/Main.class");
+        // Stored entries keep the jar size a function of the content length alone.
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(bytes.length);
+        entry.setCrc(crc.getValue());
+        entry.setTime(0L);
+        Path path = dir.resolve(name);
+        try (OutputStream out = Files.newOutputStream(path); JarOutputStream jar = new JarOutputStream(out)) {
+            jar.putNextEntry(entry);
+            jar.write(bytes);
+            jar.closeEntry();
+        }
+        return path.toFile();
+    }
+
+    private static AddonAuditIndex index(String id, String fileName) {
+        return new AddonAuditIndex(id, fileName, "com.example.Main", "com/example/", List.of(), Set.of(), Set.of(),
+                Set.of(), Set.of(), Set.of(), Set.of(), Map.of());
+    }
+
+    private static AddonMetadata metadata(String id) {
+        return new AddonMetadata(
+                id,
+                Version.parse("1.0.0"),
+                1,
+                "com.example.Main",
+                Map.of(),
+                Map.of(),
+                List.of(),
+                "", "", List.of(), "", new AddonMetadata.Environment(null, null, Map.of()), List.of(), List.of(), List.of()
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package dev.darkblade.mbe.core.application.service.io;
+
+import dev.darkblade.mbe.api.io.ChannelType;
+import dev.darkblade.mbe.api.io.IOType;
+import dev.darkblade.mbe.api.wiring.BlockPos;
+import dev.darkblade.mbe.api.wiring.Direction;
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.infrastructure.persistence.FilePersistentStorageService;
+import org.bukkit.Location;
+import org.bukkit.block.BlockFace;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultIOServiceTest {
+
+    private static final UUID WORLD = UUID.randomUUID();
+    private static final UUID NETWORK = UUID.randomUUID();
+
+    @TempDir
+    Path dir;
+
+    private FilePersistentStorageService persistence;
+    private DefaultIOService service;
+
+    @BeforeEach
+    void setUp() {
+        persistence = new FilePersistentStorageService(dir);
+        persistence.initialize();
+        service = new DefaultIOService(persistence, event -> {});
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistence.shutdown(false);
+    }
+
+    @Test
+    void portListsAreReusedUntilAPortOfTheInstanceChanges() {
+        MultiblockInstance instance = instance(0);
+        MultiblockInstance other = instance(10);
+        SimpleIOPort input = port(0, IOType.INPUT, instance);
+        service.registerPort(input);
+
+        DefaultIOService.PortLists first = service.portLists(instance);
+        assertSame(first, service.portLists(instance));
+        service.registerPort(port(10, IOType.OUTPUT, other));
+        assertSame(first, service.portLists(instance));
+
+        SimpleIOPort both = port(1, IOType.BOTH, instance);
+        service.registerPort(both);
+        DefaultIOService.PortLists grown = service.portLists(instance);
+        assertNotSame(first, grown);
+        assertEquals(2, grown.all().size());
+        assertEquals(2, grown.inputs().size());
+        assertEquals(List.of(both), grown.outputs());
+
+        service.unregisterPort(input);
+        DefaultIOService.PortLists shrunk = service.portLists(instance);
+        assertNotSame(grown, shrunk);
+        assertEquals(List.of(both), shrunk.all());
+        assertSame(shrunk, service.portLists(instance));
+
+        service.unregisterPort(both);
+        assertTrue(service.portLists(instance).all().isEmpty());
+        assertEquals(List.of(other), List.copyOf(service.portOwners()));
+    }
+
+    static MultiblockInstance instance(int x) {
+        return new MultiblockInstance(null, new Location(null, x, 64, 0), BlockFace.NORTH);
+    }
+
+    static SimpleIOPort port(int x, IOType type, MultiblockInstance owner) {
+        return new SimpleIOPort(new BlockPos(WORLD, x, 64, 0), Direction.UP, type, ChannelType.ENERGY, NETWORK, owner);
+    }
+}
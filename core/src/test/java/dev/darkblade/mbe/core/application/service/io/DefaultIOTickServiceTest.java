@@ -0,0 +1,68 @@
+package dev.darkblade.mbe.core.application.service.io;
+
+import dev.darkblade.mbe.api.io.IOType;
+import dev.darkblade.mbe.api.io.event.PreIOTransferEvent;
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.infrastructure.persistence.FilePersistentStorageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static dev.darkblade.mbe.core.application.service.io.DefaultIOServiceTest.instance;
+import static dev.darkblade.mbe.core.application.service.io.DefaultIOServiceTest.port;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class DefaultIOTickServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private FilePersistentStorageService persistence;
+
+    @BeforeEach
+    void setUp() {
+        persistence = new FilePersistentStorageService(dir);
+        persistence.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistence.shutdown(false);
+    }
+
+    @Test
+    void tickAllVisitsOnlyActivePortOwners() {
+        List<MultiblockInstance> transferred = new ArrayList<>();
+        DefaultIOService ioService = new DefaultIOService(persistence, event -> {
+            if (event instanceof PreIOTransferEvent pre) {
+                transferred.add(pre.getFrom().getOwner());
+            }
+        });
+        DefaultIOTickService tickService = new DefaultIOTickService(ioService);
+        MultiblockInstance active = instance(0);
+        MultiblockInstance inactive = instance(10);
+        MultiblockInstance portless = instance(20);
+        ioService.registerPort(port(0, IOType.OUTPUT, active));
+        ioService.registerPort(port(1, IOType.INPUT, active));
+        ioService.registerPort(port(10, IOType.OUTPUT, inactive));
+        ioService.registerPort(port(11, IOType.INPUT, inactive));
+
+        List<MultiblockInstance> tested = new ArrayList<>();
+        tickService.tickAll(instance -> {
+            tested.add(instance);
+            return instance == active;
+        });
+
+        assertEquals(Set.of(active, inactive), Set.copyOf(tested));
+        assertEquals(2, tested.size());
+        assertEquals(List.of(active), transferred);
+        assertFalse(tested.contains(portless));
+    }
+}
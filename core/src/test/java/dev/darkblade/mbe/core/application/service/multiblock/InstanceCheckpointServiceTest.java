@@ -0,0 +1,183 @@
+package dev.darkblade.mbe.core.application.service.multiblock;
+
+import dev.darkblade.mbe.api.util.NamespacedKey;
+import dev.darkblade.mbe.core.application.service.MetricsService;
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.domain.MultiblockType;
+import dev.darkblade.mbe.core.infrastructure.persistence.InstanceStorageService;
+import org.bukkit.Location;
+import org.bukkit.block.BlockFace;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstanceCheckpointServiceTest {
+
+    @Test
+    void savesOnlyDirtyInstancesInBoundedBatches() {
+        RecordingStorage storage = new RecordingStorage();
+        List<MultiblockInstance> instances = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            instances.add(new MultiblockInstance(TYPE, new Location(null, i, 64, 0), BlockFace.NORTH));
+        }
+        MetricsService metrics = new MetricsService();
+        InstanceCheckpointService service = new InstanceCheckpointService(() -> instances, NO_CHUNKS, instances::contains, storage, metrics, null, 2);
+
+        assertEquals(0, service.checkpoint());
+
+        instances.get(0).setVariable("energy", 5L);
+        instances.get(2).setVariable("energy", 6L);
+        instances.get(4).setVariable("energy", 7L);
+        assertEquals(3, service.dirtyCount());
+
+        assertEquals(2, service.checkpoint());
+        assertEquals(1, metrics.getDirtyInstances());
+        assertEquals(1, service.checkpoint());
+        assertEquals(0, service.checkpoint());
+        assertEquals(3, storage.saved.size());
+        assertFalse(instances.get(0).isDirty());
+    }
+
+    @Test
+    void flushAllSkipsInstancesThatAreNoLongerActive() {
+        RecordingStorage storage = new RecordingStorage();
+        MultiblockInstance kept = new MultiblockInstance(TYPE, new Location(null, 0, 64, 0), BlockFace.NORTH);
+        MultiblockInstance destroyed = new MultiblockInstance(TYPE, new Location(null, 1, 64, 0), BlockFace.NORTH);
+        Set<MultiblockInstance> active = new HashSet<>(List.of(kept));
+        InstanceCheckpointService service = new InstanceCheckpointService(() -> List.of(kept, destroyed), NO_CHUNKS, active::contains, storage, null, null, 1);
+
+        kept.setVariable("energy", 1L);
+        destroyed.setVariable("energy", 1L);
+
+        assertEquals(1, service.flushAll());
+        assertEquals(List.of(kept), storage.saved);
+        assertTrue(destroyed.isDirty());
+    }
+
+    @Test
+    void remainingCountsEveryDirtyInstanceNotJustTheQueue() {
+        RecordingStorage storage = new RecordingStorage();
+        List<MultiblockInstance> instances = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            instances.add(new MultiblockInstance(TYPE, new Location(null, i, 64, 0), BlockFace.NORTH));
+        }
+        MetricsService metrics = new MetricsService();
+        InstanceCheckpointService service = new InstanceCheckpointService(() -> instances, NO_CHUNKS, instances::contains, storage, metrics, null, 1);
+
+        instances.get(0).setVariable("energy", 1L);
+        instances.get(1).setVariable("energy", 1L);
+        assertEquals(1, service.checkpoint());
+        assertEquals(1, metrics.getDirtyInstances());
+
+        instances.get(2).setVariable("energy", 1L);
+        assertEquals(1, service.checkpoint());
+        assertEquals(1, metrics.getDirtyInstances());
+    }
+
+    @Test
+    void writesStillInFlightAreNotReportedAsRemaining() {
+        RecordingStorage storage = new RecordingStorage(false);
+        List<MultiblockInstance> instances = List.of(
+                new MultiblockInstance(TYPE, new Location(null, 0, 64, 0), BlockFace.NORTH),
+                new MultiblockInstance(TYPE, new Location(null, 1, 64, 0), BlockFace.NORTH));
+        MetricsService metrics = new MetricsService();
+        InstanceCheckpointService service = new InstanceCheckpointService(() -> instances, NO_CHUNKS, instances::contains, storage, metrics, null, 4);
+
+        instances.forEach(instance -> instance.setVariable("energy", 1L));
+        assertEquals(2, service.checkpoint());
+
+        assertEquals(0, metrics.getDirtyInstances());
+        assertEquals(2, service.dirtyCount());
+    }
+
+    @Test
+    void chunkCheckpointUsesTheRegistryChunkIndex() {
+        RecordingStorage storage = new RecordingStorage();
+        MultiblockInstanceRegistry registry = new MultiblockInstanceRegistry();
+        MultiblockInstance inside = new MultiblockInstance(TYPE, new Location(null, 3, 64, 15), BlockFace.NORTH);
+        MultiblockInstance outside = new MultiblockInstance(TYPE, new Location(null, 16, 64, 0), BlockFace.NORTH);
+        MultiblockInstance destroyed = new MultiblockInstance(TYPE, new Location(null, 5, 64, 5), BlockFace.NORTH);
+        registry.registerInstances(List.of(inside, outside, destroyed));
+        registry.destroyInstance(destroyed);
+        InstanceCheckpointService service = new InstanceCheckpointService(
+                registry::getActiveInstancesSnapshot, registry::getInstancesInChunk, registry::isInstanceActive, storage, null, null, 1);
+
+        inside.setVariable("energy", 1L);
+        outside.setVariable("energy", 1L);
+        destroyed.setVariable("energy", 1L);
+
+        assertEquals(1, service.checkpointChunk(null, 0, 0));
+        assertEquals(List.of(inside), storage.saved);
+        assertTrue(outside.isDirty());
+    }
+
+    private static final InstanceCheckpointService.ChunkInstances NO_CHUNKS = (world, chunkX, chunkZ) -> List.of();
+
+    private static final MultiblockType TYPE = new MultiblockType(
+            new NamespacedKey("test", "machine"),
+            "1.0",
+            "wrench",
+            new Vector(0, 0, 0),
+            null,
+            List.of(),
+            true,
+            Map.of(),
+            Map.of("energy", 0),
+            Map.of(),
+            Map.of(),
+            List.of(),
+            List.of(),
+            List.of(),
+            List.of(),
+            null,
+            20
+    );
+
+    private static final class RecordingStorage implements InstanceStorageService {
+        private final List<MultiblockInstance> saved = new ArrayList<>();
+        private final boolean completesImmediately;
+
+        RecordingStorage() {
+            this(true);
+        }
+
+        RecordingStorage(boolean completesImmediately) {
+            this.completesImmediately = completesImmediately;
+        }
+
+        @Override
+        public void init() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void saveInstance(MultiblockInstance instance) {
+            saved.add(instance);
+            if (completesImmediately) {
+                instance.markSaved(instance.version());
+            }
+        }
+
+        @Override
+        public void deleteInstance(MultiblockInstance instance) {
+        }
+
+        @Override
+        public Collection<MultiblockInstance> loadAll() {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package dev.darkblade.mbe.core.application.service.multiblock;
+
+import dev.darkblade.mbe.api.compat.ScheduledTask;
+import dev.darkblade.mbe.api.compat.SchedulerCompatService;
+import dev.darkblade.mbe.api.event.EventBusService;
+import dev.darkblade.mbe.api.event.MBEEvent;
+import dev.darkblade.mbe.api.event.MultiblockFormEvent;
+import dev.darkblade.mbe.api.event.MultiblocksRestoredEvent;
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import org.bukkit.block.BlockFace;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RestoredMultiblockPublisherTest {
+
+    @Test
+    void instancesBrokenBeforeTheirBatchAreNotPublished() {
+        List<MultiblockInstance> instances = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            instances.add(new MultiblockInstance(null, null, BlockFace.NORTH));
+        }
+        Set<MultiblockInstance> active = new HashSet<>(instances);
+        RecordingBus bus = new RecordingBus();
+        QueuedScheduler scheduler = new QueuedScheduler();
+
+        new RestoredMultiblockPublisher(bus, scheduler, null, active::contains, 2, true).publish(instances);
+        assertEquals(List.of(instances.get(0), instances.get(1)), bus.restored.get(0).getMultiblocks());
+
+        active.remove(instances.get(2));
+        scheduler.runPending();
+
+        MultiblocksRestoredEvent last = bus.restored.get(1);
+        assertEquals(List.of(instances.get(3)), last.getMultiblocks());
+        assertTrue(last.isLastBatch());
+        assertEquals(List.of(instances.get(0), instances.get(1), instances.get(3)), bus.formed);
+    }
+
+    @Test
+    void nothingToRestoreStillPublishesALastBatch() {
+        RecordingBus bus = new RecordingBus();
+
+        new RestoredMultiblockPublisher(bus, new QueuedScheduler(), null, null, 2, true).publish(List.of());
+
+        assertEquals(1, bus.restored.size());
+        assertTrue(bus.restored.get(0).getMultiblocks().isEmpty());
+        assertTrue(bus.restored.get(0).isLastBatch());
+    }
+
+    private static final class RecordingBus implements EventBusService {
+        final List<MultiblocksRestoredEvent> restored = new ArrayList<>();
+        final List<MultiblockInstance> formed = new ArrayList<>();
+
+        @Override
+        public String getServiceId() {
+            return "test:events";
+        }
+
+        @Override
+        public void publish(MBEEvent event) {
+            if (event instanceof MultiblocksRestoredEvent batch) {
+                restored.add(batch);
+            } else if (event instanceof MultiblockFormEvent form) {
+                formed.add(form.getMultiblock());
+            }
+        }
+
+        @Override
+        public <T extends MBEEvent> void subscribe(Class<T> eventClass, Consumer<T> listener) {
+        }
+
+        @Override
+        public <T extends MBEEvent> void unsubscribe(Class<T> eventClass, Consumer<T> listener) {
+        }
+    }
+
+    private static final class QueuedScheduler implements SchedulerCompatService {
+        private final Queue<Runnable> pending = new ArrayDeque<>();
+
+        void runPending() {
+            Runnable task;
+            while ((task = pending.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void runSync(Runnable task) {
+            pending.add(task);
+        }
+
+        @Override
+        public void runAsync(Runnable task) {
+            pending.add(task);
+        }
+
+        @Override
+        public ScheduledTask runTimer(Runnable task, long delayTicks, long periodTicks) {
+            return () -> { };
+        }
+    }
+}
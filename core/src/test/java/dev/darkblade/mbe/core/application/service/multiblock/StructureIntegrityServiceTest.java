@@ -0,0 +1,186 @@
+package dev.darkblade.mbe.core.application.service.multiblock;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.WorldMock;
+import dev.darkblade.mbe.api.util.NamespacedKey;
+import dev.darkblade.mbe.core.domain.BlockMatcher;
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.domain.MultiblockState;
+import dev.darkblade.mbe.core.domain.MultiblockType;
+import dev.darkblade.mbe.core.domain.PatternEntry;
+import org.bukkit.Material;
+import org.bukkit.block.BlockFace;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StructureIntegrityServiceTest {
+
+    private ServerMock server;
+    private WorldMock world;
+    private MultiblockInstanceRegistry registry;
+    private List<MultiblockInstance> tornDown;
+    private StructureIntegrityService integrity;
+    private MultiblockInstance instance;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        world = server.addSimpleWorld("world");
+        world.getChunkAt(0, 0);
+        registry = new MultiblockInstanceRegistry();
+        tornDown = new ArrayList<>();
+        integrity = new StructureIntegrityService(
+                registry::getInstanceAt,
+                registry::isInstanceActive,
+                MultiblockInstance::setState,
+                target -> {
+                    tornDown.add(target);
+                    registry.destroyInstance(target);
+                    return true;
+                },
+                null);
+
+        world.getBlockAt(0, 64, 0).setType(Material.DIAMOND_BLOCK);
+        world.getBlockAt(1, 64, 0).setType(Material.IRON_BLOCK);
+        world.getBlockAt(0, 65, 0).setType(Material.IRON_BLOCK);
+        world.getBlockAt(2, 64, 0).setType(Material.GLASS);
+        instance = new MultiblockInstance(TYPE, world.getBlockAt(0, 64, 0).getLocation(), BlockFace.NORTH);
+        registry.registerInstance(instance);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void ignoresChangesOutsideFormedStructures() {
+        integrity.markChanged(world.getBlockAt(5, 64, 5));
+        integrity.markChanged(world.getBlockAt(1, 63, 0));
+
+        assertEquals(0, integrity.pendingCount());
+    }
+
+    @Test
+    void coalescesChangesPerInstanceUntilTheNextTick() {
+        world.getBlockAt(1, 64, 0).setType(Material.AIR);
+        integrity.markChanged(world.getBlockAt(1, 64, 0));
+        integrity.markChanged(world.getBlockAt(0, 65, 0));
+        integrity.markChanged(world.getBlockAt(1, 64, 0));
+
+        assertEquals(1, integrity.pendingCount());
+        assertEquals(MultiblockState.ACTIVE, instance.state());
+
+        integrity.tick();
+
+        assertEquals(0, integrity.pendingCount());
+        assertEquals(MultiblockState.DAMAGED, instance.state());
+    }
+
+    @Test
+    void restoresThePreviousStateOnceMissingBlocksAreBack() {
+        world.getBlockAt(1, 64, 0).setType(Material.AIR);
+        world.getBlockAt(0, 65, 0).setType(Material.AIR);
+        integrity.markChanged(world.getBlockAt(1, 64, 0));
+        integrity.markChanged(world.getBlockAt(0, 65, 0));
+        integrity.tick();
+
+        world.getBlockAt(1, 64, 0).setType(Material.IRON_BLOCK);
+        integrity.markChanged(world.getBlockAt(1, 64, 0));
+        integrity.tick();
+        assertEquals(MultiblockState.DAMAGED, instance.state());
+
+        world.getBlockAt(0, 65, 0).setType(Material.IRON_BLOCK);
+        integrity.markChanged(world.getBlockAt(0, 65, 0));
+        integrity.tick();
+        assertEquals(MultiblockState.ACTIVE, instance.state());
+        assertFalse(integrity.isDamaged(instance));
+    }
+
+    @Test
+    void optionalEntriesDoNotDamageTheStructure() {
+        world.getBlockAt(2, 64, 0).setType(Material.AIR);
+        integrity.markChanged(world.getBlockAt(2, 64, 0));
+        integrity.tick();
+
+        assertEquals(MultiblockState.ACTIVE, instance.state());
+    }
+
+    @Test
+    void losingTheControllerTearsTheStructureDown() {
+        world.getBlockAt(0, 64, 0).setType(Material.AIR);
+        integrity.markChanged(world.getBlockAt(0, 64, 0));
+        integrity.tick();
+
+        assertEquals(List.of(instance), tornDown);
+        assertFalse(registry.isInstanceActive(instance));
+        assertTrue(registry.getInstanceAt(world.getBlockAt(1, 64, 0).getLocation()).isEmpty());
+    }
+
+    @Test
+    void restoredDamagedInstancesRecoverOnceTheStructureIsWhole() {
+        instance.setState(MultiblockState.DAMAGED);
+        world.getBlockAt(0, 65, 0).setType(Material.AIR);
+
+        integrity.revalidateRestored(List.of(instance));
+        integrity.tick();
+        assertEquals(MultiblockState.DAMAGED, instance.state());
+        assertTrue(integrity.isDamaged(instance));
+
+        world.getBlockAt(0, 65, 0).setType(Material.IRON_BLOCK);
+        integrity.markChanged(world.getBlockAt(0, 65, 0));
+        integrity.tick();
+        assertEquals(MultiblockState.ACTIVE, instance.state());
+        assertFalse(integrity.isDamaged(instance));
+    }
+
+    @Test
+    void restoredDamagedInstancesRepairedWhileOfflineAreActiveAgain() {
+        instance.setState(MultiblockState.DAMAGED);
+
+        integrity.revalidateRestored(List.of(instance));
+        integrity.tick();
+
+        assertEquals(MultiblockState.ACTIVE, instance.state());
+        assertFalse(integrity.isDamaged(instance));
+    }
+
+    private static BlockMatcher type(Material material) {
+        return block -> block.getType() == material;
+    }
+
+    private static final MultiblockType TYPE = new MultiblockType(
+            new NamespacedKey("test", "furnace"),
+            "1.0",
+            "wrench",
+            new Vector(0, 0, 0),
+            type(Material.DIAMOND_BLOCK),
+            List.of(
+                    new PatternEntry(new Vector(1, 0, 0), type(Material.IRON_BLOCK)),
+                    new PatternEntry(new Vector(0, 1, 0), type(Material.IRON_BLOCK)),
+                    new PatternEntry(new Vector(2, 0, 0), type(Material.GLASS), true)
+            ),
+            true,
+            Map.of(),
+            Map.of(),
+            Map.of(),
+            Map.of(),
+            List.of(),
+            List.of(),
+            List.of(),
+            List.of(),
+            null,
+            20
+    );
+}
@@ -0,0 +1,158 @@
+package dev.darkblade.mbe.core.application.service.port;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.WorldMock;
+import dev.darkblade.mbe.api.event.MultiblockBreakEvent;
+import dev.darkblade.mbe.api.event.MultiblockFormEvent;
+import dev.darkblade.mbe.api.util.NamespacedKey;
+import dev.darkblade.mbe.api.wiring.PortBlockRef;
+import dev.darkblade.mbe.api.wiring.PortDefinition;
+import dev.darkblade.mbe.api.wiring.PortDirection;
+import dev.darkblade.mbe.api.wiring.PortResolutionService;
+import dev.darkblade.mbe.core.application.service.multiblock.MultiblockInstanceRegistry;
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.domain.MultiblockType;
+import org.bukkit.Location;
+import org.bukkit.block.BlockFace;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultPortResolutionServiceTest {
+
+    private ServerMock server;
+    private WorldMock world;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        world = server.addSimpleWorld("world");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void resolvesRotatedOffsetsLikeResolveBlock() {
+        DefaultPortResolutionService service = new DefaultPortResolutionService();
+        MultiblockType type = type("machine", Map.of(
+                "in", port("in", new PortBlockRef.Offset(2, 1, -3)),
+                "out", port("out", new PortBlockRef.Controller())));
+
+        for (BlockFace facing : List.of(BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST)) {
+            MultiblockInstance instance = new MultiblockInstance(type, world.getBlockAt(-5, 64, 7).getLocation(), facing);
+            service.index(instance);
+            for (PortResolutionService.ResolvedPort resolved : service.resolveAll(instance)) {
+                Location expected = service.resolveBlock(instance, resolved.definition().block()).orElseThrow();
+                assertEquals(expected, resolved.location());
+                assertEquals(resolved, service.portAt(instance, expected).orElseThrow());
+            }
+            service.forget(instance);
+        }
+    }
+
+    @Test
+    void indexFollowsFormAndBreak() {
+        DefaultPortResolutionService service = new DefaultPortResolutionService();
+        MultiblockType type = type("machine", Map.of("in", port("in", new PortBlockRef.Offset(0, 0, 1))));
+        MultiblockInstance instance = new MultiblockInstance(type, world.getBlockAt(0, 64, 0).getLocation(), BlockFace.EAST);
+        Location portBlock = world.getBlockAt(-1, 64, 0).getLocation();
+
+        assertTrue(service.portAt(portBlock).isEmpty());
+        service.onMultiblockForm(new MultiblockFormEvent(instance, null));
+        assertEquals("in", service.portAt(portBlock).orElseThrow().definition().id());
+        assertTrue(service.portAt(world.getBlockAt(0, 64, 0).getLocation()).isEmpty());
+        assertTrue(service.portAt(server.addSimpleWorld("other").getBlockAt(-1, 64, 0).getLocation()).isEmpty());
+
+        MultiblockInstance neighbour = new MultiblockInstance(type, world.getBlockAt(0, 64, 1).getLocation(), BlockFace.NORTH);
+        assertFalse(service.portAt(neighbour, portBlock).isPresent());
+
+        service.onMultiblockBreak(new MultiblockBreakEvent(instance, null));
+        assertTrue(service.portAt(portBlock).isEmpty());
+        assertEquals(1, service.resolveAll(instance).size());
+        assertTrue(service.portAt(portBlock).isEmpty());
+    }
+
+    @Test
+    void instancesLeavingTheRegistryWithoutABreakEventAreForgotten() {
+        DefaultPortResolutionService service = new DefaultPortResolutionService();
+        MultiblockInstanceRegistry registry = new MultiblockInstanceRegistry();
+        registry.addRemovalListener(service::forget);
+        MultiblockType type = type("machine", Map.of("in", port("in", new PortBlockRef.Offset(1, 0, 0))));
+        MultiblockInstance destroyed = new MultiblockInstance(type, world.getBlockAt(0, 64, 0).getLocation(), BlockFace.NORTH);
+        MultiblockInstance swapped = new MultiblockInstance(type, world.getBlockAt(10, 64, 0).getLocation(), BlockFace.NORTH);
+        MultiblockInstance reloaded = new MultiblockInstance(type, world.getBlockAt(20, 64, 0).getLocation(), BlockFace.NORTH);
+        for (MultiblockInstance instance : List.of(destroyed, swapped, reloaded)) {
+            registry.registerInstance(instance);
+            service.index(instance);
+        }
+
+        registry.destroyInstance(destroyed);
+        assertTrue(service.portAt(world.getBlockAt(1, 64, 0).getLocation()).isEmpty());
+
+        MultiblockInstance variant = new MultiblockInstance(type, world.getBlockAt(10, 64, 0).getLocation(), BlockFace.SOUTH);
+        registry.registerInstance(variant);
+        assertTrue(service.portAt(world.getBlockAt(11, 64, 0).getLocation()).isEmpty());
+
+        registry.unregisterAll();
+        assertTrue(service.portAt(world.getBlockAt(21, 64, 0).getLocation()).isEmpty());
+    }
+
+    @Test
+    void reboundTypeMovesIndexedPorts() {
+        DefaultPortResolutionService service = new DefaultPortResolutionService();
+        MultiblockType before = type("machine", Map.of("in", port("in", new PortBlockRef.Offset(1, 0, 0))));
+        MultiblockInstance instance = new MultiblockInstance(before, world.getBlockAt(0, 64, 0).getLocation(), BlockFace.NORTH);
+        service.index(instance);
+        assertTrue(service.portAt(world.getBlockAt(1, 64, 0).getLocation()).isPresent());
+
+        Map<String, PortDefinition> ports = new LinkedHashMap<>();
+        ports.put("in", port("in", new PortBlockRef.Offset(0, 2, 0)));
+        ports.put("out", port("out", new PortBlockRef.Offset(0, 0, 2)));
+        instance.rebindType(type("machine", ports));
+
+        assertEquals(2, service.resolveAll(instance).size());
+        assertTrue(service.portAt(world.getBlockAt(1, 64, 0).getLocation()).isEmpty());
+        assertEquals("in", service.portAt(instance, world.getBlockAt(0, 66, 0).getLocation()).orElseThrow().definition().id());
+        assertEquals("out", service.portAt(world.getBlockAt(0, 64, 2).getLocation()).orElseThrow().definition().id());
+    }
+
+    private static PortDefinition port(String id, PortBlockRef block) {
+        return new PortDefinition(id, PortDirection.INPUT, "ENERGY", block, Set.of("energy"));
+    }
+
+    private static MultiblockType type(String id, Map<String, PortDefinition> ports) {
+        return new MultiblockType(
+                new NamespacedKey("test", id),
+                "1.0",
+                "wrench",
+                new Vector(0, 0, 0),
+                null,
+                List.of(),
+                false,
+                Map.of(),
+                Map.of(),
+                ports,
+                Map.of(),
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of(),
+                null,
+                20
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package dev.darkblade.mbe.core.application.service.tick;
+
+import dev.darkblade.mbe.core.infrastructure.compat.LocalRegionScheduler;
+import org.bukkit.Location;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegionTaskDispatcherTest {
+
+    @Test
+    void runsInlineWithoutRegionizedScheduler() {
+        List<Thread> threads = new ArrayList<>();
+
+        RegionTaskDispatcher.inline().dispatch(List.of(at(0, 0), at(4096, 4096)), location -> location, location -> threads.add(Thread.currentThread()));
+
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), threads);
+    }
+
+    @Test
+    void ticksDistantRegionsConcurrently() throws InterruptedException {
+        try (LocalRegionScheduler scheduler = new LocalRegionScheduler(3, 50L)) {
+            RegionTaskDispatcher dispatcher = new RegionTaskDispatcher(scheduler);
+            // Each region only finishes once the other one has started, which requires two threads
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            Map<Location, Boolean> completed = new ConcurrentHashMap<>();
+
+            dispatcher.dispatch(List.of(at(0, 0), at(4096, 4096)), location -> location, location -> {
+                bothStarted.countDown();
+                try {
+                    completed.put(location, bothStarted.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            scheduler.awaitIdle(10, TimeUnit.SECONDS);
+
+            assertEquals(2, scheduler.regionCount());
+            assertEquals(2, completed.size());
+            assertTrue(completed.values().stream().allMatch(Boolean::booleanValue));
+        }
+    }
+
+    @Test
+    void keepsWorkOfOneRegionOnOneThreadInOrder() throws InterruptedException {
+        try (LocalRegionScheduler scheduler = new LocalRegionScheduler(3, 50L)) {
+            RegionTaskDispatcher dispatcher = new RegionTaskDispatcher(scheduler);
+            List<Location> sameRegion = List.of(at(0, 0), at(1, 1), at(20, 20), at(100, 100));
+            List<Location> order = Collections.synchronizedList(new ArrayList<>());
+            Map<Location, Thread> threads = new ConcurrentHashMap<>();
+
+            dispatcher.dispatch(sameRegion, location -> location, location -> {
+                order.add(location);
+                threads.put(location, Thread.currentThread());
+            });
+            dispatcher.dispatch(List.of(at(-4096, 0)), location -> location, location -> threads.put(location, Thread.currentThread()));
+            scheduler.awaitIdle(10, TimeUnit.SECONDS);
+
+            assertEquals(sameRegion, order);
+            Thread regionThread = threads.get(sameRegion.get(0));
+            for (Location location : sameRegion) {
+                assertSame(regionThread, threads.get(location));
+            }
+            assertNotEquals(Thread.currentThread(), regionThread);
+            assertNotEquals(regionThread, threads.get(at(-4096, 0)));
+        }
+    }
+
+    private static Location at(int x, int z) {
+        return new Location(null, x, 64, z);
+    }
+}
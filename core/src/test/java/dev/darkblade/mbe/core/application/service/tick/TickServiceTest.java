@@ -5,11 +5,14 @@ import dev.darkblade.mbe.api.logging.LogBackend;
 import dev.darkblade.mbe.api.logging.LogLevel;
 import dev.darkblade.mbe.api.logging.LoggingConfig;
 import dev.darkblade.mbe.api.tick.Tickable;
+import dev.darkblade.mbe.core.infrastructure.compat.LocalRegionScheduler;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -109,6 +112,19 @@ class TickServiceTest {
         assertEquals(expected, totalExecutions);
     }
 
+    @Test
+    void drivesTickCyclesFromTheSchedulerTimer() throws InterruptedException {
+        try (LocalRegionScheduler scheduler = new LocalRegionScheduler(3, 1L)) {
+            TickServiceImpl service = new TickServiceImpl(scheduler, testLogger());
+            CountDownLatch ticked = new CountDownLatch(5);
+            service.register(ticked::countDown);
+
+            service.start();
+            assertTrue(ticked.await(5, TimeUnit.SECONDS));
+            service.stop();
+        }
+    }
+
     private static CoreLogger testLogger() {
         LogBackend backend = entry -> {
         };
@@ -3,10 +3,13 @@ package dev.darkblade.mbe.core.application.service.wiring;
 import be.seeseemelk.mockbukkit.MockBukkit;
 import be.seeseemelk.mockbukkit.ServerMock;
 import be.seeseemelk.mockbukkit.WorldMock;
+import dev.darkblade.mbe.api.io.event.IONetworkMergeEvent;
 import dev.darkblade.mbe.api.wiring.Direction;
+import dev.darkblade.mbe.api.wiring.NetworkBatch;
 import dev.darkblade.mbe.api.wiring.NetworkNode;
 import dev.darkblade.mbe.api.wiring.NetworkType;
 import dev.darkblade.mbe.api.wiring.NodeDescriptor;
+import dev.darkblade.mbe.api.wiring.event.NodesConnectedEvent;
 import org.bukkit.block.Block;
 import org.bukkit.event.Event;
 import org.junit.jupiter.api.AfterEach;
@@ -16,8 +19,10 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -57,4 +62,43 @@ class DefaultNetworkServiceTest {
         assertEquals(1, service.getGraph(type, b).nodes().size());
         assertNotEquals(service.getGraph(type, a).id(), service.getGraph(type, b).id());
     }
+
+    @Test
+    void batchAppliesRegistrationsAndConnectionsOnCommit() {
+        List<Event> events = new ArrayList<>();
+        DefaultNetworkService service = new DefaultNetworkService(events::add);
+        NetworkType type = new NetworkType("test:energy");
+        NetworkNode west = service.registerNode(type, world.getBlockAt(-1, 64, 0), new NodeDescriptor(Set.of()));
+        NetworkNode east = service.registerNode(type, world.getBlockAt(12, 64, 0), new NodeDescriptor(Set.of()));
+        UUID westNetwork = service.networkId(type, west);
+        UUID eastNetwork = service.networkId(type, east);
+
+        NetworkBatch batch = service.beginBatch();
+        List<NetworkNode> ports = new ArrayList<>();
+        for (int x = 0; x < 12; x++) {
+            ports.add(batch.registerNode(type, world.getBlockAt(x, 64, 0), new NodeDescriptor(Set.of(Direction.EAST))));
+        }
+        for (int i = 0; i < ports.size(); i++) {
+            for (int j = i + 1; j < ports.size(); j++) {
+                batch.connect(type, ports.get(i), ports.get(j));
+            }
+        }
+        batch.connect(type, ports.get(0), west);
+        batch.connect(type, ports.get(11), east);
+        assertTrue(service.findNode(type, world.getBlockAt(0, 64, 0)).isEmpty());
+        assertTrue(events.isEmpty());
+
+        assertEquals(68, batch.commit());
+        assertEquals(14, service.getGraph(type, west).nodes().size());
+        assertEquals(service.networkId(type, west), service.networkId(type, ports.get(5)));
+        assertEquals(ports.get(3).id(), service.findNode(type, world.getBlockAt(3, 64, 0)).orElseThrow().id());
+        assertEquals(68, events.stream().filter(NodesConnectedEvent.class::isInstance).count());
+        List<IONetworkMergeEvent> merges = events.stream()
+                .filter(IONetworkMergeEvent.class::isInstance)
+                .map(IONetworkMergeEvent.class::cast)
+                .toList();
+        assertEquals(1, merges.size());
+        assertEquals(Set.of(westNetwork, eastNetwork), Set.of(merges.get(0).getFromNetwork(), merges.get(0).getToNetwork()));
+        assertFalse(service.connect(type, ports.get(0), ports.get(1)));
+    }
 }
@@ -0,0 +1,169 @@
+package dev.darkblade.mbe.core.application.service.wiring;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.WorldMock;
+import dev.darkblade.mbe.api.wiring.Direction;
+import dev.darkblade.mbe.api.wiring.NetworkNode;
+import dev.darkblade.mbe.api.wiring.NetworkType;
+import dev.darkblade.mbe.api.wiring.NodeDescriptor;
+import dev.darkblade.mbe.core.infrastructure.persistence.FilePersistentStorageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NetworkTopologyStoreTest {
+
+    private static final NetworkType ENERGY = new NetworkType("test:energy");
+    private static final NetworkType ITEMS = new NetworkType("test:items");
+
+    @TempDir
+    Path dir;
+
+    private ServerMock server;
+    private WorldMock world;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        world = server.addSimpleWorld("world");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void restoresNodesEdgesAndNetworkIds() {
+        FilePersistentStorageService persistence = new FilePersistentStorageService(dir);
+        persistence.initialize();
+        DefaultNetworkService service = new DefaultNetworkService(event -> {});
+        NetworkTopologyStore store = new NetworkTopologyStore(service, persistence, null, 20);
+        assertEquals(0, store.loadWorld(world.getUID()));
+
+        List<NetworkNode> line = new ArrayList<>();
+        for (int x = 0; x < 6; x++) {
+            line.add(service.registerNode(ENERGY, world.getBlockAt(x * 3 - 7, 64, -x), new NodeDescriptor(Set.of(Direction.EAST, Direction.UP))));
+        }
+        for (int i = 0; i + 1 < line.size(); i++) {
+            if (i != 2) {
+                service.connect(ENERGY, line.get(i), line.get(i + 1));
+            }
+        }
+        NetworkNode single = service.registerNode(ITEMS, world.getBlockAt(0, 70, 0), new NodeDescriptor(Set.of()));
+        UUID left = service.networkId(ENERGY, line.get(0));
+        UUID right = service.networkId(ENERGY, line.get(5));
+        assertNotEquals(left, right);
+
+        assertEquals(1, store.saveDirty());
+        assertEquals(0, store.saveDirty());
+        persistence.shutdown(true);
+
+        FilePersistentStorageService reopened = new FilePersistentStorageService(dir);
+        reopened.initialize();
+        DefaultNetworkService restored = new DefaultNetworkService(event -> {});
+        assertEquals(7, new NetworkTopologyStore(restored, reopened, null, 20).loadWorld(world.getUID()));
+
+        NetworkNode first = restored.findNode(ENERGY, world.getBlockAt(-7, 64, 0)).orElseThrow();
+        assertEquals(line.get(0).id(), first.id());
+        assertEquals(Set.of(Direction.EAST, Direction.UP), first.connectableFaces());
+        assertEquals(3, restored.getGraph(ENERGY, first).nodes().size());
+        assertEquals(2, restored.getGraph(ENERGY, first).connections().size());
+        assertEquals(left, restored.networkId(ENERGY, first));
+        assertEquals(right, restored.networkId(ENERGY, restored.findNode(ENERGY, world.getBlockAt(8, 64, -5)).orElseThrow()));
+        assertEquals(single.id(), restored.findNode(ITEMS, world.getBlockAt(0, 70, 0)).orElseThrow().id());
+        assertFalse(restored.connect(ENERGY, line.get(0), line.get(1)));
+        assertTrue(restored.drainDirtyWorlds().isEmpty());
+        reopened.shutdown(false);
+    }
+
+    @Test
+    void worldChangedBeforeItsImportKeepsTheStoredTopology() {
+        FilePersistentStorageService persistence = new FilePersistentStorageService(dir);
+        persistence.initialize();
+        DefaultNetworkService service = new DefaultNetworkService(event -> {});
+        NetworkTopologyStore store = new NetworkTopologyStore(service, persistence, null, 20);
+        store.loadWorld(world.getUID());
+        NetworkNode stored = service.registerNode(ENERGY, world.getBlockAt(0, 64, 0), new NodeDescriptor(Set.of()));
+        service.registerNode(ITEMS, world.getBlockAt(0, 70, 0), new NodeDescriptor(Set.of()));
+        assertEquals(1, store.saveDirty());
+        persistence.shutdown(true);
+
+        FilePersistentStorageService reopened = new FilePersistentStorageService(dir);
+        reopened.initialize();
+        DefaultNetworkService later = new DefaultNetworkService(event -> {});
+        NetworkTopologyStore laterStore = new NetworkTopologyStore(later, reopened, null, 20);
+        NetworkNode added = later.registerNode(ENERGY, world.getBlockAt(5, 64, 0), new NodeDescriptor(Set.of()));
+        assertEquals(0, laterStore.saveDirty());
+
+        assertEquals(2, laterStore.loadWorld(world.getUID()));
+        assertEquals(0, laterStore.loadWorld(world.getUID()));
+        assertEquals(1, laterStore.saveDirty());
+        assertEquals(0, laterStore.saveDirty());
+        reopened.shutdown(true);
+
+        FilePersistentStorageService third = new FilePersistentStorageService(dir);
+        third.initialize();
+        DefaultNetworkService restored = new DefaultNetworkService(event -> {});
+        assertEquals(3, new NetworkTopologyStore(restored, third, null, 20).loadWorld(world.getUID()));
+        assertEquals(stored.id(), restored.findNode(ENERGY, world.getBlockAt(0, 64, 0)).orElseThrow().id());
+        assertEquals(added.id(), restored.findNode(ENERGY, world.getBlockAt(5, 64, 0)).orElseThrow().id());
+        assertTrue(restored.findNode(ITEMS, world.getBlockAt(0, 70, 0)).isPresent());
+        third.shutdown(false);
+    }
+
+    @Test
+    void mergesStoredNodesIntoLiveOnes() {
+        DefaultNetworkService source = new DefaultNetworkService(event -> {});
+        NetworkNode a = source.registerNode(ENERGY, world.getBlockAt(0, 64, 0), new NodeDescriptor(Set.of()));
+        NetworkNode b = source.registerNode(ENERGY, world.getBlockAt(1, 64, 0), new NodeDescriptor(Set.of()));
+        source.connect(ENERGY, a, b);
+        byte[] payload = NetworkTopologyStore.encode(source.exportTopology(ENERGY, world.getUID()));
+
+        DefaultNetworkService target = new DefaultNetworkService(event -> {});
+        NetworkNode live = target.registerNode(ENERGY, world.getBlockAt(1, 64, 0), new NodeDescriptor(Set.of()));
+        NetworkNode other = target.registerNode(ENERGY, world.getBlockAt(2, 64, 0), new NodeDescriptor(Set.of()));
+        target.connect(ENERGY, live, other);
+        target.importTopology(NetworkTopologyStore.decode(ENERGY, world.getUID(), payload));
+
+        assertEquals(3, target.getGraph(ENERGY, live).nodes().size());
+        assertEquals(target.networkId(ENERGY, live), target.networkId(ENERGY, a));
+    }
+
+    @Test
+    void prunesRestoredAttachedNodesNobodyRegistersAgain() {
+        DefaultNetworkService source = new DefaultNetworkService(event -> {});
+        NetworkNode kept = source.registerNode(ENERGY, world.getBlockAt(0, 64, 0), new NodeDescriptor(Set.of(Direction.UP), true));
+        NetworkNode stale = source.registerNode(ENERGY, world.getBlockAt(1, 64, 0), new NodeDescriptor(Set.of(Direction.UP), true));
+        NetworkNode cable = source.registerNode(ENERGY, world.getBlockAt(2, 64, 0), new NodeDescriptor(Set.of()));
+        source.connect(ENERGY, kept, stale);
+        source.connect(ENERGY, stale, cable);
+        byte[] payload = NetworkTopologyStore.encode(source.exportTopology(ENERGY, world.getUID()));
+
+        DefaultNetworkService restored = new DefaultNetworkService(event -> {});
+        restored.importTopology(NetworkTopologyStore.decode(ENERGY, world.getUID(), payload));
+        NetworkNode again = restored.registerNode(ENERGY, world.getBlockAt(0, 64, 0), new NodeDescriptor(Set.of(Direction.UP), true));
+        assertEquals(kept.id(), again.id());
+        assertTrue(restored.drainDirtyWorlds().isEmpty());
+
+        assertEquals(1, restored.pruneUnclaimedAttachedNodes());
+        assertTrue(restored.findNode(ENERGY, world.getBlockAt(1, 64, 0)).isEmpty());
+        assertTrue(restored.findNode(ENERGY, world.getBlockAt(0, 64, 0)).isPresent());
+        assertTrue(restored.findNode(ENERGY, world.getBlockAt(2, 64, 0)).isPresent());
+        assertEquals(Set.of(world.getUID()), restored.drainDirtyWorlds());
+        assertEquals(0, restored.pruneUnclaimedAttachedNodes());
+    }
+}
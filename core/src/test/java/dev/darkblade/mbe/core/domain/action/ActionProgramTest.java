@@ -0,0 +1,144 @@
+package dev.darkblade.mbe.core.domain.action;
+
+import dev.darkblade.mbe.api.util.NamespacedKey;
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.domain.MultiblockType;
+import dev.darkblade.mbe.core.domain.condition.PlayerSneakingCondition;
+import dev.darkblade.mbe.core.domain.condition.VariableCondition;
+import org.bukkit.Location;
+import org.bukkit.block.BlockFace;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ActionProgramTest {
+
+    private static final List<Action> SCRIPT = List.of(
+            new ModifyVariableAction("energy", 1, ModifyVariableAction.Operation.ADD),
+            new ModifyVariableAction("energy", 2, ModifyVariableAction.Operation.ADD),
+            Action.owned("addon", "addon:drain", new ModifyVariableAction("energy", 1, ModifyVariableAction.Operation.SUBTRACT)),
+            new ConditionalAction(
+                    List.of(new PlayerSneakingCondition(true)),
+                    List.of(new SetVariableAction("mode", "sneaking")),
+                    List.of(new ModifyVariableAction("heat", 5, ModifyVariableAction.Operation.ADD))),
+            new ConditionalAction(
+                    List.of(new VariableCondition("energy", 4, VariableCondition.Comparison.GREATER_OR_EQUAL)),
+                    List.of(new SetVariableAction("mode", "full")),
+                    List.of()),
+            new ModifyVariableAction("heat", 2, ModifyVariableAction.Operation.DIVIDE),
+            new SetVariableAction("extra", 1L)
+    );
+
+    @Test
+    void compiledProgramMatchesInterpretedExecution() {
+        MultiblockType type = type();
+        ActionProgram program = ActionProgram.compile(SCRIPT, type.variableLayout(), true);
+        MultiblockInstance compiled = instance(type);
+        MultiblockInstance interpreted = instance(type);
+
+        for (int tick = 0; tick < 3; tick++) {
+            program.execute(compiled, null, (action, instance, error) -> {
+                throw new AssertionError(error);
+            });
+            for (Action action : SCRIPT) {
+                action.execute(interpreted);
+            }
+            assertEquals(interpreted.getVariables(), compiled.getVariables());
+        }
+        assertEquals(6L, compiled.getVariable("energy"));
+        assertEquals("full", compiled.getVariable("mode"));
+    }
+
+    @Test
+    void mergesAdjacentWritesAndFoldsPlayerConditions() {
+        ActionProgram program = ActionProgram.compile(SCRIPT, type().variableLayout(), true);
+
+        // energy +1 +2 -1 collapse into one step; the sneaking branch becomes the heat update
+        assertEquals(5, program.stepCount());
+    }
+
+    @Test
+    void onlyWholeIncrementsOfIntegerVariablesAreMerged() {
+        List<Action> script = List.of(
+                new ModifyVariableAction("energy", 1, ModifyVariableAction.Operation.ADD),
+                new ModifyVariableAction("energy", 2, ModifyVariableAction.Operation.ADD),
+                new ModifyVariableAction("ratio", 1, ModifyVariableAction.Operation.ADD),
+                new ModifyVariableAction("ratio", 2, ModifyVariableAction.Operation.ADD));
+
+        assertEquals(3, ActionProgram.compile(script, type().variableLayout(), true).stepCount());
+    }
+
+    @Test
+    void mergedIncrementsMatchStepwiseAdditionOnFractionalValues() {
+        MultiblockType type = type();
+        List<Action> script = List.of(
+                new ModifyVariableAction("energy", 1, ModifyVariableAction.Operation.ADD),
+                new ModifyVariableAction("energy", 2, ModifyVariableAction.Operation.ADD));
+        ActionProgram program = ActionProgram.compile(script, type.variableLayout(), true);
+        MultiblockInstance compiled = instance(type);
+        MultiblockInstance interpreted = instance(type);
+        compiled.setVariable("energy", 0.1);
+        interpreted.setVariable("energy", 0.1);
+
+        program.execute(compiled, null, (action, instance, error) -> {
+            throw new AssertionError(error);
+        });
+        for (Action action : script) {
+            action.execute(interpreted);
+        }
+
+        assertEquals(interpreted.getVariable("energy"), compiled.getVariable("energy"));
+    }
+
+    @Test
+    void failingStepIsReportedAndExecutionContinues() {
+        MultiblockType type = type();
+        Action failing = new Action() {
+            @Override
+            public void execute(MultiblockInstance instance) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        ActionProgram program = ActionProgram.compile(List.of(
+                failing,
+                new ModifyVariableAction("energy", 3, ModifyVariableAction.Operation.ADD)), type.variableLayout(), true);
+        List<Action> failed = new ArrayList<>();
+        MultiblockInstance instance = instance(type);
+
+        program.execute(instance, null, (action, target, error) -> failed.add(action));
+
+        assertEquals(List.of(failing), failed);
+        assertEquals(3L, instance.getVariable("energy"));
+    }
+
+    private static MultiblockInstance instance(MultiblockType type) {
+        return new MultiblockInstance(type, new Location(null, 0, 64, 0), BlockFace.NORTH);
+    }
+
+    private static MultiblockType type() {
+        return new MultiblockType(
+                new NamespacedKey("test", "furnace"),
+                "1.0",
+                "wrench",
+                new Vector(0, 0, 0),
+                null,
+                List.of(),
+                false,
+                Map.of(),
+                Map.of("energy", 0, "heat", 0, "mode", "idle", "ratio", 0.5),
+                Map.of(),
+                Map.of(),
+                List.of(),
+                SCRIPT,
+                List.of(),
+                List.of(),
+                null,
+                20
+        );
+    }
+}
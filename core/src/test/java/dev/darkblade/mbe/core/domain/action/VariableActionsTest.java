@@ -0,0 +1,129 @@
+package dev.darkblade.mbe.core.domain.action;
+
+import dev.darkblade.mbe.api.util.NamespacedKey;
+import dev.darkblade.mbe.core.domain.MultiblockInstance;
+import dev.darkblade.mbe.core.domain.MultiblockState;
+import dev.darkblade.mbe.core.domain.MultiblockType;
+import dev.darkblade.mbe.core.domain.condition.VariableCondition;
+import org.bukkit.Location;
+import org.bukkit.block.BlockFace;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VariableActionsTest {
+
+    @Test
+    void modifyVariableUpdatesDeclaredSlotsAndKeepsMapView() {
+        MultiblockInstance instance = instance(type(Map.of("energy", 0, "label", "idle")));
+
+        new ModifyVariableAction("energy", 5, ModifyVariableAction.Operation.ADD).execute(instance);
+        new ModifyVariableAction("energy", 2, ModifyVariableAction.Operation.DIVIDE).execute(instance);
+
+        assertEquals(2.5D, instance.getVariable("energy"));
+        assertEquals(2.5D, instance.getVariables().get("energy"));
+        assertEquals("idle", instance.getVariables().get("label"));
+
+        new ModifyVariableAction("energy", 2, ModifyVariableAction.Operation.MULTIPLY).execute(instance);
+        assertEquals(5L, instance.getVariable("energy"));
+    }
+
+    @Test
+    void undeclaredVariablesFallBackToNamedStorage() {
+        MultiblockInstance instance = instance(type(Map.of("energy", 0)));
+
+        new ModifyVariableAction("heat", 3, ModifyVariableAction.Operation.ADD).execute(instance);
+
+        assertEquals(3L, instance.getVariable("heat"));
+        assertTrue(instance.getVariables().containsKey("heat"));
+        assertEquals(2, instance.getVariables().size());
+    }
+
+    @Test
+    void variableConditionComparesSlotsNumerically() {
+        MultiblockInstance instance = instance(type(Map.of("energy", 10, "mode", "fast")));
+
+        assertTrue(new VariableCondition("energy", 10L, VariableCondition.Comparison.EQUALS).check(instance));
+        assertTrue(new VariableCondition("energy", 5, VariableCondition.Comparison.GREATER).check(instance));
+        assertFalse(new VariableCondition("energy", 20.5D, VariableCondition.Comparison.GREATER_OR_EQUAL).check(instance));
+        assertTrue(new VariableCondition("mode", "fast", VariableCondition.Comparison.EQUALS).check(instance));
+        assertTrue(new VariableCondition("missing", null, VariableCondition.Comparison.EQUALS).check(instance));
+    }
+
+    @Test
+    void rebindKeepsValuesAndSeedsNewDefaults() {
+        MultiblockInstance instance = instance(type(Map.of("energy", 0)));
+        new ModifyVariableAction("energy", 7, ModifyVariableAction.Operation.ADD).execute(instance);
+        instance.setVariable("note", "kept");
+
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("capacity", 100);
+        defaults.put("energy", 0);
+        instance.rebindType(type(defaults));
+
+        assertEquals(7L, instance.getVariable("energy"));
+        assertEquals(100, instance.getVariable("capacity"));
+        assertEquals("kept", instance.getVariable("note"));
+        assertNull(instance.getVariable("absent"));
+    }
+
+    @Test
+    void extraVariableDeclaredOnRebindIsSavedFromItsSlot() {
+        MultiblockInstance instance = instance(type(Map.of("energy", 0)));
+        new ModifyVariableAction("heat", 3, ModifyVariableAction.Operation.ADD).execute(instance);
+
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("energy", 0);
+        defaults.put("heat", 0);
+        instance.rebindType(type(defaults));
+        new ModifyVariableAction("heat", 4, ModifyVariableAction.Operation.ADD).execute(instance);
+
+        assertEquals(7L, instance.getVariable("heat"));
+        assertEquals(7L, instance.getVariables().get("heat"));
+        assertEquals(Map.of("energy", 0, "heat", 7L), Map.copyOf(instance.getVariables()));
+    }
+
+    @Test
+    void storedVariablesReplaceDefaults() {
+        MultiblockType type = type(Map.of("energy", 0, "capacity", 100));
+        MultiblockInstance instance = new MultiblockInstance(type, new Location(null, 0, 64, 0), BlockFace.NORTH,
+                MultiblockState.ACTIVE, Map.of("energy", 42L));
+
+        assertEquals(42L, instance.getVariable("energy"));
+        assertFalse(instance.getVariables().containsKey("capacity"));
+    }
+
+    private static MultiblockInstance instance(MultiblockType type) {
+        return new MultiblockInstance(type, new Location(null, 0, 64, 0), BlockFace.NORTH);
+    }
+
+    private static MultiblockType type(Map<String, Object> defaults) {
+        return new MultiblockType(
+                new NamespacedKey("test", "machine"),
+                "1.0",
+                "wrench",
+                new Vector(0, 0, 0),
+                null,
+                List.of(),
+                false,
+                Map.of(),
+                defaults,
+                Map.of(),
+                Map.of(),
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of(),
+                null,
+                20
+        );
+    }
+}
@@ -0,0 +1,117 @@
+package dev.darkblade.mbe.core.infrastructure.compat;
+
+import dev.darkblade.mbe.api.compat.ScheduledTask;
+import dev.darkblade.mbe.api.compat.SchedulerCompatService;
+import org.bukkit.Location;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * In-process stand-in for a regionized server. Every region of {@code 2^regionShift} x
+ * {@code 2^regionShift} chunks owns one thread, so tasks of a region run in submission order while
+ * different regions run in parallel. Global tasks and timers share a separate thread.
+ */
+public final class LocalRegionScheduler implements SchedulerCompatService, AutoCloseable {
+
+    private final int regionShift;
+    private final long tickMillis;
+    private final Map<RegionKey, ExecutorService> regions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService global = Executors.newSingleThreadScheduledExecutor(r -> thread(r, "global"));
+    private final ExecutorService async = Executors.newCachedThreadPool(r -> thread(r, "async"));
+
+    public LocalRegionScheduler(int regionShift, long tickMillis) {
+        this.regionShift = regionShift;
+        this.tickMillis = tickMillis;
+    }
+
+    @Override
+    public void runSync(Runnable task) {
+        global.execute(task);
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        async.execute(task);
+    }
+
+    @Override
+    public void runAt(Location location, Runnable task) {
+        if (location == null) {
+            runSync(task);
+            return;
+        }
+        region(regionOf(location)).execute(task);
+    }
+
+    @Override
+    public ScheduledTask runTimer(Runnable task, long delayTicks, long periodTicks) {
+        ScheduledFuture<?> future = global.scheduleAtFixedRate(task,
+                Math.max(0L, delayTicks) * tickMillis, Math.max(1L, periodTicks) * tickMillis, TimeUnit.MILLISECONDS);
+        return () -> future.cancel(false);
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return true;
+    }
+
+    public RegionKey regionOf(Location location) {
+        int shift = 4 + regionShift;
+        String world = location.getWorld() != null ? location.getWorld().getName() : null;
+        return new RegionKey(world, location.getBlockX() >> shift, location.getBlockZ() >> shift);
+    }
+
+    public int regionCount() {
+        return regions.size();
+    }
+
+    /**
+     * Waits until every task submitted so far to any region or to the global thread has run.
+     */
+    public void awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ExecutorService executor : regions.values()) {
+            awaitDrained(executor, deadline);
+        }
+        awaitDrained(global, deadline);
+    }
+
+    @Override
+    public void close() {
+        global.shutdownNow();
+        async.shutdownNow();
+        regions.values().forEach(ExecutorService::shutdownNow);
+        regions.clear();
+    }
+
+    private ExecutorService region(RegionKey key) {
+        return regions.computeIfAbsent(key, k -> Executors.newSingleThreadExecutor(r -> thread(r, "region-" + k.x() + "," + k.z())));
+    }
+
+    private static void awaitDrained(ExecutorService executor, long deadline) throws InterruptedException {
+        // Single-threaded executors run tasks in order, so a marker task finishing means the queue drained
+        Future<?> marker = executor.submit(() -> { });
+        try {
+            marker.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Scheduler did not drain in time", e);
+        }
+    }
+
+    private static Thread thread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, "local-" + name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public record RegionKey(String world, int x, int z) {}
+}
@@ -247,6 +247,54 @@ final class MultiblockParserNestedFoldersTest {
         assertTrue(type.ports().containsKey("output_items"));
     }
 
+    @Test
+    void reloadReparsesOnlyChangedDefinitions() throws Exception {
+        Path multiblocks = tempDir.resolve("multiblocks");
+        Files.createDirectories(multiblocks.resolve("custom"));
+
+        writeYaml(multiblocks.resolve("custom").resolve("base.yml"), """
+                id: base
+                version: "1.0"
+                controller: IRON_BLOCK
+                pattern: []
+                """);
+        writeYaml(multiblocks.resolve("custom").resolve("child.yml"), """
+                id: child
+                extends: mbe:base
+                """);
+        writeYaml(multiblocks.resolve("custom").resolve("other.yml"), """
+                id: other
+                version: "1.0"
+                controller: GOLD_BLOCK
+                pattern: []
+                """);
+
+        MultiblockParser parser = new MultiblockParser(new MultiblockAPIImpl(), testLogger());
+        var first = parser.loadAllWithSources(multiblocks.toFile());
+        assertEquals(3, first.size());
+
+        writeYaml(multiblocks.resolve("custom").resolve("base.yml"), """
+                id: base
+                version: "2.0"
+                controller: IRON_BLOCK
+                pattern: []
+                """);
+        MultiblockParser.LoadStats stats = new MultiblockParser.LoadStats();
+        var second = parser.loadAllWithSources(java.util.List.of(multiblocks.toFile()), stats);
+
+        assertEquals(3, second.size());
+        assertEquals(2, stats.cachedFiles());
+        assertEquals(1, stats.cachedDefinitions());
+        assertSame(typeByKey(first, "other"), typeByKey(second, "other"));
+        assertNotSame(typeByKey(first, "base"), typeByKey(second, "base"));
+        assertNotSame(typeByKey(first, "child"), typeByKey(second, "child"));
+        assertEquals("2.0", typeByKey(second, "child").version());
+    }
+
+    private static MultiblockType typeByKey(java.util.List<MultiblockParser.LoadedType> loaded, String key) {
+        return loaded.stream().filter(t -> t.type().id().key().equals(key)).findFirst().orElseThrow().type();
+    }
+
     private static void writeYaml(Path file, String content) throws Exception {
         Files.createDirectories(file.getParent());
         Files.writeString(file, content.replace("\r\n", "\n"), StandardCharsets.UTF_8);
@@ -5,6 +5,7 @@ import be.seeseemelk.mockbukkit.ServerMock;
 import be.seeseemelk.mockbukkit.WorldMock;
 import dev.darkblade.mbe.api.event.MultiblockBreakEvent;
 import dev.darkblade.mbe.api.event.MultiblockFormEvent;
+import dev.darkblade.mbe.api.event.MultiblocksRestoredEvent;
 import dev.darkblade.mbe.api.util.NamespacedKey;
 import dev.darkblade.mbe.api.wiring.PortBlockRef;
 import dev.darkblade.mbe.api.wiring.PortDefinition;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -85,4 +87,39 @@ class MultiblockWiringBridgeTest {
 
         assertTrue(bridge.getRegisteredNodes().isEmpty());
     }
+
+    @Test
+    void restoredBatchRegistersNodesOnceAndSkipsReplayedFormEvents() {
+        MultiblockWiringBridge bridge = new MultiblockWiringBridge(null, networkService, portResolutionService);
+
+        PortDefinition portDef = new PortDefinition("energy_in", PortDirection.INPUT, "ENERGY", new PortBlockRef.Controller(), Set.of("energy"));
+        MultiblockType type = new MultiblockType(
+                new NamespacedKey("test", "generator"),
+                "1.0",
+                "wrench",
+                new Vector(0, 0, 0),
+                null,
+                List.of(),
+                false,
+                Map.of(),
+                Map.of(),
+                Map.of("energy_in", portDef),
+                Map.of(),
+                List.of(),
+                List.of(),
+                List.of(),
+                List.of(),
+                null,
+                20
+        );
+        MultiblockInstance first = new MultiblockInstance(type, world.getBlockAt(10, 64, 10).getLocation(), BlockFace.NORTH);
+        MultiblockInstance second = new MultiblockInstance(type, world.getBlockAt(20, 64, 20).getLocation(), BlockFace.NORTH);
+
+        bridge.onMultiblocksRestored(new MultiblocksRestoredEvent(List.of(first, second), 2, 2));
+        assertEquals(2, bridge.getRegisteredNodes().size());
+
+        MultiblockInstance replayed = new MultiblockInstance(type, world.getBlockAt(30, 64, 30).getLocation(), BlockFace.NORTH);
+        bridge.onMultiblockForm(new MultiblockFormEvent(replayed, null, true));
+        assertEquals(2, bridge.getRegisteredNodes().size());
+    }
 }
@@ -0,0 +1,73 @@
+package dev.darkblade.mbe.core.infrastructure.logging;
+
+import dev.darkblade.mbe.api.logging.LogBackend;
+import dev.darkblade.mbe.api.logging.LogEntry;
+import dev.darkblade.mbe.api.logging.LogLevel;
+import dev.darkblade.mbe.api.logging.LogPhase;
+import dev.darkblade.mbe.api.logging.LogScope;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class AsyncLogBackendTest {
+
+    @Test
+    void publishesEntriesInOrderAndDrainsOnClose() {
+        List<String> published = new CopyOnWriteArrayList<>();
+        AsyncLogBackend backend = new AsyncLogBackend("Test", List.of(entry -> published.add(entry.message())), 256);
+
+        for (int i = 0; i < 100; i++) {
+            backend.publish(entry("m" + i));
+        }
+        backend.close();
+
+        assertEquals(100, published.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("m" + i, published.get(i));
+        }
+        assertEquals(0L, backend.droppedCount());
+    }
+
+    @Test
+    void dropsAndCountsEntriesWhenBufferIsFull() throws Exception {
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<LogEntry> published = new CopyOnWriteArrayList<>();
+        LogBackend slow = entry -> {
+            if ("block".equals(entry.message())) {
+                writerBlocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            published.add(entry);
+        };
+        AsyncLogBackend backend = new AsyncLogBackend("Test", List.of(slow), 64);
+
+        backend.publish(entry("block"));
+        assertTrue(writerBlocked.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 200; i++) {
+            backend.publish(entry("m" + i));
+        }
+        long dropped = backend.droppedCount();
+        release.countDown();
+        backend.close();
+
+        assertEquals(200L - backend.capacity(), dropped);
+        assertTrue(published.stream().anyMatch(e -> e.level() == LogLevel.WARN && e.message().contains("dropped")));
+    }
+
+    private static LogEntry entry(String message) {
+        return new LogEntry(Instant.EPOCH, "Test", new LogScope.Core(), LogPhase.RUNTIME, LogLevel.INFO, message, List.of(), Set.of(), null, false);
+    }
+}
@@ -0,0 +1,58 @@
+package dev.darkblade.mbe.core.infrastructure.logging;
+
+import dev.darkblade.mbe.api.logging.LogEntry;
+import dev.darkblade.mbe.api.logging.LogLevel;
+import dev.darkblade.mbe.api.logging.LogPhase;
+import dev.darkblade.mbe.api.logging.LogScope;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class JsonLinesFileBackendTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void rotatesOnEncodedSizeRatherThanCharacters() throws IOException {
+        JsonLinesFileBackend backend = new JsonLinesFileBackend(dir, "engine", 1024L, 3);
+        String wide = "\u00e9".repeat(300);
+
+        backend.publish(entry(wide));
+        backend.publish(entry(wide));
+        backend.close();
+
+        List<String> current = Files.readAllLines(dir.resolve("engine.jsonl"), StandardCharsets.UTF_8);
+        List<String> rotated = Files.readAllLines(dir.resolve("engine.1.jsonl"), StandardCharsets.UTF_8);
+        assertEquals(1, current.size());
+        assertEquals(1, rotated.size());
+        assertTrue(Files.size(dir.resolve("engine.jsonl")) <= 1024L);
+    }
+
+    @Test
+    void entriesPublishedAfterCloseReachTheFile() throws IOException {
+        JsonLinesFileBackend backend = new JsonLinesFileBackend(dir, "engine", 1024L * 1024L, 3);
+        backend.publish(entry("before"));
+        backend.close();
+
+        backend.publish(entry("after"));
+
+        List<String> lines = Files.readAllLines(dir.resolve("engine.jsonl"), StandardCharsets.UTF_8);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).contains("\"msg\":\"after\""));
+    }
+
+    private static LogEntry entry(String message) {
+        return new LogEntry(Instant.EPOCH, "Test", new LogScope.Core(), LogPhase.RUNTIME, LogLevel.INFO, message, List.of(), Set.of(), null, false);
+    }
+}
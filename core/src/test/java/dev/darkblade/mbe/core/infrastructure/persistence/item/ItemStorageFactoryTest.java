@@ -0,0 +1,224 @@
+package dev.darkblade.mbe.core.infrastructure.persistence.item;
+
+import dev.darkblade.mbe.api.persistence.StorageDescriptor;
+import dev.darkblade.mbe.api.persistence.StorageListener;
+import dev.darkblade.mbe.api.persistence.StorageResult;
+import dev.darkblade.mbe.api.persistence.StorageService;
+import dev.darkblade.mbe.api.persistence.StorageSnapshot;
+import dev.darkblade.mbe.api.persistence.item.ItemKey;
+import dev.darkblade.mbe.api.persistence.item.ItemKeys;
+import dev.darkblade.mbe.core.infrastructure.persistence.FilePersistentStorageService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ItemStorageFactoryTest {
+
+    private static final ItemKey IRON = ItemKeys.of("minecraft:iron_ingot", 0, null);
+    private static final ItemKey GOLD = ItemKeys.of("minecraft:gold_ingot", 0, null);
+    private static final ItemKey SWORD = ItemKeys.of("minecraft:iron_sword", -3, "abc123");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void keepsTotalsAndEnforcesCapacity() {
+        StorageService storage = new ItemStorageFactory(null, 1, 4).create(descriptor(UUID.randomUUID(), 100L));
+
+        assertEquals(StorageResult.SUCCESS, storage.insert(IRON, 60L));
+        assertEquals(StorageResult.SUCCESS, storage.insert(GOLD, 30L));
+        assertEquals(StorageResult.STORAGE_FULL, storage.insert(SWORD, 11L));
+        assertEquals(StorageResult.NOT_ENOUGH_ITEMS, storage.extract(GOLD, 31L));
+        assertEquals(StorageResult.INVALID_ITEM, storage.insert(IRON, 0L));
+        assertEquals(90L, storage.getTotalItems());
+        assertEquals(2L, storage.getDistinctItemCount());
+
+        assertEquals(StorageResult.SUCCESS, storage.extract(GOLD, 30L));
+        assertFalse(storage.contains(GOLD));
+        assertEquals(60L, storage.getTotalItems());
+        assertEquals(1L, storage.getDistinctItemCount());
+        assertTrue(storage.canInsert(SWORD, 40L));
+        assertEquals(60L, storage.getAmount(ItemKeys.of("minecraft:iron_ingot", 0, "")));
+    }
+
+    @Test
+    void unboundedStoragesRejectInsertsThatWouldOverflowTheTotal() {
+        StorageService storage = new ItemStorageFactory(null, 1, 4).create(descriptor(UUID.randomUUID(), 0L));
+
+        assertEquals(StorageResult.SUCCESS, storage.insert(IRON, Long.MAX_VALUE - 1L));
+        assertFalse(storage.canInsert(GOLD, 2L));
+        assertEquals(StorageResult.STORAGE_FULL, storage.insert(GOLD, 2L));
+        assertEquals(StorageResult.SUCCESS, storage.insert(GOLD, 1L));
+        assertEquals(Long.MAX_VALUE, storage.getTotalItems());
+    }
+
+    @Test
+    void releasedStoragesAreSavedAndForgotten() {
+        UUID id = UUID.randomUUID();
+        FilePersistentStorageService persistence = new FilePersistentStorageService(dir);
+        persistence.initialize();
+        ItemStorageFactory factory = new ItemStorageFactory(persistence, 1_000, 3);
+        StorageService storage = factory.create(descriptor(id, 0L));
+        storage.insert(IRON, 7L);
+
+        factory.release(id);
+        factory.release(id);
+
+        assertEquals(0, factory.storageCount());
+        StorageService reopened = factory.create(descriptor(id, 0L));
+        assertNotSame(storage, reopened);
+        assertEquals(Map.of(IRON, 7L), reopened.getAll());
+        persistence.shutdown(false);
+    }
+
+    @Test
+    void snapshotsDoNotSeeLaterWrites() {
+        StorageService storage = new ItemStorageFactory(null, 1, 4).create(descriptor(UUID.randomUUID(), 0L));
+        storage.insert(IRON, 5L);
+
+        StorageSnapshot snapshot = storage.snapshot();
+        storage.insert(IRON, 5L);
+        storage.insert(GOLD, 1L);
+        storage.clear();
+
+        assertEquals(Map.of(IRON, 5L), snapshot.entries());
+        assertEquals(Map.of(), storage.getAll());
+    }
+
+    @Test
+    void notifiesTheNetChangePerKeyOncePerTick() {
+        ItemStorageFactory factory = new ItemStorageFactory(null, 1, 4);
+        StorageService storage = factory.create(descriptor(UUID.randomUUID(), 0L));
+        List<String> events = new ArrayList<>();
+        storage.addListener(new StorageListener() {
+            @Override
+            public void onInsert(ItemKey key, long amount) {
+                events.add("+" + key.type().key() + ":" + amount);
+            }
+
+            @Override
+            public void onExtract(ItemKey key, long amount) {
+                events.add("-" + key.type().key() + ":" + amount);
+            }
+
+            @Override
+            public void onClear() {
+                events.add("clear");
+            }
+        });
+
+        storage.insert(IRON, 10L);
+        storage.insert(IRON, 5L);
+        storage.extract(IRON, 3L);
+        storage.insert(GOLD, 2L);
+        storage.extract(GOLD, 2L);
+        assertTrue(events.isEmpty());
+
+        factory.tick();
+        assertEquals(List.of("+iron_ingot:12"), events);
+
+        events.clear();
+        storage.insert(GOLD, 4L);
+        storage.clear();
+        storage.insert(IRON, 1L);
+        factory.tick();
+        assertEquals(List.of("clear", "+iron_ingot:1"), events);
+    }
+
+    @Test
+    void restoresContentFromDeltasAndCompactedBase() {
+        UUID id = UUID.randomUUID();
+        FilePersistentStorageService persistence = new FilePersistentStorageService(dir);
+        persistence.initialize();
+        ItemStorageFactory factory = new ItemStorageFactory(persistence, 1, 3);
+        StorageService storage = factory.create(descriptor(id, 0L));
+        assertSame(storage, factory.create(descriptor(id, 0L)));
+
+        Random random = new Random(7L);
+        Map<ItemKey, Long> expected = new HashMap<>();
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                ItemKey key = ItemKeys.of("test:item_" + random.nextInt(40), random.nextInt(3) - 1, random.nextBoolean() ? null : "n" + random.nextInt(2));
+                long amount = 1L + random.nextInt(1000);
+                if (random.nextInt(3) == 0 && storage.extract(key, amount) == StorageResult.SUCCESS) {
+                    expected.merge(key, -amount, Long::sum);
+                    expected.remove(key, 0L);
+                } else if (storage.insert(key, amount) == StorageResult.SUCCESS) {
+                    expected.merge(key, amount, Long::sum);
+                }
+            }
+            if (round == 4) {
+                storage.clear();
+                expected.clear();
+            }
+            factory.tick();
+        }
+        storage.insert(SWORD, 1L);
+        expected.put(SWORD, 1L);
+        factory.flushAll();
+        persistence.shutdown(true);
+
+        FilePersistentStorageService reopened = new FilePersistentStorageService(dir);
+        reopened.initialize();
+        StorageService restored = new ItemStorageFactory(reopened, 1, 3).create(descriptor(id, 0L));
+
+        assertEquals(expected, restored.getAll());
+        assertEquals(expected.values().stream().mapToLong(Long::longValue).sum(), restored.getTotalItems());
+        assertEquals(expected.size(), restored.getDistinctItemCount());
+        reopened.shutdown(false);
+    }
+
+    @Test
+    void primitiveMapMatchesAHashMapUnderChurn() {
+        IntLongHashMap map = new IntLongHashMap(4);
+        Map<Integer, Long> reference = new HashMap<>();
+        Random random = new Random(11L);
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.getOrDefault(key, 0L).longValue(), map.remove(key));
+                reference.remove(key);
+            } else {
+                long value = random.nextLong();
+                map.put(key, value);
+                reference.put(key, value);
+            }
+        }
+        assertEquals(reference.size(), map.size());
+        Map<Integer, Long> seen = new HashMap<>();
+        map.forEach(seen::put);
+        assertEquals(reference, seen);
+    }
+
+    private static StorageDescriptor descriptor(UUID id, long capacity) {
+        return new StorageDescriptor() {
+            @Override
+            public UUID id() {
+                return id;
+            }
+
+            @Override
+            public long capacity() {
+                return capacity;
+            }
+
+            @Override
+            public Map<String, Object> properties() {
+                return Map.of();
+            }
+        };
+    }
+}
@@ -116,6 +116,25 @@ public class StructureExporterTest {
         assertFalse(res.yaml().contains("match: TORCH"));
     }
 
+    @Test
+    void asyncExportReadsFromChunkSnapshots() {
+        world.getBlockAt(0, 64, 0).setType(Material.IRON_BLOCK);
+        world.getBlockAt(1, 64, 0).setType(Material.STONE);
+
+        ExportHookRegistry hooks = new DefaultExportHookRegistry();
+        StructureExporter exporter = new StructureExporter(testLogger(), hooks, new ExportConfig(false, true, false, false, Set.of()));
+
+        ExportSession session = new ExportSession(java.util.UUID.randomUUID());
+        session.setPos1(new Location(world, 0, 64, 0));
+        session.setPos2(new Location(world, 1, 64, 0));
+        session.markRole(new Location(world, 0, 64, 0), "controller");
+
+        StructureExporter.ExportResult sync = exporter.exportToYaml("test_machine", session);
+        StructureExporter.ExportResult async = exporter.exportToYamlAsync("test_machine", session, Runnable::run).join();
+        assertEquals(sync.yaml(), async.yaml());
+        assertEquals(sync.blocks(), async.blocks());
+    }
+
     private static CoreLogger testLogger() {
         LogBackend backend = entry -> {
         };
@@ -0,0 +1,96 @@
+package dev.darkblade.mbe.uiengine;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class InventoryRendererTest {
+
+    private ServerMock server;
+    private PlayerMock player;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        player = server.addPlayer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void refreshRerendersRowsMutatedInPlace() {
+        AtomicInteger first = new AtomicInteger(1);
+        AtomicInteger second = new AtomicInteger(2);
+        List<Object> rows = new ArrayList<>(List.of(first, second));
+        InventoryRenderer renderer = new InventoryRenderer(Map.of("counters", unused -> rows));
+        InventoryViewDefinition view = view();
+
+        InventoryRenderer.RenderResult rendered = renderer.renderWithBindings(player, view);
+        Inventory inventory = rendered.inventory();
+        assertEquals("1", name(inventory.getItem(1)));
+        assertEquals("2", name(inventory.getItem(2)));
+
+        first.set(7);
+        InventoryRenderer.RenderResult refreshed = renderer.refresh(player, view,
+                new PlayerInventorySession(view.id(), inventory, rendered.bindings()));
+
+        assertSame(inventory, refreshed.inventory());
+        assertEquals("7", name(inventory.getItem(1)));
+        assertEquals("2", name(inventory.getItem(2)));
+        assertEquals(Material.BLACK_STAINED_GLASS_PANE, inventory.getItem(0).getType());
+        assertSame(first, refreshed.bindings().get(1));
+    }
+
+    @Test
+    void refreshClearsSlotsWhoseRowDisappeared() {
+        List<Object> rows = new ArrayList<>(List.of("a", "b", "c"));
+        InventoryRenderer renderer = new InventoryRenderer(Map.of("counters", unused -> rows));
+        InventoryViewDefinition view = view();
+        InventoryRenderer.RenderResult rendered = renderer.renderWithBindings(player, view);
+
+        rows.remove(2);
+        rows.set(0, "z");
+        InventoryRenderer.RenderResult refreshed = renderer.refresh(player, view,
+                new PlayerInventorySession(view.id(), rendered.inventory(), rendered.bindings()));
+
+        assertEquals("z", name(rendered.inventory().getItem(1)));
+        assertEquals("b", name(rendered.inventory().getItem(2)));
+        assertNull(rendered.inventory().getItem(3));
+        assertEquals(2, refreshed.bindings().size());
+    }
+
+    static InventoryViewDefinition view() {
+        return new InventoryViewDefinition(
+                "counters",
+                "Counters",
+                9,
+                List.of("#AAAA####"),
+                Map.of(
+                        '#', new InventoryItemDefinition(Material.BLACK_STAINED_GLASS_PANE, " ", List.of(), false),
+                        'A', new InventoryItemDefinition(Material.PAPER, "{value}", List.of(), false)),
+                List.of(new DynamicSection('A', "counters")),
+                Map.of());
+    }
+
+    static String name(ItemStack item) {
+        return item == null || item.getItemMeta() == null ? null : item.getItemMeta().getDisplayName();
+    }
+}
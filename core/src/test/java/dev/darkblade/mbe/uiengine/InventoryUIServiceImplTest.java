@@ -0,0 +1,133 @@
+package dev.darkblade.mbe.uiengine;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import dev.darkblade.mbe.api.compat.ScheduledTask;
+import dev.darkblade.mbe.api.compat.SchedulerCompatService;
+import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.darkblade.mbe.uiengine.InventoryRendererTest.name;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InventoryUIServiceImplTest {
+
+    private static final String VIEWS = """
+            views:
+              counters:
+                title: Counters
+                size: 9
+                layout:
+                  - "#AAAA####"
+                items:
+                  "#":
+                    material: BLACK_STAINED_GLASS_PANE
+                    name: " "
+                  A:
+                    material: PAPER
+                    name: "{value}"
+                dynamic_sections:
+                  counters:
+                    symbol: A
+                    provider: Counters
+            """;
+
+    @TempDir
+    Path dir;
+
+    private ServerMock server;
+    private PlayerMock player;
+    private InventorySessionStore sessions;
+    private InventoryUIServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = MockBukkit.mock();
+        player = server.addPlayer();
+        Path file = dir.resolve("inventories.yml");
+        Files.writeString(file, VIEWS);
+        sessions = new InventorySessionStore();
+        service = new InventoryUIServiceImpl(
+                new InventoryConfigLoader(file.toFile()),
+                new InventoryRenderer(new InventoryProviderRegistry(), new InventoryDataCache(), new InlineScheduler(), null),
+                sessions);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void viewReopenedDuringALoadIsFilledWhenThatLoadCompletes() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<List<?>> rows = new CompletableFuture<>();
+        service.registerAsyncProvider("counters", unused -> {
+            calls.incrementAndGet();
+            return rows;
+        });
+
+        service.open(player, "counters");
+        Inventory first = sessions.get(player).orElseThrow().inventory();
+        assertEquals(Material.LIGHT_GRAY_STAINED_GLASS_PANE, first.getItem(1).getType());
+
+        sessions.clear(player);
+        service.open(player, "counters");
+        Inventory second = sessions.get(player).orElseThrow().inventory();
+        assertNotSame(first, second);
+        assertEquals(1, calls.get());
+
+        rows.complete(List.of("a", "b"));
+
+        assertEquals("a", name(second.getItem(1)));
+        assertEquals("b", name(second.getItem(2)));
+        assertEquals(Material.LIGHT_GRAY_STAINED_GLASS_PANE, first.getItem(1).getType());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void registeredProvidersReplaceEachOtherAndDropCachedRows() {
+        service.registerAsyncProvider("COUNTERS", unused -> CompletableFuture.completedFuture(List.of("async")));
+        service.open(player, "counters");
+        assertEquals("async", name(sessions.get(player).orElseThrow().inventory().getItem(1)));
+
+        service.registerProvider("counters", unused -> List.of("sync"));
+        service.refresh(player);
+        assertEquals("sync", name(sessions.get(player).orElseThrow().inventory().getItem(1)));
+
+        service.unregisterProvider("counters");
+        service.refresh(player);
+        assertNull(sessions.get(player).orElseThrow().inventory().getItem(1));
+    }
+
+    private static final class InlineScheduler implements SchedulerCompatService {
+        @Override
+        public void runSync(Runnable task) {
+            task.run();
+        }
+
+        @Override
+        public void runAsync(Runnable task) {
+            task.run();
+        }
+
+        @Override
+        public ScheduledTask runTimer(Runnable task, long delayTicks, long periodTicks) {
+            return () -> { };
+        }
+    }
+}
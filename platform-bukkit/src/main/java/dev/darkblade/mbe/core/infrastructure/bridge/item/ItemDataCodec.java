@@ -0,0 +1,167 @@
+package dev.darkblade.mbe.core.infrastructure.bridge.item;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uncompressed binary encoding for small item data payloads.
+ * <p>
+ * Layout: {@code 'M' 'B' version} followed by a tagged value tree. Values decode to the same Java types Gson
+ * produces for {@code Map<String, Object>} (numbers as {@link Double}, objects as maps, arrays as lists), so
+ * callers cannot tell which encoding a stack was written with. Null map values are dropped, as Gson does.
+ */
+final class ItemDataCodec {
+
+    private static final byte MAGIC_0 = 'M';
+    private static final byte MAGIC_1 = 'B';
+    private static final byte VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_TRUE = 1;
+    private static final byte TAG_FALSE = 2;
+    private static final byte TAG_NUMBER = 3;
+    private static final byte TAG_STRING = 4;
+    private static final byte TAG_MAP = 5;
+    private static final byte TAG_LIST = 6;
+
+    private ItemDataCodec() {
+    }
+
+    static boolean isEncoded(byte[] raw) {
+        return raw != null && raw.length >= 3 && raw[0] == MAGIC_0 && raw[1] == MAGIC_1 && raw[2] == VERSION;
+    }
+
+    /**
+     * @return the encoded payload, or {@code null} if {@code data} holds values this codec does not support
+     *         or the result would exceed {@code maxBytes}
+     */
+    static byte[] encode(Map<String, Object> data, int maxBytes) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(MAGIC_0);
+            out.writeByte(MAGIC_1);
+            out.writeByte(VERSION);
+            if (!writeMap(out, data, maxBytes)) {
+                return null;
+            }
+        } catch (UTFDataFormatException e) {
+            return null;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.size() > maxBytes ? null : bytes.toByteArray();
+    }
+
+    static Map<String, Object> decode(byte[] raw) {
+        if (!isEncoded(raw)) {
+            throw new IllegalArgumentException("Not an item data payload");
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw, 3, raw.length - 3))) {
+            byte tag = in.readByte();
+            if (tag != TAG_MAP) {
+                throw new IllegalStateException("Item data root must be a map");
+            }
+            return readMap(in, new HashMap<>());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean writeMap(DataOutputStream out, Map<?, ?> map, int maxBytes) throws IOException {
+        int count = 0;
+        for (Object value : map.values()) {
+            if (value != null) {
+                count++;
+            }
+        }
+        out.writeByte(TAG_MAP);
+        out.writeInt(count);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            out.writeUTF(String.valueOf(entry.getKey()));
+            if (!writeValue(out, entry.getValue(), maxBytes)) {
+                return false;
+            }
+        }
+        return out.size() <= maxBytes;
+    }
+
+    private static boolean writeValue(DataOutputStream out, Object value, int maxBytes) throws IOException {
+        if (out.size() > maxBytes) {
+            return false;
+        }
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+            return true;
+        }
+        if (value instanceof Boolean b) {
+            out.writeByte(b ? TAG_TRUE : TAG_FALSE);
+            return true;
+        }
+        if (value instanceof Number n) {
+            out.writeByte(TAG_NUMBER);
+            out.writeDouble(n.doubleValue());
+            return true;
+        }
+        if (value instanceof String s) {
+            out.writeByte(TAG_STRING);
+            out.writeUTF(s);
+            return true;
+        }
+        if (value instanceof Map<?, ?> map) {
+            return writeMap(out, map, maxBytes);
+        }
+        if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                if (!writeValue(out, element, maxBytes)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static Map<String, Object> readMap(DataInputStream in, Map<String, Object> out) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            String key = in.readUTF();
+            out.put(key, readValue(in));
+        }
+        return out;
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_TRUE -> Boolean.TRUE;
+            case TAG_FALSE -> Boolean.FALSE;
+            case TAG_NUMBER -> in.readDouble();
+            case TAG_STRING -> in.readUTF();
+            case TAG_MAP -> readMap(in, new LinkedHashMap<>());
+            case TAG_LIST -> {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(Math.min(size, 64));
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                yield list;
+            }
+            default -> throw new IllegalStateException("Unknown item data tag " + tag);
+        };
+    }
+}
@@ -28,7 +28,10 @@ import java.io.OutputStreamWriter;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -47,8 +50,11 @@ public final class PdcItemStackBridge implements ItemStackBridge {
     private static final String DATA_UID_KEY = "_uid";
     private static final Gson GSON = new Gson();
     private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final int BINARY_MAX_BYTES = 1024;
+    private static final int DECODE_CACHE_SIZE = 512;
 
     private final ItemService items;
+    private final DecodedDataCache decodeCache = new DecodedDataCache(DECODE_CACHE_SIZE);
 
     public PdcItemStackBridge(ItemService items) {
         this.items = Objects.requireNonNull(items, "items");
@@ -359,34 +365,19 @@ public final class PdcItemStackBridge implements ItemStackBridge {
     }
 
     @Override
-    public ItemInstance fromItemStack(ItemStack stack) {
-        if (stack == null || stack.getType() == Material.AIR) {
-            return null;
-        }
-        ItemMeta meta = stack.getItemMeta();
-        if (meta == null) {
-            return null;
-        }
+    public ItemKey keyOf(ItemStack stack) {
+        PersistentDataContainer pdc = readContainer(stack);
+        return pdc == null ? null : readKey(pdc);
+    }
 
-        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+    @Override
+    public ItemInstance fromItemStack(ItemStack stack) {
+        PersistentDataContainer pdc = readContainer(stack);
         if (pdc == null) {
             return null;
         }
-
-        String id = KEY_ID == null ? null : pdc.get(KEY_ID, PersistentDataType.STRING);
-        Integer version = KEY_VERSION == null ? null : pdc.get(KEY_VERSION, PersistentDataType.INTEGER);
-        if (id == null || id.isBlank()) {
-            return null;
-        }
-
-        ItemKey key;
-        try {
-            key = ItemKeys.of(id.trim(), Math.max(0, version == null ? 0 : version));
-        } catch (RuntimeException ex) {
-            return null;
-        }
-
-        if (!items.registry().exists(key)) {
+        ItemKey key = readKey(pdc);
+        if (key == null) {
             return null;
         }
 
@@ -395,7 +386,7 @@ public final class PdcItemStackBridge implements ItemStackBridge {
             byte[] raw = pdc.get(KEY_DATA, PersistentDataType.BYTE_ARRAY);
             if (raw != null && raw.length > 0) {
                 try {
-                    Map<String, Object> decoded = decodeData(raw);
+                    Map<String, Object> decoded = decodeCache.decode(raw);
                     if (decoded != null && !decoded.isEmpty()) {
                         data.putAll(decoded);
                     }
@@ -414,10 +405,46 @@ public final class PdcItemStackBridge implements ItemStackBridge {
         return items.factory().create(key, data);
     }
 
+    private static PersistentDataContainer readContainer(ItemStack stack) {
+        // hasItemMeta() does not copy the meta, so plain vanilla items are rejected without allocating.
+        if (stack == null || stack.getType() == Material.AIR || !stack.hasItemMeta()) {
+            return null;
+        }
+        ItemMeta meta = stack.getItemMeta();
+        return meta == null ? null : meta.getPersistentDataContainer();
+    }
+
+    private ItemKey readKey(PersistentDataContainer pdc) {
+        String id = KEY_ID == null ? null : pdc.get(KEY_ID, PersistentDataType.STRING);
+        if (id == null || id.isBlank()) {
+            return null;
+        }
+        Integer version = KEY_VERSION == null ? null : pdc.get(KEY_VERSION, PersistentDataType.INTEGER);
+
+        ItemKey key;
+        try {
+            key = ItemKeys.of(id.trim(), Math.max(0, version == null ? 0 : version));
+        } catch (RuntimeException ex) {
+            return null;
+        }
+        return items.registry().exists(key) ? key : null;
+    }
+
+    /**
+     * Encodes item data for the PDC blob.
+     * <p>
+     * Payloads made only of JSON-like values (strings, numbers, booleans, maps and lists) that fit in
+     * {@link #BINARY_MAX_BYTES} are stored with {@link ItemDataCodec}; anything else falls back to gzipped
+     * JSON. {@link #decodeData} accepts both, so stacks written by older versions keep working.
+     */
     private static byte[] encodeData(Map<String, Object> data) {
         if (data == null || data.isEmpty()) {
             return new byte[0];
         }
+        byte[] binary = ItemDataCodec.encode(data, BINARY_MAX_BYTES);
+        if (binary != null) {
+            return binary;
+        }
         String json = GSON.toJson(data);
         if (json == null || json.isBlank()) {
             return new byte[0];
@@ -438,6 +465,9 @@ public final class PdcItemStackBridge implements ItemStackBridge {
         if (raw == null || raw.length == 0) {
             return Map.of();
         }
+        if (ItemDataCodec.isEncoded(raw)) {
+            return ItemDataCodec.decode(raw);
+        }
         try {
             ByteArrayInputStream in = new ByteArrayInputStream(raw);
             try (GZIPInputStream gzip = new GZIPInputStream(in);
@@ -450,6 +480,89 @@ public final class PdcItemStackBridge implements ItemStackBridge {
         }
     }
 
+    /**
+     * Bounded LRU of decoded data blobs keyed by blob content.
+     * <p>
+     * The same tool stack is decoded on every interact event; caching skips the gunzip and JSON parse.
+     * Cached maps are never handed out directly: callers get a deep copy because {@link ItemInstance#data()}
+     * is mutable.
+     */
+    private static final class DecodedDataCache {
+        private final int capacity;
+        private final Map<BlobKey, Map<String, Object>> entries;
+
+        private DecodedDataCache(int capacity) {
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        Map<String, Object> decode(byte[] raw) {
+            BlobKey key = new BlobKey(raw);
+            Map<String, Object> cached;
+            synchronized (entries) {
+                cached = entries.get(key);
+            }
+            if (cached == null) {
+                cached = decodeData(raw);
+                synchronized (entries) {
+                    entries.put(new BlobKey(raw.clone()), cached);
+                    if (entries.size() > capacity) {
+                        Iterator<BlobKey> eldest = entries.keySet().iterator();
+                        eldest.next();
+                        eldest.remove();
+                    }
+                }
+            }
+            return deepCopy(cached);
+        }
+
+        private static Map<String, Object> deepCopy(Map<String, Object> source) {
+            Map<String, Object> out = new HashMap<>(Math.max(4, source.size() * 2));
+            for (Map.Entry<String, Object> entry : source.entrySet()) {
+                out.put(entry.getKey(), deepCopyValue(entry.getValue()));
+            }
+            return out;
+        }
+
+        private static Object deepCopyValue(Object value) {
+            if (value instanceof Map<?, ?> map) {
+                Map<String, Object> out = new LinkedHashMap<>();
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    out.put(String.valueOf(entry.getKey()), deepCopyValue(entry.getValue()));
+                }
+                return out;
+            }
+            if (value instanceof List<?> list) {
+                List<Object> out = new ArrayList<>(list.size());
+                for (Object element : list) {
+                    out.add(deepCopyValue(element));
+                }
+                return out;
+            }
+            return value;
+        }
+    }
+
+    private static final class BlobKey {
+        private final byte[] blob;
+        private final int hash;
+
+        private BlobKey(byte[] blob) {
+            this.blob = blob;
+            this.hash = Arrays.hashCode(blob);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BlobKey other && hash == other.hash && Arrays.equals(blob, other.blob);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     private static Material resolveMaterial(ItemDefinition def) {
         Map<String, Object> props = def == null ? null : def.properties();
         if (props != null) {
@@ -64,7 +64,7 @@ public final class EditorInputListener implements Listener {
         }
         String message = event.getMessage();
         event.setCancelled(true);
-        plugin.getServer().getScheduler().runTask(plugin, () ->
+        plugin.getSchedulerCompatService().runSync(() ->
                 sessions.dispatch(playerId, new EditorInput(EditorInput.Type.CHAT_INPUT, message))
         );
     }
@@ -15,7 +15,7 @@ import dev.darkblade.mbe.api.i18n.I18nService;
 import dev.darkblade.mbe.api.i18n.MessageKey;
 import dev.darkblade.mbe.api.assembly.AssemblyContext;
 import dev.darkblade.mbe.api.assembly.AssemblyReport;
-import dev.darkblade.mbe.api.item.ItemInstance;
+import dev.darkblade.mbe.api.item.ItemKey;
 import dev.darkblade.mbe.api.message.MessageChannel;
 import dev.darkblade.mbe.api.message.MessagePriority;
 import dev.darkblade.mbe.api.message.PlayerMessage;
@@ -164,17 +164,16 @@ public class MultiblockListener implements Listener {
         if (bridge == null || registry == null) {
             return false;
         }
-        ItemInstance instance;
+        ItemKey key;
         try {
-            instance = bridge.fromItemStack(item);
+            key = bridge.keyOf(item);
         } catch (Throwable t) {
             return false;
         }
-        if (instance == null || instance.definition() == null || instance.definition().key() == null
-                || instance.definition().key().id() == null) {
+        if (key == null || key.id() == null) {
             return false;
         }
-        String inferredToolId = instance.definition().key().id().key();
+        String inferredToolId = key.id().key();
         return registry.get(inferredToolId) != null;
     }
 
@@ -1,30 +1,124 @@
 package dev.darkblade.mbe.platform.bukkit.preview.bridge;
 
-import com.github.retrooper.packetevents.PacketEvents;
 import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerDestroyEntities;
 import dev.darkblade.mbe.api.packet.PacketService;
+import dev.darkblade.mbe.core.MultiBlockEngine;
+import dev.darkblade.mbe.core.packet.CorePacketService;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Packet sink for the preview renderers. Queued packets are kept per player and sent as one
+ * bundle when {@link #flush()} runs; destroys queued in the same tick are merged into a single
+ * multi-id packet. A flush is scheduled for the next tick whenever something is queued, so
+ * callers that never flush explicitly still get their packets delivered.
+ */
 public final class PacketEventsAdapter implements PacketService {
+    private final CorePacketService packets = new CorePacketService();
+    private final Map<UUID, PendingPackets> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
 
     public PacketEventsAdapter() {
     }
 
     public void sendPacket(Player player, PacketWrapper<?> wrapper) {
+        packets.sendPacket(player, wrapper);
+    }
+
+    public void sendBundle(Player player, Collection<PacketWrapper<?>> wrappers) {
+        packets.sendBundle(player, wrappers);
+    }
+
+    public void queuePacket(Player player, PacketWrapper<?> wrapper) {
         if (player == null || wrapper == null) {
             return;
         }
-        PacketEvents.getAPI().getPlayerManager().sendPacket(player, wrapper);
+        pendingFor(player).add(wrapper);
+        scheduleFlush();
     }
 
-    public void sendBundle(Player player, Collection<PacketWrapper<?>> wrappers) {
-        if (player == null || wrappers == null || wrappers.isEmpty()) {
+    public void queueDestroy(Player player, int entityId) {
+        if (player == null || entityId <= 0) {
+            return;
+        }
+        pendingFor(player).destroy(entityId);
+        scheduleFlush();
+    }
+
+    public void flush() {
+        flushScheduled.set(false);
+        if (pending.isEmpty()) {
             return;
         }
-        for (PacketWrapper<?> wrapper : wrappers) {
-            sendPacket(player, wrapper);
+        for (UUID playerId : new ArrayList<>(pending.keySet())) {
+            PendingPackets batch = pending.remove(playerId);
+            if (batch == null) {
+                continue;
+            }
+            List<PacketWrapper<?>> wrappers = batch.drain();
+            Player player = batch.player;
+            if (wrappers.isEmpty() || player == null || !player.isOnline()) {
+                continue;
+            }
+            packets.sendBundle(player, wrappers);
+        }
+    }
+
+    private PendingPackets pendingFor(Player player) {
+        return pending.computeIfAbsent(player.getUniqueId(), id -> new PendingPackets(player));
+    }
+
+    private void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            MultiBlockEngine.getInstance().getSchedulerCompatService().runSync(this::flush);
+        } catch (RuntimeException e) {
+            flush();
+        }
+    }
+
+    private static final class PendingPackets {
+        private final Player player;
+        private final List<PacketWrapper<?>> wrappers = new ArrayList<>();
+        private int[] destroyed = new int[16];
+        private int destroyedCount;
+
+        private PendingPackets(Player player) {
+            this.player = player;
+        }
+
+        private synchronized void add(PacketWrapper<?> wrapper) {
+            wrappers.add(wrapper);
+        }
+
+        private synchronized void destroy(int entityId) {
+            if (destroyedCount == destroyed.length) {
+                destroyed = Arrays.copyOf(destroyed, destroyedCount * 2);
+            }
+            destroyed[destroyedCount++] = entityId;
+        }
+
+        // Destroys go last so an entity spawned and removed within the same tick ends up gone.
+        private synchronized List<PacketWrapper<?>> drain() {
+            List<PacketWrapper<?>> out = new ArrayList<>(wrappers.size() + 1);
+            out.addAll(wrappers);
+            if (destroyedCount > 0) {
+                out.add(new WrapperPlayServerDestroyEntities(Arrays.copyOf(destroyed, destroyedCount)));
+            }
+            wrappers.clear();
+            destroyedCount = 0;
+            return out;
         }
     }
 }
@@ -28,12 +28,14 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public final class PacketEventsRendererBridge implements DisplayEntityRenderer {
+    private final PacketEventsAdapter adapter;
     private final BlockDisplayRenderer renderer;
     private final AtomicInteger entityIdCounter = new AtomicInteger(2_000_000);
     private final Map<Integer, UUID> ownersByEntityId = new ConcurrentHashMap<>();
 
     public PacketEventsRendererBridge() {
         PacketEventsAdapter adapter = new PacketEventsAdapter();
+        this.adapter = adapter;
         Map<ProtocolVersion, BlockDisplayRenderer> byVersion = new java.util.EnumMap<>(ProtocolVersion.class);
         BlockDisplayRenderer renderer_1_21 = new Renderer_1_21(adapter);
         BlockDisplayRenderer renderer_1_21_2 = new Renderer_1_21_2(adapter);
@@ -108,6 +110,19 @@ public final class PacketEventsRendererBridge implements DisplayEntityRenderer {
         );
     }
 
+    @Override
+    public boolean updateBlockDisplayTransform(Player player, int entityId, float tx, float ty, float tz, float sx, float sy, float sz) {
+        if (player == null || entityId <= 0 || !player.getUniqueId().equals(ownersByEntityId.get(entityId))) {
+            return false;
+        }
+        renderer.updateTransform(
+            player,
+            new DisplayEntityHandle(entityId, UUID.randomUUID()),
+            new DisplayTransform(tx, ty, tz, sx, sy, sz, 0, 0)
+        );
+        return true;
+    }
+
     @Override
     public void destroyEntities(Player player, Collection<Integer> entityIds) {
         if (player == null || entityIds == null || entityIds.isEmpty()) {
@@ -122,6 +137,11 @@ public final class PacketEventsRendererBridge implements DisplayEntityRenderer {
         }
     }
 
+    @Override
+    public void flush() {
+        adapter.flush();
+    }
+
     private int nextEntityId() {
         int id = entityIdCounter.incrementAndGet();
         if (id > 0) {
@@ -3,7 +3,6 @@ package dev.darkblade.mbe.platform.bukkit.preview.impl;
 import com.github.retrooper.packetevents.protocol.entity.data.EntityData;
 import com.github.retrooper.packetevents.protocol.entity.data.EntityDataTypes;
 import com.github.retrooper.packetevents.protocol.entity.type.EntityTypes;
-import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerDestroyEntities;
 import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityMetadata;
 import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerSpawnEntity;
 import com.github.retrooper.packetevents.util.Vector3d;
@@ -79,7 +78,7 @@ public abstract class AbstractPacketEventsRenderer implements BlockDisplayRender
         values.add(new EntityData(scaleIndex, EntityDataTypes.VECTOR3F, scaleVector));
         
         WrapperPlayServerEntityMetadata metadata = new WrapperPlayServerEntityMetadata(handle.entityId(), values);
-        adapter.sendPacket(player, metadata);
+        adapter.queuePacket(player, metadata);
     }
 
     @Override
@@ -108,7 +107,7 @@ public abstract class AbstractPacketEventsRenderer implements BlockDisplayRender
         values.add(new EntityData(blockStateIndex, EntityDataTypes.BLOCK_STATE, globalId));
         
         WrapperPlayServerEntityMetadata metadata = new WrapperPlayServerEntityMetadata(handle.entityId(), values);
-        adapter.sendPacket(player, metadata);
+        adapter.queuePacket(player, metadata);
     }
 
     @Override
@@ -116,12 +115,11 @@ public abstract class AbstractPacketEventsRenderer implements BlockDisplayRender
         if (player == null || handle == null || !handle.isValid()) {
             return;
         }
-        WrapperPlayServerDestroyEntities destroy = new WrapperPlayServerDestroyEntities(handle.entityId());
-        adapter.sendPacket(player, destroy);
+        adapter.queueDestroy(player, handle.entityId());
     }
 
     protected void sendSpawn(Player player, WrapperPlayServerSpawnEntity spawnPacket, DisplaySpawnRequest request) {
-        adapter.sendPacket(player, spawnPacket);
+        adapter.queuePacket(player, spawnPacket);
         
         DisplayEntityHandle tempHandle = new DisplayEntityHandle(request.entityId(), spawnPacket.getUUID().orElse(UUID.randomUUID()));
         updateBlock(player, tempHandle, request.blockState());
@@ -0,0 +1,48 @@
+package dev.darkblade.mbe.core.infrastructure.bridge.item;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ItemDataCodecTest {
+
+    @Test
+    void roundTrip_decodesGsonCompatibleTypes() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("mbe:multiblock", "furnace");
+        data.put("count", 3);
+        data.put("enabled", true);
+        data.put("missing", null);
+        data.put("storage_snapshot", Map.of("items", Map.of("minecraft:stone", 64L)));
+        data.put("tags", List.of("a", "b"));
+
+        byte[] encoded = ItemDataCodec.encode(data, 1024);
+        assertTrue(ItemDataCodec.isEncoded(encoded));
+
+        Map<String, Object> decoded = ItemDataCodec.decode(encoded);
+        assertEquals("furnace", decoded.get("mbe:multiblock"));
+        assertEquals(3.0D, decoded.get("count"));
+        assertEquals(Boolean.TRUE, decoded.get("enabled"));
+        assertFalse(decoded.containsKey("missing"));
+        assertEquals(Map.of("items", Map.of("minecraft:stone", 64.0D)), decoded.get("storage_snapshot"));
+        assertEquals(List.of("a", "b"), decoded.get("tags"));
+    }
+
+    @Test
+    void encode_returnsNullForUnsupportedOrOversizedPayloads() {
+        assertNull(ItemDataCodec.encode(Map.of("value", new Object()), 1024));
+        assertNull(ItemDataCodec.encode(Map.of("value", "x".repeat(2048)), 1024));
+    }
+
+    @Test
+    void isEncoded_rejectsGzipPayloads() {
+        assertFalse(ItemDataCodec.isEncoded(new byte[] {0x1f, (byte) 0x8b, 0x08}));
+    }
+}